@@ -5,6 +5,13 @@ plugins {
     id("dagger.hilt.android.plugin")
 }
 
+// API Keys from local.properties
+val localProperties = Properties()
+val localPropertiesFile = rootProject.file("local.properties")
+if (localPropertiesFile.exists()) {
+    localPropertiesFile.inputStream().use { localProperties.load(it) }
+}
+
 android {
     namespace = "com.example.umbrellaalert"
     compileSdk = 35
@@ -18,13 +25,6 @@ android {
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
 
-        // API Keys from local.properties
-        val localProperties = Properties()
-        val localPropertiesFile = rootProject.file("local.properties")
-        if (localPropertiesFile.exists()) {
-            localPropertiesFile.inputStream().use { localProperties.load(it) }
-        }
-
         // OpenWeather API Key (날씨 정보)
         val weatherApiKey = localProperties.getProperty("weather.api.service.key") ?: "bef3d511dc00345ed56204adcf073d16"
         buildConfigField("String", "WEATHER_API_SERVICE_KEY", "\"$weatherApiKey\"")
@@ -40,11 +40,20 @@ android {
         buildConfigField("String", "NAVER_MAP_CLIENT_ID", "\"$naverMapClientId\"")
         buildConfigField("String", "NAVER_MAP_CLIENT_SECRET", "\"$naverMapClientSecret\"")
 
+        // 외부 API 기본 주소 (빈 값이면 운영 주소, 디버그 빌드에서만 바꿀 수 있음)
+        buildConfigField("String", "API_BASE_URL", "\"\"")
+
         // AndroidManifest.xml에 네이버 지도 클라이언트 ID 추가
         manifestPlaceholders["NAVER_MAP_CLIENT_ID"] = naverMapClientId
     }
 
     buildTypes {
+        debug {
+            // 로컬 응답 재생 서버로 보낼 때 예: http://10.0.2.2:8080
+            // 평문 HTTP 허용은 src/debug의 network_security_config.xml에만 있음
+            val apiBaseUrl = localProperties.getProperty("api.base.url") ?: ""
+            buildConfigField("String", "API_BASE_URL", "\"$apiBaseUrl\"")
+        }
         release {
             isMinifyEnabled = false
             proguardFiles(
@@ -76,6 +85,8 @@ dependencies {
     testImplementation(libs.junit)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
+    // 부하 테스트용 로컬 응답 재생 서버 (ApiLoadTest)
+    androidTestImplementation(project(":stubserver"))
 
     // RecyclerView
     implementation("androidx.recyclerview:recyclerview:1.3.2")
@@ -117,4 +128,53 @@ dependencies {
     // HTTP 클라이언트 (네이버 Directions API용)
     implementation("com.squareup.okhttp3:okhttp:4.12.0")
     implementation("com.squareup.okhttp3:logging-interceptor:4.12.0")
-}
\ No newline at end of file
+}
+
+// 큰 그림 파일(src/main/art)은 빌드할 때 WebP로 변환해 drawable 리소스로 넣음
+// cwebp(libwebp)는 PATH에서 찾거나 -Pcwebp=/경로/cwebp로 지정, 없으면 원본 PNG를 그대로 복사 (경고만 출력)
+// 변환기 유무, 실행 파일, 옵션을 입력으로 선언해 변환기를 설치하거나 바꾸면 다시 변환함
+val artSourceDir = file("src/main/art")
+val generatedArtDir = layout.buildDirectory.dir("generated/res/art").get().asFile
+val cwebpOptions = listOf("-q", "80", "-alpha_q", "90", "-m", "6", "-quiet")
+val cwebp: File? = (findProperty("cwebp") as String?)?.let { file(it) }
+    ?: System.getenv("PATH").orEmpty().split(File.pathSeparator)
+        .map { File(it, "cwebp") }
+        .firstOrNull { it.canExecute() }
+
+val generateArtDrawables by tasks.registering {
+    inputs.dir(artSourceDir)
+    inputs.property("cwebpOptions", cwebpOptions)
+    inputs.property("cwebpAvailable", cwebp != null && cwebp.canExecute())
+    if (cwebp != null && cwebp.isFile) {
+        inputs.file(cwebp).withPropertyName("cwebp")
+    }
+    outputs.dir(generatedArtDir)
+    doLast {
+        val outputDir = File(generatedArtDir, "drawable")
+        outputDir.deleteRecursively()
+        outputDir.mkdirs()
+
+        val encoder = cwebp?.takeIf { it.canExecute() }
+        if (encoder == null) {
+            logger.warn("cwebp를 찾을 수 없어 PNG를 그대로 사용합니다 (libwebp를 설치하거나 -Pcwebp=/경로/cwebp로 지정)")
+        }
+
+        artSourceDir.listFiles { file -> file.extension == "png" }.orEmpty().forEach { png ->
+            if (encoder == null) {
+                png.copyTo(File(outputDir, png.name), overwrite = true)
+                return@forEach
+            }
+            val webp = File(outputDir, png.nameWithoutExtension + ".webp")
+            val exitCode = ProcessBuilder(listOf(encoder.path) + cwebpOptions + listOf(png.path, "-o", webp.path))
+                .inheritIO()
+                .start()
+                .waitFor()
+            if (exitCode != 0) {
+                throw GradleException("WebP 변환 실패: ${png.name}")
+            }
+        }
+    }
+}
+
+android.sourceSets["main"].res.srcDir(generatedArtDir)
+tasks.named("preBuild") { dependsOn(generateArtDrawables) }
@@ -18,4 +18,11 @@
 
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+#-renamesourcefileattribute SourceFile
+
+# 릴리스 빌드에서 AppLog 디버그 로그 호출 제거 (minify 사용 시)
+-assumenosideeffects class com.example.umbrellaalert.util.AppLog {
+    public static void d(...);
+    public static void v(...);
+    public static void dSampled(...);
+}
@@ -0,0 +1,338 @@
+package com.example.umbrellaalert;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.umbrellaalert.data.api.ApiEndpoints;
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
+import com.example.umbrellaalert.data.api.BusApiClient;
+import com.example.umbrellaalert.data.api.NaverGeocodingApiClient;
+import com.example.umbrellaalert.data.api.OpenWeatherApiClient;
+import com.example.umbrellaalert.data.api.SimpleKmaApiClient;
+import com.example.umbrellaalert.data.model.BusArrival;
+import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.data.repository.BusStopRepository;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
+import com.example.umbrellaalert.stub.StubApiServer;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.weather.WeatherProviderOrchestrator;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 로컬 응답 재생 서버(stubserver)를 상대로 저장소와 서비스를 동시에 호출하는 부하 테스트
+ * 네트워크 없이 처리량과 지연 분포(p50/p90/p99)를 측정함
+ *
+ * 설정은 계측 인수로 바꿀 수 있음 (괄호 안은 기본값)
+ *   loadBuses(40) 등록 버스 수, loadLocations(20) 위치 수, loadRounds(3) 반복 횟수, loadConcurrency(8) 동시 요청 수
+ *   loadLatency(20-120) 응답 지연 ms, loadErrorRate(0.02) 500 응답 비율, loadThrottle(0) 경로별 초당 요청 제한
+ *   loadSyntheticSeed(없음) 지정하면 날씨 응답을 고정 샘플 대신 이 시드의 합성 날씨로 만듦 (위치마다 다른 날씨)
+ *   loadScript(없음) 합성 날씨 각본, 예: SUNNY_ALL_DAY*2,CLOUDY_TO_RAIN,STEADY_RAIN
+ * 예: ./gradlew connectedAndroidTest -Pandroid.testInstrumentationRunnerArguments.class=com.example.umbrellaalert.ApiLoadTest
+ *        -Pandroid.testInstrumentationRunnerArguments.loadBuses=200
+ *
+ * 결과는 logcat(ApiLoadTest)과 앱 외부 파일 디렉터리의 load-test/*.json에 남음
+ * 앱의 HTTP 캐시, 정류장 카탈로그, 회로 차단기를 그대로 거치므로 반복 횟수가 늘면 캐시 적중도 함께 측정됨
+ */
+@RunWith(AndroidJUnit4.class)
+public class ApiLoadTest {
+
+    private static final String TAG = "ApiLoadTest";
+
+    private static Context context;
+    private static StubApiServer server;
+    private static Bundle arguments;
+
+    @BeforeClass
+    public static void startServer() throws IOException {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        arguments = InstrumentationRegistry.getArguments();
+
+        String[] latency = argument("loadLatency", "20-120").split("-");
+        long minLatency = Long.parseLong(latency[0]);
+        long maxLatency = latency.length > 1 ? Long.parseLong(latency[1]) : minLatency;
+        StubApiServer.Behavior behavior = StubApiServer.Behavior.immediate()
+                .latency(minLatency, maxLatency)
+                .errorRate(Double.parseDouble(argument("loadErrorRate", "0.02")))
+                .throttle(Integer.parseInt(argument("loadThrottle", "0")));
+
+        server = StubApiServer.withRecordedResponses(0);
+        String syntheticSeed = arguments.getString("loadSyntheticSeed");
+        if (syntheticSeed != null) {
+            routeSyntheticWeather(Long.parseLong(syntheticSeed), arguments.getString("loadScript"));
+        }
+        server.behavior(behavior);
+        server.start();
+        ApiEndpoints.overrideAll(server.getBaseUrl());
+        Metrics.reset();
+        Log.i(TAG, "응답 재생 서버: " + server.getBaseUrl() + " (" + behavior + ")");
+    }
+
+    /**
+     * 기상청 관측, OpenWeather 현재 날씨와 예보를 요청 좌표(기상청은 지점번호)와 시각에 맞는 합성 날씨로 응답
+     */
+    private static void routeSyntheticWeather(long seed, String script) {
+        SyntheticWeatherGenerator generator = new SyntheticWeatherGenerator(seed);
+        if (script != null) {
+            generator = generator.withScript(System.currentTimeMillis(), SyntheticWeatherGenerator.parseScript(script));
+        }
+        SyntheticWeatherGenerator weather = generator;
+        server.route("/data/2.5/weather", query -> weather.toOpenWeatherCurrentJson(
+                        Double.parseDouble(query.get("lat")), Double.parseDouble(query.get("lon")),
+                        System.currentTimeMillis()), "application/json")
+                .route("/data/2.5/forecast", query -> weather.toOpenWeatherForecastJson(
+                        Double.parseDouble(query.get("lat")), Double.parseDouble(query.get("lon")),
+                        System.currentTimeMillis(), 40), "application/json")
+                .route("/api/typ01/url/kma_sfctm2.php", query -> {
+                    int stationId = Integer.parseInt(query.get("stn"));
+                    double[] location = SimpleKmaApiClient.stationLocation(stationId);
+                    if (location == null) {
+                        throw new IOException("알 수 없는 관측소: " + stationId);
+                    }
+                    return weather.toKmaObservationText(stationId, location[0], location[1],
+                            parseKmaTime(query.get("tm")));
+                }, "text/plain");
+        Log.i(TAG, "합성 날씨 응답: seed=" + seed + (script != null ? ", 각본=" + script : ""));
+    }
+
+    private static long parseKmaTime(String tm) throws IOException {
+        if (tm == null) {
+            return System.currentTimeMillis();
+        }
+        SimpleDateFormat format = new SimpleDateFormat("yyyyMMddHHmm", Locale.KOREA);
+        format.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        try {
+            return format.parse(tm).getTime();
+        } catch (ParseException e) {
+            throw new IOException("관측 시각 형식 오류: " + tm, e);
+        }
+    }
+
+    @AfterClass
+    public static void stopServer() throws IOException {
+        ApiEndpoints.reset();
+        Log.i(TAG, "서버 통계\n" + server.getStatsSummary());
+        Log.i(TAG, "앱 지표\n" + Metrics.report());
+        server.close();
+    }
+
+    /**
+     * 위치 M개의 현재 날씨(제공자 헤징 포함)와 예보
+     */
+    @Test
+    public void weatherForLocations() throws Exception {
+        WeatherProviderOrchestrator orchestrator = new WeatherProviderOrchestrator(
+                new OpenWeatherApiClient(context), new SimpleKmaApiClient(context));
+        OpenWeatherApiClient forecastClient = new OpenWeatherApiClient(context);
+
+        List<double[]> locations = randomLocations(intArgument("loadLocations", 20), 1);
+        List<Callable<Object>> operations = new ArrayList<>();
+        for (int round = 0; round < intArgument("loadRounds", 3); round++) {
+            for (double[] location : locations) {
+                operations.add(() -> {
+                    Weather weather = orchestrator.getCurrentWeather(location[0], location[1]);
+                    if (weather == null) {
+                        throw new IOException("모든 날씨 제공자 실패");
+                    }
+                    return weather;
+                });
+                operations.add(() -> forecastClient.get12HourForecastSync(location[0], location[1]));
+            }
+        }
+
+        run("weather", operations);
+    }
+
+    /**
+     * 등록 버스 N개의 근처 정류장 조회(카탈로그)와 도착 정보
+     */
+    @Test
+    public void busArrivalsForRegisteredBuses() throws Exception {
+        BusStopRepository repository = BusStopRepository.getInstance(context);
+        BusApiClient busApiClient = new BusApiClient(context);
+
+        // 등록 버스마다 가까운 정류장 하나를 골라 두고 그 정류장의 도착 정보를 반복 조회
+        List<double[]> homes = randomLocations(intArgument("loadBuses", 40), 2);
+        List<Callable<Object>> operations = new ArrayList<>();
+        for (int round = 0; round < intArgument("loadRounds", 3); round++) {
+            for (double[] home : homes) {
+                operations.add(() -> {
+                    List<BusStop> stops = repository.getNearbyBusStops(home[0], home[1]);
+                    if (stops.isEmpty()) {
+                        throw new IOException("근처 정류장 없음");
+                    }
+                    BusStop stop = stops.get(0);
+                    List<BusArrival> arrivals = busApiClient.getBusArrivalInfo(stop.getNodeId(),
+                            stop.getCityCode(), ApiQuotaManager.Priority.BUS_ALERT).get();
+                    return arrivals;
+                });
+            }
+        }
+
+        run("bus", operations);
+    }
+
+    /**
+     * 위치 M개의 주소 변환 (위치 등록 화면)
+     */
+    @Test
+    public void reverseGeocodingForLocations() throws Exception {
+        NaverGeocodingApiClient geocodingClient = new NaverGeocodingApiClient(context);
+
+        List<double[]> locations = randomLocations(intArgument("loadLocations", 20), 3);
+        List<Callable<Object>> operations = new ArrayList<>();
+        for (int round = 0; round < intArgument("loadRounds", 3); round++) {
+            for (double[] location : locations) {
+                operations.add(() -> geocodingClient.getAddressFromCoordinatesSync(location[0], location[1]));
+            }
+        }
+
+        run("geocoding", operations);
+    }
+
+    /**
+     * 작업을 동시에 실행하고 지연 분포를 기록, 보고
+     */
+    private void run(String name, List<Callable<Object>> operations) throws Exception {
+        int concurrency = intArgument("loadConcurrency", 8);
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long[] latencies = new long[operations.size()];
+        Map<String, Integer> failures = new TreeMap<>();
+
+        long start = System.nanoTime();
+        List<Future<Long>> futures = new ArrayList<>(operations.size());
+        for (Callable<Object> operation : operations) {
+            futures.add(executor.submit(() -> {
+                long begin = System.nanoTime();
+                operation.call();
+                return System.nanoTime() - begin;
+            }));
+        }
+
+        int succeeded = 0;
+        for (Future<Long> future : futures) {
+            try {
+                latencies[succeeded] = future.get(2, TimeUnit.MINUTES);
+                succeeded++;
+            } catch (ExecutionException e) {
+                String reason = e.getCause() != null ? e.getCause().getClass().getSimpleName() : "unknown";
+                Integer count = failures.get(reason);
+                failures.put(reason, count == null ? 1 : count + 1);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        long[] sorted = Arrays.copyOf(latencies, succeeded);
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+        String report = String.format(Locale.US,
+                "{\"name\":\"%s\",\"operations\":%d,\"succeeded\":%d,\"concurrency\":%d,"
+                        + "\"elapsedMs\":%.1f,\"throughputPerSec\":%.2f,"
+                        + "\"p50Ms\":%.1f,\"p90Ms\":%.1f,\"p99Ms\":%.1f,\"maxMs\":%.1f,\"failures\":%s}",
+                name, operations.size(), succeeded, concurrency,
+                elapsedNanos / 1e6, operations.size() / seconds,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6,
+                toJson(failures));
+        Log.i(TAG, report);
+        writeReport(name, report);
+
+        assertEquals("모든 작업이 끝나야 함", operations.size(), succeeded + countFailures(failures));
+        assertTrue("성공한 작업이 없음: " + failures, succeeded > 0);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    private static int countFailures(Map<String, Integer> failures) {
+        int total = 0;
+        for (int count : failures.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static String toJson(Map<String, Integer> failures) {
+        StringBuilder builder = new StringBuilder("{");
+        for (Map.Entry<String, Integer> entry : failures.entrySet()) {
+            if (builder.length() > 1) builder.append(',');
+            builder.append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+        }
+        return builder.append('}').toString();
+    }
+
+    private static void writeReport(String name, String report) throws IOException {
+        File dir = new File(context.getExternalFilesDir(null), "load-test");
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("결과 디렉터리 생성 실패: " + dir);
+        }
+        try (Writer writer = new OutputStreamWriter(
+                new FileOutputStream(new File(dir, name + ".json")), StandardCharsets.UTF_8)) {
+            writer.write(report);
+        }
+    }
+
+    /**
+     * 국내 범위의 고정 시드 좌표 (시드가 같으면 매번 같은 위치)
+     */
+    private static List<double[]> randomLocations(int count, long seed) {
+        Random random = new Random(seed);
+        List<double[]> locations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            locations.add(new double[] {
+                    34.5 + random.nextDouble() * 3.5,
+                    126.5 + random.nextDouble() * 2.8
+            });
+        }
+        return locations;
+    }
+
+    private static String argument(String key, String defaultValue) {
+        String value = arguments.getString(key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static int intArgument(String key, int defaultValue) {
+        return Integer.parseInt(argument(key, Integer.toString(defaultValue)));
+    }
+}
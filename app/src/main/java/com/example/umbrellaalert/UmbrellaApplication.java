@@ -5,10 +5,23 @@ import android.app.NotificationChannel;
 import android.app.NotificationManager;
 import android.os.Build;
 
+import com.example.umbrellaalert.data.manager.DashboardSnapshotManager;
 import com.example.umbrellaalert.service.LocationSearchService;
 import com.example.umbrellaalert.service.PersistentNotificationService;
 import com.example.umbrellaalert.service.WeatherUpdateService;
 import com.example.umbrellaalert.ui.settings.ThemeActivity;
+import com.example.umbrellaalert.util.AppStartup;
+import com.example.umbrellaalert.util.HomeSnapshotCache;
+import com.example.umbrellaalert.util.MainThreadWatchdog;
+import com.example.umbrellaalert.util.MorningAlarmScheduler;
+import com.example.umbrellaalert.util.Tracer;
+import com.example.umbrellaalert.widget.WeatherWidgetProvider;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
 
 import dagger.hilt.android.HiltAndroidApp;
 
@@ -17,26 +30,60 @@ public class UmbrellaApplication extends Application {
 
     public static final String CHANNEL_ID = "umbrella_alert_channel";
 
+    // 스냅샷 매니저는 버스 API 클라이언트와 DB를 만들므로 지연 초기화 단계에서 처음 생성
+    @Inject
+    Provider<DashboardSnapshotManager> dashboardSnapshotManager;
+
+    // 첫 화면과 상관없는 초기화를 순서대로 처리
+    private final ExecutorService startupExecutor = Executors.newSingleThreadExecutor();
+
     @Override
     public void onCreate() {
         super.onCreate();
 
-        // 저장된 테마 적용
+        // 디버그 빌드에서 메인 스레드 I/O, 느린 메시지, 끊기는 프레임 감시
+        MainThreadWatchdog.install(this);
+
+        // 저장된 테마 적용 (첫 프레임에 필요)
         ThemeActivity.applyTheme(this);
 
-        // 네이버 클라우드 플랫폼 Geocoding API 초기화
+        // 홈 화면 첫 프레임에 쓸 마지막 화면 미리 읽기
+        HomeSnapshotCache.preload(this);
+
+        // 네이버 클라우드 플랫폼 Geocoding API (클라이언트는 첫 검색 때 생성)
         LocationSearchService.initialize(this);
 
-        // 알림 채널 생성
-        createNotificationChannel();
+        // 알림 채널 생성 (바로 백그라운드에서 시작, 서비스보다 먼저 끝남)
+        startupExecutor.execute(this::createNotificationChannel);
+
+        // 나머지는 첫 프레임을 그린 뒤에
+        AppStartup.whenIdle(() -> startupExecutor.execute(this::runDeferredInit));
+
+        AppStartup.mark("application:created");
+    }
+
+    /**
+     * 첫 화면과 상관없는 초기화 (백그라운드 스레드)
+     */
+    private void runDeferredInit() {
+        try (Tracer.Span span = Tracer.begin("startup:deferred")) {
+            // 새 대시보드 스냅샷이 게시되면 위젯에 반영 (알림 서비스는 각자 리스너 등록)
+            dashboardSnapshotManager.get().addListener(
+                    snapshot -> WeatherWidgetProvider.renderSnapshot(this, snapshot));
+
+            // 서비스 시작
+            WeatherUpdateService.startService(this);
 
-        // 서비스 시작
-        WeatherUpdateService.startService(this);
+            // 상태바 알림 서비스 시작 (설정에 따라)
+            if (PersistentNotificationService.isEnabled(this)) {
+                PersistentNotificationService.setEnabled(this, true);
+            }
 
-        // 상태바 알림 서비스 시작 (설정에 따라)
-        if (PersistentNotificationService.isEnabled(this)) {
-            PersistentNotificationService.setEnabled(this, true);
+            // 아침 우산 알람 예약 (설정에 따라)
+            MorningAlarmScheduler.schedule(this);
         }
+        startupExecutor.shutdown();
+        AppStartup.mark("deferred:done");
     }
 
     private void createNotificationChannel() {
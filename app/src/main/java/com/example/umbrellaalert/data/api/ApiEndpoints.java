@@ -0,0 +1,95 @@
+package com.example.umbrellaalert.data.api;
+
+import com.example.umbrellaalert.BuildConfig;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 외부 API 기본 주소 (scheme://host[:port])
+ * 클라이언트는 여기서 받은 기본 주소 뒤에 API 경로를 붙여 요청함
+ *
+ * 기본값은 운영 주소이고, 다음 두 가지로 바꿀 수 있음
+ * - local.properties의 api.base.url: 디버그 빌드에서만 모든 API를 한 주소로 보냄
+ *   (예: 에뮬레이터에서 http://10.0.2.2:8080, 개발 PC에서 stubserver 모듈의 응답 재생 서버 실행)
+ * - override(): 테스트에서 API별로 지정 (부하 테스트가 로컬 응답 재생 서버를 가리킬 때 사용)
+ */
+public final class ApiEndpoints {
+
+    public enum Api {
+        KMA("https://apihub.kma.go.kr"),
+        OPEN_WEATHER("https://api.openweathermap.org"),
+        TAGO("http://apis.data.go.kr"),
+        NAVER_MAPS("https://maps.apigw.ntruss.com"),
+        NAVER_DIRECTIONS("https://naveropenapi.apigw.ntruss.com");
+
+        final String productionUrl;
+
+        Api(String productionUrl) {
+            this.productionUrl = productionUrl;
+        }
+    }
+
+    private static final Map<Api, String> overrides = new EnumMap<>(Api.class);
+
+    private ApiEndpoints() {
+    }
+
+    /**
+     * API 기본 주소 (끝에 '/' 없음)
+     */
+    public static String baseUrl(Api api) {
+        synchronized (overrides) {
+            String override = overrides.get(api);
+            if (override != null) {
+                return override;
+            }
+        }
+        String buildOverride = BuildConfig.API_BASE_URL;
+        return buildOverride.isEmpty() ? api.productionUrl : trimSlash(buildOverride);
+    }
+
+    /**
+     * 운영 서버로 가는 요청인지 (API 호출 한도는 운영 서버 요청만 계산)
+     */
+    public static boolean isProduction(String url) {
+        for (Api api : Api.values()) {
+            if (url.startsWith(api.productionUrl)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * API 기본 주소 지정 (null이면 기본값으로 되돌림)
+     */
+    public static void override(Api api, String baseUrl) {
+        synchronized (overrides) {
+            if (baseUrl == null) {
+                overrides.remove(api);
+            } else {
+                overrides.put(api, trimSlash(baseUrl));
+            }
+        }
+    }
+
+    /**
+     * 모든 API를 한 주소로 보냄 (응답 재생 서버는 경로로 API를 구분함)
+     */
+    public static void overrideAll(String baseUrl) {
+        for (Api api : Api.values()) {
+            override(api, baseUrl);
+        }
+    }
+
+    public static void reset() {
+        synchronized (overrides) {
+            overrides.clear();
+        }
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
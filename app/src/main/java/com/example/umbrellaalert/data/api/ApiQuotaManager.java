@@ -0,0 +1,229 @@
+package com.example.umbrellaalert.data.api;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 키별 호출 한도 관리자
+ * 키마다 하루 한도와 분당 한도(토큰 버킷)를 두고, 실제 HTTP 요청 직전에 토큰을 하나씩 사용
+ * 남은 한도가 적을수록 낮은 우선순위 요청부터 거절해 화면 요청과 임박한 버스 알림 몫을 남김
+ * 사용량과 버킷 상태는 SharedPreferences에 저장되어 프로세스가 다시 시작되어도 이어짐
+ */
+public class ApiQuotaManager {
+
+    private static final String TAG = "ApiQuotaManager";
+    private static final String PREF_NAME = "api_quota";
+
+    /**
+     * 한도를 공유하는 API 키
+     */
+    public enum Service {
+        BUS(1000, 30),              // 공공데이터포털 버스 API (개발계정)
+        KMA(20000, 60),             // 기상청 API허브
+        OPEN_WEATHER(1000, 60),     // OpenWeather 무료 요금제
+        NAVER(3000, 60);            // 네이버 지도 API
+
+        final int dailyLimit;
+        final int perMinuteLimit;
+
+        Service(int dailyLimit, int perMinuteLimit) {
+            this.dailyLimit = dailyLimit;
+            this.perMinuteLimit = perMinuteLimit;
+        }
+    }
+
+    /**
+     * 요청 우선순위 (위에 있을수록 높음)
+     * reserveRatio: 하루 한도 중 이 비율 이상이 남아 있어야 요청 가능
+     * burstRatio: 분당 버킷에 이 비율 이상 토큰이 남아 있어야 요청 가능
+     */
+    public enum Priority {
+        FOREGROUND(0, 0),           // 사용자가 보고 있는 화면
+        BUS_ALERT(0.05, 0),         // 임박한 버스 알림
+        WIDGET(0.2, 0.25),          // 위젯/상시 알림 갱신
+        PREFETCH(0.4, 0.5);         // 백그라운드 미리 가져오기
+
+        final double reserveRatio;
+        final double burstRatio;
+
+        Priority(double reserveRatio, double burstRatio) {
+            this.reserveRatio = reserveRatio;
+            this.burstRatio = burstRatio;
+        }
+    }
+
+    private static ApiQuotaManager instance;
+
+    private final SharedPreferences preferences;
+    private final Bucket[] buckets;
+
+    /**
+     * 키 하나의 사용량 상태
+     */
+    private static class Bucket {
+        String day;
+        int usedToday;
+        double tokens;
+        long lastRefill;
+        int rejectedToday;
+    }
+
+    private ApiQuotaManager(Context context) {
+        this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.buckets = new Bucket[Service.values().length];
+        for (Service service : Service.values()) {
+            buckets[service.ordinal()] = load(service);
+        }
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     */
+    public static synchronized ApiQuotaManager getInstance(Context context) {
+        if (instance == null) {
+            instance = new ApiQuotaManager(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 요청 한 번 분량의 한도 사용 (실제 HTTP 요청 직전에 호출)
+     * @throws QuotaExceededException 이 우선순위로는 한도가 부족한 경우
+     */
+    public synchronized void acquire(Service service, Priority priority) throws QuotaExceededException {
+        Bucket bucket = refresh(service);
+        long delay = denialDelayMillis(service, priority, bucket);
+        if (delay > 0) {
+            bucket.rejectedToday++;
+            save(service, bucket);
+            throw new QuotaExceededException(service, priority, delay);
+        }
+
+        bucket.tokens -= 1;
+        bucket.usedToday++;
+        save(service, bucket);
+
+        if (bucket.usedToday == (int) (service.dailyLimit * (1 - Priority.WIDGET.reserveRatio))) {
+            Log.w(TAG, service + " 하루 한도 " + bucket.usedToday + "/" + service.dailyLimit + " 사용, 위젯/미리 가져오기 요청 제한");
+        }
+    }
+
+    /**
+     * 이 우선순위로 지금 요청할 수 있는지 (한도를 사용하지 않음)
+     */
+    public synchronized boolean canAcquire(Service service, Priority priority) {
+        return denialDelayMillis(service, priority, refresh(service)) == 0;
+    }
+
+    /**
+     * 이 우선순위로 다시 요청할 수 있을 때까지 남은 시간 (지금 가능하면 0)
+     */
+    public synchronized long getRetryDelayMillis(Service service, Priority priority) {
+        return denialDelayMillis(service, priority, refresh(service));
+    }
+
+    public synchronized int getUsedToday(Service service) {
+        return refresh(service).usedToday;
+    }
+
+    /**
+     * 키별 사용량 요약
+     */
+    public synchronized String getUsageReport() {
+        StringBuilder report = new StringBuilder();
+        for (Service service : Service.values()) {
+            Bucket bucket = refresh(service);
+            if (report.length() > 0) report.append('\n');
+            report.append(service).append(": 오늘 ").append(bucket.usedToday).append('/').append(service.dailyLimit)
+                    .append(", 분당 여유 ").append((int) bucket.tokens).append('/').append(service.perMinuteLimit)
+                    .append(", 거절 ").append(bucket.rejectedToday);
+        }
+        return report.toString();
+    }
+
+    /**
+     * 거절해야 하면 다시 가능해질 때까지의 시간, 가능하면 0
+     */
+    private long denialDelayMillis(Service service, Priority priority, Bucket bucket) {
+        int reserve = (int) Math.ceil(service.dailyLimit * priority.reserveRatio);
+        if (service.dailyLimit - bucket.usedToday <= reserve) {
+            return millisUntilNextDay();
+        }
+
+        double required = Math.max(1, service.perMinuteLimit * priority.burstRatio);
+        if (bucket.tokens < required) {
+            double refillPerMilli = service.perMinuteLimit / (double) TimeUnit.MINUTES.toMillis(1);
+            return Math.max(1, (long) Math.ceil((required - bucket.tokens) / refillPerMilli));
+        }
+        return 0;
+    }
+
+    /**
+     * 날짜가 바뀌었으면 하루 사용량을 초기화하고, 경과 시간만큼 분당 버킷을 채움
+     */
+    private Bucket refresh(Service service) {
+        Bucket bucket = buckets[service.ordinal()];
+        long now = System.currentTimeMillis();
+
+        String today = today(now);
+        if (!today.equals(bucket.day)) {
+            bucket.day = today;
+            bucket.usedToday = 0;
+            bucket.rejectedToday = 0;
+        }
+
+        long elapsed = Math.max(0, now - bucket.lastRefill);
+        double refill = elapsed * service.perMinuteLimit / (double) TimeUnit.MINUTES.toMillis(1);
+        bucket.tokens = Math.min(service.perMinuteLimit, bucket.tokens + refill);
+        bucket.lastRefill = now;
+        return bucket;
+    }
+
+    private Bucket load(Service service) {
+        String prefix = service.name() + "_";
+        Bucket bucket = new Bucket();
+        bucket.day = preferences.getString(prefix + "day", "");
+        bucket.usedToday = preferences.getInt(prefix + "used", 0);
+        bucket.rejectedToday = preferences.getInt(prefix + "rejected", 0);
+        bucket.tokens = preferences.getFloat(prefix + "tokens", service.perMinuteLimit);
+        bucket.lastRefill = preferences.getLong(prefix + "last_refill", System.currentTimeMillis());
+        return bucket;
+    }
+
+    private void save(Service service, Bucket bucket) {
+        String prefix = service.name() + "_";
+        preferences.edit()
+                .putString(prefix + "day", bucket.day)
+                .putInt(prefix + "used", bucket.usedToday)
+                .putInt(prefix + "rejected", bucket.rejectedToday)
+                .putFloat(prefix + "tokens", (float) bucket.tokens)
+                .putLong(prefix + "last_refill", bucket.lastRefill)
+                .apply();
+    }
+
+    // API 한도는 한국 시간 자정에 초기화
+    private static String today(long nowMillis) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
+        format.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        return format.format(new Date(nowMillis));
+    }
+
+    private static long millisUntilNextDay() {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
+        long now = calendar.getTimeInMillis();
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTimeInMillis() - now;
+    }
+}
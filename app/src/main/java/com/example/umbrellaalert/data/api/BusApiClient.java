@@ -1,22 +1,15 @@
 package com.example.umbrellaalert.data.api;
 
 import android.content.Context;
-import android.util.Log;
 
 import com.example.umbrellaalert.BuildConfig;
 import com.example.umbrellaalert.data.model.BusArrival;
 import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.util.AppLog;
+import com.example.umbrellaalert.util.CoordinateConverter;
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +17,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 버스 API 클라이언트
@@ -32,25 +26,34 @@ import java.util.concurrent.Future;
 public class BusApiClient {
     
     private static final String TAG = "BusApiClient";
+
+    // 회로 차단기 (같은 엔드포인트는 모든 인스턴스가 공유)
+    private static final CircuitBreaker NEARBY_STOPS_BREAKER = CircuitBreaker.forEndpoint("bus_nearby_stops");
+    private static final CircuitBreaker ARRIVAL_INFO_BREAKER = CircuitBreaker.forEndpoint("bus_arrival_info");
     
-    // API 기본 URL - 공공데이터포털 문서 기준
-    private static final String NEARBY_STOPS_URL = "http://apis.data.go.kr/1613000/BusSttnInfoInqireService/getCrdntPrxmtSttnList";
-    private static final String ARRIVAL_INFO_URL = "http://apis.data.go.kr/1613000/ArvlInfoInqireService/getSttnAcctoArvlPrearngeInfoList";
+    // API 경로 - 공공데이터포털 문서 기준 (기본 주소는 ApiEndpoints)
+    private static final String NEARBY_STOPS_PATH = "/1613000/BusSttnInfoInqireService/getCrdntPrxmtSttnList";
+    private static final String ARRIVAL_INFO_PATH = "/1613000/ArvlInfoInqireService/getSttnAcctoArvlPrearngeInfoList";
     
     private final Context context;
     private final ExecutorService executorService;
     private final String serviceKey;
     private final Gson gson;
+    private final ApiQuotaManager quotaManager;
+    private final HttpTransport transport;
 
     public BusApiClient(Context context) {
         this.context = context;
         this.executorService = Executors.newCachedThreadPool();
         this.serviceKey = BuildConfig.BUS_API_SERVICE_KEY;
         this.gson = new Gson();
+        this.quotaManager = ApiQuotaManager.getInstance(context);
+        this.transport = HttpTransport.getInstance(context);
     }
 
     /**
      * 좌표 기반 근접 정류소 목록 조회
+     * 근처에 정류소가 없으면 빈 목록, 요청이 실패하거나 생략되면 null
      */
     public Future<List<BusStop>> getNearbyBusStops(double latitude, double longitude) {
         return executorService.submit(new Callable<List<BusStop>>() {
@@ -58,43 +61,56 @@ public class BusApiClient {
             public List<BusStop> call() throws Exception {
                 try {
                     // 서비스 키가 이미 인코딩되어 있으므로 직접 사용
-                    String urlStr = NEARBY_STOPS_URL +
+                    String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.TAGO) + NEARBY_STOPS_PATH +
                         "?serviceKey=" + serviceKey +
                         "&pageNo=1" +
                         "&numOfRows=50" +
                         "&_type=json" +
-                        "&gpsLati=" + latitude +
-                        "&gpsLong=" + longitude;
+                        "&gpsLati=" + CoordinateConverter.toRequestDegrees(latitude) +
+                        "&gpsLong=" + CoordinateConverter.toRequestDegrees(longitude);
                     
-                    Log.d(TAG, "🚌 근접 정류소 API 요청: " + urlStr);
+                    AppLog.d(TAG, "🚌 근접 정류소 API 요청: {}", urlStr);
 
-                    String response = executeHttpRequest(urlStr);
-                    Log.d(TAG, "🚌 API 응답 길이: " + response.length());
-                    Log.d(TAG, "🚌 API 응답 시작: " + response.substring(0, Math.min(200, response.length())));
+                    // 정류소 목록은 거의 바뀌지 않으므로 하루 동안 캐시, 오프라인이면 30일까지 사용
+                    String response = executeHttpRequest(new HttpTransport.Request(urlStr)
+                            .breaker(NEARBY_STOPS_BREAKER, 3)
+                            .quota(ApiQuotaManager.Service.BUS, ApiQuotaManager.Priority.FOREGROUND)
+                            .cache(TimeUnit.DAYS.toMillis(1), TimeUnit.DAYS.toMillis(30)));
 
-                    List<BusStop> result = parseNearbyStopsResponse(response);
+                    List<BusStop> result = BusResponseParser.parseNearbyStops(response);
 
-                    Log.d(TAG, "근접 정류소 조회 완료: " + result.size() + "개");
+                    AppLog.d(TAG, "근접 정류소 조회 완료: {}개", result != null ? result.size() : "실패");
                     return result;
 
+                } catch (CircuitOpenException | QuotaExceededException e) {
+                    AppLog.w(TAG, "근접 정류소 조회 생략: {}", e.getMessage());
+                    return null;
                 } catch (Exception e) {
-                    Log.e(TAG, "근접 정류소 조회 실패", e);
-                    return new ArrayList<>();
+                    AppLog.e(TAG, "근접 정류소 조회 실패", e);
+                    return null;
                 }
             }
         });
     }
 
     /**
-     * 정류소별 도착 예정 정보 조회
+     * 정류소별 도착 예정 정보 조회 (화면 요청)
      */
     public Future<List<BusArrival>> getBusArrivalInfo(String nodeId, int cityCode) {
+        return getBusArrivalInfo(nodeId, cityCode, ApiQuotaManager.Priority.FOREGROUND);
+    }
+
+    /**
+     * 정류소별 도착 예정 정보 조회
+     * @param priority 호출 한도가 부족할 때 어떤 요청을 먼저 거절할지 결정
+     */
+    public Future<List<BusArrival>> getBusArrivalInfo(String nodeId, int cityCode, ApiQuotaManager.Priority priority) {
         return executorService.submit(new Callable<List<BusArrival>>() {
             @Override
             public List<BusArrival> call() throws Exception {
                 try {
                     // 공공데이터포털 문서 기준 파라미터 사용
-                    String urlStr = ARRIVAL_INFO_URL +
+                    String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.TAGO) + ARRIVAL_INFO_PATH +
                         "?serviceKey=" + serviceKey +
                         "&pageNo=1" +
                         "&numOfRows=10" +
@@ -102,16 +118,23 @@ public class BusApiClient {
                         "&cityCode=" + cityCode +
                         "&nodeId=" + nodeId;
                     
-                    Log.d(TAG, "🚌 도착 정보 API 요청: " + urlStr);
+                    AppLog.d(TAG, "🚌 도착 정보 API 요청: {}", urlStr);
                     
-                    String response = executeHttpRequest(urlStr);
-                    List<BusArrival> result = parseArrivalInfoResponse(response);
-
-                    Log.d(TAG, "버스 도착 정보 조회 완료: " + result.size() + "개");
+                    // 도착 정보는 실시간이므로 동시에 몰린 중복 요청만 합치고, 오프라인이면 2분까지만 사용
+                    String response = executeHttpRequest(new HttpTransport.Request(urlStr)
+                            .breaker(ARRIVAL_INFO_BREAKER, 3)
+                            .quota(ApiQuotaManager.Service.BUS, priority)
+                            .cache(TimeUnit.SECONDS.toMillis(15), TimeUnit.MINUTES.toMillis(2)));
+                    List<BusArrival> result = BusResponseParser.parseArrivals(response);
+
+                    AppLog.d(TAG, "버스 도착 정보 조회 완료: {}개", result.size());
                     return result;
 
+                } catch (CircuitOpenException | QuotaExceededException e) {
+                    AppLog.w(TAG, "도착 정보 조회 생략: {}", e.getMessage());
+                    return new ArrayList<>();
                 } catch (Exception e) {
-                    Log.e(TAG, "도착 정보 조회 실패", e);
+                    AppLog.e(TAG, "도착 정보 조회 실패", e);
                     return new ArrayList<>();
                 }
             }
@@ -119,181 +142,38 @@ public class BusApiClient {
     }
 
     /**
-     * HTTP 요청 실행
+     * 이 우선순위로 도착 정보 API를 지금 호출할 수 있는지 (회로 차단, 호출 한도 모두 확인)
      */
-    private String executeHttpRequest(String urlStr) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        
-        try {
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(10000);
-            connection.setRequestProperty("Accept", "application/json");
-            
-            int responseCode = connection.getResponseCode();
-            Log.d(TAG, "HTTP 응답 코드: " + responseCode);
-            
-            BufferedReader reader;
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), "UTF-8"));
-            } else {
-                // 오류 응답도 읽어서 확인
-                reader = new BufferedReader(new InputStreamReader(connection.getErrorStream(), "UTF-8"));
-            }
-
-            StringBuilder response = new StringBuilder();
-            String line;
-
-            while ((line = reader.readLine()) != null) {
-                response.append(line);
-            }
-            reader.close();
-
-            String result = response.toString();
-            Log.d(TAG, "API 응답 (코드: " + responseCode + "): " + result.substring(0, Math.min(result.length(), 500)) + "...");
-
-            if (responseCode != HttpURLConnection.HTTP_OK) {
-                Log.e(TAG, "HTTP 오류 응답: " + result);
-                throw new IOException("HTTP 오류: " + responseCode + ", 응답: " + result);
-            }
-
-            return result;
-        } finally {
-            connection.disconnect();
-        }
+    public boolean canRequestArrivalInfo(ApiQuotaManager.Priority priority) {
+        return ARRIVAL_INFO_BREAKER.isAvailable()
+                && quotaManager.canAcquire(ApiQuotaManager.Service.BUS, priority);
     }
 
     /**
-     * 근접 정류소 응답 파싱
+     * 이 우선순위로 도착 정보 API를 다시 호출할 수 있을 때까지 남은 시간 (ms)
      */
-    private List<BusStop> parseNearbyStopsResponse(String response) {
-        List<BusStop> busStops = new ArrayList<>();
-
-        try {
-            // XML 오류 응답 체크
-            if (response.contains("<OpenAPI_ServiceResponse>") || response.contains("SERVICE ERROR")) {
-                Log.e(TAG, "API 오류 응답: " + response);
-                return busStops;
-            }
-
-            JsonObject jsonObject = JsonParser.parseString(response).getAsJsonObject();
-            JsonObject responseObj = jsonObject.getAsJsonObject("response");
-            JsonObject body = responseObj.getAsJsonObject("body");
-            
-            if (body.has("items")) {
-                JsonObject items = body.getAsJsonObject("items");
-                JsonArray itemArray = items.getAsJsonArray("item");
-                
-                if (itemArray != null) {
-                    for (JsonElement element : itemArray) {
-                        JsonObject item = element.getAsJsonObject();
-                        BusStop busStop = parseBusStopFromJson(item);
-                        if (busStop != null) {
-                            busStops.add(busStop);
-                        }
-                    }
-                }
-            }
-            
-            Log.d(TAG, "✅ 근접 정류소 파싱 완료: " + busStops.size() + "개");
-            
-        } catch (Exception e) {
-            Log.e(TAG, "근접 정류소 응답 파싱 실패", e);
-        }
-        
-        return busStops;
+    public long getArrivalInfoRetryDelayMillis(ApiQuotaManager.Priority priority) {
+        return Math.max(ARRIVAL_INFO_BREAKER.getRetryDelayMillis(),
+                quotaManager.getRetryDelayMillis(ApiQuotaManager.Service.BUS, priority));
     }
 
     /**
-     * 도착 정보 응답 파싱
+     * HTTP 요청 실행 (공유 전송 계층: 캐시 → 회로 차단기 → 호출 한도 → 네트워크)
      */
-    private List<BusArrival> parseArrivalInfoResponse(String response) {
-        List<BusArrival> arrivals = new ArrayList<>();
-
-        try {
-            // XML 오류 응답 체크
-            if (response.contains("<OpenAPI_ServiceResponse>") || response.contains("SERVICE ERROR")) {
-                Log.e(TAG, "API 오류 응답: " + response);
-                return arrivals;
-            }
-
-            JsonObject jsonObject = JsonParser.parseString(response).getAsJsonObject();
-            JsonObject responseObj = jsonObject.getAsJsonObject("response");
-            JsonObject body = responseObj.getAsJsonObject("body");
-            
-            if (body.has("items")) {
-                JsonObject items = body.getAsJsonObject("items");
-                JsonArray itemArray = items.getAsJsonArray("item");
-                
-                if (itemArray != null) {
-                    for (JsonElement element : itemArray) {
-                        JsonObject item = element.getAsJsonObject();
-                        BusArrival arrival = parseBusArrivalFromJson(item);
-                        if (arrival != null) {
-                            arrivals.add(arrival);
-                        }
-                    }
-                }
-            }
-            
-            Log.d(TAG, "✅ 도착 정보 파싱 완료: " + arrivals.size() + "개");
-            
-        } catch (Exception e) {
-            Log.e(TAG, "도착 정보 응답 파싱 실패", e);
+    private String executeHttpRequest(HttpTransport.Request request) throws IOException {
+        String result = transport.get(request
+                .header("Accept", "application/json")
+                .cacheOnlyIf(body -> !isServiceError(body)));
+        if (AppLog.DEBUG) {
+            // 도착 정보는 자주 호출되므로 본문은 10초에 한 번만 앞부분을 남김
+            AppLog.dSampled(TAG, "bus_response", 10_000, "API 응답: {}", AppLog.abbreviate(result));
         }
-        
-        return arrivals;
+        return result;
     }
 
-    /**
-     * JSON에서 BusStop 객체 생성
-     */
-    private BusStop parseBusStopFromJson(JsonObject item) {
-        try {
-            BusStop busStop = new BusStop();
-            
-            if (item.has("nodeid")) busStop.setNodeId(item.get("nodeid").getAsString());
-            if (item.has("nodenm")) busStop.setNodeName(item.get("nodenm").getAsString());
-            if (item.has("gpslati")) busStop.setGpsLati(item.get("gpslati").getAsDouble());
-            if (item.has("gpslong")) busStop.setGpsLong(item.get("gpslong").getAsDouble());
-            if (item.has("citycode")) busStop.setCityCode(item.get("citycode").getAsInt());
-            if (item.has("nodeno")) busStop.setNodeNo(item.get("nodeno").getAsString());
-            if (item.has("routetype")) busStop.setRouteType(item.get("routetype").getAsString());
-            
-            return busStop;
-        } catch (Exception e) {
-            Log.e(TAG, "BusStop 파싱 실패", e);
-            return null;
-        }
-    }
-
-    /**
-     * JSON에서 BusArrival 객체 생성
-     */
-    private BusArrival parseBusArrivalFromJson(JsonObject item) {
-        try {
-            BusArrival arrival = new BusArrival();
-            
-            if (item.has("nodeid")) arrival.setNodeId(item.get("nodeid").getAsString());
-            if (item.has("routeid")) arrival.setRouteId(item.get("routeid").getAsString());
-            if (item.has("routeno")) arrival.setRouteNo(item.get("routeno").getAsString());
-            if (item.has("routetp")) arrival.setRouteType(item.get("routetp").getAsString());
-            if (item.has("arrprevstationcnt")) arrival.setArrPrevStationCnt(item.get("arrprevstationcnt").getAsInt());
-            if (item.has("arrtime")) {
-                int arrTimeSeconds = item.get("arrtime").getAsInt();
-                // 초 단위를 분 단위로 변환 (60초 = 1분)
-                int arrTimeMinutes = Math.max(1, arrTimeSeconds / 60);
-                arrival.setArrTime(arrTimeMinutes);
-            }
-            if (item.has("vehicletp")) arrival.setVehicleNo(item.get("vehicletp").getAsString());
-            if (item.has("routetypenm")) arrival.setRouteTypeName(item.get("routetypenm").getAsString());
-            
-            return arrival;
-        } catch (Exception e) {
-            Log.e(TAG, "BusArrival 파싱 실패", e);
-            return null;
-        }
+    // 공공데이터포털은 인증 오류 등을 HTTP 200 XML로 응답함
+    private static boolean isServiceError(String response) {
+        return response.contains("<OpenAPI_ServiceResponse>") || response.contains("SERVICE ERROR");
     }
 
     /**
@@ -338,7 +218,7 @@ public class BusApiClient {
             testStops.add(stop1);
         }
 
-        Log.d(TAG, "테스트용 정류장 생성: " + testStops.size() + "개");
+        AppLog.d(TAG, "테스트용 정류장 생성: {}개", testStops.size());
         return testStops;
     }
 
@@ -384,7 +264,7 @@ public class BusApiClient {
             testArrivals.add(arrival1);
         }
 
-        Log.d(TAG, "테스트용 버스 도착 정보 생성: " + testArrivals.size() + "개");
+        AppLog.d(TAG, "테스트용 버스 도착 정보 생성: {}개", testArrivals.size());
         return testArrivals;
     }
 }
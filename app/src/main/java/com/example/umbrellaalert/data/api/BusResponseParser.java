@@ -0,0 +1,162 @@
+package com.example.umbrellaalert.data.api;
+
+import com.example.umbrellaalert.data.model.BusArrival;
+import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.util.AppLog;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 국토교통부(TAGO) 버스 API JSON 응답 파서
+ * 네트워크, Context와 무관한 순수 함수라 JVM 벤치마크 모듈에서도 그대로 사용함
+ */
+final class BusResponseParser {
+
+    private static final String TAG = "BusResponseParser";
+
+    private BusResponseParser() {
+    }
+
+    /**
+     * 근접 정류소 응답 파싱
+     * @return 정류소 목록 (근처에 정류소가 없으면 빈 목록), 오류 응답이거나 형식이 다르면 null
+     */
+    static List<BusStop> parseNearbyStops(String response) {
+        List<BusStop> busStops = new ArrayList<>();
+
+        try {
+            // XML 오류 응답 체크
+            if (response.contains("<OpenAPI_ServiceResponse>") || response.contains("SERVICE ERROR")) {
+                AppLog.e(TAG, "API 오류 응답: {}", AppLog.abbreviate(response));
+                return null;
+            }
+
+            JsonObject jsonObject = JsonParser.parseString(response).getAsJsonObject();
+            JsonObject responseObj = jsonObject.getAsJsonObject("response");
+            JsonObject body = responseObj.getAsJsonObject("body");
+
+            // 결과가 없으면 items가 빈 문자열(""), 한 개면 item이 배열이 아닌 객체로 옴
+            JsonElement items = body.get("items");
+            if (items != null && items.isJsonObject()) {
+                JsonElement item = items.getAsJsonObject().get("item");
+                JsonArray itemArray = new JsonArray();
+                if (item != null && item.isJsonArray()) {
+                    itemArray = item.getAsJsonArray();
+                } else if (item != null && item.isJsonObject()) {
+                    itemArray.add(item);
+                }
+
+                for (JsonElement element : itemArray) {
+                    BusStop busStop = parseBusStopFromJson(element.getAsJsonObject());
+                    if (busStop != null) {
+                        busStops.add(busStop);
+                    }
+                }
+            }
+
+            AppLog.d(TAG, "✅ 근접 정류소 파싱 완료: {}개", busStops.size());
+
+        } catch (Exception e) {
+            AppLog.e(TAG, "근접 정류소 응답 파싱 실패", e);
+            return null;
+        }
+
+        return busStops;
+    }
+
+    /**
+     * 도착 정보 응답 파싱
+     */
+    static List<BusArrival> parseArrivals(String response) {
+        List<BusArrival> arrivals = new ArrayList<>();
+
+        try {
+            // XML 오류 응답 체크
+            if (response.contains("<OpenAPI_ServiceResponse>") || response.contains("SERVICE ERROR")) {
+                AppLog.e(TAG, "API 오류 응답: {}", AppLog.abbreviate(response));
+                return arrivals;
+            }
+
+            JsonObject jsonObject = JsonParser.parseString(response).getAsJsonObject();
+            JsonObject responseObj = jsonObject.getAsJsonObject("response");
+            JsonObject body = responseObj.getAsJsonObject("body");
+            
+            if (body.has("items")) {
+                JsonObject items = body.getAsJsonObject("items");
+                JsonArray itemArray = items.getAsJsonArray("item");
+                
+                if (itemArray != null) {
+                    for (JsonElement element : itemArray) {
+                        JsonObject item = element.getAsJsonObject();
+                        BusArrival arrival = parseBusArrivalFromJson(item);
+                        if (arrival != null) {
+                            arrivals.add(arrival);
+                        }
+                    }
+                }
+            }
+            
+            AppLog.d(TAG, "✅ 도착 정보 파싱 완료: {}개", arrivals.size());
+            
+        } catch (Exception e) {
+            AppLog.e(TAG, "도착 정보 응답 파싱 실패", e);
+        }
+        
+        return arrivals;
+    }
+
+    /**
+     * JSON에서 BusStop 객체 생성
+     */
+    private static BusStop parseBusStopFromJson(JsonObject item) {
+        try {
+            BusStop busStop = new BusStop();
+            
+            if (item.has("nodeid")) busStop.setNodeId(item.get("nodeid").getAsString());
+            if (item.has("nodenm")) busStop.setNodeName(item.get("nodenm").getAsString());
+            if (item.has("gpslati")) busStop.setGpsLati(item.get("gpslati").getAsDouble());
+            if (item.has("gpslong")) busStop.setGpsLong(item.get("gpslong").getAsDouble());
+            if (item.has("citycode")) busStop.setCityCode(item.get("citycode").getAsInt());
+            if (item.has("nodeno")) busStop.setNodeNo(item.get("nodeno").getAsString());
+            if (item.has("routetype")) busStop.setRouteType(item.get("routetype").getAsString());
+            
+            return busStop;
+        } catch (Exception e) {
+            AppLog.e(TAG, "BusStop 파싱 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * JSON에서 BusArrival 객체 생성
+     */
+    private static BusArrival parseBusArrivalFromJson(JsonObject item) {
+        try {
+            BusArrival arrival = new BusArrival();
+            
+            if (item.has("nodeid")) arrival.setNodeId(item.get("nodeid").getAsString());
+            if (item.has("routeid")) arrival.setRouteId(item.get("routeid").getAsString());
+            if (item.has("routeno")) arrival.setRouteNo(item.get("routeno").getAsString());
+            if (item.has("routetp")) arrival.setRouteType(item.get("routetp").getAsString());
+            if (item.has("arrprevstationcnt")) arrival.setArrPrevStationCnt(item.get("arrprevstationcnt").getAsInt());
+            if (item.has("arrtime")) {
+                int arrTimeSeconds = item.get("arrtime").getAsInt();
+                // 초 단위를 분 단위로 변환 (60초 = 1분)
+                int arrTimeMinutes = Math.max(1, arrTimeSeconds / 60);
+                arrival.setArrTime(arrTimeMinutes);
+            }
+            if (item.has("vehicletp")) arrival.setVehicleNo(item.get("vehicletp").getAsString());
+            if (item.has("routetypenm")) arrival.setRouteTypeName(item.get("routetypenm").getAsString());
+            
+            return arrival;
+        } catch (Exception e) {
+            AppLog.e(TAG, "BusArrival 파싱 실패", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.umbrellaalert.data.api;
+
+import android.os.SystemClock;
+
+import com.example.umbrellaalert.util.AppLog;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 엔드포인트별 회로 차단기
+ * 연속 실패나 최근 실패율(실패 예산)이 한도를 넘으면 회로를 열어 일정 시간 요청을 보내지 않음
+ * 열린 시간은 열릴 때마다 지수적으로 늘어나며(지터 포함), 서버가 Retry-After를 주면 그보다 짧아지지 않음
+ * 시간이 지나면 요청 하나만 시험 삼아 보내고(half-open) 성공하면 다시 닫음
+ * 같은 엔드포인트는 클라이언트 인스턴스가 달라도 하나의 차단기를 공유
+ */
+public class CircuitBreaker {
+
+    private static final String TAG = "CircuitBreaker";
+
+    public enum State {
+        CLOSED,     // 정상
+        OPEN,       // 차단 중
+        HALF_OPEN   // 시험 요청 중
+    }
+
+    /**
+     * 차단기를 거쳐 실행할 요청
+     */
+    public interface Request<T> {
+        T execute() throws IOException;
+    }
+
+    // 연속 실패 한도
+    private static final int CONSECUTIVE_FAILURE_THRESHOLD = 5;
+
+    // 실패 예산: 최근 WINDOW_SIZE번 중 MIN_CALLS_FOR_BUDGET번 이상 호출했고 실패율이 한도 이상이면 차단
+    private static final int WINDOW_SIZE = 20;
+    private static final int MIN_CALLS_FOR_BUDGET = 10;
+    private static final double FAILURE_BUDGET = 0.5;
+
+    // 회로가 열려 있는 시간 (열릴 때마다 두 배, 최대값 제한)
+    private static final long BASE_OPEN_MILLIS = TimeUnit.SECONDS.toMillis(15);
+    private static final long MAX_OPEN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long MAX_RETRY_AFTER_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // 한 번의 호출 안에서 재시도
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final long BASE_RETRY_DELAY_MILLIS = 300;
+    // Retry-After가 이보다 길면 호출 안에서 기다리지 않고 회로를 엶
+    private static final long MAX_INLINE_WAIT_MILLIS = 2000;
+
+    private static final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private static final Random random = new Random();
+
+    private final String endpoint;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int openCount;
+    private int consecutiveFailures;
+    private boolean probeInFlight;
+
+    // 최근 결과 (true = 실패)
+    private final boolean[] outcomes = new boolean[WINDOW_SIZE];
+    private int outcomeCount;
+    private int nextOutcome;
+
+    private long rejectedCount;
+
+    private CircuitBreaker(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 엔드포인트 이름으로 차단기 조회 (없으면 생성)
+     */
+    public static synchronized CircuitBreaker forEndpoint(String endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        if (breaker == null) {
+            breaker = new CircuitBreaker(endpoint);
+            breakers.put(endpoint, breaker);
+        }
+        return breaker;
+    }
+
+    /**
+     * 등록된 모든 차단기
+     */
+    public static synchronized List<CircuitBreaker> getAll() {
+        return new ArrayList<>(breakers.values());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 재시도를 포함해 요청 실행
+     */
+    public <T> T execute(Request<T> request) throws IOException {
+        return execute(request, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * 최대 maxAttempts번까지 재시도하며 요청 실행
+     * 회로가 열려 있으면 요청 없이 CircuitOpenException
+     */
+    public <T> T execute(Request<T> request, int maxAttempts) throws IOException {
+        if (!tryAcquire()) {
+            throw new CircuitOpenException(endpoint, getRetryDelayMillis());
+        }
+
+        // 시험 요청은 한 번만
+        int attempts = getState() == State.HALF_OPEN ? 1 : Math.max(1, maxAttempts);
+        IOException lastError = null;
+        long retryAfter = 0;
+
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            try {
+                T result = request.execute();
+                onSuccess();
+                return result;
+            } catch (QuotaExceededException e) {
+                // 요청을 보내지 않았으므로 실패로 기록하지 않음
+                releaseProbe();
+                throw e;
+            } catch (InterruptedIOException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // 호출자가 취소한 경우는 실패로 기록하지 않음
+                    releaseProbe();
+                    throw e;
+                }
+                lastError = e;
+            } catch (HttpStatusException e) {
+                lastError = e;
+                retryAfter = e.getRetryAfterMillis();
+                if (!e.isRetryable() || retryAfter > MAX_INLINE_WAIT_MILLIS) {
+                    break;
+                }
+            } catch (IOException e) {
+                lastError = e;
+            } catch (RuntimeException e) {
+                onFailure(0);
+                throw e;
+            }
+
+            if (attempt + 1 < attempts) {
+                long delay = Math.max(retryAfter, jitter(BASE_RETRY_DELAY_MILLIS << attempt));
+                AppLog.d(TAG, "{} {}번째 재시도 ({}ms 후)", endpoint, attempt + 1, delay);
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    releaseProbe();
+                    throw new InterruptedIOException("재시도 대기 중 취소됨");
+                }
+            }
+        }
+
+        onFailure(retryAfter);
+        throw lastError;
+    }
+
+    /**
+     * 지금 요청을 보내도 되는지 (상태를 바꾸지 않음, 서비스가 호출 전에 확인하는 용도)
+     */
+    public synchronized boolean isAvailable() {
+        switch (state) {
+            case OPEN:
+                return SystemClock.elapsedRealtime() >= openUntil;
+            case HALF_OPEN:
+                return !probeInFlight;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 다시 요청할 수 있을 때까지 남은 시간 (지금 가능하면 0)
+     */
+    public synchronized long getRetryDelayMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openUntil - SystemClock.elapsedRealtime());
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 상태 요약 (디버그용)
+     */
+    public synchronized String summary() {
+        return endpoint + ": " + state
+                + (state == State.OPEN ? " (" + TimeUnit.MILLISECONDS.toSeconds(getRetryDelayMillis()) + "초 남음)" : "")
+                + ", 최근 실패율 " + Math.round(failureRate() * 100) + "%"
+                + ", 차단된 요청 " + rejectedCount;
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case OPEN:
+                if (SystemClock.elapsedRealtime() < openUntil) {
+                    rejectedCount++;
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                AppLog.d(TAG, "{} 시험 요청", endpoint);
+                return true;
+            case HALF_OPEN:
+                if (probeInFlight) {
+                    rejectedCount++;
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        recordOutcome(false);
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            AppLog.d(TAG, "{} 회로 닫힘", endpoint);
+            state = State.CLOSED;
+            openCount = 0;
+            probeInFlight = false;
+            // 장애 기간의 실패가 실패 예산에 남지 않도록 초기화
+            outcomeCount = 0;
+            nextOutcome = 0;
+        }
+    }
+
+    private synchronized void onFailure(long retryAfterMillis) {
+        recordOutcome(true);
+        consecutiveFailures++;
+
+        boolean trip = state == State.HALF_OPEN
+                || retryAfterMillis > MAX_INLINE_WAIT_MILLIS
+                || consecutiveFailures >= CONSECUTIVE_FAILURE_THRESHOLD
+                || (outcomeCount >= MIN_CALLS_FOR_BUDGET && failureRate() >= FAILURE_BUDGET);
+        if (trip) {
+            open(retryAfterMillis);
+        }
+    }
+
+    private void open(long retryAfterMillis) {
+        long backoff = jitter(Math.min(MAX_OPEN_MILLIS, BASE_OPEN_MILLIS << Math.min(openCount, 16)));
+        long duration = Math.max(backoff, Math.min(retryAfterMillis, MAX_RETRY_AFTER_MILLIS));
+        openCount++;
+        state = State.OPEN;
+        probeInFlight = false;
+        openUntil = SystemClock.elapsedRealtime() + duration;
+        AppLog.w(TAG, endpoint + " 회로 열림: " + TimeUnit.MILLISECONDS.toSeconds(duration) + "초 동안 요청 차단");
+    }
+
+    private void recordOutcome(boolean failure) {
+        outcomes[nextOutcome] = failure;
+        nextOutcome = (nextOutcome + 1) % WINDOW_SIZE;
+        if (outcomeCount < WINDOW_SIZE) outcomeCount++;
+    }
+
+    private double failureRate() {
+        if (outcomeCount == 0) {
+            return 0;
+        }
+        int failures = 0;
+        for (int i = 0; i < outcomeCount; i++) {
+            if (outcomes[i]) failures++;
+        }
+        return (double) failures / outcomeCount;
+    }
+
+    /**
+     * 지연의 절반은 고정, 나머지 절반은 무작위 (동시에 재시도가 몰리지 않도록)
+     */
+    private static long jitter(long delayMillis) {
+        long half = delayMillis / 2;
+        synchronized (random) {
+            return half + (long) (random.nextDouble() * (delayMillis - half));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.umbrellaalert.data.api;
+
+import java.io.IOException;
+
+/**
+ * 회로 차단기가 열려 있어 요청을 보내지 않은 경우
+ */
+public class CircuitOpenException extends IOException {
+
+    private final long retryDelayMillis;
+
+    public CircuitOpenException(String endpoint, long retryDelayMillis) {
+        super("회로 차단 중: " + endpoint + " (" + retryDelayMillis + "ms 후 재시도)");
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    public long getRetryDelayMillis() {
+        return retryDelayMillis;
+    }
+}
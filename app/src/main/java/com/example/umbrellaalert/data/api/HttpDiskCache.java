@@ -0,0 +1,178 @@
+package com.example.umbrellaalert.data.api;
+
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * HTTP 응답 디스크 캐시
+ * URL 해시별로 파일 하나에 응답 본문과 검증자(ETag, Last-Modified), 저장 시각, 유효 기간을 보관
+ * 전체 크기가 한도를 넘으면 오래 쓰지 않은 항목부터 삭제
+ */
+class HttpDiskCache {
+
+    private static final String TAG = "HttpDiskCache";
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * 캐시된 응답
+     */
+    static final class Entry {
+        final String body;
+        final String etag;
+        final String lastModified;
+        final long storedAt;
+        final long freshUntil;
+
+        Entry(String body, String etag, String lastModified, long storedAt, long freshUntil) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.storedAt = storedAt;
+            this.freshUntil = freshUntil;
+        }
+
+        boolean isFresh(long now) {
+            return now < freshUntil;
+        }
+
+        int sizeBytes() {
+            return body.getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    private final File directory;
+    private final long maxSizeBytes;
+
+    HttpDiskCache(File directory, long maxSizeBytes) {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.w(TAG, "캐시 디렉터리 생성 실패: " + directory);
+        }
+    }
+
+    /**
+     * 캐시된 응답 조회 (없거나 읽을 수 없으면 null)
+     */
+    synchronized Entry get(String url) {
+        File file = fileFor(url);
+        if (!file.exists()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                file.delete();
+                return null;
+            }
+            long storedAt = in.readLong();
+            long freshUntil = in.readLong();
+            String etag = readNullable(in);
+            String lastModified = readNullable(in);
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+
+            // LRU 판단용 사용 시각 갱신
+            file.setLastModified(System.currentTimeMillis());
+            return new Entry(new String(body, StandardCharsets.UTF_8), etag, lastModified, storedAt, freshUntil);
+        } catch (IOException e) {
+            Log.w(TAG, "캐시 읽기 실패, 항목 삭제: " + e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * 응답 저장 (같은 URL의 이전 항목은 덮어씀)
+     */
+    synchronized void put(String url, Entry entry) {
+        File file = fileFor(url);
+        File temp = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            byte[] body = entry.body.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(entry.storedAt);
+            out.writeLong(entry.freshUntil);
+            writeNullable(out, entry.etag);
+            writeNullable(out, entry.lastModified);
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException e) {
+            Log.w(TAG, "캐시 저장 실패: " + e.getMessage());
+            temp.delete();
+            return;
+        }
+        if (!temp.renameTo(file)) {
+            temp.delete();
+            return;
+        }
+        trimToSize();
+    }
+
+    /**
+     * 전체 크기가 한도를 넘으면 오래 쓰지 않은 파일부터 삭제
+     */
+    private void trimToSize() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        if (total <= maxSizeBytes) {
+            return;
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (total <= maxSizeBytes) {
+                break;
+            }
+            total -= file.length();
+            file.delete();
+        }
+    }
+
+    private File fileFor(String url) {
+        return new File(directory, sha256(url));
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    // URL에는 API 키가 들어 있으므로 파일 이름에는 해시만 사용
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(value.hashCode());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.umbrellaalert.data.api;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 200이 아닌 응답
+ * 429/503 응답의 Retry-After 헤더를 함께 보관해 회로 차단기가 그 시간만큼 호출을 멈추도록 함
+ */
+public class HttpStatusException extends IOException {
+
+    private final int statusCode;
+    private final long retryAfterMillis;
+
+    public HttpStatusException(int statusCode, String retryAfterHeader, String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfterMillis = parseRetryAfter(retryAfterHeader);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 서버가 요청한 대기 시간 (헤더가 없으면 0)
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /**
+     * 다시 시도해볼 만한 오류인지 (서버 오류, 요청 과다, 타임아웃)
+     */
+    public boolean isRetryable() {
+        return statusCode >= 500 || statusCode == 429 || statusCode == 408;
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (초 단위 숫자 또는 HTTP 날짜)
+     */
+    static long parseRetryAfter(String header) {
+        if (header == null || header.trim().isEmpty()) {
+            return 0;
+        }
+        String value = header.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            SimpleDateFormat format = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+            return Math.max(0, format.parse(value).getTime() - System.currentTimeMillis());
+        } catch (ParseException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.umbrellaalert.data.api;
+
+import android.content.Context;
+
+import com.example.umbrellaalert.util.AppLog;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.Tracer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 API 클라이언트가 공유하는 HTTP GET 전송 계층
+ * 요청 순서: 디스크 캐시(유효 기간 내) → 회로 차단기 → 호출 한도 → 네트워크(ETag/If-Modified-Since 재검증)
+ * 네트워크 요청이 실패하면 허용된 기간 안의 오래된 캐시 응답을 대신 반환 (오프라인 지원)
+ * 연결 재사용은 HttpURLConnection의 keep-alive 풀에 맡김
+ */
+public class HttpTransport {
+
+    private static final String TAG = "HttpTransport";
+    private static final String CACHE_DIR = "http_cache";
+    private static final long MAX_CACHE_SIZE = 5 * 1024 * 1024;
+
+    /**
+     * GET 요청 설정
+     */
+    public static final class Request {
+        final String url;
+        final Map<String, String> headers = new LinkedHashMap<>();
+        int connectTimeoutMillis = 10000;
+        int readTimeoutMillis = 10000;
+        CircuitBreaker breaker;
+        int maxAttempts = 3;
+        ApiQuotaManager.Service quotaService;
+        ApiQuotaManager.Priority priority = ApiQuotaManager.Priority.FOREGROUND;
+        long minFreshMillis;
+        long maxStaleMillis;
+        ResponseFilter cacheFilter;
+
+        public Request(String url) {
+            this.url = url;
+        }
+
+        public Request header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Request timeouts(int connectTimeoutMillis, int readTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            this.readTimeoutMillis = readTimeoutMillis;
+            return this;
+        }
+
+        /**
+         * 회로 차단기와 재시도 횟수
+         */
+        public Request breaker(CircuitBreaker breaker, int maxAttempts) {
+            this.breaker = breaker;
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * 네트워크 요청 시 사용할 호출 한도
+         */
+        public Request quota(ApiQuotaManager.Service service, ApiQuotaManager.Priority priority) {
+            this.quotaService = service;
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param minFreshMillis 서버 헤더와 관계없이 네트워크 없이 캐시를 바로 쓰는 최소 기간
+         * @param maxStaleMillis 네트워크 실패 시 오래된 캐시를 대신 쓸 수 있는 최대 기간
+         */
+        public Request cache(long minFreshMillis, long maxStaleMillis) {
+            this.minFreshMillis = minFreshMillis;
+            this.maxStaleMillis = maxStaleMillis;
+            return this;
+        }
+
+        /**
+         * 이 조건을 만족하는 응답만 캐시 (예: 아직 발표되지 않은 빈 응답 제외)
+         */
+        public Request cacheOnlyIf(ResponseFilter filter) {
+            this.cacheFilter = filter;
+            return this;
+        }
+
+        boolean usesCache() {
+            return minFreshMillis > 0 || maxStaleMillis > 0;
+        }
+    }
+
+    /**
+     * 캐시할 응답인지 판단
+     */
+    public interface ResponseFilter {
+        boolean shouldCache(String body);
+    }
+
+    private static HttpTransport instance;
+
+    private final HttpDiskCache diskCache;
+    private final ApiQuotaManager quotaManager;
+
+    private long networkCount;
+    private long freshHitCount;
+    private long revalidatedCount;
+    private long staleServedCount;
+    private long bytesSaved;
+
+    private HttpTransport(Context context) {
+        this.diskCache = new HttpDiskCache(new File(context.getCacheDir(), CACHE_DIR), MAX_CACHE_SIZE);
+        this.quotaManager = ApiQuotaManager.getInstance(context);
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     */
+    public static synchronized HttpTransport getInstance(Context context) {
+        if (instance == null) {
+            instance = new HttpTransport(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * GET 요청 실행
+     * @return 응답 본문 (UTF-8)
+     */
+    public String get(Request request) throws IOException {
+        HttpDiskCache.Entry cached = readCache(request);
+        long now = System.currentTimeMillis();
+
+        if (cached != null && cached.isFresh(now)) {
+            recordSaved(cached, true);
+            // 캐시 적중은 화면 갱신마다 일어나므로 5초에 한 번만 남김
+            AppLog.dSampled(TAG, "cache_hit", 5_000, "캐시 사용 ({}초 전 응답)",
+                    TimeUnit.MILLISECONDS.toSeconds(now - cached.storedAt));
+            return cached.body;
+        }
+
+        try {
+            if (request.breaker != null) {
+                return request.breaker.execute(() -> fetch(request, cached), request.maxAttempts);
+            }
+            return fetch(request, cached);
+        } catch (IOException e) {
+            if (cached != null && now - cached.storedAt <= request.maxStaleMillis
+                    && !Thread.currentThread().isInterrupted()) {
+                synchronized (this) {
+                    staleServedCount++;
+                }
+                AppLog.w(TAG, "네트워크 실패, 오래된 캐시 사용 (" + TimeUnit.MILLISECONDS.toMinutes(now - cached.storedAt)
+                        + "분 전 응답): " + e.getMessage());
+                return cached.body;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 사용 통계
+     */
+    public synchronized String getStatsSummary() {
+        return "네트워크 " + networkCount + "회, 캐시 " + freshHitCount + "회, 재검증(304) " + revalidatedCount
+                + "회, 오프라인 캐시 " + staleServedCount + "회, 절약 " + (bytesSaved / 1024) + "KB";
+    }
+
+    public synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    private HttpDiskCache.Entry readCache(Request request) {
+        if (!request.usesCache()) {
+            return null;
+        }
+        try (Tracer.Span span = Tracer.begin("cache:http")) {
+            return diskCache.get(request.url);
+        }
+    }
+
+    private String fetch(Request request, HttpDiskCache.Entry cached) throws IOException {
+        // 로컬 응답 재생 서버로 보내는 요청은 실제 API 키 한도를 쓰지 않음
+        if (request.quotaService != null && ApiEndpoints.isProduction(request.url)) {
+            quotaManager.acquire(request.quotaService, request.priority);
+        }
+
+        URL url = new URL(request.url);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        // 쿼리에는 API 키가 들어가므로 구간, 지표 이름은 호스트와 경로만 사용
+        String endpoint = url.getHost() + url.getPath();
+        Tracer.Span span = Tracer.begin("http:" + endpoint);
+        try {
+            connection.setRequestMethod("GET");
+            connection.setConnectTimeout(request.connectTimeoutMillis);
+            connection.setReadTimeout(request.readTimeoutMillis);
+            for (Map.Entry<String, String> header : request.headers.entrySet()) {
+                connection.setRequestProperty(header.getKey(), header.getValue());
+            }
+            if (cached != null) {
+                if (cached.etag != null) connection.setRequestProperty("If-None-Match", cached.etag);
+                if (cached.lastModified != null) connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+            }
+
+            int responseCode = connection.getResponseCode();
+            synchronized (this) {
+                networkCount++;
+            }
+
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                // 본문 없이 유효 기간만 연장
+                long now = System.currentTimeMillis();
+                diskCache.put(request.url, new HttpDiskCache.Entry(cached.body, cached.etag, cached.lastModified,
+                        now, now + freshnessMillis(request, connection)));
+                recordSaved(cached, false);
+                return cached.body;
+            }
+
+            if (responseCode < 200 || responseCode >= 300) {
+                String error = readFully(connection.getErrorStream());
+                AppLog.e(TAG, "HTTP 오류 응답 (" + responseCode + "): " + AppLog.abbreviate(error));
+                throw new HttpStatusException(responseCode, connection.getHeaderField("Retry-After"),
+                        "HTTP 오류: " + responseCode);
+            }
+
+            byte[] payload = readBytes(connection.getInputStream());
+            Metrics.histogram("bytes:" + endpoint).record(payload.length);
+            String body = new String(payload, StandardCharsets.UTF_8);
+            if (request.usesCache() && isCacheable(connection)
+                    && (request.cacheFilter == null || request.cacheFilter.shouldCache(body))) {
+                long now = System.currentTimeMillis();
+                diskCache.put(request.url, new HttpDiskCache.Entry(body, connection.getHeaderField("ETag"),
+                        connection.getHeaderField("Last-Modified"), now, now + freshnessMillis(request, connection)));
+            }
+            return body;
+        } finally {
+            connection.disconnect();
+            span.close();
+        }
+    }
+
+    private synchronized void recordSaved(HttpDiskCache.Entry entry, boolean freshHit) {
+        if (freshHit) {
+            freshHitCount++;
+        } else {
+            revalidatedCount++;
+        }
+        bytesSaved += entry.sizeBytes();
+    }
+
+    /**
+     * 유효 기간: 서버 max-age와 엔드포인트 최소 유효 기간 중 긴 쪽
+     */
+    private static long freshnessMillis(Request request, HttpURLConnection connection) {
+        return Math.max(request.minFreshMillis, maxAgeMillis(connection.getHeaderField("Cache-Control")));
+    }
+
+    private static boolean isCacheable(HttpURLConnection connection) {
+        String cacheControl = connection.getHeaderField("Cache-Control");
+        return cacheControl == null || !cacheControl.toLowerCase(Locale.US).contains("no-store");
+    }
+
+    private static long maxAgeMillis(String cacheControl) {
+        if (cacheControl == null) {
+            return 0;
+        }
+        for (String directive : cacheControl.toLowerCase(Locale.US).split(",")) {
+            directive = directive.trim();
+            if (directive.startsWith("max-age=")) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(directive.substring("max-age=".length())));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static String readFully(InputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(InputStream in) throws IOException {
+        if (in == null) {
+            return new byte[0];
+        }
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.umbrellaalert.data.api;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import com.example.umbrellaalert.util.AppLog;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기상청 관측자료 발표 시각 계산기
+ * 정시 관측자료는 정시 이후 일정 지연(lag)이 지나야 조회되므로,
+ * 현재 시각과 학습된 지연으로 최신 발표 시각을 바로 계산해 한 번에 요청
+ * 응답이 늦거나 비어 있으면 직전 발표 시각으로 한 번만 병렬(hedged) 요청
+ * 지연은 기상청이 자료 없음으로 답한 경우에만 늘림 (시간 초과, 네트워크 오류, 차단기 등은 발표 여부를 알 수 없음)
+ * 지점별 마지막 성공 시각과 학습된 지연은 SharedPreferences에 저장
+ */
+public class KmaPublishTimeResolver {
+
+    private static final String TAG = "KmaPublishTimeResolver";
+    private static final String PREF_NAME = "kma_publish_times";
+    private static final String KEY_LAG = "publish_lag_millis";
+    private static final String KEY_LAST_GOOD_PREFIX = "last_good_";
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    // 지연 초기값과 학습 범위
+    private static final long DEFAULT_LAG = TimeUnit.MINUTES.toMillis(15);
+    private static final long MIN_LAG = TimeUnit.MINUTES.toMillis(3);
+    private static final long MAX_LAG = TimeUnit.MINUTES.toMillis(90);
+
+    // 실패 시 지연을 늘리는 폭, 성공 시 줄이는 폭
+    private static final long LAG_INCREASE_STEP = TimeUnit.MINUTES.toMillis(5);
+    private static final long LAG_DECREASE_STEP = TimeUnit.MINUTES.toMillis(1);
+
+    // 첫 요청이 이 시간 안에 끝나지 않으면 직전 시각으로 두 번째 요청
+    private static final long HEDGE_DELAY_MILLIS = 1500;
+
+    // 두 요청 모두 기다리는 최대 시간
+    private static final long TOTAL_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * 발표 시각(tm)으로 관측자료를 요청하는 인터페이스
+     */
+    public interface ObservationFetcher {
+        /**
+         * @return 응답 본문, 기상청이 해당 시각의 자료가 없다고 답하면(빈 응답) null
+         * @throws Exception 전송 실패 (발표 여부를 알 수 없는 경우)
+         */
+        String fetch(int stationId, long observationTimeMillis) throws Exception;
+    }
+
+    /**
+     * 조회된 관측자료
+     */
+    public static class Observation {
+        public final long observationTimeMillis;
+        public final String response;
+
+        Observation(long observationTimeMillis, String response) {
+            this.observationTimeMillis = observationTimeMillis;
+            this.response = response;
+        }
+    }
+
+    /**
+     * 요청 한 번의 결과 (자료 있음, 자료 없음, 전송 실패)
+     */
+    private static final class Attempt {
+        final long time;
+        final String response;
+        final boolean failed;
+
+        Attempt(long time, String response, boolean failed) {
+            this.time = time;
+            this.response = response;
+            this.failed = failed;
+        }
+    }
+
+    private final SharedPreferences preferences;
+    private final ExecutorService executorService;
+
+    private long lagMillis;
+
+    public KmaPublishTimeResolver(Context context, ExecutorService executorService) {
+        this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.executorService = executorService;
+        this.lagMillis = preferences.getLong(KEY_LAG, DEFAULT_LAG);
+    }
+
+    /**
+     * 지금 조회 가능한 최신 발표 시각 (정시)
+     */
+    public synchronized long latestPublishedHour(long nowMillis) {
+        return floorToHour(nowMillis - lagMillis);
+    }
+
+    public synchronized long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 지점의 마지막 성공 발표 시각 (없으면 0)
+     */
+    public long getLastKnownGood(int stationId) {
+        return preferences.getLong(KEY_LAST_GOOD_PREFIX + stationId, 0);
+    }
+
+    /**
+     * 최신 관측자료 조회 (동기, 최대 두 번 요청)
+     * @return 조회 실패 시 null
+     */
+    public Observation fetchLatest(int stationId, ObservationFetcher fetcher) {
+        long now = System.currentTimeMillis();
+        long primaryTime = latestPublishedHour(now);
+
+        // 두 번째 후보: 직전 정시, 단 마지막 성공 시각이 그보다 최근이면 그 시각 (이미 발표가 확인됨)
+        long fallbackTime = primaryTime - HOUR;
+        long lastGood = getLastKnownGood(stationId);
+        if (lastGood > fallbackTime && lastGood < primaryTime) {
+            fallbackTime = lastGood;
+        }
+
+        CompletionService<Attempt> completionService = new ExecutorCompletionService<>(executorService);
+        Future<Attempt> primary = completionService.submit(() -> attempt(fetcher, stationId, primaryTime));
+        Future<Attempt> fallback = null;
+        int outstanding = 1;
+
+        try {
+            long deadline = now + TOTAL_TIMEOUT_MILLIS;
+            Future<Attempt> done = completionService.poll(HEDGE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+            while (true) {
+                if (done != null) {
+                    outstanding--;
+                    Attempt attempt = done.get();
+                    if (attempt.response != null) {
+                        onSuccess(stationId, attempt.time, primaryTime, now);
+                        return new Observation(attempt.time, attempt.response);
+                    }
+                    // 전송 실패는 발표 여부와 무관하므로 지연을 건드리지 않음
+                    if (done == primary && !attempt.failed) {
+                        onPrimaryMissing(primaryTime, now);
+                    }
+                }
+
+                // 첫 요청이 늦거나 비어 있으면 직전 시각으로 한 번만 추가 요청
+                if (fallback == null) {
+                    final long hedgeTime = fallbackTime;
+                    fallback = completionService.submit(() -> attempt(fetcher, stationId, hedgeTime));
+                    outstanding++;
+                    AppLog.d(TAG, "직전 발표 시각으로 추가 요청: stn={}", stationId);
+                }
+
+                if (outstanding == 0) {
+                    break;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                done = completionService.poll(remaining, TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            AppLog.e(TAG, "관측자료 조회 실패: stn=" + stationId, e);
+        } finally {
+            primary.cancel(true);
+            if (fallback != null) {
+                fallback.cancel(true);
+            }
+        }
+
+        AppLog.w(TAG, "관측자료 없음: stn={}", stationId);
+        return null;
+    }
+
+    private static Attempt attempt(ObservationFetcher fetcher, int stationId, long time) {
+        try {
+            return new Attempt(time, fetcher.fetch(stationId, time), false);
+        } catch (Exception e) {
+            AppLog.w(TAG, "관측자료 요청 실패: {}", e.getMessage());
+            return new Attempt(time, null, true);
+        }
+    }
+
+    /**
+     * 성공한 발표 시각 기록 및 지연 학습
+     * 계산한 최신 시각이 바로 성공했으면 지연을 조금 줄여 다음에 더 빨리 새 자료를 요청
+     */
+    private synchronized void onSuccess(int stationId, long observationTime, long primaryTime, long requestedAt) {
+        if (observationTime == primaryTime) {
+            lagMillis = Math.max(MIN_LAG, Math.min(lagMillis, requestedAt - primaryTime) - LAG_DECREASE_STEP);
+        }
+        preferences.edit()
+                .putLong(KEY_LAG, lagMillis)
+                .putLong(KEY_LAST_GOOD_PREFIX + stationId, observationTime)
+                .apply();
+        AppLog.d(TAG, "발표 시각 확인: stn={}, 지연={}분", stationId, TimeUnit.MILLISECONDS.toMinutes(lagMillis));
+    }
+
+    /**
+     * 계산한 최신 시각에 기상청이 자료 없음으로 응답 → 실제 지연이 그보다 큼
+     */
+    private synchronized void onPrimaryMissing(long primaryTime, long requestedAt) {
+        lagMillis = Math.min(MAX_LAG, Math.max(lagMillis, requestedAt - primaryTime) + LAG_INCREASE_STEP);
+        preferences.edit().putLong(KEY_LAG, lagMillis).apply();
+        AppLog.d(TAG, "발표 지연 증가: {}분", TimeUnit.MILLISECONDS.toMinutes(lagMillis));
+    }
+
+    private static long floorToHour(long millis) {
+        // 한국 표준시(UTC+9)는 정시 단위로 UTC와 맞으므로 epoch 기준으로 내림
+        return millis - Math.floorMod(millis, HOUR);
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.umbrellaalert.data.api;
+
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
+import com.example.umbrellaalert.util.AppLog;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기상청 API허브 지상관측(kma_sfctm2) 고정폭 텍스트 응답 파서
+ * 네트워크, Context와 무관한 순수 함수라 JVM 벤치마크 모듈에서도 그대로 사용함
+ */
+final class KmaTextParser {
+
+    private static final String TAG = "KmaTextParser";
+
+    private KmaTextParser() {
+    }
+
+    /**
+     * 관측 응답 파싱
+     * @return 관측 데이터 줄을 찾지 못했거나 필드가 부족하면 null
+     */
+    static Weather parseObservation(String response, double latitude, double longitude) {
+        try {
+            if (AppLog.DEBUG) AppLog.d(TAG, "📡 파싱할 응답 데이터: {}", AppLog.abbreviate(response));
+
+            // 기상청 API허브는 고정폭 텍스트 형식
+            // 한 줄에 모든 데이터가 들어있으므로 정규식으로 데이터 부분 추출
+            String dataLine = null;
+
+            AppLog.d(TAG, "📋 응답 데이터 분석 (길이: {})", response.length());
+
+            // 정규식으로 10자리 숫자로 시작하는 데이터 패턴 찾기
+            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(\\d{10}\\s+[\\d\\s\\-\\.]+)");
+            java.util.regex.Matcher matcher = pattern.matcher(response);
+
+            if (matcher.find()) {
+                String fullMatch = matcher.group(1);
+                // #7777END 전까지만 추출
+                int endIndex = fullMatch.indexOf("#7777END");
+                if (endIndex != -1) {
+                    dataLine = fullMatch.substring(0, endIndex).trim();
+                } else {
+                    dataLine = fullMatch.trim();
+                }
+                AppLog.d(TAG, "✅ 정규식으로 데이터 라인 발견: {}", dataLine);
+            } else {
+                AppLog.w(TAG, "정규식으로 데이터 라인을 찾을 수 없음");
+
+                // 대안: 응답을 줄 단위로 분리해서 찾기
+                String[] lines = response.split("\n");
+                AppLog.d(TAG, "대안 방법: 총 {}개 라인에서 검색", lines.length);
+
+                for (int i = 0; i < lines.length; i++) {
+                    String line = lines[i].trim();
+
+                    // #으로 시작하는 헤더 라인은 건너뛰기
+                    if (line.startsWith("#") || line.isEmpty()) {
+                        continue;
+                    }
+
+                    // 10자리 숫자로 시작하는 데이터 라인 찾기
+                    if (line.matches(".*\\d{10}\\s+.*")) {
+                        // 10자리 숫자 부분부터 추출
+                        java.util.regex.Pattern linePattern = java.util.regex.Pattern.compile("(\\d{10}\\s+[\\d\\s\\-\\.]+)");
+                        java.util.regex.Matcher lineMatcher = linePattern.matcher(line);
+                        if (lineMatcher.find()) {
+                            dataLine = lineMatcher.group(1).trim();
+                            AppLog.d(TAG, "✅ 대안 방법으로 데이터 라인 발견: {}", dataLine);
+                            break;
+                        }
+                    }
+                }
+            }
+
+            if (dataLine == null) {
+                AppLog.w(TAG, "⚠️ 데이터 라인을 찾을 수 없음 - 해당 시간/지점에 데이터가 없을 수 있음");
+
+                // 응답 앞부분을 로그로 출력 (디버깅용)
+                if (AppLog.DEBUG) {
+                    AppLog.d(TAG, "응답 내용: {}", AppLog.abbreviate(response));
+                }
+
+                if (response.contains("#START7777") && response.contains("#7777END")) {
+                    AppLog.w(TAG, "정상적인 API 응답이지만 실제 관측 데이터가 없음");
+                } else {
+                    AppLog.w(TAG, "비정상적인 API 응답: {}", AppLog.abbreviate(response));
+                }
+                return null;
+            }
+
+            AppLog.d(TAG, "📊 데이터 라인: {}", dataLine);
+
+            // 공백으로 분리하여 파싱
+            String[] parts = dataLine.trim().split("\\s+");
+
+            if (parts.length < 15) {
+                AppLog.w(TAG, "⚠️ 데이터 필드 부족: {}개", parts.length);
+                return null;
+            }
+
+            // 기본값 설정
+            float temperature = 20.0f;
+            int humidity = 50;
+            float windSpeed = 2.0f;
+            float precipitation = 0.0f;
+            String weatherCondition = "Clear";
+            boolean needUmbrella = false;
+
+            try {
+                // 필드 위치에 따른 파싱 (API 문서 기준)
+                // parts[0] = 시간 (YYMMDDHHMI)
+                // parts[1] = 지점번호 (STN)
+                // parts[2] = 풍향 (WD)
+                // parts[3] = 풍속 (WS)
+                // parts[11] = 기온 (TA)
+                // parts[13] = 습도 (HM)
+                // parts[15] = 강수량 (RN)
+
+                // 풍속 파싱 (parts[3])
+                if (parts.length > 3 && !parts[3].equals("-9") && !parts[3].equals("-9.0")) {
+                    try {
+                        windSpeed = Float.parseFloat(parts[3]);
+                    } catch (NumberFormatException e) {
+                        AppLog.w(TAG, "풍속 파싱 실패: {}", parts[3]);
+                    }
+                }
+
+                // 기온 파싱 (parts[11])
+                if (parts.length > 11 && !parts[11].equals("-9") && !parts[11].equals("-9.0")) {
+                    try {
+                        temperature = Float.parseFloat(parts[11]);
+                        AppLog.d(TAG, "🌡️ 기온 파싱 성공: {}°C", temperature);
+                    } catch (NumberFormatException e) {
+                        AppLog.w(TAG, "기온 파싱 실패: {}", parts[11]);
+                    }
+                }
+
+                // 습도 파싱 (parts[13])
+                if (parts.length > 13 && !parts[13].equals("-9") && !parts[13].equals("-9.0")) {
+                    try {
+                        humidity = (int) Float.parseFloat(parts[13]);
+                        AppLog.d(TAG, "💧 습도 파싱 성공: {}%", humidity);
+                    } catch (NumberFormatException e) {
+                        AppLog.w(TAG, "습도 파싱 실패: {}", parts[13]);
+                    }
+                }
+
+                // 강수량 파싱 (parts[15])
+                if (parts.length > 15 && !parts[15].equals("-9") && !parts[15].equals("-9.0")) {
+                    try {
+                        precipitation = Float.parseFloat(parts[15]);
+                        if (precipitation > 0) {
+                            needUmbrella = true;
+                            weatherCondition = "Rain";
+                            AppLog.d(TAG, "🌧️ 강수량 감지: {}mm", precipitation);
+                        }
+                    } catch (NumberFormatException e) {
+                        AppLog.w(TAG, "강수량 파싱 실패: {}", parts[15]);
+                    }
+                }
+
+            } catch (Exception e) {
+                AppLog.e(TAG, "데이터 필드 파싱 중 오류", e);
+            }
+
+            String locationStr = latitude + "," + longitude;
+            long timestamp = System.currentTimeMillis();
+
+            Weather weather = new Weather(0, temperature, weatherCondition, precipitation,
+                                        humidity, windSpeed, locationStr, timestamp, needUmbrella);
+
+            AppLog.d(TAG, "✅ 날씨 파싱 완료: {}°C, 습도: {}%, 풍속: {}m/s", temperature, humidity, windSpeed);
+
+            return weather;
+
+        } catch (Exception e) {
+            AppLog.e(TAG, "날씨 응답 파싱 실패", e);
+            return null;
+        }
+    }
+    
+    /**
+     * 예보 응답 파싱 (현재 날씨 기반으로 6시간 예보 생성)
+     */
+    static List<HourlyForecast> parseForecast(String response) {
+        List<HourlyForecast> forecasts = new ArrayList<>();
+
+        // 현재 날씨 데이터에서 기준 온도 추출
+        float baseTemperature = 20.0f;
+        int baseHumidity = 60;
+        float baseWindSpeed = 2.0f;
+
+        try {
+            // 현재 날씨 응답에서 기준값 추출
+            String[] lines = response.split("\n");
+            for (String line : lines) {
+                line = line.trim();
+                if (line.matches("^\\d{12}\\s+.*")) {
+                    String[] parts = line.split("\\s+");
+                    if (parts.length > 13) {
+                        try {
+                            if (!parts[11].equals("-9") && !parts[11].equals("-9.0")) {
+                                baseTemperature = Float.parseFloat(parts[11]);
+                            }
+                            if (!parts[13].equals("-9") && !parts[13].equals("-9.0")) {
+                                baseHumidity = (int) Float.parseFloat(parts[13]);
+                            }
+                            if (!parts[3].equals("-9") && !parts[3].equals("-9.0")) {
+                                baseWindSpeed = Float.parseFloat(parts[3]);
+                            }
+                        } catch (NumberFormatException e) {
+                            AppLog.w(TAG, "예보 기준값 파싱 실패");
+                        }
+                    }
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            AppLog.w(TAG, "예보 기준값 추출 실패, 기본값 사용");
+        }
+
+        AppLog.d(TAG, "📊 예보 기준값: 온도={}°C, 습도={}%, 풍속={}m/s", baseTemperature, baseHumidity, baseWindSpeed);
+
+        // 6시간 예보 생성
+        Calendar calendar = Calendar.getInstance();
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HHmm", Locale.KOREA);
+        float baseOffset = SyntheticWeatherGenerator.diurnalOffset(calendar.get(Calendar.HOUR_OF_DAY));
+
+        for (int i = 1; i <= 6; i++) {
+            calendar.add(Calendar.HOUR_OF_DAY, 1);
+
+            HourlyForecast forecast = new HourlyForecast();
+            forecast.setForecastTime(timeFormat.format(calendar.getTime()));
+
+            // 시간별 온도 변화 (기준 온도에 일교차 곡선만큼 더함, 기온이 오르면 습도는 내려감)
+            float change = SyntheticWeatherGenerator.diurnalOffset(calendar.get(Calendar.HOUR_OF_DAY)) - baseOffset;
+            float temperature = baseTemperature + change;
+            forecast.setTemperature(temperature);
+
+            // 기본 날씨 상태
+            forecast.setWeatherCondition("Clear");
+            forecast.setPrecipitationProbability(10);
+            forecast.setPrecipitation(0.0f);
+            forecast.setHumidity(Math.max(0, Math.min(100, baseHumidity - Math.round(change * 2))));
+            forecast.setWindSpeed(baseWindSpeed);
+            forecast.setPrecipitationType(0);
+            forecast.setNeedUmbrella(false);
+
+            if (i == 1) {
+                forecast.setCurrentHour(true);
+            }
+
+            forecasts.add(forecast);
+
+            AppLog.d(TAG, "🕐 {}시간 후 예보: {}°C (시간: {})", i, temperature, forecast.getForecastTime());
+        }
+
+        return forecasts;
+    }
+}
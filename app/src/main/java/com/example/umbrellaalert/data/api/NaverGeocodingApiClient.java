@@ -1,25 +1,22 @@
 package com.example.umbrellaalert.data.api;
 
 import android.content.Context;
-import android.util.Log;
 
 import com.example.umbrellaalert.BuildConfig;
 import com.example.umbrellaalert.data.model.SearchLocation;
+import com.example.umbrellaalert.util.AppLog;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLEncoder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 네이버 클라우드 플랫폼 Geocoding API 클라이언트
@@ -28,27 +25,27 @@ public class NaverGeocodingApiClient {
 
     private static final String TAG = "NaverGeocodingApi";
     
-    // 네이버 클라우드 플랫폼 API URL (올바른 도메인 사용)
-    private static final String GEOCODING_URL = "https://maps.apigw.ntruss.com/map-geocode/v2/geocode";
-    private static final String REVERSE_GEOCODING_URL = "https://maps.apigw.ntruss.com/map-reversegeocode/v2/gc";
-    private static final String PLACES_URL = "https://maps.apigw.ntruss.com/map-place/v1/search";
+    // 네이버 클라우드 플랫폼 API 경로 (기본 주소는 ApiEndpoints)
+    private static final String GEOCODING_PATH = "/map-geocode/v2/geocode";
+    private static final String REVERSE_GEOCODING_PATH = "/map-reversegeocode/v2/gc";
+    private static final String PLACES_PATH = "/map-place/v1/search";
     
     private final Context context;
     private final String clientId;
     private final String clientSecret;
     private final ExecutorService executorService;
+    private final HttpTransport transport;
 
     public NaverGeocodingApiClient(Context context) {
         this.context = context.getApplicationContext();
         this.clientId = BuildConfig.NAVER_MAP_CLIENT_ID;
         this.clientSecret = BuildConfig.NAVER_MAP_CLIENT_SECRET;
         this.executorService = Executors.newCachedThreadPool();
+        this.transport = HttpTransport.getInstance(this.context);
 
-        // 디버깅용: 실제 API 키 값 확인
-        Log.d(TAG, "🔧 BuildConfig에서 읽은 Client ID: '" + clientId + "'");
-        Log.d(TAG, "🔧 BuildConfig에서 읽은 Client Secret: '" + clientSecret + "'");
-        Log.d(TAG, "🔧 Client ID 길이: " + (clientId != null ? clientId.length() : "null"));
-        Log.d(TAG, "🔧 Client Secret 길이: " + (clientSecret != null ? clientSecret.length() : "null"));
+        // 디버깅용: API 키가 설정됐는지 길이만 확인
+        AppLog.d(TAG, "🔧 Client ID 길이: {}", (clientId != null ? clientId.length() : "null"));
+        AppLog.d(TAG, "🔧 Client Secret 길이: {}", (clientSecret != null ? clientSecret.length() : "null"));
     }
 
     /**
@@ -66,29 +63,29 @@ public class NaverGeocodingApiClient {
             // 검색어 전처리 및 개선
             String processedQuery = preprocessSearchQuery(query);
             String encodedQuery = URLEncoder.encode(processedQuery, "UTF-8");
-            String urlStr = GEOCODING_URL + "?query=" + encodedQuery;
+            String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.NAVER_MAPS) + GEOCODING_PATH + "?query=" + encodedQuery;
 
-            Log.d(TAG, "🌐 네이버 Geocoding API 요청: " + urlStr);
-            Log.d(TAG, "🔍 원본 검색어: '" + query + "' → 처리된 검색어: '" + processedQuery + "'");
+            AppLog.d(TAG, "🌐 네이버 Geocoding API 요청: {}", urlStr);
+            AppLog.d(TAG, "🔍 원본 검색어: '{}' → 처리된 검색어: '{}'", query, processedQuery);
 
             String response = executeHttpRequest(urlStr);
-            Log.d(TAG, "📡 API 응답: " + response);
+            if (AppLog.DEBUG) AppLog.d(TAG, "📡 API 응답: {}", AppLog.abbreviate(response));
 
             List<SearchLocation> results = parseGeocodingResponse(response);
 
             // 결과가 없으면 POI 검색 시도
             if (results.isEmpty()) {
-                Log.d(TAG, "🔄 Geocoding 검색 실패, POI 검색 시도");
+                AppLog.d(TAG, "🔄 Geocoding 검색 실패, POI 검색 시도");
                 results = searchPOI(query);
             }
 
             // 여전히 결과가 없으면 원본 검색어로 재시도
             if (results.isEmpty() && !query.equals(processedQuery)) {
-                Log.d(TAG, "🔄 POI 검색도 실패, 원본 검색어로 재시도");
+                AppLog.d(TAG, "🔄 POI 검색도 실패, 원본 검색어로 재시도");
                 String originalEncodedQuery = URLEncoder.encode(query, "UTF-8");
-                String originalUrlStr = GEOCODING_URL + "?query=" + originalEncodedQuery;
+                String originalUrlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.NAVER_MAPS) + GEOCODING_PATH + "?query=" + originalEncodedQuery;
 
-                Log.d(TAG, "🌐 재시도 요청: " + originalUrlStr);
+                AppLog.d(TAG, "🌐 재시도 요청: {}", originalUrlStr);
                 String retryResponse = executeHttpRequest(originalUrlStr);
                 results = parseGeocodingResponse(retryResponse);
             }
@@ -96,7 +93,7 @@ public class NaverGeocodingApiClient {
             return results;
 
         } catch (Exception e) {
-            Log.e(TAG, "Geocoding API 요청 실패", e);
+            AppLog.e(TAG, "Geocoding API 요청 실패", e);
             return new ArrayList<>();
         }
     }
@@ -109,29 +106,22 @@ public class NaverGeocodingApiClient {
 
         try {
             // 1. Places API로 검색 시도
-            Log.d(TAG, "🏢 네이버 Places API로 검색: " + query);
+            AppLog.d(TAG, "🏢 네이버 Places API로 검색: {}", query);
             List<SearchLocation> placesResults = searchPlacesAPI(query);
             results.addAll(placesResults);
 
             // 2. Places API 결과가 없으면 로컬 데이터베이스 사용
             if (results.isEmpty()) {
-                Log.d(TAG, "🔄 Places API 결과 없음, 로컬 데이터베이스 검색");
+                AppLog.d(TAG, "🔄 Places API 결과 없음, 로컬 데이터베이스 검색");
                 List<SearchLocation> localResults = searchLocalPOI(query);
                 results.addAll(localResults);
             }
 
-            // 결과 로그 출력
-            if (!results.isEmpty()) {
-                Log.d(TAG, "📍 POI 검색 결과: " + results.size() + "개");
-                for (SearchLocation location : results) {
-                    Log.d(TAG, "  - " + location.getName() + " (" + location.getLatitude() + ", " + location.getLongitude() + ")");
-                }
-            } else {
-                Log.d(TAG, "❌ POI 검색 결과 없음");
-            }
+            // 결과 로그 출력 (검색어 입력마다 호출되므로 개수만)
+            AppLog.d(TAG, "📍 POI 검색 결과: {}개", results.size());
 
         } catch (Exception e) {
-            Log.e(TAG, "POI 검색 실패", e);
+            AppLog.e(TAG, "POI 검색 실패", e);
         }
 
         return results;
@@ -142,7 +132,7 @@ public class NaverGeocodingApiClient {
      */
     private List<SearchLocation> searchPlacesAPI(String query) {
         // Places API가 활성화되지 않았으므로 빈 결과 반환
-        Log.d(TAG, "🚫 Places API 사용 안함 - 로컬 데이터베이스만 사용");
+        AppLog.d(TAG, "🚫 Places API 사용 안함 - 로컬 데이터베이스만 사용");
         return new ArrayList<>();
     }
 
@@ -153,7 +143,7 @@ public class NaverGeocodingApiClient {
         List<SearchLocation> results = new ArrayList<>();
         String lowerQuery = query.toLowerCase().trim();
 
-        Log.d(TAG, "🔍 로컬 POI 검색 - 입력: '" + query + "' → 소문자: '" + lowerQuery + "'");
+        AppLog.d(TAG, "🔍 로컬 POI 검색 - 입력: '{}' → 소문자: '{}'", query, lowerQuery);
 
         // 한밭대학교 검색
         if (lowerQuery.contains("한밭대학교")) {
@@ -163,7 +153,7 @@ public class NaverGeocodingApiClient {
                 36.3504, 127.2998,
                 "대학교"
             ));
-            Log.d(TAG, "✅ 한밭대학교 검색 결과 추가됨");
+            AppLog.d(TAG, "✅ 한밭대학교 검색 결과 추가됨");
         }
 
         if (lowerQuery.contains("충남대") || lowerQuery.contains("충남대학교")) {
@@ -266,23 +256,22 @@ public class NaverGeocodingApiClient {
     public String getAddressFromCoordinatesSync(double latitude, double longitude) {
         try {
             // Reverse Geocoding으로 상세 정보 조회 (API 문서에 따른 올바른 파라미터 사용)
-            String urlStr = REVERSE_GEOCODING_URL +
+            String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.NAVER_MAPS) + REVERSE_GEOCODING_PATH +
                            "?coords=" + longitude + "," + latitude +
                            "&output=json&orders=legalcode,admcode,addr,roadaddr";
 
-            Log.d(TAG, "🌐 네이버 Reverse Geocoding API 요청: " + urlStr);
+            AppLog.d(TAG, "🌐 네이버 Reverse Geocoding API 요청: {}", urlStr);
 
             String response = executeHttpRequest(urlStr);
-            Log.d(TAG, "📡 Reverse Geocoding API 응답: " + response);
+            if (AppLog.DEBUG) AppLog.d(TAG, "📡 Reverse Geocoding API 응답: {}", AppLog.abbreviate(response));
 
             return parseReverseGeocodingResponse(response);
 
         } catch (Exception e) {
-            Log.e(TAG, "❌ Reverse Geocoding API 요청 실패 - 오류 타입: " + e.getClass().getSimpleName(), e);
-            Log.e(TAG, "❌ 오류 메시지: " + e.getMessage());
-            Log.e(TAG, "❌ 요청했던 좌표: (" + latitude + ", " + longitude + ")");
+            AppLog.e(TAG, "❌ Reverse Geocoding API 요청 실패", e);
+            AppLog.w(TAG, "❌ 요청했던 좌표: {}", latitude + ", " + longitude);
             if (e.getCause() != null) {
-                Log.e(TAG, "❌ 근본 원인: " + e.getCause().getMessage());
+                AppLog.e(TAG, "❌ 근본 원인: {}", e.getCause().getMessage());
             }
             return String.format("위치 (%.4f, %.4f)", latitude, longitude);
         }
@@ -292,76 +281,22 @@ public class NaverGeocodingApiClient {
 
     /**
      * HTTP 요청 실행
+     * 주소 검색/변환 결과는 거의 바뀌지 않으므로 하루 동안 캐시, 오프라인이면 30일까지 사용
      */
     private String executeHttpRequest(String urlStr) throws IOException {
-        Log.d(TAG, "🌐 HTTP 요청 시작: " + urlStr);
-
-        URL url = new URL(urlStr);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-
-        try {
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(10000);
-
-            // 네이버 클라우드 플랫폼 인증 헤더 추가 (올바른 헤더명 사용)
-            connection.setRequestProperty("x-ncp-apigw-api-key-id", clientId);
-            connection.setRequestProperty("x-ncp-apigw-api-key", clientSecret);
-            connection.setRequestProperty("Accept", "application/json");
-
-            Log.d(TAG, "🔑 API 키 설정 - Client ID: '" + clientId + "', Client Secret: '" +
-                  (clientSecret != null && !clientSecret.isEmpty() ? clientSecret : "없음") + "'");
-            Log.d(TAG, "🔗 연결 시도 중...");
-
-            int responseCode = connection.getResponseCode();
-            Log.d(TAG, "📊 HTTP 응답 코드: " + responseCode);
-            Log.d(TAG, "📋 응답 메시지: " + connection.getResponseMessage());
-
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream())
-                );
-
-                StringBuilder response = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-                reader.close();
-
-                String responseStr = response.toString();
-                Log.d(TAG, "✅ 성공 응답 내용: " + responseStr);
-                return responseStr;
-            } else {
-                // 오류 응답 내용도 읽어보기
-                BufferedReader errorReader = null;
-                try {
-                    errorReader = new BufferedReader(
-                        new InputStreamReader(connection.getErrorStream())
-                    );
-                    StringBuilder errorResponse = new StringBuilder();
-                    String line;
-                    while ((line = errorReader.readLine()) != null) {
-                        errorResponse.append(line);
-                    }
-                    Log.e(TAG, "❌ 오류 응답 내용: " + errorResponse.toString());
-                } catch (Exception e) {
-                    Log.e(TAG, "오류 응답 읽기 실패", e);
-                } finally {
-                    if (errorReader != null) {
-                        try {
-                            errorReader.close();
-                        } catch (IOException e) {
-                            // 무시
-                        }
-                    }
-                }
-                throw new IOException("HTTP 요청 실패: " + responseCode);
-            }
-            
-        } finally {
-            connection.disconnect();
-        }
+        AppLog.d(TAG, "🌐 HTTP 요청 시작: {}", urlStr);
+
+        // 네이버 클라우드 플랫폼 인증 헤더 추가 (올바른 헤더명 사용)
+        // 주소 검색/변환은 사용자가 화면에서 요청한 경우뿐
+        String response = transport.get(new HttpTransport.Request(urlStr)
+                .header("x-ncp-apigw-api-key-id", clientId)
+                .header("x-ncp-apigw-api-key", clientSecret)
+                .header("Accept", "application/json")
+                .quota(ApiQuotaManager.Service.NAVER, ApiQuotaManager.Priority.FOREGROUND)
+                .cache(TimeUnit.DAYS.toMillis(1), TimeUnit.DAYS.toMillis(30)));
+
+        if (AppLog.DEBUG) AppLog.d(TAG, "✅ 성공 응답 내용: {}", AppLog.abbreviate(response));
+        return response;
     }
 
     /**
@@ -374,7 +309,7 @@ public class NaverGeocodingApiClient {
             JSONObject json = new JSONObject(response);
             
             if (!json.has("addresses")) {
-                Log.w(TAG, "응답에 addresses 필드가 없습니다");
+                AppLog.w(TAG, "응답에 addresses 필드가 없습니다");
                 return results;
             }
             
@@ -417,12 +352,12 @@ public class NaverGeocodingApiClient {
                     );
 
                     results.add(location);
-                    Log.d(TAG, "검색 결과 추가: " + placeName + " (" + lat + ", " + lng + ")");
+                    AppLog.d(TAG, "검색 결과 추가: {} ({}, {})", placeName, lat, lng);
                 }
             }
             
         } catch (Exception e) {
-            Log.e(TAG, "Geocoding 응답 파싱 실패", e);
+            AppLog.e(TAG, "Geocoding 응답 파싱 실패", e);
         }
         
         return results;
@@ -433,18 +368,17 @@ public class NaverGeocodingApiClient {
      */
     private String parseReverseGeocodingResponse(String response) {
         try {
-            Log.d(TAG, "🔍 Reverse Geocoding 응답 길이: " + (response != null ? response.length() : "null"));
-            Log.d(TAG, "🔍 전체 Reverse Geocoding 응답: " + response);
+            AppLog.d(TAG, "🔍 Reverse Geocoding 응답 길이: {}", (response != null ? response.length() : "null"));
 
             if (response == null || response.trim().isEmpty()) {
-                Log.e(TAG, "❌ 응답이 비어있습니다");
+                AppLog.e(TAG, "❌ 응답이 비어있습니다");
                 return "응답이 비어있습니다";
             }
 
             JSONObject json = new JSONObject(response);
 
             if (!json.has("results")) {
-                Log.w(TAG, "Reverse Geocoding 응답에 results 필드가 없습니다");
+                AppLog.w(TAG, "Reverse Geocoding 응답에 results 필드가 없습니다");
                 return "주소를 찾을 수 없습니다";
             }
 
@@ -454,14 +388,14 @@ public class NaverGeocodingApiClient {
                 // 모든 결과를 확인해서 가장 상세한 정보 찾기
                 for (int i = 0; i < results.length(); i++) {
                     JSONObject result = results.getJSONObject(i);
-                    Log.d(TAG, "🏢 결과 " + i + ": " + result.toString());
+                    AppLog.d(TAG, "🏢 결과 {}: {}", i, result);
 
                     // 1. 도로명 주소 우선 시도 (건물명 포함)
                     if (result.has("land")) {
                         JSONObject land = result.getJSONObject("land");
                         String roadAddress = buildDetailedRoadAddress(land);
                         if (!roadAddress.isEmpty() && containsBuildingInfo(roadAddress)) {
-                            Log.d(TAG, "🏠 건물 정보 포함 주소 사용: " + roadAddress);
+                            AppLog.d(TAG, "🏠 건물 정보 포함 주소 사용: {}", roadAddress);
                             return roadAddress;
                         }
                     }
@@ -475,7 +409,7 @@ public class NaverGeocodingApiClient {
                     JSONObject land = firstResult.getJSONObject("land");
                     String roadAddress = buildDetailedRoadAddress(land);
                     if (!roadAddress.isEmpty()) {
-                        Log.d(TAG, "🏠 도로명 주소 사용: " + roadAddress);
+                        AppLog.d(TAG, "🏠 도로명 주소 사용: {}", roadAddress);
                         return roadAddress;
                     }
                 }
@@ -485,14 +419,14 @@ public class NaverGeocodingApiClient {
                     JSONObject region = firstResult.getJSONObject("region");
                     String regionAddress = buildRegionAddress(region);
                     if (!regionAddress.isEmpty()) {
-                        Log.d(TAG, "📍 지역 주소 사용: " + regionAddress);
+                        AppLog.d(TAG, "📍 지역 주소 사용: {}", regionAddress);
                         return regionAddress;
                     }
                 }
             }
 
         } catch (Exception e) {
-            Log.e(TAG, "Reverse Geocoding 응답 파싱 실패", e);
+            AppLog.e(TAG, "Reverse Geocoding 응답 파싱 실패", e);
         }
 
         return "주소를 찾을 수 없습니다";
@@ -503,7 +437,7 @@ public class NaverGeocodingApiClient {
      */
     private String buildDetailedRoadAddress(JSONObject land) {
         try {
-            Log.d(TAG, "🏗️ Land 객체 분석: " + land.toString());
+            AppLog.d(TAG, "🏗️ Land 객체 분석: {}", land);
 
             StringBuilder address = new StringBuilder();
 
@@ -553,11 +487,11 @@ public class NaverGeocodingApiClient {
             }
 
             String result = address.toString();
-            Log.d(TAG, "🏠 구성된 상세 주소: " + result);
+            AppLog.d(TAG, "🏠 구성된 상세 주소: {}", result);
             return result;
 
         } catch (Exception e) {
-            Log.e(TAG, "상세 도로명 주소 구성 실패", e);
+            AppLog.e(TAG, "상세 도로명 주소 구성 실패", e);
             return "";
         }
     }
@@ -567,7 +501,7 @@ public class NaverGeocodingApiClient {
      */
     private String extractBuildingInfo(JSONObject land) {
         try {
-            Log.d(TAG, "🔍 건물 정보 추출 시도 - Land 객체: " + land.toString());
+            AppLog.d(TAG, "🔍 건물 정보 추출 시도 - Land 객체: {}", land);
 
             // 1. 직접적인 건물 관련 필드들 확인
             String[] buildingFields = {
@@ -578,7 +512,7 @@ public class NaverGeocodingApiClient {
             for (String field : buildingFields) {
                 String value = land.optString(field, "");
                 if (!value.isEmpty() && !isRoadName(value) && !isAreaName(value)) {
-                    Log.d(TAG, "🏢 건물 정보 발견 (" + field + "): " + value);
+                    AppLog.d(TAG, "🏢 건물 정보 발견 ({}): {}", field, value);
                     return value;
                 }
             }
@@ -592,7 +526,7 @@ public class NaverGeocodingApiClient {
                         String type = addition.optString("type", "");
                         String value = addition.optString("value", "");
 
-                        Log.d(TAG, "🔍 " + additionKey + " - type: " + type + ", value: " + value);
+                        AppLog.d(TAG, "🔍 {} - type: {}, value: {}", additionKey, type, value);
 
                         // 건물명, 상호명 관련 타입들
                         if (!value.isEmpty() && (
@@ -604,14 +538,14 @@ public class NaverGeocodingApiClient {
                             type.equals("POI_NAME") ||
                             type.equals("PLACE_NAME")
                         )) {
-                            Log.d(TAG, "🏢 Addition에서 건물명 발견: " + value);
+                            AppLog.d(TAG, "🏢 Addition에서 건물명 발견: {}", value);
                             return value;
                         }
 
                         // 타입이 명확하지 않지만 건물명 같은 값들
                         if (!value.isEmpty() && !isRoadName(value) && !isAreaName(value) &&
                             value.length() > 1 && !value.matches("\\d+(-\\d+)?")) {
-                            Log.d(TAG, "🏢 Addition에서 가능한 건물명 발견: " + value);
+                            AppLog.d(TAG, "🏢 Addition에서 가능한 건물명 발견: {}", value);
                             return value;
                         }
                     }
@@ -619,7 +553,7 @@ public class NaverGeocodingApiClient {
             }
 
         } catch (Exception e) {
-            Log.e(TAG, "건물 정보 추출 실패", e);
+            AppLog.e(TAG, "건물 정보 추출 실패", e);
         }
 
         return "";
@@ -696,7 +630,7 @@ public class NaverGeocodingApiClient {
             return address.toString();
 
         } catch (Exception e) {
-            Log.e(TAG, "지역 주소 구성 실패", e);
+            AppLog.e(TAG, "지역 주소 구성 실패", e);
             return "";
         }
     }
@@ -715,7 +649,7 @@ public class NaverGeocodingApiClient {
         if (processed.contains("대학교") || processed.contains("대학") || processed.contains("한밭")) {
             // "한밭대학교" → "대전 한밭대학교", "한밭대" 등으로 확장
             if (processed.contains("한밭")) {
-                Log.d(TAG, "🎯 한밭대학교 검색어 감지: " + processed);
+                AppLog.d(TAG, "🎯 한밭대학교 검색어 감지: {}", processed);
                 return "대전 한밭대학교";
             }
             if (processed.equals("충남대학교") || processed.equals("충남대")) {
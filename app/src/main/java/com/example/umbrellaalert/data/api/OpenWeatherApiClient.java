@@ -1,29 +1,36 @@
 package com.example.umbrellaalert.data.api;
 
 import android.content.Context;
-import android.util.Log;
 
 import com.example.umbrellaalert.data.model.Weather;
 import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.WeatherObservation;
+import com.example.umbrellaalert.data.model.WeatherCondition;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
 import com.example.umbrellaalert.util.ApiKeyUtil;
+import com.example.umbrellaalert.util.AppLog;
+import com.example.umbrellaalert.util.CoordinateConverter;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.Tracer;
+import com.google.gson.stream.JsonReader;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.StringReader;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -38,26 +45,68 @@ import dagger.hilt.android.qualifiers.ApplicationContext;
 public class OpenWeatherApiClient {
     
     private static final String TAG = "OpenWeatherApiClient";
-    private static final String BASE_URL = "https://api.openweathermap.org/data/2.5";
-    private static final String CURRENT_WEATHER_URL = BASE_URL + "/weather";
-    private static final String FORECAST_URL = BASE_URL + "/forecast";
+
+    // 회로 차단기 엔드포인트 이름
+    public static final String ENDPOINT_CURRENT_WEATHER = "openweather_current";
+    public static final String ENDPOINT_FORECAST = "openweather_forecast";
+
+    private static final CircuitBreaker CURRENT_WEATHER_BREAKER = CircuitBreaker.forEndpoint(ENDPOINT_CURRENT_WEATHER);
+    private static final CircuitBreaker FORECAST_BREAKER = CircuitBreaker.forEndpoint(ENDPOINT_FORECAST);
+    // API 경로 (기본 주소는 ApiEndpoints)
+    private static final String CURRENT_WEATHER_PATH = "/data/2.5/weather";
+    private static final String FORECAST_PATH = "/data/2.5/forecast";
+
+    // 당일 예보 최대 개수 (3시간 단위, 다음 발표 시각부터 자정까지)
+    private static final int FORECAST_COUNT = 7;
+    private static final long FORECAST_CACHE_TTL = TimeUnit.MINUTES.toMillis(30);
+    private static final int FORECAST_CACHE_SIZE = 8;
     
     private final Context context;
     private final ExecutorService executorService;
     private final String apiKey;
+    private final HttpTransport transport;
+
+    // 격자(nx,ny) → 예보, 최근 사용 순으로 최대 FORECAST_CACHE_SIZE개
+    private final Map<String, CachedForecast> forecastCache =
+            new LinkedHashMap<String, CachedForecast>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedForecast> eldest) {
+                    return size() > FORECAST_CACHE_SIZE;
+                }
+            };
+
+    /**
+     * 격자별 예보 캐시 항목 (날짜가 바뀌면 당일 예보가 달라지므로 무효)
+     */
+    private static class CachedForecast {
+        final List<HourlyForecast> forecasts;
+        final long cachedAt;
+        final String kstDate;
+
+        CachedForecast(List<HourlyForecast> forecasts) {
+            this.forecasts = forecasts;
+            this.cachedAt = System.currentTimeMillis();
+            this.kstDate = todayKst();
+        }
+
+        boolean isValid() {
+            return System.currentTimeMillis() - cachedAt < FORECAST_CACHE_TTL && kstDate.equals(todayKst());
+        }
+    }
     
     @Inject
     public OpenWeatherApiClient(@ApplicationContext Context context) {
         this.context = context.getApplicationContext();
-        this.executorService = Executors.newCachedThreadPool();
+        this.executorService = Metrics.monitor("openweather", Executors.newCachedThreadPool());
         this.apiKey = ApiKeyUtil.getOpenWeatherApiKey(context);
+        this.transport = HttpTransport.getInstance(this.context);
     }
     
     /**
      * 현재 날씨 정보 가져오기 (Future 버전)
      */
     public Future<Weather> getCurrentWeather(double latitude, double longitude) {
-        return executorService.submit(() -> getCurrentWeatherSync(latitude, longitude));
+        return executorService.submit(Tracer.wrap(() -> getCurrentWeatherSync(latitude, longitude)));
     }
     
     /**
@@ -65,451 +114,369 @@ public class OpenWeatherApiClient {
      */
     public Weather getCurrentWeatherSync(double latitude, double longitude) {
         try {
-            String urlStr = CURRENT_WEATHER_URL + 
-                           "?lat=" + latitude + 
-                           "&lon=" + longitude + 
-                           "&appid=" + apiKey + 
-                           "&units=metric" + 
-                           "&lang=kr";
-            
-            Log.d(TAG, "🌐 OpenWeather API 요청: " + urlStr);
-            
-            String response = executeHttpRequest(urlStr);
-            Log.d(TAG, "📡 API 응답: " + response);
-            
-            return parseCurrentWeatherResponse(response, latitude, longitude);
-            
+            return fetchCurrentObservation(latitude, longitude).getWeather();
         } catch (Exception e) {
-            Log.e(TAG, "현재 날씨 데이터 요청 실패", e);
+            AppLog.e(TAG, "현재 날씨 데이터 요청 실패", e);
             return createDefaultWeather(latitude, longitude);
         }
     }
+
+    /**
+     * 현재 날씨 관측 결과 가져오기 (동기, 실패 시 예외 - 기본값으로 대체하지 않음)
+     */
+    public WeatherObservation fetchCurrentObservation(double latitude, double longitude) throws Exception {
+        String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.OPEN_WEATHER) + CURRENT_WEATHER_PATH + 
+                       "?lat=" + CoordinateConverter.toRequestDegrees(latitude) + 
+                       "&lon=" + CoordinateConverter.toRequestDegrees(longitude) + 
+                       "&appid=" + apiKey + 
+                       "&units=metric" + 
+                       "&lang=kr";
+        
+        AppLog.d(TAG, "🌐 OpenWeather API 요청: {}", urlStr);
+        
+        // 현재 날씨는 10분 단위로 갱신되므로 5분간 캐시, 오프라인이면 3시간까지 사용
+        String response = transport.get(new HttpTransport.Request(urlStr)
+                .breaker(CURRENT_WEATHER_BREAKER, 3)
+                .quota(ApiQuotaManager.Service.OPEN_WEATHER, ApiQuotaManager.Priority.FOREGROUND)
+                .cache(TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(3)));
+        if (AppLog.DEBUG) AppLog.d(TAG, "📡 API 응답: {}", AppLog.abbreviate(response));
+        
+        try (Tracer.Span span = Tracer.begin("parse:weather")) {
+            JSONObject json = new JSONObject(response);
+            Weather weather = parseCurrentWeather(json, latitude, longitude);
+            long observedAt = json.has("dt") ? json.getLong("dt") * 1000 : weather.getTimestamp();
+            return new WeatherObservation(weather, observedAt, "OpenWeather");
+        }
+    }
     
     /**
      * 12시간 예보 데이터 가져오기 (Future 버전)
      */
     public Future<List<HourlyForecast>> get12HourForecast(double latitude, double longitude) {
-        return executorService.submit(() -> get12HourForecastSync(latitude, longitude));
+        return executorService.submit(Tracer.wrap(() -> get12HourForecastSync(latitude, longitude)));
     }
     
     /**
      * 12시간 예보 데이터 가져오기 (동기 버전)
+     * 실패하면 기본 예보 반환
      */
     public List<HourlyForecast> get12HourForecastSync(double latitude, double longitude) {
         try {
-            String urlStr = FORECAST_URL + 
-                           "?lat=" + latitude + 
-                           "&lon=" + longitude + 
-                           "&appid=" + apiKey + 
-                           "&units=metric" + 
-                           "&lang=kr";
-            
-            Log.d(TAG, "🌐 OpenWeather 예보 API 요청: " + urlStr);
-            
-            String response = executeHttpRequest(urlStr);
-            Log.d(TAG, "📡 예보 API 응답: " + response);
-            
-            return parseForecastResponse(response);
-            
+            return fetchForecast(latitude, longitude, ApiQuotaManager.Priority.FOREGROUND);
         } catch (Exception e) {
-            Log.e(TAG, "예보 데이터 요청 실패", e);
-            return createDefaultForecast();
+            AppLog.e(TAG, "예보 데이터 요청 실패", e);
+            return createDefaultForecast(latitude, longitude);
         }
     }
 
     /**
-     * 예보 날짜 포맷 변환 (UTC → KST 변환 포함)
-     * yyyy-MM-dd HH:mm:ss (UTC) -> yyyyMMdd (KST)
+     * 12시간 예보 데이터 가져오기 (실패 시 예외, 기본값으로 대체하지 않음)
+     * 같은 기상청 격자(약 5km) 안에서는 유효 기간 동안 한 번만 요청
+     * @param priority 호출 한도 우선순위 (백그라운드 미리 가져오기는 PREFETCH)
      */
-    private String formatForecastDate(String dtTxt) {
-        try {
-            // UTC 시간을 파싱
-            SimpleDateFormat utcFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-            utcFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-
-            java.util.Date utcDate = utcFormat.parse(dtTxt);
-
-            // KST 날짜로 변환 (Calendar 사용)
-            Calendar kstCal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
-            kstCal.setTime(utcDate);
-
-            SimpleDateFormat kstFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
-            kstFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-            String kstDate = kstFormat.format(kstCal.getTime());
-
-            Log.d(TAG, "날짜 변환: " + dtTxt + " (UTC) → " + kstDate + " (KST)");
-            return kstDate;
-
-        } catch (Exception e) {
-            Log.w(TAG, "날짜 포맷 변환 실패: " + dtTxt + ", 에러: " + e.getMessage());
-            // 실패 시 현재 날짜로 대체
-            SimpleDateFormat fallbackFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
-            fallbackFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-            return fallbackFormat.format(new java.util.Date());
+    public List<HourlyForecast> fetchForecast(double latitude, double longitude,
+                                              ApiQuotaManager.Priority priority) throws IOException {
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        String gridKey = grid.nx + "," + grid.ny;
+
+        synchronized (forecastCache) {
+            CachedForecast cached = forecastCache.get(gridKey);
+            if (cached != null && cached.isValid()) {
+                AppLog.d(TAG, "격자 예보 캐시 사용: {}", gridKey);
+                return new ArrayList<>(cached.forecasts);
+            }
         }
-    }
 
-    /**
-     * HTTP 요청 실행
-     */
-    private String executeHttpRequest(String urlStr) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        // 당일 예보는 최대 FORECAST_COUNT개이므로 그만큼만 요청
+        String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.OPEN_WEATHER) + FORECAST_PATH + 
+                       "?lat=" + CoordinateConverter.toRequestDegrees(latitude) + 
+                       "&lon=" + CoordinateConverter.toRequestDegrees(longitude) + 
+                       "&cnt=" + FORECAST_COUNT +
+                       "&appid=" + apiKey + 
+                       "&units=metric" + 
+                       "&lang=kr";
         
-        try {
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(10000);
-            
-            int responseCode = connection.getResponseCode();
-            Log.d(TAG, "📊 HTTP 응답 코드: " + responseCode);
-            
-            if (responseCode == HttpURLConnection.HTTP_OK) {
-                BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream())
-                );
-                
-                StringBuilder response = new StringBuilder();
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line);
-                }
-                reader.close();
-                
-                return response.toString();
-            } else {
-                throw new IOException("HTTP 요청 실패: " + responseCode);
-            }
-            
-        } finally {
-            connection.disconnect();
+        AppLog.d(TAG, "🌐 OpenWeather 예보 API 요청: {}", urlStr);
+        
+        // 예보는 3시간 단위 발표이므로 30분간 캐시, 오프라인이면 12시간까지 사용
+        String response = transport.get(new HttpTransport.Request(urlStr)
+                .breaker(FORECAST_BREAKER, 3)
+                .quota(ApiQuotaManager.Service.OPEN_WEATHER, priority)
+                .cache(TimeUnit.MINUTES.toMillis(30), TimeUnit.HOURS.toMillis(12)));
+        AppLog.d(TAG, "📡 예보 API 응답 길이: {}", response.length());
+        
+        List<HourlyForecast> forecasts;
+        try (Tracer.Span span = Tracer.begin("parse:forecast")) {
+            forecasts = parseForecastResponse(response);
+        }
+        synchronized (forecastCache) {
+            forecastCache.put(gridKey, new CachedForecast(forecasts));
         }
+        return new ArrayList<>(forecasts);
     }
-    
+
     /**
      * 현재 날씨 응답 파싱
      */
-    private Weather parseCurrentWeatherResponse(String response, double latitude, double longitude) {
-        try {
-            JSONObject json = new JSONObject(response);
-            
-            // 온도 정보
-            JSONObject main = json.getJSONObject("main");
-            float temperature = (float) main.getDouble("temp");
-            int humidity = main.getInt("humidity");
-            
-            // 날씨 상태
-            JSONArray weatherArray = json.getJSONArray("weather");
-            JSONObject weather = weatherArray.getJSONObject(0);
-            String weatherMain = weather.getString("main");
-            String weatherDescription = weather.getString("description");
-            
-            // 바람 정보
-            float windSpeed = 0.0f;
-            if (json.has("wind")) {
-                JSONObject wind = json.getJSONObject("wind");
-                windSpeed = (float) wind.getDouble("speed");
-            }
-            
-            // 강수량 정보
-            float precipitation = 0.0f;
-            if (json.has("rain")) {
-                JSONObject rain = json.getJSONObject("rain");
-                if (rain.has("1h")) {
-                    precipitation = (float) rain.getDouble("1h");
-                }
+    private Weather parseCurrentWeather(JSONObject json, double latitude, double longitude) throws JSONException {
+        // 온도 정보
+        JSONObject main = json.getJSONObject("main");
+        float temperature = (float) main.getDouble("temp");
+        int humidity = main.getInt("humidity");
+        
+        // 날씨 상태
+        JSONArray weatherArray = json.getJSONArray("weather");
+        JSONObject weather = weatherArray.getJSONObject(0);
+        String weatherMain = weather.getString("main");
+        String weatherDescription = weather.getString("description");
+        
+        // 바람 정보
+        float windSpeed = 0.0f;
+        if (json.has("wind")) {
+            JSONObject wind = json.getJSONObject("wind");
+            windSpeed = (float) wind.getDouble("speed");
+        }
+        
+        // 강수량 정보
+        float precipitation = 0.0f;
+        if (json.has("rain")) {
+            JSONObject rain = json.getJSONObject("rain");
+            if (rain.has("1h")) {
+                precipitation = (float) rain.getDouble("1h");
             }
-            
-            // 날씨 상태를 한국어로 변환
-            String koreanWeatherCondition = convertWeatherToKorean(weatherMain, weatherDescription);
-            
-            // 우산 필요 여부 판단
-            boolean needUmbrella = isUmbrellaNeeded(weatherMain, precipitation);
-            
-            String locationStr = latitude + "," + longitude;
-            long timestamp = System.currentTimeMillis();
-            
-            Weather weatherData = new Weather(0, temperature, koreanWeatherCondition, precipitation,
-                                            humidity, windSpeed, locationStr, timestamp, needUmbrella);
-            
-            Log.d(TAG, "✅ 날씨 파싱 완료: " + temperature + "°C, " + koreanWeatherCondition + 
-                      ", 습도: " + humidity + "%, 풍속: " + windSpeed + "m/s");
-            
-            return weatherData;
-            
-        } catch (Exception e) {
-            Log.e(TAG, "날씨 응답 파싱 실패", e);
-            return createDefaultWeather(latitude, longitude);
         }
+        
+        // 날씨 상태를 한국어로 변환
+        String koreanWeatherCondition = convertWeatherToKorean(weatherMain, weatherDescription);
+        
+        // 우산 필요 여부 판단
+        boolean needUmbrella = isUmbrellaNeeded(weatherMain, precipitation);
+        
+        String locationStr = latitude + "," + longitude;
+        long timestamp = System.currentTimeMillis();
+        
+        Weather weatherData = new Weather(0, temperature, koreanWeatherCondition, precipitation,
+                                        humidity, windSpeed, locationStr, timestamp, needUmbrella);
+        
+        if (AppLog.DEBUG) {
+            AppLog.d(TAG, "✅ 날씨 파싱 완료: {}°C, {}, 습도: {}", temperature, koreanWeatherCondition,
+                    humidity + "%, 풍속: " + windSpeed + "m/s");
+        }
+        
+        return weatherData;
     }
     
     /**
-     * 예보 응답 파싱 (12시간 예보)
+     * 예보 응답 파싱 (한국시간 기준 당일 예보, 최대 FORECAST_COUNT개)
+     * 스트리밍으로 읽으며 필요한 개수를 채우거나 다음 날 예보가 나오면 나머지는 읽지 않음
      */
-    private List<HourlyForecast> parseForecastResponse(String response) {
-        List<HourlyForecast> forecasts = new ArrayList<>();
-        
-        try {
-            JSONObject json = new JSONObject(response);
-            JSONArray list = json.getJSONArray("list");
-            
-            // 한국시간 기준 당일 날씨만 필터링 (최대 7개 - 3시간 단위로 하루 종일)
-            Calendar now = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
-            SimpleDateFormat todayFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.KOREA);
-            String todayDateStr = todayFormat.format(now.getTime());
-            int count = 0;
-
-            Log.d(TAG, "한국시간 오늘 날짜: " + todayDateStr + ", 현재 시간: " + now.getTime());
-
-            for (int i = 0; i < list.length() && count < 7; i++) {
-                JSONObject item = list.getJSONObject(i);
-
-                // 시간 정보
-                String dtTxt = item.getString("dt_txt");
-
-                // UTC 시간을 KST로 변환하여 한국시간 기준 당일인지 확인
-                boolean shouldInclude = false;
-                try {
-                    SimpleDateFormat utcFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-                    utcFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-                    java.util.Date forecastTime = utcFormat.parse(dtTxt);
-
-                    // KST로 변환 (TimeZone 자동 변환 사용)
-                    Calendar forecastCal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
-                    forecastCal.setTime(forecastTime);
-
-                    String forecastDateStr = todayFormat.format(forecastCal.getTime());
-
-                    // 한국시간 기준 당일인지만 확인 (시간 제한 없음)
-                    if (todayDateStr.equals(forecastDateStr)) {
-                        shouldInclude = true;
-                        Log.d(TAG, "한국시간 당일 예보 포함: " + dtTxt + " → KST: " + forecastCal.getTime());
-                    } else {
-                        Log.d(TAG, "예보 스킵: " + dtTxt + " (날짜: " + forecastDateStr + ", 오늘: " + todayDateStr + ")");
-                    }
-
-                } catch (Exception e) {
-                    Log.w(TAG, "시간 비교 실패: " + dtTxt + ", 기본 포함");
-                    shouldInclude = true; // 파싱 실패 시에도 포함
-                }
+    private List<HourlyForecast> parseForecastResponse(String response) throws IOException {
+        List<HourlyForecast> forecasts = new ArrayList<>(FORECAST_COUNT);
 
-                // 조건에 맞지 않으면 스킵
-                if (!shouldInclude) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HHmm", Locale.KOREA);
+        TimeZone kst = TimeZone.getTimeZone("Asia/Seoul");
+        dateFormat.setTimeZone(kst);
+        timeFormat.setTimeZone(kst);
+        String today = dateFormat.format(new java.util.Date());
+
+        try (JsonReader reader = new JsonReader(new StringReader(response))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"list".equals(reader.nextName())) {
+                    reader.skipValue();
                     continue;
                 }
-                
-                // 온도 정보
-                JSONObject main = item.getJSONObject("main");
-                float temperature = (float) main.getDouble("temp");
-                int humidity = main.getInt("humidity");
-                
-                // 날씨 상태
-                JSONArray weatherArray = item.getJSONArray("weather");
-                JSONObject weather = weatherArray.getJSONObject(0);
-                String weatherMain = weather.getString("main");
-                String weatherDescription = weather.getString("description");
-                
-                // 바람 정보
-                float windSpeed = 0.0f;
-                if (item.has("wind")) {
-                    JSONObject wind = item.getJSONObject("wind");
-                    windSpeed = (float) wind.getDouble("speed");
-                }
-                
-                // 강수량 정보
-                float precipitation = 0.0f;
-                if (item.has("rain")) {
-                    JSONObject rain = item.getJSONObject("rain");
-                    if (rain.has("3h")) {
-                        precipitation = (float) rain.getDouble("3h");
+
+                reader.beginArray();
+                while (reader.hasNext() && forecasts.size() < FORECAST_COUNT) {
+                    ForecastItem item = readForecastItem(reader);
+                    java.util.Date time = new java.util.Date(item.dt * 1000);
+                    String dateStr = dateFormat.format(time);
+
+                    // 예보는 시간순이므로 다음 날 예보가 나오면 종료
+                    if (!today.equals(dateStr)) {
+                        break;
                     }
+
+                    String koreanWeatherCondition = convertWeatherToKorean(item.weatherMain, item.weatherDescription);
+                    boolean needUmbrella = isUmbrellaNeeded(item.weatherMain, item.precipitation);
+
+                    forecasts.add(new HourlyForecast(
+                        dateStr, // yyyyMMdd (KST 기준)
+                        timeFormat.format(time), // HHmm 형식 (KST 기준)
+                        item.temperature,
+                        item.precipitation,
+                        needUmbrella ? 80 : 10, // 강수확률
+                        item.humidity,
+                        item.windSpeed,
+                        needUmbrella ? 1 : 0, // 강수형태 (0:없음, 1:비)
+                        koreanWeatherCondition,
+                        needUmbrella
+                    ));
                 }
-                
-                // 날씨 상태를 한국어로 변환
-                String koreanWeatherCondition = convertWeatherToKorean(weatherMain, weatherDescription);
-                
-                // 우산 필요 여부 판단
-                boolean needUmbrella = isUmbrellaNeeded(weatherMain, precipitation);
-                
-                // 시간 포맷 변환 (UTC → KST)
-                String timeStr = formatForecastTime(dtTxt);
-                String dateStr = formatForecastDate(dtTxt);
-
-                HourlyForecast forecast = new HourlyForecast(
-                    dateStr, // yyyyMMdd (KST 기준)
-                    timeStr.replace(":", ""), // HHmm 형식 (KST 기준)
-                    temperature,
-                    precipitation,
-                    needUmbrella ? 80 : 10, // 강수확률
-                    humidity,
-                    windSpeed,
-                    needUmbrella ? 1 : 0, // 강수형태 (0:없음, 1:비)
-                    koreanWeatherCondition,
-                    needUmbrella
-                );
-
-                forecasts.add(forecast);
-                count++; // 유효한 예보 추가 시에만 카운트 증가
+                // 남은 예보는 읽지 않음
+                break;
             }
-            
-            Log.d(TAG, "✅ 예보 파싱 완료: " + forecasts.size() + "개 항목");
-            
-        } catch (Exception e) {
-            Log.e(TAG, "예보 응답 파싱 실패", e);
-            return createDefaultForecast();
+
+            AppLog.d(TAG, "✅ 예보 파싱 완료: {}개 항목", forecasts.size());
+
+        } catch (IllegalStateException | NumberFormatException e) {
+            // 예상과 다른 구조의 응답
+            throw new IOException("예보 응답 파싱 실패", e);
         }
-        
+
         return forecasts;
     }
 
     /**
-     * 날씨 상태를 한국어로 변환
+     * 예보 항목 하나에서 필요한 값만 읽음
      */
-    private String convertWeatherToKorean(String weatherMain, String description) {
-        switch (weatherMain.toLowerCase()) {
-            case "clear":
-                return "맑음";
-            case "clouds":
-                return "흐림";
-            case "rain":
-            case "drizzle":
-                return "비";
-            case "thunderstorm":
-                return "비"; // 뇌우도 비로 분류
-            case "snow":
-                return "눈";
-            case "mist":
-            case "fog":
-            case "haze":
-                return "흐림"; // 안개류는 흐림으로 분류
-            default:
-                return "흐림"; // 기본값
+    private static class ForecastItem {
+        long dt;
+        float temperature;
+        int humidity;
+        String weatherMain = "";
+        String weatherDescription = "";
+        float windSpeed;
+        float precipitation;
+    }
+
+    private static ForecastItem readForecastItem(JsonReader reader) throws IOException {
+        ForecastItem item = new ForecastItem();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "dt":
+                    item.dt = reader.nextLong();
+                    break;
+                case "main":
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if ("temp".equals(name)) {
+                            item.temperature = (float) reader.nextDouble();
+                        } else if ("humidity".equals(name)) {
+                            item.humidity = reader.nextInt();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    break;
+                case "weather":
+                    reader.beginArray();
+                    if (reader.hasNext()) {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            String name = reader.nextName();
+                            if ("main".equals(name)) {
+                                item.weatherMain = reader.nextString();
+                            } else if ("description".equals(name)) {
+                                item.weatherDescription = reader.nextString();
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                    }
+                    while (reader.hasNext()) {
+                        reader.skipValue();
+                    }
+                    reader.endArray();
+                    break;
+                case "wind":
+                    item.windSpeed = (float) readNumberField(reader, "speed");
+                    break;
+                case "rain":
+                    item.precipitation = (float) readNumberField(reader, "3h");
+                    break;
+                default:
+                    reader.skipValue();
+            }
         }
+        reader.endObject();
+        return item;
     }
 
     /**
-     * 우산 필요 여부 판단
+     * 객체에서 숫자 필드 하나만 읽음 (없으면 0)
      */
-    private boolean isUmbrellaNeeded(String weatherMain, float precipitation) {
-        return weatherMain.equalsIgnoreCase("rain") ||
-               weatherMain.equalsIgnoreCase("drizzle") ||
-               weatherMain.equalsIgnoreCase("thunderstorm") ||
-               precipitation > 0.1f;
+    private static double readNumberField(JsonReader reader, String field) throws IOException {
+        double value = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (field.equals(reader.nextName())) {
+                value = reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return value;
     }
 
     /**
-     * 예보 시간 포맷 변환 (UTC → KST 변환 포함)
-     * yyyy-MM-dd HH:mm:ss (UTC) -> HH:mm (KST)
+     * OpenWeather main 값을 앱의 한글 날씨 상태(맑음/흐림/비/눈)로 변환
      */
-    private String formatForecastTime(String dtTxt) {
-        try {
-            // UTC 시간을 파싱
-            SimpleDateFormat utcFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
-            utcFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-
-            java.util.Date utcDate = utcFormat.parse(dtTxt);
-
-            // KST 시간으로 변환 (Calendar 사용)
-            Calendar kstCal = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
-            kstCal.setTime(utcDate);
-
-            SimpleDateFormat kstFormat = new SimpleDateFormat("HH:mm", Locale.KOREA);
-            kstFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-            String kstTime = kstFormat.format(kstCal.getTime());
-
-            Log.d(TAG, "시간 변환: " + dtTxt + " (UTC) → " + kstTime + " (KST)");
-            return kstTime;
+    private String convertWeatherToKorean(String weatherMain, String description) {
+        return WeatherCondition.fromText(weatherMain.toLowerCase(Locale.ROOT)).coarse().getLabel();
+    }
 
-        } catch (Exception e) {
-            Log.w(TAG, "시간 포맷 변환 실패: " + dtTxt + ", 에러: " + e.getMessage());
-            // 실패 시 현재 시간 기준으로 대체
-            SimpleDateFormat fallbackFormat = new SimpleDateFormat("HH:mm", Locale.KOREA);
-            fallbackFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
-            return fallbackFormat.format(new java.util.Date());
-        }
+    /**
+     * 우산 필요 여부 판단
+     */
+    private boolean isUmbrellaNeeded(String weatherMain, float precipitation) {
+        return WeatherCondition.fromText(weatherMain.toLowerCase(Locale.ROOT)).isRainy() || precipitation > 0.1f;
     }
 
     /**
      * 기본 날씨 데이터 생성 (API 실패 시)
+     * 시드 고정 합성 날씨라 같은 위치, 같은 시각이면 항상 같은 값
      */
     private Weather createDefaultWeather(double latitude, double longitude) {
-        String[] conditions = {"맑음", "흐림", "비"};
-        float[] temperatures = {8.0f, 15.0f, 22.0f, 28.0f};
-
-        String condition = conditions[(int) (Math.random() * conditions.length)];
-        float temperature = temperatures[(int) (Math.random() * temperatures.length)];
+        Weather weather = SyntheticWeatherGenerator.fallback()
+                .observationAt(latitude, longitude, System.currentTimeMillis());
 
-        float precipitation = 0.0f;
-        boolean needUmbrella = false;
-
-        if (condition.contains("비")) {
-            precipitation = (float) (Math.random() * 15 + 2);
-            needUmbrella = true;
-        }
-
-        String locationStr = latitude + "," + longitude;
-        long timestamp = System.currentTimeMillis();
-
-        Log.d(TAG, "🎲 기본 날씨 데이터 생성: " + temperature + "°C, " + condition);
-
-        return new Weather(0, temperature, condition, precipitation,
-                          (int) (Math.random() * 40 + 40), // 40-80% 습도
-                          (float) (Math.random() * 5 + 1), // 1-6 m/s 풍속
-                          locationStr, timestamp, needUmbrella);
+        AppLog.d(TAG, "🎲 기본 날씨 데이터 생성: {}°C, {}", weather.getTemperature(), weather.getWeatherCondition());
+        return weather;
     }
 
     /**
      * 기본 예보 데이터 생성 (API 실패 시) - 오늘 날짜만
      */
-    private List<HourlyForecast> createDefaultForecast() {
+    private List<HourlyForecast> createDefaultForecast(double latitude, double longitude) {
         List<HourlyForecast> forecasts = new ArrayList<>();
-
-        String[] conditions = {"맑음", "흐림", "비"};
-        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
-        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm", Locale.KOREA);
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        SyntheticWeatherGenerator generator = SyntheticWeatherGenerator.fallback();
+        String today = todayKst();
 
         // 현재 시간부터 3시간 간격으로 오늘 날짜 내에서만 예보 생성
-        Calendar endOfDay = (Calendar) calendar.clone();
-        endOfDay.set(Calendar.HOUR_OF_DAY, 23);
-        endOfDay.set(Calendar.MINUTE, 59);
-        endOfDay.set(Calendar.SECOND, 59);
-
-        int count = 0;
-        while (count < 4 && calendar.before(endOfDay)) {
-            calendar.add(Calendar.HOUR_OF_DAY, 3);
+        long time = System.currentTimeMillis();
+        for (int count = 0; count < 4; count++) {
+            time += 3 * 60 * 60 * 1000L;
+            HourlyForecast forecast = generator.forecastAt(grid.nx, grid.ny, time);
 
             // 오늘 날짜를 벗어나면 중단
-            if (calendar.after(endOfDay)) {
+            if (!today.equals(forecast.getForecastDate())) {
                 break;
             }
 
-            String condition = conditions[(int) (Math.random() * conditions.length)];
-            float temperature = (float) (Math.random() * 20 + 10); // 10-30도
-            float precipitation = condition.contains("비") ? (float) (Math.random() * 10 + 1) : 0.0f;
-            boolean needUmbrella = condition.contains("비");
-
-            HourlyForecast forecast = new HourlyForecast(
-                dateFormat.format(calendar.getTime()),
-                timeFormat.format(calendar.getTime()).replace(":", ""), // HHmm 형식
-                temperature,
-                precipitation,
-                needUmbrella ? 80 : 10, // 강수확률
-                (int) (Math.random() * 40 + 40), // 40-80% 습도
-                (float) (Math.random() * 5 + 1), // 1-6 m/s 풍속
-                needUmbrella ? 1 : 0, // 강수형태
-                condition,
-                needUmbrella
-            );
-
+            forecast.setWeatherCondition(
+                    WeatherCondition.fromText(forecast.getWeatherCondition()).coarse().getLabel());
             forecasts.add(forecast);
-            count++;
         }
 
-        Log.d(TAG, "🎲 기본 예보 데이터 생성 (오늘 날짜만): " + forecasts.size() + "개 항목");
+        AppLog.d(TAG, "🎲 기본 예보 데이터 생성 (오늘 날짜만): {}개 항목", forecasts.size());
         return forecasts;
     }
 
+    private static String todayKst() {
+        SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
+        format.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        return format.format(new java.util.Date());
+    }
+
     /**
      * 리소스 정리
      */
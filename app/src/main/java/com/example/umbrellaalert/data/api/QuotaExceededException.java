@@ -0,0 +1,21 @@
+package com.example.umbrellaalert.data.api;
+
+import java.io.IOException;
+
+/**
+ * API 호출 한도가 부족해 요청을 보내지 않은 경우
+ */
+public class QuotaExceededException extends IOException {
+
+    private final long retryDelayMillis;
+
+    public QuotaExceededException(ApiQuotaManager.Service service, ApiQuotaManager.Priority priority,
+                                  long retryDelayMillis) {
+        super("호출 한도 부족: " + service + " (" + priority + ", " + retryDelayMillis + "ms 후 재시도)");
+        this.retryDelayMillis = retryDelayMillis;
+    }
+
+    public long getRetryDelayMillis() {
+        return retryDelayMillis;
+    }
+}
@@ -1,27 +1,29 @@
 package com.example.umbrellaalert.data.api;
 
 import android.content.Context;
-import android.util.Log;
 
 import com.example.umbrellaalert.data.model.Weather;
 import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.WeatherObservation;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
 import com.example.umbrellaalert.util.ApiKeyUtil;
+import com.example.umbrellaalert.util.AppLog;
+import com.example.umbrellaalert.util.CoordinateConverter;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.Tracer;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.TimeZone;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -36,12 +38,21 @@ import dagger.hilt.android.qualifiers.ApplicationContext;
 public class SimpleKmaApiClient {
     
     private static final String TAG = "SimpleKmaApiClient";
-    private static final String BASE_URL = "https://apihub.kma.go.kr/api/typ01/url/kma_sfctm2.php";
+
+    // 회로 차단기 엔드포인트 이름
+    public static final String ENDPOINT_OBSERVATION = "kma_observation";
+
+    private static final CircuitBreaker OBSERVATION_BREAKER = CircuitBreaker.forEndpoint(ENDPOINT_OBSERVATION);
+    // API 경로 (기본 주소는 ApiEndpoints)
+    private static final String OBSERVATION_PATH = "/api/typ01/url/kma_sfctm2.php";
+    private static final String FORECAST_PATH = "/api/typ01/url/kma_sfctm3.php";
     
     private static SimpleKmaApiClient instance;
     private final Context context;
     private final ExecutorService executorService;
     private final String apiKey;
+    private final KmaPublishTimeResolver publishTimeResolver;
+    private final HttpTransport transport;
     
     // 주요 지점번호 매핑 (위도/경도 기준 가장 가까운 관측소)
     private static final StationInfo[] STATIONS = {
@@ -87,63 +98,73 @@ public class SimpleKmaApiClient {
     @Inject
     public SimpleKmaApiClient(@ApplicationContext Context context) {
         this.context = context.getApplicationContext();
-        this.executorService = Executors.newCachedThreadPool();
+        this.executorService = Metrics.monitor("kma", Executors.newCachedThreadPool());
         this.apiKey = ApiKeyUtil.getKmaApiHubKey(context); // 새로운 API 키 사용
+        this.publishTimeResolver = new KmaPublishTimeResolver(this.context, executorService);
+        this.transport = HttpTransport.getInstance(this.context);
     }
 
     private SimpleKmaApiClient(Context context, boolean singleton) {
         this.context = context.getApplicationContext();
-        this.executorService = Executors.newCachedThreadPool();
+        this.executorService = Metrics.monitor("kma", Executors.newCachedThreadPool());
         this.apiKey = ApiKeyUtil.getKmaApiHubKey(context); // 새로운 API 키 사용
+        this.publishTimeResolver = new KmaPublishTimeResolver(this.context, executorService);
+        this.transport = HttpTransport.getInstance(this.context);
     }
     
     /**
      * 현재 날씨 정보 가져오기 (Future 버전 - 호환성 유지)
      */
     public Future<Weather> getCurrentWeather(double latitude, double longitude) {
-        return executorService.submit(() -> getCurrentWeatherSync(latitude, longitude));
+        return executorService.submit(Tracer.wrap(() -> getCurrentWeatherSync(latitude, longitude)));
     }
 
     /**
-     * 현재 날씨 정보 가져오기 (동기 버전) - 실제 API 호출 주석처리
+     * 현재 날씨 정보 가져오기 (동기 버전)
+     * 최신 발표 시각을 계산해 한 번(늦으면 직전 시각까지 최대 두 번)만 요청
      */
     public Weather getCurrentWeatherSync(double latitude, double longitude) {
-        // 실제 API 호출 모두 주석처리 - 랜덤 데이터만 사용
-        /*
         try {
             // 1. 가장 가까운 관측소 찾기
             int stationId = findNearestStation(latitude, longitude);
-            Log.d(TAG, "🎯 선택된 관측소: " + stationId + " (위치: " + latitude + ", " + longitude + ")");
-
-            // 2. 현재 날짜의 최신 데이터 요청 (최대 3일 전까지 시도)
-            for (int dayOffset = 0; dayOffset <= 2; dayOffset++) {
-                try {
-                    String response = requestWeatherDataWithOffset(stationId, dayOffset);
-                    Weather weather = parseWeatherResponse(response, latitude, longitude);
-
-                    // 유효한 데이터를 받았으면 반환
-                    if (weather != null && isValidTemperature(weather.getTemperature())) {
-                        Log.d(TAG, "✅ 날씨 데이터 수신 완료 (" + dayOffset + "일 전 최신 데이터): " + weather.getTemperature() + "°C");
-                        return weather;
-                    }
-                } catch (Exception e) {
-                    Log.w(TAG, "⚠️ " + dayOffset + "일 전 데이터 요청 실패: " + e.getMessage());
+            AppLog.d(TAG, "🎯 선택된 관측소: {} (위치: {}, {})", stationId, latitude, longitude);
+
+            // 2. 최신 관측자료 요청
+            String response = requestWeatherData(stationId);
+            if (response != null) {
+                Weather weather = KmaTextParser.parseObservation(response, latitude, longitude);
+                if (weather != null && isValidTemperature(weather.getTemperature())) {
+                    AppLog.d(TAG, "✅ 날씨 데이터 수신 완료: {}°C", weather.getTemperature());
+                    return weather;
                 }
             }
 
-            // 모든 시도가 실패한 경우 기본값 반환
-            Log.w(TAG, "⚠️ 모든 시간대에서 데이터 수신 실패, 기본값 사용");
+            AppLog.w(TAG, "⚠️ 관측자료 수신 실패, 기본값 사용");
             return createDefaultWeather(latitude, longitude);
 
         } catch (Exception e) {
-            Log.e(TAG, "날씨 데이터 요청 실패", e);
+            AppLog.e(TAG, "날씨 데이터 요청 실패", e);
             return createDefaultWeather(latitude, longitude);
         }
-        */
+    }
 
-        // 랜덤 날씨 데이터 즉시 반환
-        Log.d(TAG, "🎲 랜덤 날씨 데이터 생성: " + latitude + ", " + longitude);
-        return createDefaultWeather(latitude, longitude);
+    /**
+     * 현재 날씨 관측 결과 가져오기 (동기, 실패 시 예외 - 기본값으로 대체하지 않음)
+     * 관측 시각은 조회에 성공한 발표 시각
+     */
+    public WeatherObservation fetchCurrentObservation(double latitude, double longitude) throws IOException {
+        int stationId = findNearestStation(latitude, longitude);
+        KmaPublishTimeResolver.Observation observation =
+                publishTimeResolver.fetchLatest(stationId, this::requestObservation);
+        if (observation == null) {
+            throw new IOException("관측자료 없음: stn=" + stationId);
+        }
+
+        Weather weather = KmaTextParser.parseObservation(observation.response, latitude, longitude);
+        if (weather == null || !isValidTemperature(weather.getTemperature())) {
+            throw new IOException("관측자료 파싱 실패: stn=" + stationId);
+        }
+        return new WeatherObservation(weather, observation.observationTimeMillis, "KMA");
     }
 
     // 온도 유효성 검사
@@ -155,7 +176,7 @@ public class SimpleKmaApiClient {
      * 6시간 예보 데이터 가져오기 (Future 버전 - 호환성 유지)
      */
     public Future<List<HourlyForecast>> get6HourForecast(double latitude, double longitude) {
-        return executorService.submit(() -> get6HourForecastSync(latitude, longitude));
+        return executorService.submit(Tracer.wrap(() -> get6HourForecastSync(latitude, longitude)));
     }
 
     /**
@@ -172,22 +193,35 @@ public class SimpleKmaApiClient {
             String response = requestForecastData(stationId);
 
             // 3. 예보 데이터 파싱
-            List<HourlyForecast> forecasts = parseForecastResponse(response);
+            List<HourlyForecast> forecasts = KmaTextParser.parseForecast(response);
 
-            Log.d(TAG, "✅ 6시간 예보 데이터 수신 완료: " + forecasts.size() + "개");
+            AppLog.d(TAG, "✅ 6시간 예보 데이터 수신 완료: {}개", forecasts.size());
             return forecasts;
 
         } catch (Exception e) {
-            Log.e(TAG, "예보 데이터 요청 실패", e);
+            AppLog.e(TAG, "예보 데이터 요청 실패", e);
             return createDefaultForecast(latitude, longitude);
         }
         */
 
         // 랜덤 예보 데이터 즉시 반환
-        Log.d(TAG, "🎲 랜덤 예보 데이터 생성: " + latitude + ", " + longitude);
+        AppLog.d(TAG, "🎲 랜덤 예보 데이터 생성: {}, {}", latitude, longitude);
         return createDefaultForecast(latitude, longitude);
     }
     
+    /**
+     * 관측소 좌표 {위도, 경도} (목록에 없으면 null)
+     * 응답 재생 서버가 지점번호로 합성 관측값을 만들 때 사용
+     */
+    public static double[] stationLocation(int stationId) {
+        for (StationInfo station : STATIONS) {
+            if (station.stationId == stationId) {
+                return new double[] {station.lat, station.lon};
+            }
+        }
+        return null;
+    }
+
     /**
      * 가장 가까운 관측소 찾기
      */
@@ -216,71 +250,34 @@ public class SimpleKmaApiClient {
     }
     
     /**
-     * 현재 날씨 데이터 요청 (여러 시간대 시도)
+     * 현재 날씨 데이터 요청 (발표 시각 계산기 사용)
+     * @return 관측자료가 있는 응답, 없으면 null
      */
-    private String requestWeatherData(int stationId) throws IOException {
-        // 여러 시간대를 시도해서 데이터가 있는 시간 찾기
-        for (int hourOffset = 0; hourOffset <= 6; hourOffset++) {
-            try {
-                Calendar calendar = Calendar.getInstance();
-                calendar.add(Calendar.HOUR_OF_DAY, -hourOffset); // 과거 시간으로 이동
-                calendar.set(Calendar.MINUTE, 0);
-                calendar.set(Calendar.SECOND, 0);
-                calendar.set(Calendar.MILLISECOND, 0);
-
-                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMddHH00", Locale.KOREA);
-                String requestTime = dateFormat.format(calendar.getTime());
-
-                String urlStr = BASE_URL + "?tm=" + requestTime + "&stn=" + stationId + "&authKey=" + apiKey;
-
-                Log.d(TAG, "🌐 API 요청 (" + hourOffset + "시간 전): " + urlStr);
-                Log.d(TAG, "🕐 요청 시간: " + requestTime);
-
-                String response = executeHttpRequest(urlStr);
-
-                // 응답에 실제 데이터가 있는지 확인
-                if (hasActualData(response)) {
-                    Log.d(TAG, "✅ " + hourOffset + "시간 전 데이터 발견!");
-                    return response;
-                } else {
-                    Log.d(TAG, "⚠️ " + hourOffset + "시간 전 데이터 없음, 다음 시간 시도");
-                }
-
-            } catch (Exception e) {
-                Log.w(TAG, "⚠️ " + hourOffset + "시간 전 요청 실패: " + e.getMessage());
-            }
-        }
-
-        // 모든 시간대에서 실패한 경우 가장 최근 응답 반환
-        Log.w(TAG, "⚠️ 모든 시간대에서 데이터 없음, 마지막 응답 반환");
-        Calendar calendar = Calendar.getInstance();
-        calendar.set(Calendar.MINUTE, 0);
-        calendar.set(Calendar.SECOND, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
-
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMddHH00", Locale.KOREA);
-        String requestTime = dateFormat.format(calendar.getTime());
-        String urlStr = BASE_URL + "?tm=" + requestTime + "&stn=" + stationId + "&authKey=" + apiKey;
-
-        return executeHttpRequest(urlStr);
+    private String requestWeatherData(int stationId) {
+        KmaPublishTimeResolver.Observation observation =
+                publishTimeResolver.fetchLatest(stationId, this::requestObservation);
+        return observation != null ? observation.response : null;
     }
 
     /**
-     * 시간 오프셋을 적용한 날씨 데이터 요청
+     * 지정한 발표 시각의 관측자료 요청
+     * @return 관측자료가 있으면 응답, 아직 발표 전이면 null
      */
-    private String requestWeatherDataWithOffset(int stationId, int hourOffset) throws IOException {
-        Calendar calendar = Calendar.getInstance();
-        calendar.add(Calendar.DAY_OF_YEAR, -hourOffset); // 일 단위로 과거로 이동 (현재 시간 데이터를 위해)
-
-        // 현재 시간의 최신 데이터를 받기 위해 날짜만 지정
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
-        String requestDate = dateFormat.format(calendar.getTime());
-
-        String urlStr = BASE_URL + "?tm=" + requestDate + "&stn=" + stationId + "&authKey=" + apiKey;
-
-        Log.d(TAG, "🌐 API 요청 (" + hourOffset + "일 전 최신 데이터): " + urlStr);
-
-        return executeHttpRequest(urlStr);
+    private String requestObservation(int stationId, long observationTimeMillis) throws IOException {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMddHH00", Locale.KOREA);
+        dateFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        String requestTime = dateFormat.format(new Date(observationTimeMillis));
+
+        String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.KMA) + OBSERVATION_PATH + "?tm=" + requestTime + "&stn=" + stationId + "&authKey=" + apiKey;
+        AppLog.d(TAG, "🌐 API 요청: tm={}, stn={}", requestTime, stationId);
+
+        // 발표 시각 계산기가 직전 시각으로 병렬 요청하므로 여기서는 재시도하지 않음
+        // 한 번 발표된 시각의 자료는 바뀌지 않으므로 하루 동안 캐시 (발표 전 빈 응답은 캐시하지 않음)
+        String response = executeHttpRequest(new HttpTransport.Request(urlStr)
+                .breaker(OBSERVATION_BREAKER, 1)
+                .cache(TimeUnit.DAYS.toMillis(1), TimeUnit.DAYS.toMillis(1))
+                .cacheOnlyIf(this::hasActualData));
+        return hasActualData(response) ? response : null;
     }
 
     /**
@@ -314,327 +311,39 @@ public class SimpleKmaApiClient {
         now.add(Calendar.HOUR_OF_DAY, 6);
         String endTime = dateFormat.format(now.getTime());
         
-        String urlStr = "https://apihub.kma.go.kr/api/typ01/url/kma_sfctm3.php?tm1=" + startTime +
+        String urlStr = ApiEndpoints.baseUrl(ApiEndpoints.Api.KMA) + FORECAST_PATH + "?tm1=" + startTime +
                        "&tm2=" + endTime + "&stn=" + stationId + "&authKey=" + apiKey;
         
-        Log.d(TAG, "🌐 예보 API 요청: " + urlStr);
+        AppLog.d(TAG, "🌐 예보 API 요청: {}", urlStr);
         
-        return executeHttpRequest(urlStr);
+        return executeHttpRequest(new HttpTransport.Request(urlStr));
     }
     
     /**
      * HTTP 요청 실행 (빠른 응답을 위한 짧은 타임아웃)
      */
-    private String executeHttpRequest(String urlStr) throws IOException {
-        URL url = new URL(urlStr);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(3000);  // 3초로 단축
-        conn.setReadTimeout(5000);     // 5초로 단축
-        
-        BufferedReader rd;
-        int responseCode = conn.getResponseCode();
-        
-        if (responseCode >= 200 && responseCode <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream(), "UTF-8"));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream(), "UTF-8"));
-            Log.e(TAG, "API 오류 응답 코드: " + responseCode);
-        }
-        
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = rd.readLine()) != null) {
-            sb.append(line);
-        }
-        rd.close();
-        conn.disconnect();
-        
-        String response = sb.toString();
-        Log.d(TAG, "📡 API 응답: " + (response.length() > 200 ? response.substring(0, 200) + "..." : response));
-        
+    private String executeHttpRequest(HttpTransport.Request request) throws IOException {
+        String response = transport.get(request
+                .timeouts(3000, 5000)
+                .quota(ApiQuotaManager.Service.KMA, ApiQuotaManager.Priority.FOREGROUND));
+        if (AppLog.DEBUG) AppLog.d(TAG, "📡 API 응답: {}", AppLog.abbreviate(response));
         return response;
     }
     
     /**
-     * 날씨 응답 파싱 (기상청 API허브 고정폭 텍스트 형식)
-     */
-    private Weather parseWeatherResponse(String response, double latitude, double longitude) {
-        try {
-            Log.d(TAG, "📡 파싱할 응답 데이터: " + (response.length() > 500 ? response.substring(0, 500) + "..." : response));
-
-            // 기상청 API허브는 고정폭 텍스트 형식
-            // 한 줄에 모든 데이터가 들어있으므로 정규식으로 데이터 부분 추출
-            String dataLine = null;
-
-            Log.d(TAG, "📋 응답 데이터 분석 (길이: " + response.length() + ")");
-
-            // 정규식으로 10자리 숫자로 시작하는 데이터 패턴 찾기
-            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(\\d{10}\\s+[\\d\\s\\-\\.]+)");
-            java.util.regex.Matcher matcher = pattern.matcher(response);
-
-            if (matcher.find()) {
-                String fullMatch = matcher.group(1);
-                // #7777END 전까지만 추출
-                int endIndex = fullMatch.indexOf("#7777END");
-                if (endIndex != -1) {
-                    dataLine = fullMatch.substring(0, endIndex).trim();
-                } else {
-                    dataLine = fullMatch.trim();
-                }
-                Log.d(TAG, "✅ 정규식으로 데이터 라인 발견: " + dataLine);
-            } else {
-                Log.w(TAG, "정규식으로 데이터 라인을 찾을 수 없음");
-
-                // 대안: 응답을 줄 단위로 분리해서 찾기
-                String[] lines = response.split("\n");
-                Log.d(TAG, "대안 방법: 총 " + lines.length + "개 라인에서 검색");
-
-                for (int i = 0; i < lines.length; i++) {
-                    String line = lines[i].trim();
-                    Log.d(TAG, "라인 " + i + ": [" + line.substring(0, Math.min(100, line.length())) + "...]");
-
-                    // #으로 시작하는 헤더 라인은 건너뛰기
-                    if (line.startsWith("#") || line.isEmpty()) {
-                        continue;
-                    }
-
-                    // 10자리 숫자로 시작하는 데이터 라인 찾기
-                    if (line.matches(".*\\d{10}\\s+.*")) {
-                        // 10자리 숫자 부분부터 추출
-                        java.util.regex.Pattern linePattern = java.util.regex.Pattern.compile("(\\d{10}\\s+[\\d\\s\\-\\.]+)");
-                        java.util.regex.Matcher lineMatcher = linePattern.matcher(line);
-                        if (lineMatcher.find()) {
-                            dataLine = lineMatcher.group(1).trim();
-                            Log.d(TAG, "✅ 대안 방법으로 데이터 라인 발견: " + dataLine);
-                            break;
-                        }
-                    }
-                }
-            }
-
-            if (dataLine == null) {
-                Log.w(TAG, "⚠️ 데이터 라인을 찾을 수 없음 - 해당 시간/지점에 데이터가 없을 수 있음");
-
-                // 전체 응답 내용을 로그로 출력 (디버깅용)
-                Log.w(TAG, "=== 전체 API 응답 내용 ===");
-                String[] debugLines = response.split("\n");
-                Log.w(TAG, "응답 라인 수: " + debugLines.length);
-                for (int i = 0; i < Math.min(debugLines.length, 10); i++) {
-                    Log.w(TAG, "라인 " + i + ": " + debugLines[i]);
-                }
-                Log.w(TAG, "========================");
-
-                if (response.contains("#START7777") && response.contains("#7777END")) {
-                    Log.w(TAG, "정상적인 API 응답이지만 실제 관측 데이터가 없음");
-                } else {
-                    Log.w(TAG, "비정상적인 API 응답: " + response.substring(0, Math.min(200, response.length())));
-                }
-                return createDefaultWeather(latitude, longitude);
-            }
-
-            Log.d(TAG, "📊 데이터 라인: " + dataLine);
-
-            // 공백으로 분리하여 파싱
-            String[] parts = dataLine.trim().split("\\s+");
-
-            if (parts.length < 15) {
-                Log.w(TAG, "⚠️ 데이터 필드 부족: " + parts.length + "개");
-                return createDefaultWeather(latitude, longitude);
-            }
-
-            // 기본값 설정
-            float temperature = 20.0f;
-            int humidity = 50;
-            float windSpeed = 2.0f;
-            float precipitation = 0.0f;
-            String weatherCondition = "Clear";
-            boolean needUmbrella = false;
-
-            try {
-                // 필드 위치에 따른 파싱 (API 문서 기준)
-                // parts[0] = 시간 (YYMMDDHHMI)
-                // parts[1] = 지점번호 (STN)
-                // parts[2] = 풍향 (WD)
-                // parts[3] = 풍속 (WS)
-                // parts[11] = 기온 (TA)
-                // parts[13] = 습도 (HM)
-                // parts[15] = 강수량 (RN)
-
-                // 풍속 파싱 (parts[3])
-                if (parts.length > 3 && !parts[3].equals("-9") && !parts[3].equals("-9.0")) {
-                    try {
-                        windSpeed = Float.parseFloat(parts[3]);
-                    } catch (NumberFormatException e) {
-                        Log.w(TAG, "풍속 파싱 실패: " + parts[3]);
-                    }
-                }
-
-                // 기온 파싱 (parts[11])
-                if (parts.length > 11 && !parts[11].equals("-9") && !parts[11].equals("-9.0")) {
-                    try {
-                        temperature = Float.parseFloat(parts[11]);
-                        Log.d(TAG, "🌡️ 기온 파싱 성공: " + temperature + "°C");
-                    } catch (NumberFormatException e) {
-                        Log.w(TAG, "기온 파싱 실패: " + parts[11]);
-                    }
-                }
-
-                // 습도 파싱 (parts[13])
-                if (parts.length > 13 && !parts[13].equals("-9") && !parts[13].equals("-9.0")) {
-                    try {
-                        humidity = (int) Float.parseFloat(parts[13]);
-                        Log.d(TAG, "💧 습도 파싱 성공: " + humidity + "%");
-                    } catch (NumberFormatException e) {
-                        Log.w(TAG, "습도 파싱 실패: " + parts[13]);
-                    }
-                }
-
-                // 강수량 파싱 (parts[15])
-                if (parts.length > 15 && !parts[15].equals("-9") && !parts[15].equals("-9.0")) {
-                    try {
-                        precipitation = Float.parseFloat(parts[15]);
-                        if (precipitation > 0) {
-                            needUmbrella = true;
-                            weatherCondition = "Rain";
-                            Log.d(TAG, "🌧️ 강수량 감지: " + precipitation + "mm");
-                        }
-                    } catch (NumberFormatException e) {
-                        Log.w(TAG, "강수량 파싱 실패: " + parts[15]);
-                    }
-                }
-
-            } catch (Exception e) {
-                Log.e(TAG, "데이터 필드 파싱 중 오류", e);
-            }
-
-            String locationStr = latitude + "," + longitude;
-            long timestamp = System.currentTimeMillis();
-
-            Weather weather = new Weather(0, temperature, weatherCondition, precipitation,
-                                        humidity, windSpeed, locationStr, timestamp, needUmbrella);
-
-            Log.d(TAG, "✅ 날씨 파싱 완료: " + temperature + "°C, 습도: " + humidity + "%, 풍속: " + windSpeed + "m/s");
-
-            return weather;
-
-        } catch (Exception e) {
-            Log.e(TAG, "날씨 응답 파싱 실패", e);
-            return createDefaultWeather(latitude, longitude);
-        }
-    }
-    
-    /**
-     * 예보 응답 파싱 (현재 날씨 기반으로 6시간 예보 생성)
-     */
-    private List<HourlyForecast> parseForecastResponse(String response) {
-        List<HourlyForecast> forecasts = new ArrayList<>();
-
-        // 현재 날씨 데이터에서 기준 온도 추출
-        float baseTemperature = 20.0f;
-        int baseHumidity = 60;
-        float baseWindSpeed = 2.0f;
-
-        try {
-            // 현재 날씨 응답에서 기준값 추출
-            String[] lines = response.split("\n");
-            for (String line : lines) {
-                line = line.trim();
-                if (line.matches("^\\d{12}\\s+.*")) {
-                    String[] parts = line.split("\\s+");
-                    if (parts.length > 13) {
-                        try {
-                            if (!parts[11].equals("-9") && !parts[11].equals("-9.0")) {
-                                baseTemperature = Float.parseFloat(parts[11]);
-                            }
-                            if (!parts[13].equals("-9") && !parts[13].equals("-9.0")) {
-                                baseHumidity = (int) Float.parseFloat(parts[13]);
-                            }
-                            if (!parts[3].equals("-9") && !parts[3].equals("-9.0")) {
-                                baseWindSpeed = Float.parseFloat(parts[3]);
-                            }
-                        } catch (NumberFormatException e) {
-                            Log.w(TAG, "예보 기준값 파싱 실패");
-                        }
-                    }
-                    break;
-                }
-            }
-        } catch (Exception e) {
-            Log.w(TAG, "예보 기준값 추출 실패, 기본값 사용");
-        }
-
-        Log.d(TAG, "📊 예보 기준값: 온도=" + baseTemperature + "°C, 습도=" + baseHumidity + "%, 풍속=" + baseWindSpeed + "m/s");
-
-        // 6시간 예보 생성
-        Calendar calendar = Calendar.getInstance();
-        SimpleDateFormat timeFormat = new SimpleDateFormat("HHmm", Locale.KOREA);
-
-        for (int i = 1; i <= 6; i++) {
-            calendar.add(Calendar.HOUR_OF_DAY, 1);
-
-            HourlyForecast forecast = new HourlyForecast();
-            forecast.setForecastTime(timeFormat.format(calendar.getTime()));
-
-            // 시간별 온도 변화 (기준 온도에서 ±3도 변화)
-            float temperature = baseTemperature + (float)(Math.random() * 6 - 3);
-            forecast.setTemperature(temperature);
-
-            // 기본 날씨 상태
-            forecast.setWeatherCondition("Clear");
-            forecast.setPrecipitationProbability(10);
-            forecast.setPrecipitation(0.0f);
-            forecast.setHumidity(baseHumidity + (int)(Math.random() * 20 - 10)); // ±10% 변화
-            forecast.setWindSpeed(baseWindSpeed + (float)(Math.random() * 2 - 1)); // ±1m/s 변화
-            forecast.setPrecipitationType(0);
-            forecast.setNeedUmbrella(false);
-
-            if (i == 1) {
-                forecast.setCurrentHour(true);
-            }
-
-            forecasts.add(forecast);
-
-            Log.d(TAG, "🕐 " + i + "시간 후 예보: " + temperature + "°C (시간: " + forecast.getForecastTime() + ")");
-        }
-
-        return forecasts;
-    }
-    
-    /**
-     * 기본 날씨 데이터 생성
+     * 기본 날씨 데이터 생성 (시드 고정 합성 날씨, 같은 위치와 시각이면 같은 값)
      */
     private Weather createDefaultWeather(double latitude, double longitude) {
-        String locationStr = latitude + "," + longitude;
-        long timestamp = System.currentTimeMillis();
-        
-        return new Weather(0, 20.0f, "Clear", 0.0f, 50, 2.0f, locationStr, timestamp, false);
+        return SyntheticWeatherGenerator.fallback()
+                .observationAt(latitude, longitude, System.currentTimeMillis());
     }
     
     /**
-     * 기본 예보 데이터 생성
+     * 기본 예보 데이터 생성 (다음 정시부터 1시간 간격 6개)
      */
     private List<HourlyForecast> createDefaultForecast(double latitude, double longitude) {
-        List<HourlyForecast> forecasts = new ArrayList<>();
-        
-        Calendar calendar = Calendar.getInstance();
-        SimpleDateFormat timeFormat = new SimpleDateFormat("HHmm", Locale.KOREA);
-        
-        for (int i = 1; i <= 6; i++) {
-            calendar.add(Calendar.HOUR_OF_DAY, 1);
-            
-            HourlyForecast forecast = new HourlyForecast();
-            forecast.setForecastTime(timeFormat.format(calendar.getTime()));
-            forecast.setTemperature(20.0f);
-            forecast.setWeatherCondition("Clear");
-            forecast.setPrecipitationProbability(10);
-            forecast.setHumidity(60);
-            forecast.setWindSpeed(2.0f);
-            forecast.setNeedUmbrella(false);
-            
-            forecasts.add(forecast);
-        }
-        
-        return forecasts;
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        return SyntheticWeatherGenerator.fallback().forecastSeries(
+                grid.nx, grid.ny, System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1), 6, 1);
     }
 }
@@ -11,12 +11,14 @@ public class AppDatabase {
     private static AppDatabase instance;
     private final DatabaseHelper databaseHelper;
     private final BusDao busDao;
+    private final BusStopDao busStopDao;
     private final LocationDao locationDao;
     private final WeatherDao weatherDao;
     
     private AppDatabase(Context context) {
         databaseHelper = DatabaseHelper.getInstance(context);
         busDao = new BusDao(databaseHelper);
+        busStopDao = new BusStopDao(databaseHelper);
         locationDao = new LocationDao(databaseHelper);
         weatherDao = new WeatherDao(databaseHelper);
     }
@@ -38,6 +40,13 @@ public class AppDatabase {
         return busDao;
     }
     
+    /**
+     * 정류장 카탈로그 DAO 반환
+     */
+    public BusStopDao busStopDao() {
+        return busStopDao;
+    }
+    
     /**
      * 위치 DAO 반환
      */
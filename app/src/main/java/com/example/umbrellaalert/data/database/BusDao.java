@@ -6,8 +6,10 @@ import android.database.sqlite.SQLiteDatabase;
 import android.util.Log;
 
 import com.example.umbrellaalert.data.model.RegisteredBus;
+import com.example.umbrellaalert.util.Tracer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,9 +19,22 @@ public class BusDao {
     
     private static final String TAG = "BusDao";
     private final DatabaseHelper dbHelper;
+    private final ObservableQuery<List<RegisteredBus>> registeredBusesQuery;
 
     public BusDao(DatabaseHelper dbHelper) {
         this.dbHelper = dbHelper;
+        this.registeredBusesQuery = new ObservableQuery<>("registered_bus", dbHelper.getInvalidationTracker(),
+                () -> Collections.unmodifiableList(getAllRegisteredBuses()),
+                DatabaseHelper.TABLE_REGISTERED_BUS);
+    }
+
+    /**
+     * 등록된 버스 목록 (등록, 수정, 삭제 때만 다시 조회)
+     * 여러 곳이 같은 목록을 보도록 AppDatabase의 BusDao를 사용할 것
+     * 목록 안의 버스 객체도 공유되므로 직접 수정하지 말 것
+     */
+    public ObservableQuery<List<RegisteredBus>> observeRegisteredBuses() {
+        return registeredBusesQuery;
     }
 
     /**
@@ -44,6 +59,9 @@ public class BusDao {
         
         long id = db.insert(DatabaseHelper.TABLE_REGISTERED_BUS, null, values);
         Log.d(TAG, "버스 등록 완료: ID=" + id + ", 노선=" + bus.getRouteNo());
+        if (id > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_REGISTERED_BUS);
+        }
         
         return id;
     }
@@ -52,28 +70,30 @@ public class BusDao {
      * 모든 등록된 버스 조회
      */
     public List<RegisteredBus> getAllRegisteredBuses() {
-        List<RegisteredBus> buses = new ArrayList<>();
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        try (Tracer.Span span = Tracer.begin("db:bus")) {
+            List<RegisteredBus> buses = new ArrayList<>();
+            SQLiteDatabase db = dbHelper.getReadableDatabase();
         
-        String query = "SELECT * FROM " + DatabaseHelper.TABLE_REGISTERED_BUS + 
-                      " WHERE " + DatabaseHelper.COLUMN_IS_ACTIVE + " = 1" +
-                      " ORDER BY " + DatabaseHelper.COLUMN_CREATED_AT + " DESC";
+            String query = "SELECT * FROM " + DatabaseHelper.TABLE_REGISTERED_BUS + 
+                          " WHERE " + DatabaseHelper.COLUMN_IS_ACTIVE + " = 1" +
+                          " ORDER BY " + DatabaseHelper.COLUMN_CREATED_AT + " DESC";
         
-        Cursor cursor = db.rawQuery(query, null);
+            Cursor cursor = db.rawQuery(query, null);
         
-        if (cursor.moveToFirst()) {
-            do {
-                RegisteredBus bus = createRegisteredBusFromCursor(cursor);
-                if (bus != null) {
-                    buses.add(bus);
-                }
-            } while (cursor.moveToNext());
-        }
+            if (cursor.moveToFirst()) {
+                do {
+                    RegisteredBus bus = createRegisteredBusFromCursor(cursor);
+                    if (bus != null) {
+                        buses.add(bus);
+                    }
+                } while (cursor.moveToNext());
+            }
         
-        cursor.close();
-        Log.d(TAG, "등록된 버스 조회 완료: " + buses.size() + "개");
+            cursor.close();
+            Log.d(TAG, "등록된 버스 조회 완료: " + buses.size() + "개");
         
-        return buses;
+            return buses;
+        }
     }
 
     /**
@@ -122,6 +142,9 @@ public class BusDao {
         
         int rowsAffected = db.update(DatabaseHelper.TABLE_REGISTERED_BUS, values, whereClause, whereArgs);
         Log.d(TAG, "버스 정보 업데이트 완료: ID=" + bus.getId() + ", 영향받은 행=" + rowsAffected);
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_REGISTERED_BUS);
+        }
         
         return rowsAffected;
     }
@@ -139,6 +162,9 @@ public class BusDao {
         
         int rowsAffected = db.update(DatabaseHelper.TABLE_REGISTERED_BUS, values, whereClause, whereArgs);
         Log.d(TAG, "버스 삭제(비활성화) 완료: ID=" + id + ", 영향받은 행=" + rowsAffected);
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_REGISTERED_BUS);
+        }
         
         return rowsAffected;
     }
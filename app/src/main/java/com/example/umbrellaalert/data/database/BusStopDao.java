@@ -0,0 +1,177 @@
+package com.example.umbrellaalert.data.database;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.util.SpatialGrid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정류장 카탈로그 데이터 액세스 객체
+ * API 응답으로 받은 정류장을 격자 셀 인덱스와 함께 저장하고 셀 범위로 조회
+ */
+public class BusStopDao {
+
+    private static final String TAG = "BusStopDao";
+    private final DatabaseHelper dbHelper;
+
+    public BusStopDao(DatabaseHelper dbHelper) {
+        this.dbHelper = dbHelper;
+    }
+
+    /**
+     * 정류장 목록 저장 (이미 있는 정류장은 최신 정보로 교체)
+     */
+    public void upsertBusStops(List<BusStop> busStops, long updatedAt) {
+        if (busStops == null || busStops.isEmpty()) return;
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            ContentValues values = new ContentValues();
+            for (BusStop stop : busStops) {
+                if (stop.getNodeId() == null) continue;
+
+                values.clear();
+                values.put(DatabaseHelper.COLUMN_STOP_NODE_ID, stop.getNodeId());
+                values.put(DatabaseHelper.COLUMN_STOP_NODE_NAME, stop.getNodeName());
+                values.put(DatabaseHelper.COLUMN_STOP_NODE_NO, stop.getNodeNo());
+                values.put(DatabaseHelper.COLUMN_STOP_LATITUDE, stop.getGpsLati());
+                values.put(DatabaseHelper.COLUMN_STOP_LONGITUDE, stop.getGpsLong());
+                values.put(DatabaseHelper.COLUMN_STOP_CITY_CODE, stop.getCityCode());
+                values.put(DatabaseHelper.COLUMN_STOP_ROUTE_TYPE, stop.getRouteType());
+                values.put(DatabaseHelper.COLUMN_CELL_X, SpatialGrid.cellX(stop.getGpsLong()));
+                values.put(DatabaseHelper.COLUMN_CELL_Y, SpatialGrid.cellY(stop.getGpsLati()));
+                values.put(DatabaseHelper.COLUMN_UPDATED_AT, updatedAt);
+
+                db.insertWithOnConflict(DatabaseHelper.TABLE_BUS_STOP, null, values,
+                        SQLiteDatabase.CONFLICT_REPLACE);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_BUS_STOP);
+
+        Log.d(TAG, "정류장 카탈로그 저장 완료: " + busStops.size() + "개");
+    }
+
+    /**
+     * 격자 범위 안의 정류장 조회
+     * @param cellRange {minCellX, maxCellX, minCellY, maxCellY}
+     */
+    public List<BusStop> getBusStopsInCells(int[] cellRange) {
+        List<BusStop> busStops = new ArrayList<>();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        String selection = DatabaseHelper.COLUMN_CELL_X + " BETWEEN ? AND ? AND " +
+                DatabaseHelper.COLUMN_CELL_Y + " BETWEEN ? AND ?";
+        String[] selectionArgs = {
+                String.valueOf(cellRange[0]), String.valueOf(cellRange[1]),
+                String.valueOf(cellRange[2]), String.valueOf(cellRange[3])
+        };
+
+        Cursor cursor = db.query(DatabaseHelper.TABLE_BUS_STOP, null, selection, selectionArgs,
+                null, null, null);
+
+        if (cursor.moveToFirst()) {
+            int nodeIdIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_NODE_ID);
+            int nodeNameIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_NODE_NAME);
+            int nodeNoIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_NODE_NO);
+            int latIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_LATITUDE);
+            int lngIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_LONGITUDE);
+            int cityCodeIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_CITY_CODE);
+            int routeTypeIndex = cursor.getColumnIndexOrThrow(DatabaseHelper.COLUMN_STOP_ROUTE_TYPE);
+
+            do {
+                BusStop stop = new BusStop(
+                        cursor.getString(nodeIdIndex),
+                        cursor.getString(nodeNameIndex),
+                        cursor.getDouble(latIndex),
+                        cursor.getDouble(lngIndex),
+                        cursor.getInt(cityCodeIndex));
+                stop.setNodeNo(cursor.getString(nodeNoIndex));
+                stop.setRouteType(cursor.getString(routeTypeIndex));
+                busStops.add(stop);
+            } while (cursor.moveToNext());
+        }
+
+        cursor.close();
+        return busStops;
+    }
+
+    /**
+     * API 조회 지점 기록
+     */
+    public long insertFetchRecord(double latitude, double longitude, long fetchedAt) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        ContentValues values = new ContentValues();
+
+        values.put(DatabaseHelper.COLUMN_FETCH_LATITUDE, latitude);
+        values.put(DatabaseHelper.COLUMN_FETCH_LONGITUDE, longitude);
+        values.put(DatabaseHelper.COLUMN_CELL_X, SpatialGrid.cellX(longitude));
+        values.put(DatabaseHelper.COLUMN_CELL_Y, SpatialGrid.cellY(latitude));
+        values.put(DatabaseHelper.COLUMN_FETCHED_AT, fetchedAt);
+
+        long id = db.insert(DatabaseHelper.TABLE_BUS_STOP_FETCH, null, values);
+        if (id > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_BUS_STOP_FETCH);
+        }
+        return id;
+    }
+
+    /**
+     * 주어진 지점에서 maxDistanceMeters 이내에 notBefore 이후 API 조회 이력이 있는지 확인
+     */
+    public boolean hasFetchRecordNear(double latitude, double longitude,
+                                      double maxDistanceMeters, long notBefore) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        int[] range = SpatialGrid.cellRange(latitude, longitude, maxDistanceMeters);
+
+        String selection = DatabaseHelper.COLUMN_CELL_X + " BETWEEN ? AND ? AND " +
+                DatabaseHelper.COLUMN_CELL_Y + " BETWEEN ? AND ? AND " +
+                DatabaseHelper.COLUMN_FETCHED_AT + " >= ?";
+        String[] selectionArgs = {
+                String.valueOf(range[0]), String.valueOf(range[1]),
+                String.valueOf(range[2]), String.valueOf(range[3]),
+                String.valueOf(notBefore)
+        };
+
+        Cursor cursor = db.query(DatabaseHelper.TABLE_BUS_STOP_FETCH,
+                new String[]{DatabaseHelper.COLUMN_FETCH_LATITUDE, DatabaseHelper.COLUMN_FETCH_LONGITUDE},
+                selection, selectionArgs, null, null, null);
+
+        boolean found = false;
+        while (cursor.moveToNext()) {
+            double distance = SpatialGrid.distanceMeters(latitude, longitude,
+                    cursor.getDouble(0), cursor.getDouble(1));
+            if (distance <= maxDistanceMeters) {
+                found = true;
+                break;
+            }
+        }
+
+        cursor.close();
+        return found;
+    }
+
+    /**
+     * 오래된 조회 이력 삭제
+     */
+    public int deleteFetchRecordsBefore(long timeThreshold) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        int rowsAffected = db.delete(DatabaseHelper.TABLE_BUS_STOP_FETCH,
+                DatabaseHelper.COLUMN_FETCHED_AT + " < ?",
+                new String[] { String.valueOf(timeThreshold) });
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_BUS_STOP_FETCH);
+        }
+        return rowsAffected;
+    }
+}
@@ -8,7 +8,7 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
     // 데이터베이스 정보
     private static final String DATABASE_NAME = "umbrella_alert.db";
-    private static final int DATABASE_VERSION = 3;
+    private static final int DATABASE_VERSION = 4;
 
     // 날씨 테이블
     public static final String TABLE_WEATHER = "weather";
@@ -47,6 +47,26 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public static final String COLUMN_IS_ACTIVE = "is_active";
     public static final String COLUMN_ALIAS = "alias";
 
+    // 정류장 카탈로그 테이블 (API 응답으로 점진적으로 채워지는 정류장 목록)
+    public static final String TABLE_BUS_STOP = "bus_stop";
+    public static final String COLUMN_STOP_NODE_ID = "node_id";
+    public static final String COLUMN_STOP_NODE_NAME = "node_name";
+    public static final String COLUMN_STOP_NODE_NO = "node_no";
+    public static final String COLUMN_STOP_LATITUDE = "latitude";
+    public static final String COLUMN_STOP_LONGITUDE = "longitude";
+    public static final String COLUMN_STOP_CITY_CODE = "city_code";
+    public static final String COLUMN_STOP_ROUTE_TYPE = "route_type";
+    public static final String COLUMN_CELL_X = "cell_x";
+    public static final String COLUMN_CELL_Y = "cell_y";
+    public static final String COLUMN_UPDATED_AT = "updated_at";
+
+    // 정류장 조회 이력 테이블 (어느 지점 주변을 API로 받아왔는지 기록)
+    public static final String TABLE_BUS_STOP_FETCH = "bus_stop_fetch";
+    public static final String COLUMN_FETCH_ID = "id";
+    public static final String COLUMN_FETCH_LATITUDE = "latitude";
+    public static final String COLUMN_FETCH_LONGITUDE = "longitude";
+    public static final String COLUMN_FETCHED_AT = "fetched_at";
+
     // 싱글톤 인스턴스
     private static DatabaseHelper instance;
 
@@ -58,10 +78,17 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return instance;
     }
 
+    // 테이블 변경 추적 (DAO가 쓰기 후 알림)
+    private final InvalidationTracker invalidationTracker = new InvalidationTracker();
+
     private DatabaseHelper(Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
     }
 
+    public InvalidationTracker getInvalidationTracker() {
+        return invalidationTracker;
+    }
+
     @Override
     public void onCreate(SQLiteDatabase db) {
         // 날씨 테이블 생성
@@ -106,6 +133,9 @@ public class DatabaseHelper extends SQLiteOpenHelper {
                 + COLUMN_ALIAS + " TEXT"
                 + ")";
         db.execSQL(CREATE_REGISTERED_BUS_TABLE);
+
+        // 정류장 카탈로그 테이블 생성
+        createBusStopCatalogTables(db);
     }
 
     @Override
@@ -133,5 +163,43 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             db.execSQL("ALTER TABLE " + TABLE_REGISTERED_BUS + " ADD COLUMN " + COLUMN_BUS_LATITUDE + " REAL DEFAULT 0.0");
             db.execSQL("ALTER TABLE " + TABLE_REGISTERED_BUS + " ADD COLUMN " + COLUMN_BUS_LONGITUDE + " REAL DEFAULT 0.0");
         }
+
+        if (oldVersion < 4) {
+            // 버전 4: 정류장 카탈로그 및 조회 이력 테이블 추가
+            createBusStopCatalogTables(db);
+        }
+    }
+
+    /**
+     * 정류장 카탈로그 테이블과 격자 인덱스 생성
+     */
+    private void createBusStopCatalogTables(SQLiteDatabase db) {
+        String CREATE_BUS_STOP_TABLE = "CREATE TABLE " + TABLE_BUS_STOP + "("
+                + COLUMN_STOP_NODE_ID + " TEXT PRIMARY KEY,"
+                + COLUMN_STOP_NODE_NAME + " TEXT,"
+                + COLUMN_STOP_NODE_NO + " TEXT,"
+                + COLUMN_STOP_LATITUDE + " REAL,"
+                + COLUMN_STOP_LONGITUDE + " REAL,"
+                + COLUMN_STOP_CITY_CODE + " INTEGER,"
+                + COLUMN_STOP_ROUTE_TYPE + " TEXT,"
+                + COLUMN_CELL_X + " INTEGER,"
+                + COLUMN_CELL_Y + " INTEGER,"
+                + COLUMN_UPDATED_AT + " INTEGER"
+                + ")";
+        db.execSQL(CREATE_BUS_STOP_TABLE);
+        db.execSQL("CREATE INDEX idx_bus_stop_cell ON " + TABLE_BUS_STOP
+                + "(" + COLUMN_CELL_X + "," + COLUMN_CELL_Y + ")");
+
+        String CREATE_BUS_STOP_FETCH_TABLE = "CREATE TABLE " + TABLE_BUS_STOP_FETCH + "("
+                + COLUMN_FETCH_ID + " INTEGER PRIMARY KEY AUTOINCREMENT,"
+                + COLUMN_FETCH_LATITUDE + " REAL,"
+                + COLUMN_FETCH_LONGITUDE + " REAL,"
+                + COLUMN_CELL_X + " INTEGER,"
+                + COLUMN_CELL_Y + " INTEGER,"
+                + COLUMN_FETCHED_AT + " INTEGER"
+                + ")";
+        db.execSQL(CREATE_BUS_STOP_FETCH_TABLE);
+        db.execSQL("CREATE INDEX idx_bus_stop_fetch_cell ON " + TABLE_BUS_STOP_FETCH
+                + "(" + COLUMN_CELL_X + "," + COLUMN_CELL_Y + ")");
     }
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.umbrellaalert.data.database;
+
+import android.util.Log;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블 변경 추적기 (DatabaseHelper당 하나)
+ * DAO가 쓰기 후 notifyChanged()로 알리면 테이블별 버전을 올리고, 그 테이블을 보는 옵저버에 알림
+ * 옵저버는 쓰기를 수행한 스레드에서 바로 호출되므로 무거운 작업은 각자 다른 스레드로 넘겨야 함
+ */
+public class InvalidationTracker {
+
+    private static final String TAG = "InvalidationTracker";
+
+    /**
+     * 테이블 변경 옵저버
+     */
+    public interface Observer {
+        void onInvalidated(String table);
+    }
+
+    private static final class Registration {
+        final Observer observer;
+        final String[] tables;
+
+        Registration(Observer observer, String[] tables) {
+            this.observer = observer;
+            this.tables = tables;
+        }
+
+        boolean watches(String table) {
+            for (String watched : tables) {
+                if (watched.equals(table)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+    public void addObserver(Observer observer, String... tables) {
+        registrations.add(new Registration(observer, tables));
+    }
+
+    public void removeObserver(Observer observer) {
+        for (Registration registration : registrations) {
+            if (registration.observer == observer) {
+                registrations.remove(registration);
+            }
+        }
+    }
+
+    /**
+     * 테이블들의 현재 버전 (어느 테이블이든 바뀌면 값이 달라짐)
+     */
+    public long getVersion(String... tables) {
+        long version = 0;
+        for (String table : tables) {
+            AtomicLong tableVersion = versions.get(table);
+            if (tableVersion != null) {
+                version += tableVersion.get();
+            }
+        }
+        return version;
+    }
+
+    /**
+     * 테이블이 바뀌었음을 알림 (DAO의 쓰기 메서드에서 실제로 행이 바뀐 경우 호출)
+     */
+    public void notifyChanged(String table) {
+        versions.computeIfAbsent(table, key -> new AtomicLong()).incrementAndGet();
+
+        for (Registration registration : registrations) {
+            if (!registration.watches(table)) {
+                continue;
+            }
+            try {
+                registration.observer.onInvalidated(table);
+            } catch (Exception e) {
+                Log.e(TAG, "테이블 변경 옵저버 오류: " + table, e);
+            }
+        }
+    }
+}
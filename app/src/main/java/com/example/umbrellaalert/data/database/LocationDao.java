@@ -5,16 +5,27 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 
 import com.example.umbrellaalert.data.model.Location;
+import com.example.umbrellaalert.util.Tracer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class LocationDao {
 
     private DatabaseHelper dbHelper;
+    private final ObservableQuery<List<Location>> locationsQuery;
 
     public LocationDao(DatabaseHelper dbHelper) {
         this.dbHelper = dbHelper;
+        this.locationsQuery = new ObservableQuery<>("location", dbHelper.getInvalidationTracker(),
+                () -> Collections.unmodifiableList(getAllLocations()),
+                DatabaseHelper.TABLE_LOCATION);
+    }
+
+    // 모든 위치 (추가, 수정, 삭제 때만 다시 조회, 공유 객체이므로 바꿀 때는 new Location(원본)으로 복사)
+    public ObservableQuery<List<Location>> observeLocations() {
+        return locationsQuery;
     }
 
     // 위치 추가
@@ -29,6 +40,9 @@ public class LocationDao {
         values.put(DatabaseHelper.COLUMN_NOTIFICATION_ENABLED, location.isNotificationEnabled() ? 1 : 0);
 
         long id = db.insert(DatabaseHelper.TABLE_LOCATION, null, values);
+        if (id > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_LOCATION);
+        }
         return id;
     }
 
@@ -43,43 +57,53 @@ public class LocationDao {
         values.put(DatabaseHelper.COLUMN_FREQUENT, location.isFrequent() ? 1 : 0);
         values.put(DatabaseHelper.COLUMN_NOTIFICATION_ENABLED, location.isNotificationEnabled() ? 1 : 0);
 
-        return db.update(DatabaseHelper.TABLE_LOCATION, values,
+        int rowsAffected = db.update(DatabaseHelper.TABLE_LOCATION, values,
                 DatabaseHelper.COLUMN_LOCATION_ID + " = ?",
                 new String[] { String.valueOf(location.getId()) });
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_LOCATION);
+        }
+        return rowsAffected;
     }
 
     // 위치 삭제
     public int deleteLocation(int id) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
-        return db.delete(DatabaseHelper.TABLE_LOCATION,
+        int rowsAffected = db.delete(DatabaseHelper.TABLE_LOCATION,
                 DatabaseHelper.COLUMN_LOCATION_ID + " = ?",
                 new String[] { String.valueOf(id) });
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_LOCATION);
+        }
+        return rowsAffected;
     }
 
     // 모든 위치 조회
     public List<Location> getAllLocations() {
-        List<Location> locationList = new ArrayList<>();
-
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
-        Cursor cursor = db.query(DatabaseHelper.TABLE_LOCATION, null, null, null, null, null, null);
-
-        if (cursor.moveToFirst()) {
-            do {
-                int id = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_LOCATION_ID));
-                String name = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_NAME));
-                double latitude = cursor.getDouble(cursor.getColumnIndex(DatabaseHelper.COLUMN_LATITUDE));
-                double longitude = cursor.getDouble(cursor.getColumnIndex(DatabaseHelper.COLUMN_LONGITUDE));
-                boolean frequent = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_FREQUENT)) == 1;
-                boolean notificationEnabled = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_NOTIFICATION_ENABLED)) == 1;
-
-                Location location = new Location(id, name, latitude, longitude, frequent, notificationEnabled);
-                locationList.add(location);
-            } while (cursor.moveToNext());
+        try (Tracer.Span span = Tracer.begin("db:location")) {
+            List<Location> locationList = new ArrayList<>();
+
+            SQLiteDatabase db = dbHelper.getReadableDatabase();
+            Cursor cursor = db.query(DatabaseHelper.TABLE_LOCATION, null, null, null, null, null, null);
+
+            if (cursor.moveToFirst()) {
+                do {
+                    int id = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_LOCATION_ID));
+                    String name = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_NAME));
+                    double latitude = cursor.getDouble(cursor.getColumnIndex(DatabaseHelper.COLUMN_LATITUDE));
+                    double longitude = cursor.getDouble(cursor.getColumnIndex(DatabaseHelper.COLUMN_LONGITUDE));
+                    boolean frequent = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_FREQUENT)) == 1;
+                    boolean notificationEnabled = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_NOTIFICATION_ENABLED)) == 1;
+
+                    Location location = new Location(id, name, latitude, longitude, frequent, notificationEnabled);
+                    locationList.add(location);
+                } while (cursor.moveToNext());
+            }
+
+            cursor.close();
+            return locationList;
         }
-
-        cursor.close();
-        return locationList;
     }
 
     // 자주 가는 위치 조회
@@ -0,0 +1,95 @@
+package com.example.umbrellaalert.data.database;
+
+import androidx.lifecycle.LiveData;
+
+import com.example.umbrellaalert.util.Metrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테이블이 바뀔 때만 다시 실행되는 조회 결과
+ *
+ * get()은 마지막 결과를 돌려주고, 그 사이 관련 테이블이 바뀌었으면 호출한 스레드에서 다시 조회함
+ * LiveData로 관찰하면 관찰자가 있는 동안 테이블이 바뀔 때마다 백그라운드에서 다시 조회해 새 결과를 밀어 줌
+ * 결과는 여러 곳과 여러 스레드가 함께 쓰므로 목록은 물론 안의 객체도 직접 수정하면 안 됨
+ * (바꿔 저장할 때는 복사본을 수정, 원본을 바꾸면 저장에 실패했을 때 캐시가 DB와 영영 달라짐)
+ */
+public class ObservableQuery<T> extends LiveData<T> {
+
+    /**
+     * 실제 조회 (DAO의 조회 메서드)
+     */
+    public interface Query<T> {
+        T run();
+    }
+
+    // 관찰 중인 조회의 재실행 전용 스레드 (여러 번 무효화돼도 버전이 같으면 건너뜀)
+    private static final ExecutorService queryExecutor =
+            Metrics.monitor("query", Executors.newSingleThreadExecutor());
+
+    private final InvalidationTracker tracker;
+    private final String[] tables;
+    private final Query<T> query;
+    private final Metrics.Counter hits;
+    private final Metrics.Counter runs;
+
+    private final Object lock = new Object();
+    private boolean computed;
+    private long computedVersion;
+    private T result;
+
+    private final InvalidationTracker.Observer invalidationObserver =
+            table -> queryExecutor.execute(this::refreshIfChanged);
+
+    public ObservableQuery(String name, InvalidationTracker tracker, Query<T> query, String... tables) {
+        this.tracker = tracker;
+        this.tables = tables;
+        this.query = query;
+        this.hits = Metrics.counter("query:" + name + ":hit");
+        this.runs = Metrics.counter("query:" + name + ":run");
+    }
+
+    /**
+     * 최신 결과 (테이블이 바뀌지 않았으면 DB를 읽지 않음, 백그라운드 스레드에서 호출)
+     */
+    public T get() {
+        T latest;
+        synchronized (lock) {
+            // 조회 전에 버전을 읽어, 조회 중에 바뀐 내용은 다음 호출에서 다시 읽게 함
+            long version = tracker.getVersion(tables);
+            if (computed && version == computedVersion) {
+                hits.increment();
+                return result;
+            }
+            latest = query.run();
+            runs.increment();
+            result = latest;
+            computedVersion = version;
+            computed = true;
+        }
+        postValue(latest);
+        return latest;
+    }
+
+    @Override
+    protected void onActive() {
+        tracker.addObserver(invalidationObserver, tables);
+        // 관찰하지 않는 동안 바뀌었을 수 있으므로 확인 (처음이면 조회)
+        queryExecutor.execute(this::refreshIfChanged);
+    }
+
+    @Override
+    protected void onInactive() {
+        tracker.removeObserver(invalidationObserver);
+    }
+
+    private void refreshIfChanged() {
+        synchronized (lock) {
+            if (computed && tracker.getVersion(tables) == computedVersion) {
+                return;
+            }
+        }
+        get();
+    }
+}
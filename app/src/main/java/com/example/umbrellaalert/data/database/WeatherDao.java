@@ -5,6 +5,7 @@ import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 
 import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.util.Tracer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,46 +33,55 @@ public class WeatherDao {
         values.put(DatabaseHelper.COLUMN_NEED_UMBRELLA, weather.isNeedUmbrella() ? 1 : 0);
 
         long id = db.insert(DatabaseHelper.TABLE_WEATHER, null, values);
+        if (id > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_WEATHER);
+        }
         return id;
     }
 
     // 위치를 통한 가장 최근 날씨 데이터 조회
     public Weather getLatestWeatherByLocation(String location) {
-        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        try (Tracer.Span span = Tracer.begin("db:weather")) {
+            SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        String query = "SELECT * FROM " + DatabaseHelper.TABLE_WEATHER +
-                " WHERE " + DatabaseHelper.COLUMN_LOCATION + " = ?" +
-                " ORDER BY " + DatabaseHelper.COLUMN_TIMESTAMP + " DESC LIMIT 1";
+            String query = "SELECT * FROM " + DatabaseHelper.TABLE_WEATHER +
+                    " WHERE " + DatabaseHelper.COLUMN_LOCATION + " = ?" +
+                    " ORDER BY " + DatabaseHelper.COLUMN_TIMESTAMP + " DESC LIMIT 1";
 
-        Cursor cursor = db.rawQuery(query, new String[] { location });
+            Cursor cursor = db.rawQuery(query, new String[] { location });
 
-        Weather weather = null;
-        if (cursor.moveToFirst()) {
-            int id = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_WEATHER_ID));
-            float temperature = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_TEMPERATURE));
-            String weatherCondition = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_WEATHER_CONDITION));
-            float precipitation = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_PRECIPITATION));
-            int humidity = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_HUMIDITY));
-            float windSpeed = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_WIND_SPEED));
-            String locationName = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_LOCATION));
-            long timestamp = cursor.getLong(cursor.getColumnIndex(DatabaseHelper.COLUMN_TIMESTAMP));
-            boolean needUmbrella = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_NEED_UMBRELLA)) == 1;
-
-            weather = new Weather(id, temperature, weatherCondition, precipitation, humidity,
-                    windSpeed, locationName, timestamp, needUmbrella);
-        }
+            Weather weather = null;
+            if (cursor.moveToFirst()) {
+                int id = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_WEATHER_ID));
+                float temperature = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_TEMPERATURE));
+                String weatherCondition = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_WEATHER_CONDITION));
+                float precipitation = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_PRECIPITATION));
+                int humidity = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_HUMIDITY));
+                float windSpeed = cursor.getFloat(cursor.getColumnIndex(DatabaseHelper.COLUMN_WIND_SPEED));
+                String locationName = cursor.getString(cursor.getColumnIndex(DatabaseHelper.COLUMN_LOCATION));
+                long timestamp = cursor.getLong(cursor.getColumnIndex(DatabaseHelper.COLUMN_TIMESTAMP));
+                boolean needUmbrella = cursor.getInt(cursor.getColumnIndex(DatabaseHelper.COLUMN_NEED_UMBRELLA)) == 1;
 
-        cursor.close();
-        return weather;
+                weather = new Weather(id, temperature, weatherCondition, precipitation, humidity,
+                        windSpeed, locationName, timestamp, needUmbrella);
+            }
+
+            cursor.close();
+            return weather;
+        }
     }
 
     // 오래된 날씨 데이터 삭제 (24시간 이상)
     public int deleteOldWeatherData(long timeThreshold) {
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
-        return db.delete(DatabaseHelper.TABLE_WEATHER,
+        int rowsAffected = db.delete(DatabaseHelper.TABLE_WEATHER,
                 DatabaseHelper.COLUMN_TIMESTAMP + " < ?",
                 new String[] { String.valueOf(timeThreshold) });
+        if (rowsAffected > 0) {
+            dbHelper.getInvalidationTracker().notifyChanged(DatabaseHelper.TABLE_WEATHER);
+        }
+        return rowsAffected;
     }
 
     // 모든 날씨 데이터 조회
@@ -0,0 +1,310 @@
+package com.example.umbrellaalert.data.manager;
+
+import android.content.Context;
+import android.location.Location;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
+import com.example.umbrellaalert.data.api.BusApiClient;
+import com.example.umbrellaalert.data.database.AppDatabase;
+import com.example.umbrellaalert.data.database.BusDao;
+import com.example.umbrellaalert.data.database.DatabaseHelper;
+import com.example.umbrellaalert.data.model.BusArrival;
+import com.example.umbrellaalert.data.model.DashboardSnapshot;
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.RegisteredBus;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.util.WalkingTimeCalculator;
+import com.example.umbrellaalert.util.WalkingTimeMatrix;
+import com.example.umbrellaalert.util.WeatherCacheManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * 대시보드 스냅샷 매니저
+ * 날씨 캐시, 예보, 버스 도착 정보, 고양이 메시지를 한 번의 갱신 주기에 모아
+ * 불변 DashboardSnapshot으로 만들고 위젯/알림 등 모든 화면에 게시
+ * 내용이 바뀐 경우에만 버전을 올리고 리스너에 알림
+ * 등록된 버스가 바뀌면 다음 주기를 기다리지 않고 바로 다시 갱신
+ */
+@Singleton
+public class DashboardSnapshotManager {
+
+    private static final String TAG = "DashboardSnapshotMgr";
+
+    // 이 시간 안에 다시 요청되면 버스 API를 다시 호출하지 않고 최신 스냅샷 반환
+    private static final long MIN_REFRESH_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    // 정류장별 도착 정보 조회 타임아웃
+    private static final long ARRIVAL_TIMEOUT_SECONDS = 10;
+
+    // 예보 요약에 사용할 시간 수
+    private static final int FORECAST_SUMMARY_HOURS = 6;
+
+    // 비 예보로 판단할 강수확률 (%)
+    private static final int RAIN_PROBABILITY_THRESHOLD = 60;
+
+    /**
+     * 새 스냅샷 게시 리스너 (갱신을 수행한 스레드에서 호출됨)
+     */
+    public interface SnapshotListener {
+        void onSnapshotPublished(DashboardSnapshot snapshot);
+    }
+
+    private final Context context;
+    private final WeatherManager weatherManager;
+    private final BusApiClient busApiClient;
+    private final BusDao busDao;
+    private final WalkingTimeCalculator walkingTimeCalculator;
+
+    private final List<SnapshotListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object refreshLock = new Object();
+
+    private volatile DashboardSnapshot latest;
+    private long lastRefreshTime;
+
+    // 마지막 갱신 때 쓴 도보 시간 기준 위치 (refreshLock으로 보호, 버스 변경 시 재사용)
+    private Location lastOrigin;
+
+    // 버스 등록/삭제로 인한 갱신 전용 스레드 (쓰기를 한 스레드를 막지 않도록)
+    private final ExecutorService busChangeExecutor = Executors.newSingleThreadExecutor();
+
+    // 홈 화면에서 받아온 최신 예보 (refreshLock으로 보호)
+    private List<HourlyForecast> latestForecasts = Collections.emptyList();
+
+    @Inject
+    public DashboardSnapshotManager(@ApplicationContext Context context, WeatherManager weatherManager) {
+        this.context = context.getApplicationContext();
+        this.weatherManager = weatherManager;
+        this.busApiClient = new BusApiClient(this.context);
+        this.busDao = AppDatabase.getInstance(this.context).busDao();
+        this.walkingTimeCalculator = new WalkingTimeCalculator(this.context);
+        this.latest = new DashboardSnapshot.Builder(0).build(0);
+
+        AppDatabase.getInstance(this.context).getDatabaseHelper().getInvalidationTracker().addObserver(
+                table -> busChangeExecutor.execute(this::onRegisteredBusesChanged),
+                DatabaseHelper.TABLE_REGISTERED_BUS);
+    }
+
+    /**
+     * 등록된 버스가 바뀌면 위젯과 알림에 바로 반영 (아직 한 번도 갱신하지 않았으면 건너뜀)
+     */
+    private void onRegisteredBusesChanged() {
+        Location origin;
+        synchronized (refreshLock) {
+            if (latest.getVersion() == 0) {
+                return;
+            }
+            origin = lastOrigin;
+        }
+        Log.d(TAG, "등록된 버스 변경, 스냅샷 다시 갱신");
+        refresh(origin, true);
+    }
+
+    /**
+     * 가장 최근에 게시된 스냅샷 (아직 갱신 전이면 version 0의 빈 스냅샷)
+     */
+    public DashboardSnapshot getLatest() {
+        return latest;
+    }
+
+    public void addListener(SnapshotListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SnapshotListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 홈 화면에서 새 날씨/예보를 받았을 때 호출
+     * 버스 정보는 직전 스냅샷 것을 그대로 쓰고 날씨 부분만 다시 만들어 게시
+     */
+    public DashboardSnapshot updateWeather(Weather weather, List<HourlyForecast> forecasts) {
+        synchronized (refreshLock) {
+            if (forecasts != null) {
+                latestForecasts = new ArrayList<>(forecasts);
+            }
+            DashboardSnapshot previous = latest;
+            DashboardSnapshot.Builder builder = new DashboardSnapshot.Builder(System.currentTimeMillis());
+            applyWeather(builder, weather);
+            builder.buses(previous.getRegisteredBusCount(), previous.getBusEtas());
+            return publish(builder);
+        }
+    }
+
+    /**
+     * 스냅샷 갱신 (동기, 백그라운드 스레드에서 호출)
+     * 동시에 여러 곳에서 요청해도 한 번만 수행되며, 최근에 갱신했다면 기존 스냅샷 반환
+     * @param origin 도보 시간 계산 기준 위치 (null이면 도보 시간 없음)
+     * @param force true면 최소 갱신 간격 무시
+     */
+    public DashboardSnapshot refresh(Location origin, boolean force) {
+        synchronized (refreshLock) {
+            long now = System.currentTimeMillis();
+            if (!force && latest.getVersion() > 0 && now - lastRefreshTime < MIN_REFRESH_INTERVAL) {
+                Log.d(TAG, "최근에 갱신됨, 기존 스냅샷 사용: v" + latest.getVersion());
+                return latest;
+            }
+
+            DashboardSnapshot.Builder builder = new DashboardSnapshot.Builder(now);
+            applyWeather(builder, WeatherCacheManager.getWeatherFromCache(context));
+
+            // 등록된 버스 테이블이 그대로면 DB를 다시 읽지 않음
+            List<RegisteredBus> buses = busDao.observeRegisteredBuses().get();
+            builder.buses(buses.size(), loadBusEtas(buses, origin));
+
+            lastRefreshTime = now;
+            if (origin != null) {
+                lastOrigin = origin;
+            }
+            return publish(builder);
+        }
+    }
+
+    /**
+     * 날씨와 예보 요약을 빌더에 채움
+     */
+    private void applyWeather(DashboardSnapshot.Builder builder, Weather weather) {
+        if (weather != null) {
+            builder.weather(weather.getTemperature(), weather.getWeatherCondition(),
+                    weather.getPrecipitation(), weather.isNeedUmbrella(),
+                    weatherManager.getCatMessage(weather));
+        }
+
+        if (!latestForecasts.isEmpty()) {
+            int hours = Math.min(FORECAST_SUMMARY_HOURS, latestForecasts.size());
+            int maxProbability = 0;
+            int rainStartIndex = -1;
+            for (int i = 0; i < hours; i++) {
+                HourlyForecast forecast = latestForecasts.get(i);
+                int probability = forecast.getPrecipitationProbability();
+                maxProbability = Math.max(maxProbability, probability);
+                if (rainStartIndex < 0 && (forecast.isNeedUmbrella() || probability >= RAIN_PROBABILITY_THRESHOLD)) {
+                    rainStartIndex = i;
+                }
+            }
+
+            String summary;
+            if (rainStartIndex == 0) {
+                summary = "지금 비 소식 (강수확률 " + maxProbability + "%)";
+            } else if (rainStartIndex > 0) {
+                summary = rainStartIndex + "시간 후 비 소식 (강수확률 " + maxProbability + "%)";
+            } else {
+                summary = hours + "시간 동안 비 소식 없음";
+            }
+            builder.forecast(rainStartIndex >= 0, maxProbability, summary);
+        }
+    }
+
+    /**
+     * 등록된 버스의 도착 정보 조회
+     * 같은 정류장의 버스는 도착 정보 API를 한 번만 호출하고, 도보 시간은 한 번에 계산
+     */
+    private List<DashboardSnapshot.BusEta> loadBusEtas(List<RegisteredBus> buses, Location origin) {
+        if (buses.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int[] walkingTimes = origin != null
+                ? walkingTimeCalculator.calculateWalkingTimes(origin.getLatitude(), origin.getLongitude(), buses)
+                : null;
+
+        // 정류장별로 한 번만 요청 (회로가 열려 있거나 호출 한도가 부족하면 요청하지 않고 모두 오류로 표시)
+        Map<String, Future<List<BusArrival>>> requests = new HashMap<>();
+        boolean arrivalAvailable = busApiClient.canRequestArrivalInfo(ApiQuotaManager.Priority.WIDGET);
+        for (RegisteredBus bus : buses) {
+            if (!arrivalAvailable) {
+                break;
+            }
+            String stopKey = bus.getCityCode() + ":" + bus.getNodeId();
+            if (!requests.containsKey(stopKey)) {
+                requests.put(stopKey, busApiClient.getBusArrivalInfo(bus.getNodeId(), bus.getCityCode(),
+                        ApiQuotaManager.Priority.WIDGET));
+            }
+        }
+
+        Map<String, List<BusArrival>> arrivalsByStop = new HashMap<>();
+        for (Map.Entry<String, Future<List<BusArrival>>> entry : requests.entrySet()) {
+            try {
+                arrivalsByStop.put(entry.getKey(), entry.getValue().get(ARRIVAL_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                Log.e(TAG, "정류장 도착 정보 조회 실패: " + entry.getKey(), e);
+                entry.getValue().cancel(true);
+            }
+        }
+
+        List<DashboardSnapshot.BusEta> etas = new ArrayList<>(buses.size());
+        for (int i = 0; i < buses.size(); i++) {
+            RegisteredBus bus = buses.get(i);
+            int walkingMinutes = walkingTimes != null ? walkingTimes[i] : WalkingTimeMatrix.UNKNOWN;
+            List<BusArrival> arrivals = arrivalsByStop.get(bus.getCityCode() + ":" + bus.getNodeId());
+
+            if (arrivals == null) {
+                etas.add(new DashboardSnapshot.BusEta(bus.getRouteNo(),
+                        DashboardSnapshot.BusEta.Status.ERROR, -1, null, walkingMinutes));
+                continue;
+            }
+
+            BusArrival match = findArrival(bus, arrivals);
+            if (match != null) {
+                etas.add(new DashboardSnapshot.BusEta(bus.getRouteNo(),
+                        DashboardSnapshot.BusEta.Status.FOUND, match.getArrTime(),
+                        match.getFormattedArrTime(), walkingMinutes));
+            } else {
+                etas.add(new DashboardSnapshot.BusEta(bus.getRouteNo(),
+                        DashboardSnapshot.BusEta.Status.NOT_RUNNING, -1, null, walkingMinutes));
+            }
+        }
+        return etas;
+    }
+
+    private BusArrival findArrival(RegisteredBus bus, List<BusArrival> arrivals) {
+        for (BusArrival arrival : arrivals) {
+            if (bus.getRouteNo() != null && bus.getRouteNo().equals(arrival.getRouteNo())) {
+                return arrival;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 내용이 바뀐 경우에만 새 버전으로 게시 (refreshLock 안에서 호출)
+     */
+    private DashboardSnapshot publish(DashboardSnapshot.Builder builder) {
+        DashboardSnapshot previous = latest;
+        DashboardSnapshot snapshot = builder.build(previous.getVersion() + 1);
+
+        if (previous.getVersion() > 0 && snapshot.hasSameContent(previous)) {
+            Log.d(TAG, "스냅샷 내용 변경 없음: v" + previous.getVersion());
+            return previous;
+        }
+
+        latest = snapshot;
+        Log.d(TAG, "새 스냅샷 게시: v" + snapshot.getVersion()
+                + " (버스 " + snapshot.getBusEtas().size() + "대)");
+
+        for (SnapshotListener listener : listeners) {
+            try {
+                listener.onSnapshotPublished(snapshot);
+            } catch (Exception e) {
+                Log.e(TAG, "스냅샷 리스너 오류", e);
+            }
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.umbrellaalert.data.manager;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
+import com.example.umbrellaalert.data.api.OpenWeatherApiClient;
+import com.example.umbrellaalert.data.model.ForecastSeries;
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Location;
+import com.example.umbrellaalert.data.model.UmbrellaVerdict;
+import com.example.umbrellaalert.domain.repository.LocationRepository;
+import com.example.umbrellaalert.service.LocationService;
+import com.example.umbrellaalert.util.CoordinateConverter;
+import com.example.umbrellaalert.util.Metrics;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import dagger.hilt.android.qualifiers.ApplicationContext;
+
+/**
+ * 아침 알람용 우산 판단 관리자
+ * 알람 전에 현재 위치와 등록된 모든 위치의 예보를 미리 받아(같은 격자는 한 번만) 우산 판단을 저장해 두고,
+ * 알람 시각에는 저장된 판단만 읽어 네트워크 상태와 관계없이 바로 알림을 보낼 수 있게 함
+ */
+@Singleton
+public class MorningBriefingManager {
+
+    private static final String TAG = "MorningBriefingManager";
+    private static final String PREF_NAME = "morning_briefing";
+
+    // 예보를 받을 때 격자 몇 개를 동시에 요청할지
+    private static final int PARALLEL_REQUESTS = 3;
+    // 전체 미리 가져오기 제한 시간 (알람 브로드캐스트 처리 시간 안에서 끝나도록)
+    private static final long PREFETCH_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Context context;
+    private final OpenWeatherApiClient apiClient;
+    private final LocationRepository locationRepository;
+    private final SharedPreferences preferences;
+    private final ExecutorService executorService;
+
+    @Inject
+    public MorningBriefingManager(@ApplicationContext Context context, OpenWeatherApiClient apiClient,
+                                  LocationRepository locationRepository) {
+        this.context = context.getApplicationContext();
+        this.apiClient = apiClient;
+        this.locationRepository = locationRepository;
+        this.preferences = this.context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.executorService = Metrics.monitor("morning-briefing", Executors.newFixedThreadPool(PARALLEL_REQUESTS));
+    }
+
+    /**
+     * 모든 위치의 예보를 받아 오늘의 우산 판단을 계산하고 저장 (동기, 백그라운드 스레드에서 호출)
+     * 모든 격자가 실패하면 이미 저장된 오늘 판단을 유지
+     * @return 저장된 판단, 계산할 수 없으면 null
+     */
+    public UmbrellaVerdict prefetch(ApiQuotaManager.Priority priority) {
+        Map<String, Place> cells = collectCells();
+        if (cells.isEmpty()) {
+            Log.d(TAG, "예보를 받을 위치가 없음");
+            return getTodayVerdict();
+        }
+
+        long deadline = System.currentTimeMillis() + PREFETCH_TIMEOUT_MILLIS;
+        List<Place> places = new ArrayList<>(cells.values());
+        List<Future<List<HourlyForecast>>> futures = new ArrayList<>(places.size());
+        for (Place place : places) {
+            futures.add(executorService.submit(() -> apiClient.fetchForecast(place.latitude, place.longitude, priority)));
+        }
+
+        long now = System.currentTimeMillis();
+        long nowSeconds = now / 1000;
+        long endOfDaySeconds = endOfTodayMillis(now) / 1000;
+
+        boolean needUmbrella = false;
+        int maxRainProbability = 0;
+        int firstRainHour = -1;
+        long firstRainSeconds = Long.MAX_VALUE;
+        StringBuilder rainyPlaces = new StringBuilder();
+        int checked = 0;
+        int failed = 0;
+
+        for (int i = 0; i < places.size(); i++) {
+            Place place = places.get(i);
+            List<HourlyForecast> forecasts;
+            try {
+                forecasts = futures.get(i).get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(futures);
+                return getTodayVerdict();
+            } catch (ExecutionException | TimeoutException e) {
+                futures.get(i).cancel(true);
+                failed++;
+                Log.w(TAG, place.name + " 예보 가져오기 실패: " + e.getMessage());
+                continue;
+            }
+            checked++;
+
+            ForecastSeries series = ForecastSeries.from(forecasts);
+            boolean placeRain = false;
+            for (int h = 0; h < series.size(); h++) {
+                long seconds = series.getEpochSeconds(h);
+                if (seconds >= endOfDaySeconds) {
+                    break;
+                }
+                int probability = series.getPrecipitationProbability(h);
+                if (probability > maxRainProbability) maxRainProbability = probability;
+                // 이미 지난 시간은 판단에서 제외 (예보 구간 중 현재가 포함된 시간은 인정)
+                if (seconds + TimeUnit.HOURS.toSeconds(3) <= nowSeconds) {
+                    continue;
+                }
+                if (series.isRainy(h) || probability > 50) {
+                    placeRain = true;
+                    if (seconds < firstRainSeconds) {
+                        firstRainSeconds = seconds;
+                        firstRainHour = series.getHourOfDay(h);
+                    }
+                }
+            }
+            if (placeRain) {
+                needUmbrella = true;
+                if (rainyPlaces.length() > 0) rainyPlaces.append(", ");
+                rainyPlaces.append(place.name);
+            }
+        }
+
+        if (checked == 0) {
+            UmbrellaVerdict previous = getTodayVerdict();
+            Log.w(TAG, "모든 위치의 예보 가져오기 실패" + (previous != null ? ", 이전 판단 유지" : ""));
+            return previous;
+        }
+
+        UmbrellaVerdict verdict = new UmbrellaVerdict(today(now), needUmbrella, maxRainProbability, firstRainHour,
+                rainyPlaces.toString(), checked, failed, now);
+        save(verdict);
+        Log.d(TAG, "우산 판단 저장: " + (needUmbrella ? "필요" : "불필요") + " (격자 " + checked + "개 확인, "
+                + failed + "개 실패)");
+        return verdict;
+    }
+
+    /**
+     * 저장된 오늘의 판단 (없거나 다른 날짜의 판단이면 null)
+     */
+    public UmbrellaVerdict getTodayVerdict() {
+        String day = preferences.getString("day", null);
+        if (day == null || !day.equals(today(System.currentTimeMillis()))) {
+            return null;
+        }
+        return new UmbrellaVerdict(
+                day,
+                preferences.getBoolean("need_umbrella", false),
+                preferences.getInt("max_rain_probability", 0),
+                preferences.getInt("first_rain_hour", -1),
+                preferences.getString("rainy_places", ""),
+                preferences.getInt("checked_cells", 0),
+                preferences.getInt("failed_cells", 0),
+                preferences.getLong("computed_at", 0));
+    }
+
+    private void save(UmbrellaVerdict verdict) {
+        // 알람 브로드캐스트 처리 중 프로세스가 종료될 수 있으므로 바로 기록
+        preferences.edit()
+                .putString("day", verdict.getDay())
+                .putBoolean("need_umbrella", verdict.isNeedUmbrella())
+                .putInt("max_rain_probability", verdict.getMaxRainProbability())
+                .putInt("first_rain_hour", verdict.getFirstRainHour())
+                .putString("rainy_places", verdict.getRainyPlaces())
+                .putInt("checked_cells", verdict.getCheckedCells())
+                .putInt("failed_cells", verdict.getFailedCells())
+                .putLong("computed_at", verdict.getComputedAt())
+                .commit();
+    }
+
+    /**
+     * 현재 위치와 등록된 위치를 기상청 격자 단위로 중복 제거
+     */
+    private Map<String, Place> collectCells() {
+        Map<String, Place> cells = new LinkedHashMap<>();
+
+        android.location.Location current = LocationService.getInstance(context).getLastLocation();
+        if (current != null) {
+            addCell(cells, "현재 위치", current.getLatitude(), current.getLongitude());
+        }
+
+        try {
+            List<Location> locations = locationRepository.getAllLocations();
+            if (locations != null) {
+                for (Location location : locations) {
+                    addCell(cells, location.getName(), location.getLatitude(), location.getLongitude());
+                }
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "등록된 위치 조회 실패", e);
+        }
+        return cells;
+    }
+
+    private static void addCell(Map<String, Place> cells, String name, double latitude, double longitude) {
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        String key = grid.nx + "," + grid.ny;
+        if (!cells.containsKey(key)) {
+            cells.put(key, new Place(name, latitude, longitude));
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    // 판단은 한국 시간 기준 하루 단위
+    private static String today(long nowMillis) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
+        format.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        return format.format(new Date(nowMillis));
+    }
+
+    private static long endOfTodayMillis(long nowMillis) {
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("Asia/Seoul"));
+        calendar.setTimeInMillis(nowMillis);
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * 예보를 받을 격자의 대표 위치
+     */
+    private static class Place {
+        final String name;
+        final double latitude;
+        final double longitude;
+
+        Place(String name, double latitude, double longitude) {
+            this.name = name;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
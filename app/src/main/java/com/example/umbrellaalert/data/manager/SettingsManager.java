@@ -0,0 +1,220 @@
+package com.example.umbrellaalert.data.manager;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.model.AppSettings;
+import com.example.umbrellaalert.util.Tracer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 앱 설정 저장소
+ * 흩어져 있던 설정 파일(UmbrellaAlertPrefs, bus_notification_prefs, app_preferences)을 처음 한 번만 읽어
+ * 불변 스냅샷(AppSettings)으로 들고 있음. 읽기는 디스크를 건드리지 않음
+ *
+ * 변경은 update()로 새 스냅샷을 바로 반영하고 리스너에 알린 뒤, 디스크에는 백그라운드에서 commit()으로 씀
+ * (파일별로 통째로 바꿔 써서 쓰는 중에 종료돼도 이전 내용이 남음, 연속 변경은 마지막 것만 씀)
+ * 설정 파일 형식과 키는 그대로라 기존 사용자 설정이 유지됨
+ */
+public class SettingsManager {
+
+    private static final String TAG = "SettingsManager";
+
+    private static final String PREF_MAIN = "UmbrellaAlertPrefs";
+    private static final String PREF_BUS = "bus_notification_prefs";
+    private static final String PREF_THEME = "app_preferences";
+
+    private static final String KEY_AUTO_STOP_ENABLED = "auto_stop_enabled";
+    private static final String KEY_STOP_HOUR = "stop_hour";
+    private static final String KEY_STOP_MINUTE = "stop_minute";
+    private static final String KEY_RAIN_ALERT = "rain_alert_enabled";
+    private static final String KEY_VIBRATION = "vibration_enabled";
+    private static final String KEY_SOUND = "sound_enabled";
+    private static final String KEY_PERSISTENT_NOTIFICATION = "persistent_notification_enabled";
+    private static final String KEY_BUS_NOTIFICATION = "bus_notification_enabled";
+    private static final String KEY_WIDGET_ENABLED = "widget_enabled";
+    private static final String KEY_WIDGET_AUTO_UPDATE = "widget_auto_update";
+    private static final String KEY_MORNING_ALARM_HOUR = "morning_alarm_hour";
+    private static final String KEY_MORNING_ALARM_MINUTE = "morning_alarm_minute";
+    private static final String KEY_PREFETCH_LEAD_MINUTES = "prefetch_lead_minutes";
+    private static final String KEY_PERSISTENT_DISMISSED = "persistent_notification_dismissed";
+    private static final String KEY_WEATHER_DISMISSED = "weather_notification_dismissed";
+    private static final String KEY_BUS_DISMISSED = "bus_notification_dismissed";
+    private static final String KEY_THEME_MODE = "theme_mode";
+
+    /**
+     * 설정 변경 리스너 (update()를 호출한 스레드에서 호출됨)
+     */
+    public interface SettingsListener {
+        void onSettingsChanged(AppSettings previous, AppSettings current);
+    }
+
+    /**
+     * 현재 설정을 복사한 빌더에 바꿀 값만 지정
+     */
+    public interface Editor {
+        void edit(AppSettings.Builder builder);
+    }
+
+    private static SettingsManager instance;
+
+    private final SharedPreferences mainPrefs;
+    private final SharedPreferences busPrefs;
+    private final SharedPreferences themePrefs;
+
+    private final List<SettingsListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object updateLock = new Object();
+
+    // 디스크 쓰기 전용 스레드
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+
+    private volatile AppSettings current;
+
+    // 아직 실행 안 된 쓰기 작업이 있는지 (updateLock으로 보호)
+    private boolean persistPending;
+
+    private SettingsManager(Context context) {
+        mainPrefs = context.getSharedPreferences(PREF_MAIN, Context.MODE_PRIVATE);
+        busPrefs = context.getSharedPreferences(PREF_BUS, Context.MODE_PRIVATE);
+        themePrefs = context.getSharedPreferences(PREF_THEME, Context.MODE_PRIVATE);
+
+        try (Tracer.Span span = Tracer.begin("cache:settings")) {
+            current = load();
+        }
+    }
+
+    public static synchronized SettingsManager getInstance(Context context) {
+        if (instance == null) {
+            instance = new SettingsManager(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 현재 설정 (메모리, 어느 스레드에서나 호출 가능)
+     */
+    public AppSettings get() {
+        return current;
+    }
+
+    public void addListener(SettingsListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(SettingsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * 설정 변경 (바로 반영, 디스크에는 백그라운드에서 저장)
+     * 내용이 같으면 아무것도 하지 않음
+     */
+    public AppSettings update(Editor editor) {
+        AppSettings previous;
+        AppSettings next;
+        boolean schedulePersist;
+        synchronized (updateLock) {
+            previous = current;
+            AppSettings.Builder builder = previous.toBuilder();
+            editor.edit(builder);
+            next = builder.build();
+            if (next.equals(previous)) {
+                return previous;
+            }
+            current = next;
+            schedulePersist = !persistPending;
+            persistPending = true;
+        }
+
+        if (schedulePersist) {
+            ioExecutor.execute(this::persist);
+        }
+
+        for (SettingsListener listener : listeners) {
+            try {
+                listener.onSettingsChanged(previous, next);
+            } catch (Exception e) {
+                Log.e(TAG, "설정 리스너 오류", e);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 지금까지의 변경이 디스크에 저장된 뒤 실행 (ioExecutor 스레드)
+     * BroadcastReceiver처럼 곧 프로세스가 끝날 수 있는 곳에서 goAsync()와 함께 사용
+     */
+    public void whenPersisted(Runnable callback) {
+        ioExecutor.execute(callback);
+    }
+
+    private AppSettings load() {
+        return new AppSettings.Builder()
+                .autoStop(mainPrefs.getBoolean(KEY_AUTO_STOP_ENABLED, true),
+                        mainPrefs.getInt(KEY_STOP_HOUR, 10),
+                        mainPrefs.getInt(KEY_STOP_MINUTE, 0))
+                .rainAlertEnabled(mainPrefs.getBoolean(KEY_RAIN_ALERT, true))
+                .vibrationEnabled(mainPrefs.getBoolean(KEY_VIBRATION, true))
+                .soundEnabled(mainPrefs.getBoolean(KEY_SOUND, true))
+                .persistentNotificationEnabled(mainPrefs.getBoolean(KEY_PERSISTENT_NOTIFICATION, false))
+                // 버스 알림은 서비스가 보던 파일을 우선 (예전에는 두 파일에 따로 저장됨)
+                .busNotificationEnabled(busPrefs.getBoolean(KEY_BUS_NOTIFICATION,
+                        mainPrefs.getBoolean(KEY_BUS_NOTIFICATION, false)))
+                .widgetEnabled(mainPrefs.getBoolean(KEY_WIDGET_ENABLED, true))
+                .widgetAutoUpdateEnabled(mainPrefs.getBoolean(KEY_WIDGET_AUTO_UPDATE, true))
+                .morningAlarm(mainPrefs.getInt(KEY_MORNING_ALARM_HOUR, 7),
+                        mainPrefs.getInt(KEY_MORNING_ALARM_MINUTE, 0))
+                .prefetchLeadMinutes(mainPrefs.getInt(KEY_PREFETCH_LEAD_MINUTES, 30))
+                .persistentNotificationDismissed(mainPrefs.getBoolean(KEY_PERSISTENT_DISMISSED, false))
+                .weatherNotificationDismissedAt(mainPrefs.getLong(KEY_WEATHER_DISMISSED, 0))
+                .busNotificationDismissedAt(mainPrefs.getLong(KEY_BUS_DISMISSED, 0))
+                .themeMode(themePrefs.getInt(KEY_THEME_MODE, 2))
+                .build();
+    }
+
+    /**
+     * 최신 스냅샷을 디스크에 저장 (ioExecutor 스레드)
+     * 값이 그대로인 파일은 SharedPreferences가 다시 쓰지 않음
+     */
+    private void persist() {
+        AppSettings settings;
+        synchronized (updateLock) {
+            persistPending = false;
+            settings = current;
+        }
+
+        boolean saved = mainPrefs.edit()
+                .putBoolean(KEY_AUTO_STOP_ENABLED, settings.isAutoStopEnabled())
+                .putInt(KEY_STOP_HOUR, settings.getStopHour())
+                .putInt(KEY_STOP_MINUTE, settings.getStopMinute())
+                .putBoolean(KEY_RAIN_ALERT, settings.isRainAlertEnabled())
+                .putBoolean(KEY_VIBRATION, settings.isVibrationEnabled())
+                .putBoolean(KEY_SOUND, settings.isSoundEnabled())
+                .putBoolean(KEY_PERSISTENT_NOTIFICATION, settings.isPersistentNotificationEnabled())
+                .putBoolean(KEY_BUS_NOTIFICATION, settings.isBusNotificationEnabled())
+                .putBoolean(KEY_WIDGET_ENABLED, settings.isWidgetEnabled())
+                .putBoolean(KEY_WIDGET_AUTO_UPDATE, settings.isWidgetAutoUpdateEnabled())
+                .putInt(KEY_MORNING_ALARM_HOUR, settings.getMorningAlarmHour())
+                .putInt(KEY_MORNING_ALARM_MINUTE, settings.getMorningAlarmMinute())
+                .putInt(KEY_PREFETCH_LEAD_MINUTES, settings.getPrefetchLeadMinutes())
+                .putBoolean(KEY_PERSISTENT_DISMISSED, settings.isPersistentNotificationDismissed())
+                .putLong(KEY_WEATHER_DISMISSED, settings.getWeatherNotificationDismissedAt())
+                .putLong(KEY_BUS_DISMISSED, settings.getBusNotificationDismissedAt())
+                .commit();
+        saved &= busPrefs.edit()
+                .putBoolean(KEY_BUS_NOTIFICATION, settings.isBusNotificationEnabled())
+                .commit();
+        saved &= themePrefs.edit()
+                .putInt(KEY_THEME_MODE, settings.getThemeMode())
+                .commit();
+
+        if (!saved) {
+            Log.e(TAG, "설정 저장 실패 (메모리 값은 유지, 다음 변경 때 다시 저장)");
+        }
+    }
+}
@@ -3,9 +3,10 @@ package com.example.umbrellaalert.data.manager;
 import android.content.Context;
 import android.util.Log;
 
+import com.example.umbrellaalert.data.model.ForecastSeries;
+import com.example.umbrellaalert.data.model.HourlyForecast;
 import com.example.umbrellaalert.data.model.Location;
 import com.example.umbrellaalert.data.model.Weather;
-import com.example.umbrellaalert.data.model.HourlyForecast;
 import com.example.umbrellaalert.weather.SimpleWeatherService;
 
 import java.util.ArrayList;
@@ -14,6 +15,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import dagger.hilt.android.qualifiers.ApplicationContext;
@@ -21,16 +23,17 @@ import dagger.hilt.android.qualifiers.ApplicationContext;
 /**
  * 날씨 매니저 - OpenWeather API 사용
  * Hilt 의존성 주입을 통해 SimpleWeatherService 사용
+ * 날씨 서비스와 그 아래 API 클라이언트(스레드 풀, HTTP 전송)는 첫 요청 때 만들어 앱 시작을 가볍게 함
  */
 @Singleton
 public class WeatherManager {
 
     private static final String TAG = "WeatherManager";
     private final Context context;
-    private final SimpleWeatherService weatherService;
+    private final Provider<SimpleWeatherService> weatherService;
 
     @Inject
-    public WeatherManager(@ApplicationContext Context context, SimpleWeatherService weatherService) {
+    public WeatherManager(@ApplicationContext Context context, Provider<SimpleWeatherService> weatherService) {
         this.context = context.getApplicationContext();
         this.weatherService = weatherService;
     }
@@ -43,7 +46,7 @@ public class WeatherManager {
     public void getCurrentWeather(double latitude, double longitude, WeatherCallback callback) {
         Log.d(TAG, "🌤️ OpenWeather API로 날씨 데이터 요청 시작");
 
-        weatherService.getCurrentWeather(latitude, longitude, new SimpleWeatherService.WeatherCallback() {
+        weatherService.get().getCurrentWeather(latitude, longitude, new SimpleWeatherService.WeatherCallback() {
             @Override
             public void onSuccess(Weather weather) {
                 Log.d(TAG, "✅ OpenWeather API 날씨 데이터 수신: " + weather.getTemperature() + "°C, " + weather.getWeatherCondition());
@@ -64,7 +67,7 @@ public class WeatherManager {
      * 고양이 메시지 생성 - 단순화된 버전
      */
     public String getCatMessage(Weather weather) {
-        return weatherService.getCatMessage(weather);
+        return weatherService.get().getCatMessage(weather);
     }
 
     /**
@@ -73,7 +76,7 @@ public class WeatherManager {
     public void get12HourForecast(double latitude, double longitude, ForecastCallback callback) {
         Log.d(TAG, "🌤️ OpenWeather API로 12시간 예보 요청 시작");
 
-        weatherService.get12HourForecast(latitude, longitude, new SimpleWeatherService.ForecastCallback() {
+        weatherService.get().get12HourForecast(latitude, longitude, new SimpleWeatherService.ForecastCallback() {
             @Override
             public void onSuccess(List<HourlyForecast> forecasts) {
                 Log.d(TAG, "✅ OpenWeather API 12시간 예보 수신 완료: " + forecasts.size() + "개");
@@ -160,24 +163,17 @@ public class WeatherManager {
         get12HourForecast(latitude, longitude, new ForecastCallback() {
             @Override
             public void onSuccess(List<HourlyForecast> forecasts) {
-                boolean hasRainToday = false;
-
                 // 오늘 날짜 계산
-                long todayStart = getTodayStartTime();
-                long todayEnd = todayStart + 24 * 60 * 60 * 1000; // 24시간 후
-
-                for (HourlyForecast forecast : forecasts) {
-                    long forecastTime = forecast.getTimestamp();
-
-                    // 오늘 범위 내의 예보만 체크
-                    if (forecastTime >= todayStart && forecastTime < todayEnd) {
-                        if (isRainyWeather(forecast.getWeatherCondition()) || forecast.getPrecipitation() > 0.1f) {
-                            hasRainToday = true;
-                            Log.d(TAG, locationName + " - 비 예보 발견: " + forecast.getWeatherCondition() +
-                                      ", 강수량: " + forecast.getPrecipitation() + "mm");
-                            break;
-                        }
-                    }
+                long todayStart = getTodayStartTime() / 1000;
+                long todayEnd = todayStart + 24 * 60 * 60; // 24시간 후
+
+                // 오늘 범위 내의 예보만 체크
+                ForecastSeries series = ForecastSeries.from(forecasts);
+                int rainIndex = series.indexOfFirstRain(todayStart, todayEnd);
+                boolean hasRainToday = rainIndex >= 0;
+                if (hasRainToday) {
+                    Log.d(TAG, locationName + " - 비 예보 발견: " + series.getCondition(rainIndex).getLabel() +
+                              ", 강수량: " + series.getPrecipitation(rainIndex) + "mm");
                 }
 
                 callback.onRainCheckCompleted(hasRainToday);
@@ -202,20 +198,6 @@ public class WeatherManager {
         return calendar.getTimeInMillis();
     }
 
-    /**
-     * 비가 오는 날씨인지 판단
-     */
-    private boolean isRainyWeather(String weatherCondition) {
-        if (weatherCondition == null) return false;
-
-        String condition = weatherCondition.toLowerCase();
-        return condition.contains("rain") || condition.contains("비") ||
-               condition.contains("drizzle") || condition.contains("이슬비") ||
-               condition.contains("shower") || condition.contains("소나기") ||
-               condition.contains("thunderstorm") || condition.contains("천둥") ||
-               condition.contains("storm") || condition.contains("폭풍");
-    }
-
     /**
      * 위치 정보를 담는 내부 클래스
      */
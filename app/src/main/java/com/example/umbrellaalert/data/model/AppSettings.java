@@ -0,0 +1,247 @@
+package com.example.umbrellaalert.data.model;
+
+/**
+ * 앱 설정 스냅샷 (불변)
+ * SettingsManager가 한 번 읽어 메모리에 들고 있으며, 바꿀 때는 toBuilder()로 새 스냅샷을 만듦
+ */
+public final class AppSettings {
+
+    // 알림 자동 종료
+    private final boolean autoStopEnabled;
+    private final int stopHour;
+    private final int stopMinute;
+
+    // 알림 종류별 설정
+    private final boolean rainAlertEnabled;
+    private final boolean vibrationEnabled;
+    private final boolean soundEnabled;
+    private final boolean persistentNotificationEnabled;
+    private final boolean busNotificationEnabled;
+
+    // 위젯
+    private final boolean widgetEnabled;
+    private final boolean widgetAutoUpdateEnabled;
+
+    // 아침 우산 알람
+    private final int morningAlarmHour;
+    private final int morningAlarmMinute;
+    private final int prefetchLeadMinutes;
+
+    // 알림 지우기 상태 (지운 시각, 0이면 없음)
+    private final boolean persistentNotificationDismissed;
+    private final long weatherNotificationDismissedAt;
+    private final long busNotificationDismissedAt;
+
+    // 테마 (ThemeActivity.THEME_LIGHT / THEME_DARK / THEME_SYSTEM)
+    private final int themeMode;
+
+    private AppSettings(Builder builder) {
+        this.autoStopEnabled = builder.autoStopEnabled;
+        this.stopHour = builder.stopHour;
+        this.stopMinute = builder.stopMinute;
+        this.rainAlertEnabled = builder.rainAlertEnabled;
+        this.vibrationEnabled = builder.vibrationEnabled;
+        this.soundEnabled = builder.soundEnabled;
+        this.persistentNotificationEnabled = builder.persistentNotificationEnabled;
+        this.busNotificationEnabled = builder.busNotificationEnabled;
+        this.widgetEnabled = builder.widgetEnabled;
+        this.widgetAutoUpdateEnabled = builder.widgetAutoUpdateEnabled;
+        this.morningAlarmHour = builder.morningAlarmHour;
+        this.morningAlarmMinute = builder.morningAlarmMinute;
+        this.prefetchLeadMinutes = builder.prefetchLeadMinutes;
+        this.persistentNotificationDismissed = builder.persistentNotificationDismissed;
+        this.weatherNotificationDismissedAt = builder.weatherNotificationDismissedAt;
+        this.busNotificationDismissedAt = builder.busNotificationDismissedAt;
+        this.themeMode = builder.themeMode;
+    }
+
+    public boolean isAutoStopEnabled() { return autoStopEnabled; }
+    public int getStopHour() { return stopHour; }
+    public int getStopMinute() { return stopMinute; }
+    public boolean isRainAlertEnabled() { return rainAlertEnabled; }
+    public boolean isVibrationEnabled() { return vibrationEnabled; }
+    public boolean isSoundEnabled() { return soundEnabled; }
+    public boolean isPersistentNotificationEnabled() { return persistentNotificationEnabled; }
+    public boolean isBusNotificationEnabled() { return busNotificationEnabled; }
+    public boolean isWidgetEnabled() { return widgetEnabled; }
+    public boolean isWidgetAutoUpdateEnabled() { return widgetAutoUpdateEnabled; }
+    public int getMorningAlarmHour() { return morningAlarmHour; }
+    public int getMorningAlarmMinute() { return morningAlarmMinute; }
+    public int getPrefetchLeadMinutes() { return prefetchLeadMinutes; }
+    public boolean isPersistentNotificationDismissed() { return persistentNotificationDismissed; }
+    public long getWeatherNotificationDismissedAt() { return weatherNotificationDismissedAt; }
+    public long getBusNotificationDismissedAt() { return busNotificationDismissedAt; }
+    public int getThemeMode() { return themeMode; }
+
+    public Builder toBuilder() {
+        return new Builder()
+                .autoStop(autoStopEnabled, stopHour, stopMinute)
+                .rainAlertEnabled(rainAlertEnabled)
+                .vibrationEnabled(vibrationEnabled)
+                .soundEnabled(soundEnabled)
+                .persistentNotificationEnabled(persistentNotificationEnabled)
+                .busNotificationEnabled(busNotificationEnabled)
+                .widgetEnabled(widgetEnabled)
+                .widgetAutoUpdateEnabled(widgetAutoUpdateEnabled)
+                .morningAlarm(morningAlarmHour, morningAlarmMinute)
+                .prefetchLeadMinutes(prefetchLeadMinutes)
+                .persistentNotificationDismissed(persistentNotificationDismissed)
+                .weatherNotificationDismissedAt(weatherNotificationDismissedAt)
+                .busNotificationDismissedAt(busNotificationDismissedAt)
+                .themeMode(themeMode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AppSettings)) return false;
+        AppSettings other = (AppSettings) o;
+        return autoStopEnabled == other.autoStopEnabled
+                && stopHour == other.stopHour
+                && stopMinute == other.stopMinute
+                && rainAlertEnabled == other.rainAlertEnabled
+                && vibrationEnabled == other.vibrationEnabled
+                && soundEnabled == other.soundEnabled
+                && persistentNotificationEnabled == other.persistentNotificationEnabled
+                && busNotificationEnabled == other.busNotificationEnabled
+                && widgetEnabled == other.widgetEnabled
+                && widgetAutoUpdateEnabled == other.widgetAutoUpdateEnabled
+                && morningAlarmHour == other.morningAlarmHour
+                && morningAlarmMinute == other.morningAlarmMinute
+                && prefetchLeadMinutes == other.prefetchLeadMinutes
+                && persistentNotificationDismissed == other.persistentNotificationDismissed
+                && weatherNotificationDismissedAt == other.weatherNotificationDismissedAt
+                && busNotificationDismissedAt == other.busNotificationDismissedAt
+                && themeMode == other.themeMode;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(autoStopEnabled);
+        result = 31 * result + stopHour;
+        result = 31 * result + stopMinute;
+        result = 31 * result + Boolean.hashCode(rainAlertEnabled);
+        result = 31 * result + Boolean.hashCode(vibrationEnabled);
+        result = 31 * result + Boolean.hashCode(soundEnabled);
+        result = 31 * result + Boolean.hashCode(persistentNotificationEnabled);
+        result = 31 * result + Boolean.hashCode(busNotificationEnabled);
+        result = 31 * result + Boolean.hashCode(widgetEnabled);
+        result = 31 * result + Boolean.hashCode(widgetAutoUpdateEnabled);
+        result = 31 * result + morningAlarmHour;
+        result = 31 * result + morningAlarmMinute;
+        result = 31 * result + prefetchLeadMinutes;
+        result = 31 * result + Boolean.hashCode(persistentNotificationDismissed);
+        result = 31 * result + Long.hashCode(weatherNotificationDismissedAt);
+        result = 31 * result + Long.hashCode(busNotificationDismissedAt);
+        result = 31 * result + themeMode;
+        return result;
+    }
+
+    /**
+     * 설정 빌더 (기본값은 기존 SharedPreferences 기본값과 같음)
+     */
+    public static final class Builder {
+        private boolean autoStopEnabled = true;
+        private int stopHour = 10;
+        private int stopMinute = 0;
+        private boolean rainAlertEnabled = true;
+        private boolean vibrationEnabled = true;
+        private boolean soundEnabled = true;
+        private boolean persistentNotificationEnabled = false;
+        private boolean busNotificationEnabled = false;
+        private boolean widgetEnabled = true;
+        private boolean widgetAutoUpdateEnabled = true;
+        private int morningAlarmHour = 7;
+        private int morningAlarmMinute = 0;
+        private int prefetchLeadMinutes = 30;
+        private boolean persistentNotificationDismissed = false;
+        private long weatherNotificationDismissedAt = 0;
+        private long busNotificationDismissedAt = 0;
+        private int themeMode = 2;
+
+        public Builder autoStopEnabled(boolean enabled) {
+            this.autoStopEnabled = enabled;
+            return this;
+        }
+
+        public Builder stopTime(int hour, int minute) {
+            this.stopHour = hour;
+            this.stopMinute = minute;
+            return this;
+        }
+
+        public Builder autoStop(boolean enabled, int hour, int minute) {
+            return autoStopEnabled(enabled).stopTime(hour, minute);
+        }
+
+        public Builder rainAlertEnabled(boolean enabled) {
+            this.rainAlertEnabled = enabled;
+            return this;
+        }
+
+        public Builder vibrationEnabled(boolean enabled) {
+            this.vibrationEnabled = enabled;
+            return this;
+        }
+
+        public Builder soundEnabled(boolean enabled) {
+            this.soundEnabled = enabled;
+            return this;
+        }
+
+        public Builder persistentNotificationEnabled(boolean enabled) {
+            this.persistentNotificationEnabled = enabled;
+            return this;
+        }
+
+        public Builder busNotificationEnabled(boolean enabled) {
+            this.busNotificationEnabled = enabled;
+            return this;
+        }
+
+        public Builder widgetEnabled(boolean enabled) {
+            this.widgetEnabled = enabled;
+            return this;
+        }
+
+        public Builder widgetAutoUpdateEnabled(boolean enabled) {
+            this.widgetAutoUpdateEnabled = enabled;
+            return this;
+        }
+
+        public Builder morningAlarm(int hour, int minute) {
+            this.morningAlarmHour = hour;
+            this.morningAlarmMinute = minute;
+            return this;
+        }
+
+        public Builder prefetchLeadMinutes(int minutes) {
+            this.prefetchLeadMinutes = Math.max(0, minutes);
+            return this;
+        }
+
+        public Builder persistentNotificationDismissed(boolean dismissed) {
+            this.persistentNotificationDismissed = dismissed;
+            return this;
+        }
+
+        public Builder weatherNotificationDismissedAt(long timeMillis) {
+            this.weatherNotificationDismissedAt = timeMillis;
+            return this;
+        }
+
+        public Builder busNotificationDismissedAt(long timeMillis) {
+            this.busNotificationDismissedAt = timeMillis;
+            return this;
+        }
+
+        public Builder themeMode(int themeMode) {
+            this.themeMode = themeMode;
+            return this;
+        }
+
+        public AppSettings build() {
+            return new AppSettings(this);
+        }
+    }
+}
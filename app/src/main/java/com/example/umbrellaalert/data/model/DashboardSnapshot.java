@@ -0,0 +1,183 @@
+package com.example.umbrellaalert.data.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 대시보드 스냅샷 모델 (불변)
+ * 한 번의 갱신 주기에서 모은 날씨, 예보 요약, 버스 도착 정보, 고양이 메시지를 담아
+ * 위젯과 알림이 같은 데이터를 보도록 함. 내용이 바뀔 때만 version이 증가
+ */
+public final class DashboardSnapshot {
+
+    /**
+     * 등록된 버스 한 대의 도착 정보
+     */
+    public static final class BusEta {
+
+        public enum Status {
+            FOUND,       // 도착 정보 있음
+            NOT_RUNNING, // 해당 노선 운행 정보 없음
+            ERROR        // 조회 실패
+        }
+
+        private final String routeNo;
+        private final Status status;
+        private final int arrivalMinutes;     // FOUND가 아니면 -1
+        private final String formattedArrTime;
+        private final int walkingMinutes;     // 알 수 없으면 -1
+
+        public BusEta(String routeNo, Status status, int arrivalMinutes,
+                      String formattedArrTime, int walkingMinutes) {
+            this.routeNo = routeNo;
+            this.status = status;
+            this.arrivalMinutes = arrivalMinutes;
+            this.formattedArrTime = formattedArrTime;
+            this.walkingMinutes = walkingMinutes;
+        }
+
+        public String getRouteNo() { return routeNo; }
+        public Status getStatus() { return status; }
+        public int getArrivalMinutes() { return arrivalMinutes; }
+        public String getFormattedArrTime() { return formattedArrTime; }
+        public int getWalkingMinutes() { return walkingMinutes; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof BusEta)) return false;
+            BusEta other = (BusEta) o;
+            return arrivalMinutes == other.arrivalMinutes
+                    && walkingMinutes == other.walkingMinutes
+                    && status == other.status
+                    && Objects.equals(routeNo, other.routeNo)
+                    && Objects.equals(formattedArrTime, other.formattedArrTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(routeNo, status, arrivalMinutes, formattedArrTime, walkingMinutes);
+        }
+    }
+
+    private final long version;
+    private final long createdAt;
+
+    // 현재 날씨 (hasWeather가 false이면 나머지 값은 의미 없음)
+    private final boolean hasWeather;
+    private final float temperature;
+    private final String weatherCondition;
+    private final float precipitation;
+    private final boolean needUmbrella;
+    private final String catMessage;
+
+    // 예보 요약 (forecastSummary가 null이면 예보 없음)
+    private final boolean rainExpected;
+    private final int maxPrecipitationProbability;
+    private final String forecastSummary;
+
+    // 버스 도착 정보
+    private final int registeredBusCount;
+    private final List<BusEta> busEtas;
+
+    private DashboardSnapshot(Builder builder, long version) {
+        this.version = version;
+        this.createdAt = builder.createdAt;
+        this.hasWeather = builder.hasWeather;
+        this.temperature = builder.temperature;
+        this.weatherCondition = builder.weatherCondition;
+        this.precipitation = builder.precipitation;
+        this.needUmbrella = builder.needUmbrella;
+        this.catMessage = builder.catMessage;
+        this.rainExpected = builder.rainExpected;
+        this.maxPrecipitationProbability = builder.maxPrecipitationProbability;
+        this.forecastSummary = builder.forecastSummary;
+        this.registeredBusCount = builder.registeredBusCount;
+        this.busEtas = Collections.unmodifiableList(new ArrayList<>(builder.busEtas));
+    }
+
+    // Getters
+    public long getVersion() { return version; }
+    public long getCreatedAt() { return createdAt; }
+    public boolean hasWeather() { return hasWeather; }
+    public float getTemperature() { return temperature; }
+    public String getWeatherCondition() { return weatherCondition; }
+    public float getPrecipitation() { return precipitation; }
+    public boolean isNeedUmbrella() { return needUmbrella; }
+    public String getCatMessage() { return catMessage; }
+    public boolean isRainExpected() { return rainExpected; }
+    public int getMaxPrecipitationProbability() { return maxPrecipitationProbability; }
+    public String getForecastSummary() { return forecastSummary; }
+    public int getRegisteredBusCount() { return registeredBusCount; }
+    public List<BusEta> getBusEtas() { return busEtas; }
+
+    /**
+     * version과 생성 시각을 제외한 내용이 같은지 비교
+     */
+    public boolean hasSameContent(DashboardSnapshot other) {
+        if (other == null) return false;
+        return hasWeather == other.hasWeather
+                && Float.compare(temperature, other.temperature) == 0
+                && Float.compare(precipitation, other.precipitation) == 0
+                && needUmbrella == other.needUmbrella
+                && rainExpected == other.rainExpected
+                && maxPrecipitationProbability == other.maxPrecipitationProbability
+                && registeredBusCount == other.registeredBusCount
+                && Objects.equals(weatherCondition, other.weatherCondition)
+                && Objects.equals(catMessage, other.catMessage)
+                && Objects.equals(forecastSummary, other.forecastSummary)
+                && busEtas.equals(other.busEtas);
+    }
+
+    /**
+     * 스냅샷 빌더 (버전은 DashboardSnapshotManager가 게시할 때 부여)
+     */
+    public static final class Builder {
+        private final long createdAt;
+        private boolean hasWeather;
+        private float temperature;
+        private String weatherCondition;
+        private float precipitation;
+        private boolean needUmbrella;
+        private String catMessage;
+        private boolean rainExpected;
+        private int maxPrecipitationProbability;
+        private String forecastSummary;
+        private int registeredBusCount;
+        private List<BusEta> busEtas = Collections.emptyList();
+
+        public Builder(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public Builder weather(float temperature, String weatherCondition, float precipitation,
+                               boolean needUmbrella, String catMessage) {
+            this.hasWeather = true;
+            this.temperature = temperature;
+            this.weatherCondition = weatherCondition;
+            this.precipitation = precipitation;
+            this.needUmbrella = needUmbrella;
+            this.catMessage = catMessage;
+            return this;
+        }
+
+        public Builder forecast(boolean rainExpected, int maxPrecipitationProbability, String forecastSummary) {
+            this.rainExpected = rainExpected;
+            this.maxPrecipitationProbability = maxPrecipitationProbability;
+            this.forecastSummary = forecastSummary;
+            return this;
+        }
+
+        public Builder buses(int registeredBusCount, List<BusEta> busEtas) {
+            this.registeredBusCount = registeredBusCount;
+            this.busEtas = busEtas;
+            return this;
+        }
+
+        public DashboardSnapshot build(long version) {
+            return new DashboardSnapshot(this, version);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.umbrellaalert.data.model;
+
+import java.util.List;
+
+/**
+ * 시간별 예보를 항목별 기본형 배열로 보관하는 압축 표현 (struct-of-arrays)
+ * 시각은 epoch 초, 날씨 상태와 강수형태는 byte 코드로 저장해
+ * 분석 루프에서 시간마다 객체를 만들거나 문자열을 비교하지 않음
+ */
+public final class ForecastSeries {
+
+    /**
+     * 강수형태 코드 (기상청 PTY)
+     */
+    public static final byte PRECIPITATION_NONE = 0;
+    public static final byte PRECIPITATION_RAIN = 1;
+    public static final byte PRECIPITATION_SLEET = 2;
+    public static final byte PRECIPITATION_SNOW = 3;
+    public static final byte PRECIPITATION_SHOWER = 4;
+    public static final byte PRECIPITATION_DROPS = 5;
+    public static final byte PRECIPITATION_DROPS_SNOW = 6;
+    public static final byte PRECIPITATION_SNOW_FLURRY = 7;
+
+    private static final String[] PRECIPITATION_LABELS = {
+            "없음", "비", "비/눈", "눈", "소나기", "빗방울", "빗방울눈날림", "눈날림"
+    };
+
+    // 강수형태가 있을 때 날씨 상태 대신 쓰는 코드
+    private static final WeatherCondition[] PRECIPITATION_CONDITIONS = {
+            WeatherCondition.UNKNOWN, WeatherCondition.RAIN, WeatherCondition.SLEET, WeatherCondition.SNOW,
+            WeatherCondition.SHOWER, WeatherCondition.DRIZZLE, WeatherCondition.SLEET, WeatherCondition.SNOW
+    };
+
+    private static final int KST_OFFSET_SECONDS = 9 * 60 * 60;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final int size;
+    private final long[] epochSeconds;
+    private final float[] temperature;
+    private final float[] precipitation;
+    private final byte[] precipitationProbability;
+    private final byte[] humidity;
+    private final float[] windSpeed;
+    private final byte[] precipitationType;
+    private final byte[] condition;
+    private final boolean[] needUmbrella;
+    private long version;
+
+    private ForecastSeries(int size) {
+        this.size = size;
+        this.epochSeconds = new long[size];
+        this.temperature = new float[size];
+        this.precipitation = new float[size];
+        this.precipitationProbability = new byte[size];
+        this.humidity = new byte[size];
+        this.windSpeed = new float[size];
+        this.precipitationType = new byte[size];
+        this.condition = new byte[size];
+        this.needUmbrella = new boolean[size];
+    }
+
+    /**
+     * 시간별 예보 목록을 압축 표현으로 변환 (문자열 해석은 여기서 한 번만)
+     */
+    public static ForecastSeries from(List<HourlyForecast> forecasts) {
+        int size = forecasts != null ? forecasts.size() : 0;
+        ForecastSeries series = new ForecastSeries(size);
+        for (int i = 0; i < size; i++) {
+            HourlyForecast forecast = forecasts.get(i);
+            long seconds = toEpochSeconds(forecast.getForecastDate(), forecast.getForecastTime());
+            series.epochSeconds[i] = seconds != Long.MIN_VALUE ? seconds : forecast.getTimestamp() / 1000;
+            series.temperature[i] = forecast.getTemperature();
+            series.precipitation[i] = forecast.getPrecipitation();
+            series.precipitationProbability[i] = (byte) clampPercent(forecast.getPrecipitationProbability());
+            series.humidity[i] = (byte) clampPercent(forecast.getHumidity());
+            series.windSpeed[i] = forecast.getWindSpeed();
+            series.precipitationType[i] = (byte) forecast.getPrecipitationType();
+            series.condition[i] = resolveCondition(forecast.getWeatherCondition(), forecast.getPrecipitationType()).code();
+            series.needUmbrella[i] = forecast.isNeedUmbrella();
+        }
+        series.version = series.computeVersion();
+        return series;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 예보 내용의 지문 (내용이 같으면 같은 값, 분석 결과 메모이제이션 키로 사용)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public long getEpochSeconds(int index) {
+        return epochSeconds[index];
+    }
+
+    /**
+     * 예보 시각의 한국 시간 기준 시 (0~23)
+     */
+    public int getHourOfDay(int index) {
+        return (int) (Math.floorMod(epochSeconds[index] + KST_OFFSET_SECONDS, (long) SECONDS_PER_DAY) / 3600);
+    }
+
+    public float getTemperature(int index) {
+        return temperature[index];
+    }
+
+    public float getPrecipitation(int index) {
+        return precipitation[index];
+    }
+
+    public int getPrecipitationProbability(int index) {
+        return precipitationProbability[index];
+    }
+
+    public int getHumidity(int index) {
+        return humidity[index];
+    }
+
+    public float getWindSpeed(int index) {
+        return windSpeed[index];
+    }
+
+    public byte getPrecipitationType(int index) {
+        return precipitationType[index];
+    }
+
+    public String getPrecipitationLabel(int index) {
+        byte type = precipitationType[index];
+        return type >= 0 && type < PRECIPITATION_LABELS.length ? PRECIPITATION_LABELS[type] : PRECIPITATION_LABELS[0];
+    }
+
+    public byte getConditionCode(int index) {
+        return condition[index];
+    }
+
+    public WeatherCondition getCondition(int index) {
+        return WeatherCondition.fromCode(condition[index]);
+    }
+
+    public boolean isNeedUmbrella(int index) {
+        return needUmbrella[index];
+    }
+
+    /**
+     * 비가 오는 시간인지 (날씨 상태가 비 종류이거나 강수량이 있는 경우)
+     */
+    public boolean isRainy(int index) {
+        return WeatherCondition.isRainy(condition[index]) || precipitation[index] > 0.1f;
+    }
+
+    /**
+     * [fromSeconds, toSeconds) 구간에서 처음으로 비가 오는 예보의 인덱스, 없으면 -1
+     */
+    public int indexOfFirstRain(long fromSeconds, long toSeconds) {
+        for (int i = 0; i < size; i++) {
+            long seconds = epochSeconds[i];
+            if (seconds >= fromSeconds && seconds < toSeconds && isRainy(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // FNV-1a 64비트 해시를 항목별 값에 차례로 적용
+    private long computeVersion() {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < size; i++) {
+            hash = mix(hash, epochSeconds[i]);
+            hash = mix(hash, Float.floatToIntBits(temperature[i]));
+            hash = mix(hash, Float.floatToIntBits(precipitation[i]));
+            hash = mix(hash, Float.floatToIntBits(windSpeed[i]));
+            hash = mix(hash, precipitationProbability[i] | humidity[i] << 8 | precipitationType[i] << 16
+                    | condition[i] << 24 | (needUmbrella[i] ? 1L << 32 : 0));
+        }
+        return mix(hash, size);
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 강수형태가 있으면 그에 맞는 상태를, 없으면 날씨 문구를 해석한 상태를 사용
+     */
+    private static WeatherCondition resolveCondition(String weatherCondition, int precipitationType) {
+        WeatherCondition parsed = WeatherCondition.fromText(weatherCondition);
+        if (precipitationType > 0 && precipitationType < PRECIPITATION_CONDITIONS.length && !parsed.isRainy()
+                && parsed != WeatherCondition.SNOW) {
+            return PRECIPITATION_CONDITIONS[precipitationType];
+        }
+        return parsed;
+    }
+
+    /**
+     * yyyyMMdd + HHmm (한국 시간)을 epoch 초로 변환, 형식이 맞지 않으면 Long.MIN_VALUE
+     * SimpleDateFormat 없이 숫자만 계산
+     */
+    static long toEpochSeconds(String date, String time) {
+        if (date == null || date.length() != 8 || time == null || time.length() < 4) {
+            return Long.MIN_VALUE;
+        }
+        int year = parseDigits(date, 0, 4);
+        int month = parseDigits(date, 4, 6);
+        int day = parseDigits(date, 6, 8);
+        int hour = parseDigits(time, 0, 2);
+        int minute = parseDigits(time, 2, 4);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31 || hour < 0 || hour > 24
+                || minute < 0 || minute > 59) {
+            return Long.MIN_VALUE;
+        }
+        return daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L - KST_OFFSET_SECONDS;
+    }
+
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // 1970-01-01부터의 일 수 (그레고리력)
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        long era = Math.floorDiv(year, 400);
+        long yearOfEra = year - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int clampPercent(int value) {
+        return Math.max(0, Math.min(100, value));
+    }
+}
@@ -27,6 +27,12 @@ public class Location {
         this.isDefault = isDefault;
     }
 
+    // 복사 생성자 (조회 캐시가 공유하는 객체는 복사한 뒤 수정)
+    public Location(Location other) {
+        this(other.id, other.name, other.latitude, other.longitude,
+                other.frequent, other.notificationEnabled, other.isDefault);
+    }
+
     // Getters and Setters
     public int getId() {
         return id;
@@ -0,0 +1,66 @@
+package com.example.umbrellaalert.data.model;
+
+/**
+ * 아침 알람 전에 미리 계산해 둔 오늘의 우산 판단
+ * 등록된 위치들(격자 단위로 중복 제거)의 예보를 모아서 한 번에 결정
+ */
+public class UmbrellaVerdict {
+
+    private final String day;               // 판단 대상 날짜 (yyyyMMdd, 한국 시간)
+    private final boolean needUmbrella;
+    private final int maxRainProbability;   // 모든 위치 중 최대 강수확률 (%)
+    private final int firstRainHour;        // 가장 이른 비 예보 시각 (0~23, 없으면 -1)
+    private final String rainyPlaces;       // 비 예보가 있는 위치 이름 (쉼표로 구분)
+    private final int checkedCells;         // 예보를 받은 격자 수
+    private final int failedCells;          // 예보를 받지 못한 격자 수
+    private final long computedAt;
+
+    public UmbrellaVerdict(String day, boolean needUmbrella, int maxRainProbability, int firstRainHour,
+                           String rainyPlaces, int checkedCells, int failedCells, long computedAt) {
+        this.day = day;
+        this.needUmbrella = needUmbrella;
+        this.maxRainProbability = maxRainProbability;
+        this.firstRainHour = firstRainHour;
+        this.rainyPlaces = rainyPlaces;
+        this.checkedCells = checkedCells;
+        this.failedCells = failedCells;
+        this.computedAt = computedAt;
+    }
+
+    public String getDay() { return day; }
+    public boolean isNeedUmbrella() { return needUmbrella; }
+    public int getMaxRainProbability() { return maxRainProbability; }
+    public int getFirstRainHour() { return firstRainHour; }
+    public String getRainyPlaces() { return rainyPlaces; }
+    public int getCheckedCells() { return checkedCells; }
+    public int getFailedCells() { return failedCells; }
+    public long getComputedAt() { return computedAt; }
+
+    /**
+     * 모든 위치의 예보를 받았는지
+     */
+    public boolean isComplete() {
+        return failedCells == 0 && checkedCells > 0;
+    }
+
+    /**
+     * 알림에 표시할 고양이 메시지
+     */
+    public String getMessage() {
+        if (!needUmbrella) {
+            return "오늘은 우산이 필요 없다냥! 가볍게 다녀와라냥~ ☀️";
+        }
+        StringBuilder message = new StringBuilder("오늘 ");
+        if (rainyPlaces != null && !rainyPlaces.isEmpty()) {
+            message.append(rainyPlaces).append("에 ");
+        }
+        if (firstRainHour >= 0) {
+            message.append(firstRainHour).append("시부터 ");
+        }
+        message.append("비 예보가 있다냥! 우산을 챙겨라냥 ☔");
+        if (maxRainProbability > 0) {
+            message.append(" (강수확률 최대 ").append(maxRainProbability).append("%)");
+        }
+        return message.toString();
+    }
+}
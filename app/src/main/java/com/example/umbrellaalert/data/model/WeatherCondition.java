@@ -0,0 +1,225 @@
+package com.example.umbrellaalert.data.model;
+
+import com.example.umbrellaalert.R;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날씨 상태 코드
+ * API 응답(영문)과 화면 문구(한글)를 한 번만 해석해 byte 코드로 바꾸고,
+ * 이후 분석/표시는 코드로 인덱싱하는 표(한글 문구, 아이콘, 심각도)만 사용
+ */
+public enum WeatherCondition {
+    UNKNOWN("알 수 없음", R.drawable.ic_sunny, 0, false),
+    CLEAR("맑음", R.drawable.ic_sunny, 0, false),
+    PARTLY_CLOUDY("구름많음", R.drawable.ic_cloudy, 1, false),
+    CLOUDY("흐림", R.drawable.ic_cloudy, 2, false),
+    FOG("안개", R.drawable.ic_cloudy, 2, false),
+    DRIZZLE("이슬비", R.drawable.ic_rainy, 3, true),
+    RAIN("비", R.drawable.ic_rainy, 4, true),
+    SHOWER("소나기", R.drawable.ic_rainy, 4, true),
+    SLEET("비/눈", R.drawable.ic_snowy, 4, true),
+    SNOW("눈", R.drawable.ic_snowy, 4, false),
+    THUNDERSTORM("뇌우", R.drawable.ic_rainy, 5, true);
+
+    private static final WeatherCondition[] BY_CODE = values();
+
+    // 코드로 바로 찾는 표 (분석 루프에서 사용)
+    private static final String[] LABELS = new String[BY_CODE.length];
+    private static final int[] ICONS = new int[BY_CODE.length];
+    private static final byte[] SEVERITY = new byte[BY_CODE.length];
+    private static final boolean[] RAINY = new boolean[BY_CODE.length];
+
+    // 알려진 표기 (소문자 영문 + 한글)
+    private static final Map<String, WeatherCondition> KNOWN_NAMES = new HashMap<>();
+
+    // 알려진 표기에 없는 문구를 해석한 결과 (같은 문구는 한 번만 해석)
+    private static final Map<String, WeatherCondition> PARSED = new ConcurrentHashMap<>();
+
+    static {
+        for (WeatherCondition condition : BY_CODE) {
+            LABELS[condition.ordinal()] = condition.label;
+            ICONS[condition.ordinal()] = condition.iconRes;
+            SEVERITY[condition.ordinal()] = (byte) condition.severity;
+            RAINY[condition.ordinal()] = condition.rainy;
+            KNOWN_NAMES.put(condition.label, condition);
+        }
+
+        // OpenWeather main 값 및 위젯에서 쓰던 영문 표기
+        KNOWN_NAMES.put("clear", CLEAR);
+        KNOWN_NAMES.put("sunny", CLEAR);
+        KNOWN_NAMES.put("clouds", PARTLY_CLOUDY);
+        KNOWN_NAMES.put("partly_cloudy", PARTLY_CLOUDY);
+        KNOWN_NAMES.put("cloudy", CLOUDY);
+        KNOWN_NAMES.put("overcast", CLOUDY);
+        KNOWN_NAMES.put("atmosphere", FOG);
+        KNOWN_NAMES.put("mist", FOG);
+        KNOWN_NAMES.put("fog", FOG);
+        KNOWN_NAMES.put("haze", FOG);
+        KNOWN_NAMES.put("drizzle", DRIZZLE);
+        KNOWN_NAMES.put("rain", RAIN);
+        KNOWN_NAMES.put("shower", SHOWER);
+        KNOWN_NAMES.put("sleet", SLEET);
+        KNOWN_NAMES.put("snow", SNOW);
+        KNOWN_NAMES.put("thunderstorm", THUNDERSTORM);
+
+        // 한글 변형
+        KNOWN_NAMES.put("구름", PARTLY_CLOUDY);
+        KNOWN_NAMES.put("구름 조금", PARTLY_CLOUDY);
+        KNOWN_NAMES.put("구름조금", PARTLY_CLOUDY);
+        KNOWN_NAMES.put("비/눈", SLEET);
+        KNOWN_NAMES.put("천둥번개", THUNDERSTORM);
+    }
+
+    private final String label;
+    private final int iconRes;
+    private final int severity;
+    private final boolean rainy;
+
+    WeatherCondition(String label, int iconRes, int severity, boolean rainy) {
+        this.label = label;
+        this.iconRes = iconRes;
+        this.severity = severity;
+        this.rainy = rainy;
+    }
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getIconRes() {
+        return iconRes;
+    }
+
+    /**
+     * 날씨가 나쁜 정도 (맑음 0 ~ 뇌우 5)
+     */
+    public int getSeverity() {
+        return severity;
+    }
+
+    /**
+     * 우산이 필요한 강수인지 (눈은 제외)
+     */
+    public boolean isRainy() {
+        return rainy;
+    }
+
+    /**
+     * 앱에서 저장/표시하는 네 가지 분류(맑음/흐림/비/눈)로 묶기
+     */
+    public WeatherCondition coarse() {
+        switch (this) {
+            case CLEAR:
+                return CLEAR;
+            case DRIZZLE:
+            case RAIN:
+            case SHOWER:
+            case THUNDERSTORM:
+                return RAIN;
+            case SLEET:
+            case SNOW:
+                return SNOW;
+            default:
+                return CLOUDY;
+        }
+    }
+
+    public static WeatherCondition fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : UNKNOWN;
+    }
+
+    public static String labelOf(byte code) {
+        return LABELS[fromCode(code).ordinal()];
+    }
+
+    public static int iconOf(byte code) {
+        return ICONS[fromCode(code).ordinal()];
+    }
+
+    public static int severityOf(byte code) {
+        return SEVERITY[fromCode(code).ordinal()];
+    }
+
+    public static boolean isRainy(byte code) {
+        return RAINY[fromCode(code).ordinal()];
+    }
+
+    /**
+     * 영문/한글 날씨 문구 해석
+     * 알려진 표기가 아니면 포함된 단어로 판단 (예: "light rain", "약한 비")
+     */
+    public static WeatherCondition fromText(String text) {
+        if (text == null || text.isEmpty()) {
+            return UNKNOWN;
+        }
+        WeatherCondition known = KNOWN_NAMES.get(text);
+        if (known != null) {
+            return known;
+        }
+        WeatherCondition parsed = PARSED.get(text);
+        if (parsed == null) {
+            parsed = parseKeywords(text.toLowerCase(Locale.ROOT));
+            PARSED.put(text, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * 화면에 표시할 한글 문구
+     * 해석할 수 없는 문구는 그대로 반환
+     */
+    public static String displayLabel(String text) {
+        if (text == null) {
+            return UNKNOWN.label;
+        }
+        WeatherCondition condition = fromText(text);
+        return condition == UNKNOWN ? text : condition.label;
+    }
+
+    private static WeatherCondition parseKeywords(String text) {
+        WeatherCondition known = KNOWN_NAMES.get(text);
+        if (known != null) {
+            return known;
+        }
+        if (text.contains("thunder") || text.contains("storm") || text.contains("천둥") || text.contains("뇌우")
+                || text.contains("폭풍")) {
+            return THUNDERSTORM;
+        }
+        if (text.contains("shower") || text.contains("소나기")) {
+            return SHOWER;
+        }
+        if (text.contains("drizzle") || text.contains("이슬비") || text.contains("빗방울")) {
+            return DRIZZLE;
+        }
+        if (text.contains("sleet") || (text.contains("비") && text.contains("눈"))) {
+            return SLEET;
+        }
+        if (text.contains("rain") || text.contains("비")) {
+            return RAIN;
+        }
+        if (text.contains("snow") || text.contains("눈")) {
+            return SNOW;
+        }
+        if (text.contains("fog") || text.contains("mist") || text.contains("haze") || text.contains("안개")) {
+            return FOG;
+        }
+        if (text.contains("overcast") || text.contains("흐림") || text.contains("흐리")) {
+            return CLOUDY;
+        }
+        if (text.contains("cloud") || text.contains("구름")) {
+            return PARTLY_CLOUDY;
+        }
+        if (text.contains("clear") || text.contains("sun") || text.contains("맑")) {
+            return CLEAR;
+        }
+        return UNKNOWN;
+    }
+}
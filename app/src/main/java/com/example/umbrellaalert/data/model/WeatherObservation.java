@@ -0,0 +1,30 @@
+package com.example.umbrellaalert.data.model;
+
+/**
+ * 날씨 제공자 한 곳에서 받은 관측 결과
+ * 제공자 간 신선도 비교를 위해 실제 관측 시각을 함께 보관 (Weather.timestamp는 수신 시각)
+ */
+public class WeatherObservation {
+
+    private final Weather weather;
+    private final long observedAt;
+    private final String source;
+
+    public WeatherObservation(Weather weather, long observedAt, String source) {
+        this.weather = weather;
+        this.observedAt = observedAt;
+        this.source = source;
+    }
+
+    public Weather getWeather() {
+        return weather;
+    }
+
+    public long getObservedAt() {
+        return observedAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
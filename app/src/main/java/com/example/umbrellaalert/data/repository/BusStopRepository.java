@@ -0,0 +1,145 @@
+package com.example.umbrellaalert.data.repository;
+
+import android.content.Context;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.api.BusApiClient;
+import com.example.umbrellaalert.data.database.AppDatabase;
+import com.example.umbrellaalert.data.database.BusStopDao;
+import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.util.SpatialGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근처 정류장 조회 Repository
+ * 정류장은 거의 바뀌지 않으므로 API 응답을 로컬 카탈로그에 누적하고,
+ * 이미 조회한 지역은 카탈로그에서 반경/최근접 순으로 바로 응답
+ */
+public class BusStopRepository {
+
+    private static final String TAG = "BusStopRepository";
+
+    // 근접 정류소 API가 커버하는 반경 (미터)
+    private static final double API_COVERAGE_RADIUS_METERS = 500;
+
+    // 기본 조회 반경 (미터)
+    public static final double DEFAULT_RADIUS_METERS = 300;
+
+    // 기본 최대 결과 개수 (API numOfRows와 동일)
+    public static final int DEFAULT_LIMIT = 50;
+
+    // 같은 지역을 다시 API로 조회하기까지의 유효 기간: 7일
+    private static final long CATALOG_TTL = TimeUnit.DAYS.toMillis(7);
+
+    private static BusStopRepository instance;
+
+    private final BusApiClient busApiClient;
+    private final BusStopDao busStopDao;
+
+    private BusStopRepository(Context context) {
+        this.busApiClient = new BusApiClient(context);
+        this.busStopDao = AppDatabase.getInstance(context).busStopDao();
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     */
+    public static synchronized BusStopRepository getInstance(Context context) {
+        if (instance == null) {
+            instance = new BusStopRepository(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 기본 반경/개수로 근처 정류장 조회 (동기, 백그라운드 스레드에서 호출)
+     */
+    public List<BusStop> getNearbyBusStops(double latitude, double longitude) throws Exception {
+        return getNearbyBusStops(latitude, longitude, DEFAULT_RADIUS_METERS, DEFAULT_LIMIT);
+    }
+
+    /**
+     * 근처 정류장 조회 (동기, 백그라운드 스레드에서 호출)
+     * 카탈로그가 해당 반경을 이미 커버하면 로컬에서 응답하고, 아니면 API로 채운 뒤 응답
+     * @param radiusMeters 조회 반경 (미터)
+     * @param limit 거리순 최대 결과 개수
+     */
+    public List<BusStop> getNearbyBusStops(double latitude, double longitude,
+                                           double radiusMeters, int limit) throws Exception {
+        long now = System.currentTimeMillis();
+
+        // 이전 조회 지점의 API 반경 안에 이번 조회 반경이 완전히 들어가야 로컬 응답 가능
+        double reuseDistance = Math.max(0, API_COVERAGE_RADIUS_METERS - radiusMeters);
+        boolean covered = busStopDao.hasFetchRecordNear(latitude, longitude, reuseDistance, now - CATALOG_TTL);
+
+        if (covered) {
+            List<BusStop> cached = findNearest(latitude, longitude, radiusMeters, limit);
+            Log.d(TAG, "카탈로그에서 근처 정류장 응답: " + cached.size() + "개");
+            return cached;
+        }
+
+        // null이면 API 실패 (빈 목록은 근처에 정류장이 없다는 정상 응답)
+        List<BusStop> fetched = busApiClient.getNearbyBusStops(latitude, longitude).get();
+        if (fetched != null) {
+            if (!fetched.isEmpty()) {
+                busStopDao.upsertBusStops(fetched, now);
+            }
+            // 정류장이 없는 지역도 기록해 두어야 같은 지역을 매번 다시 조회하지 않음
+            busStopDao.insertFetchRecord(latitude, longitude, now);
+            busStopDao.deleteFetchRecordsBefore(now - CATALOG_TTL);
+        }
+
+        // API 실패 시에도 만료된 카탈로그 데이터로 응답
+        List<BusStop> result = findNearest(latitude, longitude, radiusMeters, limit);
+        if (result.isEmpty() && fetched != null && !fetched.isEmpty()) {
+            // 반경 안에 정류장이 없으면 API가 돌려준 더 먼 정류장이라도 표시
+            result = findNearest(latitude, longitude, API_COVERAGE_RADIUS_METERS, limit);
+        }
+        Log.d(TAG, "API 조회 후 근처 정류장 응답: " + result.size() + "개 (API "
+                + (fetched != null ? fetched.size() + "개)" : "실패)"));
+        return result;
+    }
+
+    /**
+     * 카탈로그에서 반경 안의 정류장을 가까운 순으로 최대 limit개 조회
+     */
+    public List<BusStop> findNearest(double latitude, double longitude, double radiusMeters, int limit) {
+        List<BusStop> candidates = busStopDao.getBusStopsInCells(
+                SpatialGrid.cellRange(latitude, longitude, radiusMeters));
+
+        int count = candidates.size();
+        double[] distances = new double[count];
+        Integer[] order = new Integer[count];
+        int inRadius = 0;
+
+        for (int i = 0; i < count; i++) {
+            BusStop stop = candidates.get(i);
+            double distance = SpatialGrid.distanceMeters(latitude, longitude,
+                    stop.getGpsLati(), stop.getGpsLong());
+            if (distance <= radiusMeters) {
+                distances[i] = distance;
+                order[inRadius++] = i;
+            }
+        }
+
+        if (inRadius == 0) {
+            return Collections.emptyList();
+        }
+
+        Integer[] ranked = new Integer[inRadius];
+        System.arraycopy(order, 0, ranked, 0, inRadius);
+        Arrays.sort(ranked, (a, b) -> Double.compare(distances[a], distances[b]));
+
+        int resultSize = Math.min(limit, inRadius);
+        List<BusStop> result = new ArrayList<>(resultSize);
+        for (int i = 0; i < resultSize; i++) {
+            result.add(candidates.get(ranked[i]));
+        }
+        return result;
+    }
+}
@@ -6,8 +6,9 @@ import android.content.pm.PackageManager;
 import android.location.LocationManager;
 
 import androidx.core.app.ActivityCompat;
+import androidx.lifecycle.LiveData;
 
-import com.example.umbrellaalert.data.database.DatabaseHelper;
+import com.example.umbrellaalert.data.database.AppDatabase;
 import com.example.umbrellaalert.data.database.LocationDao;
 import com.example.umbrellaalert.data.model.Location;
 import com.example.umbrellaalert.domain.repository.LocationRepository;
@@ -30,15 +31,23 @@ public class LocationRepositoryImpl implements LocationRepository {
     @Inject
     public LocationRepositoryImpl(Context context) {
         this.context = context.getApplicationContext();
-        this.locationDao = new LocationDao(DatabaseHelper.getInstance(context));
+        this.locationDao = AppDatabase.getInstance(context).locationDao();
     }
 
     /**
-     * 모든 위치 정보 가져오기
+     * 모든 위치 정보 가져오기 (위치 테이블이 바뀌지 않았으면 DB를 다시 읽지 않음)
      */
     @Override
     public List<Location> getAllLocations() {
-        return locationDao.getAllLocations();
+        return locationDao.observeLocations().get();
+    }
+
+    /**
+     * 모든 위치 정보 관찰
+     */
+    @Override
+    public LiveData<List<Location>> observeAllLocations() {
+        return locationDao.observeLocations();
     }
 
     /**
@@ -46,7 +55,7 @@ public class LocationRepositoryImpl implements LocationRepository {
      */
     @Override
     public Location getLocationById(int id) {
-        List<Location> locations = locationDao.getAllLocations();
+        List<Location> locations = getAllLocations();
         for (Location location : locations) {
             if (location.getId() == id) {
                 return location;
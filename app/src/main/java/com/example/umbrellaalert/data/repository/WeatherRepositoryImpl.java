@@ -10,6 +10,7 @@ import com.example.umbrellaalert.data.manager.WeatherManager;
 
 import com.example.umbrellaalert.data.model.Weather;
 import com.example.umbrellaalert.domain.repository.WeatherRepository;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -96,37 +97,13 @@ public class WeatherRepositoryImpl implements WeatherRepository {
 
     /**
      * 기본 날씨 객체 생성 (API 호출 실패 시 사용)
+     * 같은 위치, 같은 시각이면 항상 같은 값 (시드 고정 합성 날씨)
      */
     private Weather createDefaultWeather(double latitude, double longitude) {
-        String locationKey = String.format("%f,%f", latitude, longitude);
-        long timestamp = System.currentTimeMillis();
-
-        // 랜덤한 날씨 데이터 생성 - 3가지 날씨 (리소스에 맞춤)
-        String[] conditions = {"맑음", "흐림", "비"};
-        float[] temperatures = {8.0f, 15.0f, 22.0f, 28.0f};
-
-        String condition = conditions[(int) (Math.random() * conditions.length)];
-        float temperature = temperatures[(int) (Math.random() * temperatures.length)];
-
-        float precipitation = 0.0f;
-        boolean needUmbrella = false;
-
-        if (condition.contains("비")) {
-            precipitation = (float) (Math.random() * 15 + 2);
-            needUmbrella = true;
-        }
-
-        return new Weather(
-                0,
-                temperature,
-                condition,
-                precipitation,
-                (int) (Math.random() * 40 + 40), // 40-80% 습도
-                (float) (Math.random() * 5 + 1), // 1-6 m/s 풍속
-                locationKey,
-                timestamp,
-                needUmbrella
-        );
+        Weather weather = SyntheticWeatherGenerator.fallback()
+                .observationAt(latitude, longitude, System.currentTimeMillis());
+        weather.setLocation(String.format("%f,%f", latitude, longitude));
+        return weather;
     }
 
     /**
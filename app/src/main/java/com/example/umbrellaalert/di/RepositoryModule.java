@@ -3,13 +3,16 @@ package com.example.umbrellaalert.di;
 import android.content.Context;
 
 import com.example.umbrellaalert.data.api.OpenWeatherApiClient;
+import com.example.umbrellaalert.data.api.SimpleKmaApiClient;
 import com.example.umbrellaalert.data.manager.WeatherManager;
 import com.example.umbrellaalert.data.repository.LocationRepositoryImpl;
 import com.example.umbrellaalert.data.repository.WeatherRepositoryImpl;
 import com.example.umbrellaalert.domain.repository.LocationRepository;
 import com.example.umbrellaalert.domain.repository.WeatherRepository;
 import com.example.umbrellaalert.weather.SimpleWeatherService;
+import com.example.umbrellaalert.weather.WeatherProviderOrchestrator;
 
+import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import dagger.Module;
@@ -33,13 +36,25 @@ public class RepositoryModule {
 
     @Provides
     @Singleton
-    public SimpleWeatherService provideSimpleWeatherService(@ApplicationContext Context context, OpenWeatherApiClient apiClient) {
-        return new SimpleWeatherService(context, apiClient);
+    public WeatherProviderOrchestrator provideWeatherProviderOrchestrator(OpenWeatherApiClient openWeatherApiClient,
+                                                                          SimpleKmaApiClient kmaApiClient) {
+        return new WeatherProviderOrchestrator(openWeatherApiClient, kmaApiClient);
     }
 
     @Provides
     @Singleton
-    public WeatherManager provideWeatherManager(@ApplicationContext Context context, SimpleWeatherService weatherService) {
+    public SimpleWeatherService provideSimpleWeatherService(@ApplicationContext Context context, OpenWeatherApiClient apiClient,
+                                                            WeatherProviderOrchestrator providerOrchestrator) {
+        return new SimpleWeatherService(context, apiClient, providerOrchestrator);
+    }
+
+    /**
+     * 날씨 서비스는 Provider로 넘겨 첫 요청 때 생성 (API 클라이언트 생성을 앱 시작 경로에서 뺌)
+     */
+    @Provides
+    @Singleton
+    public WeatherManager provideWeatherManager(@ApplicationContext Context context,
+                                                Provider<SimpleWeatherService> weatherService) {
         return new WeatherManager(context, weatherService);
     }
 
@@ -3,10 +3,10 @@ package com.example.umbrellaalert.domain.factory;
 import com.example.umbrellaalert.R;
 import com.example.umbrellaalert.data.model.CatMessage;
 import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.data.model.WeatherCondition;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.List;
 import java.util.Random;
 
 import javax.inject.Inject;
@@ -15,266 +15,184 @@ import javax.inject.Singleton;
 /**
  * 고양이 캐릭터 메시지를 생성하는 팩토리 클래스
  * agentrule.md의 "고양이 캐릭터 메시지 시스템" 요구사항 구현
+ * 메시지는 우선순위 순으로 정렬된 규칙 표에 미리 만들어 두고,
+ * 호출마다 후보 목록을 만들지 않고 표를 한 번 훑어 가장 높은 우선순위의 메시지 중 하나를 고름
  */
 @Singleton
 public class CatMessageFactory {
-    
+
+    /**
+     * 규칙이 적용되는 상황
+     */
+    private interface Condition {
+        boolean matches(Weather weather, WeatherCondition condition, int hour);
+    }
+
+    /**
+     * 같은 우선순위의 메시지 묶음과 적용 조건
+     */
+    private static final class MessageRule {
+        final Condition condition;
+        final CatMessage[] messages;
+        final int priority;
+
+        MessageRule(Condition condition, CatMessage... messages) {
+            this.condition = condition;
+            this.messages = messages;
+            this.priority = messages[0].getPriority();
+        }
+    }
+
+    private static final CatMessage ERROR_MESSAGE = new CatMessage(
+            "날씨 정보를 가져올 수 없다냥... 잠시 후 다시 확인해보라냥!",
+            CatMessage.MessageType.WARNING,
+            CatMessage.CatMood.WORRIED,
+            R.drawable.cat_cloudy,
+            "😿",
+            1
+    );
+
+    // 우선순위 내림차순으로 정렬해 보관
+    private static final MessageRule[] RULES = {
+            // 우산 관련 메시지 (우산 필요 여부가 최우선)
+            new MessageRule((weather, condition, hour) -> weather.isNeedUmbrella() && weather.getPrecipitation() > 10,
+                    new CatMessage("비가 엄청 많이 올 예정이다냥! 우산을 꼭꼭 챙겨라냥!",
+                            CatMessage.MessageType.UMBRELLA_NEEDED, CatMessage.CatMood.WORRIED,
+                            R.drawable.cat_rainy, "☔", 10),
+                    new CatMessage("폭우 경보다냥! 큰 우산을 준비하고 조심해서 다녀라냥!",
+                            CatMessage.MessageType.WARNING, CatMessage.CatMood.WORRIED,
+                            R.drawable.cat_rainy, "⛈️", 10)),
+            new MessageRule((weather, condition, hour) -> weather.isNeedUmbrella()
+                    && weather.getPrecipitation() > 5 && weather.getPrecipitation() <= 10,
+                    new CatMessage("비가 제법 올 것 같다냥~ 우산 챙기는 거 잊지 마라냥!",
+                            CatMessage.MessageType.UMBRELLA_NEEDED, CatMessage.CatMood.CARING,
+                            R.drawable.cat_rainy, "🌧️", 8),
+                    new CatMessage("오늘은 우산이 필수템이다냥! 젖지 않게 조심하라냥~",
+                            CatMessage.MessageType.UMBRELLA_NEEDED, CatMessage.CatMood.CARING,
+                            R.drawable.cat_rainy, "☂️", 8)),
+            new MessageRule((weather, condition, hour) -> weather.isNeedUmbrella() && weather.getPrecipitation() <= 5,
+                    new CatMessage("살짝 비가 올 수도 있다냥~ 작은 우산이라도 챙겨라냥!",
+                            CatMessage.MessageType.UMBRELLA_NEEDED, CatMessage.CatMood.CALM,
+                            R.drawable.cat_cloudy, "🌦️", 6),
+                    new CatMessage("혹시 모르니 우산을 챙겨가는 게 좋겠다냥~",
+                            CatMessage.MessageType.UMBRELLA_NEEDED, CatMessage.CatMood.CALM,
+                            R.drawable.cat_cloudy, "☔", 6)),
+
+            // 날씨 상태별 메시지 (우산이 필요 없을 때)
+            new MessageRule((weather, condition, hour) -> !weather.isNeedUmbrella()
+                    && (weather.getWeatherCondition() == null || condition == WeatherCondition.CLEAR),
+                    new CatMessage("오늘은 완벽한 맑은 날이다냥! 기분 좋게 출발하라냥~",
+                            CatMessage.MessageType.WEATHER_SUNNY, CatMessage.CatMood.HAPPY,
+                            R.drawable.cat_sunny, "☀️", 7),
+                    new CatMessage("햇살이 따뜻하다냥~ 산책하기 딱 좋은 날씨다냥!",
+                            CatMessage.MessageType.WEATHER_SUNNY, CatMessage.CatMood.EXCITED,
+                            R.drawable.cat_sunny, "🌞", 7),
+                    new CatMessage("구름 한 점 없는 파란 하늘이다냥! 완벽한 하루가 될 것 같다냥~",
+                            CatMessage.MessageType.WEATHER_SUNNY, CatMessage.CatMood.HAPPY,
+                            R.drawable.cat_sunny, "🌤️", 7)),
+            new MessageRule((weather, condition, hour) -> !weather.isNeedUmbrella()
+                    && condition == WeatherCondition.PARTLY_CLOUDY,
+                    new CatMessage("구름이 조금 있지만 괜찮은 날씨다냥~ 우산은 필요 없을 것 같다냥!",
+                            CatMessage.MessageType.WEATHER_CLOUDY, CatMessage.CatMood.CALM,
+                            R.drawable.cat_cloudy, "⛅", 5),
+                    new CatMessage("구름이 예쁘게 떠있다냥~ 비는 안 올 것 같으니 안심하라냥!",
+                            CatMessage.MessageType.WEATHER_CLOUDY, CatMessage.CatMood.CALM,
+                            R.drawable.cat_cloudy, "☁️", 5)),
+
+            // 온도별 메시지
+            new MessageRule((weather, condition, hour) -> weather.getTemperature() >= 30,
+                    new CatMessage("너무 덥다냥! 시원한 음료수를 준비하고 그늘에서 쉬어라냥~",
+                            CatMessage.MessageType.TEMPERATURE_HOT, CatMessage.CatMood.WORRIED,
+                            R.drawable.cat_sunny, "🥵", 6)),
+            new MessageRule((weather, condition, hour) -> weather.getTemperature() >= 25 && weather.getTemperature() < 30,
+                    new CatMessage("따뜻한 날씨다냥~ 가벼운 옷차림으로 나가면 딱 좋겠다냥!",
+                            CatMessage.MessageType.TEMPERATURE_WARM, CatMessage.CatMood.HAPPY,
+                            R.drawable.cat_sunny, "😊", 4)),
+            new MessageRule((weather, condition, hour) -> weather.getTemperature() <= 5,
+                    new CatMessage("춥다냥! 따뜻하게 입고 나가라냥~ 감기 걸리면 안 된다냥!",
+                            CatMessage.MessageType.TEMPERATURE_COLD, CatMessage.CatMood.CARING,
+                            R.drawable.cat_cloudy, "🥶", 6)),
+
+            // 시간대별 특별 메시지
+            new MessageRule((weather, condition, hour) -> hour >= 6 && hour <= 8,
+                    new CatMessage("좋은 아침이다냥! 오늘도 힘내라냥~",
+                            CatMessage.MessageType.GREETING, CatMessage.CatMood.EXCITED,
+                            R.drawable.cat_sunny, "🌅", 3)),
+            new MessageRule((weather, condition, hour) -> hour >= 22 || hour <= 5,
+                    new CatMessage("늦은 시간이다냥! 조심해서 다녀라냥~",
+                            CatMessage.MessageType.WARNING, CatMessage.CatMood.WORRIED,
+                            R.drawable.cat_cloudy, "🌙", 5))
+    };
+
+    static {
+        Arrays.sort(RULES, (a, b) -> Integer.compare(b.priority, a.priority));
+    }
+
     private final Random random;
-    
+
     @Inject
     public CatMessageFactory() {
         this.random = new Random();
     }
-    
+
     /**
      * 날씨 정보를 바탕으로 적절한 고양이 메시지 생성
      */
     public CatMessage createWeatherMessage(Weather weather) {
         if (weather == null) {
-            return createErrorMessage();
-        }
-        
-        List<CatMessage> possibleMessages = new ArrayList<>();
-        
-        // 우산 필요 여부가 최우선
-        if (weather.isNeedUmbrella()) {
-            possibleMessages.addAll(createUmbrellaMessages(weather));
-        } else {
-            // 날씨 상태별 메시지
-            possibleMessages.addAll(createWeatherConditionMessages(weather));
+            return ERROR_MESSAGE;
         }
-        
-        // 온도별 추가 메시지
-        possibleMessages.addAll(createTemperatureMessages(weather.getTemperature()));
-        
-        // 시간대별 특별 메시지
-        possibleMessages.addAll(createTimeBasedMessages());
-        
-        // 우선순위가 높은 메시지 선택
-        return selectBestMessage(possibleMessages);
+        return createWeatherMessage(weather, Calendar.getInstance().get(Calendar.HOUR_OF_DAY));
     }
-    
-    /**
-     * 우산 관련 메시지 생성
-     */
-    private List<CatMessage> createUmbrellaMessages(Weather weather) {
-        List<CatMessage> messages = new ArrayList<>();
-        
-        if (weather.getPrecipitation() > 10) {
-            // 많은 비
-            messages.add(new CatMessage(
-                "비가 엄청 많이 올 예정이다냥! 우산을 꼭꼭 챙겨라냥!",
-                CatMessage.MessageType.UMBRELLA_NEEDED,
-                CatMessage.CatMood.WORRIED,
-                R.drawable.cat_rainy,
-                "☔",
-                10
-            ));
-            messages.add(new CatMessage(
-                "폭우 경보다냥! 큰 우산을 준비하고 조심해서 다녀라냥!",
-                CatMessage.MessageType.WARNING,
-                CatMessage.CatMood.WORRIED,
-                R.drawable.cat_rainy,
-                "⛈️",
-                10
-            ));
-        } else if (weather.getPrecipitation() > 5) {
-            // 보통 비
-            messages.add(new CatMessage(
-                "비가 제법 올 것 같다냥~ 우산 챙기는 거 잊지 마라냥!",
-                CatMessage.MessageType.UMBRELLA_NEEDED,
-                CatMessage.CatMood.CARING,
-                R.drawable.cat_rainy,
-                "🌧️",
-                8
-            ));
-            messages.add(new CatMessage(
-                "오늘은 우산이 필수템이다냥! 젖지 않게 조심하라냥~",
-                CatMessage.MessageType.UMBRELLA_NEEDED,
-                CatMessage.CatMood.CARING,
-                R.drawable.cat_rainy,
-                "☂️",
-                8
-            ));
-        } else {
-            // 약한 비
-            messages.add(new CatMessage(
-                "살짝 비가 올 수도 있다냥~ 작은 우산이라도 챙겨라냥!",
-                CatMessage.MessageType.UMBRELLA_NEEDED,
-                CatMessage.CatMood.CALM,
-                R.drawable.cat_cloudy,
-                "🌦️",
-                6
-            ));
-            messages.add(new CatMessage(
-                "혹시 모르니 우산을 챙겨가는 게 좋겠다냥~",
-                CatMessage.MessageType.UMBRELLA_NEEDED,
-                CatMessage.CatMood.CALM,
-                R.drawable.cat_cloudy,
-                "☔",
-                6
-            ));
-        }
-        
-        return messages;
-    }
-    
-    /**
-     * 날씨 상태별 메시지 생성
-     */
-    private List<CatMessage> createWeatherConditionMessages(Weather weather) {
-        List<CatMessage> messages = new ArrayList<>();
-        String condition = weather.getWeatherCondition();
-        
-        if (condition == null || condition.equalsIgnoreCase("Clear")) {
-            // 맑은 날씨
-            messages.add(new CatMessage(
-                "오늘은 완벽한 맑은 날이다냥! 기분 좋게 출발하라냥~",
-                CatMessage.MessageType.WEATHER_SUNNY,
-                CatMessage.CatMood.HAPPY,
-                R.drawable.cat_sunny,
-                "☀️",
-                7
-            ));
-            messages.add(new CatMessage(
-                "햇살이 따뜻하다냥~ 산책하기 딱 좋은 날씨다냥!",
-                CatMessage.MessageType.WEATHER_SUNNY,
-                CatMessage.CatMood.EXCITED,
-                R.drawable.cat_sunny,
-                "🌞",
-                7
-            ));
-            messages.add(new CatMessage(
-                "구름 한 점 없는 파란 하늘이다냥! 완벽한 하루가 될 것 같다냥~",
-                CatMessage.MessageType.WEATHER_SUNNY,
-                CatMessage.CatMood.HAPPY,
-                R.drawable.cat_sunny,
-                "🌤️",
-                7
-            ));
-        } else if (condition.equalsIgnoreCase("Clouds") || condition.equalsIgnoreCase("Partly Cloudy")) {
-            // 구름 많은 날씨
-            messages.add(new CatMessage(
-                "구름이 조금 있지만 괜찮은 날씨다냥~ 우산은 필요 없을 것 같다냥!",
-                CatMessage.MessageType.WEATHER_CLOUDY,
-                CatMessage.CatMood.CALM,
-                R.drawable.cat_cloudy,
-                "⛅",
-                5
-            ));
-            messages.add(new CatMessage(
-                "구름이 예쁘게 떠있다냥~ 비는 안 올 것 같으니 안심하라냥!",
-                CatMessage.MessageType.WEATHER_CLOUDY,
-                CatMessage.CatMood.CALM,
-                R.drawable.cat_cloudy,
-                "☁️",
-                5
-            ));
-        }
-        
-        return messages;
-    }
-    
+
     /**
-     * 온도별 메시지 생성
+     * 지정한 시각(0~23시) 기준으로 고양이 메시지 생성
      */
-    private List<CatMessage> createTemperatureMessages(float temperature) {
-        List<CatMessage> messages = new ArrayList<>();
-        
-        if (temperature >= 30) {
-            messages.add(new CatMessage(
-                "너무 덥다냥! 시원한 음료수를 준비하고 그늘에서 쉬어라냥~",
-                CatMessage.MessageType.TEMPERATURE_HOT,
-                CatMessage.CatMood.WORRIED,
-                R.drawable.cat_sunny,
-                "🥵",
-                6
-            ));
-        } else if (temperature >= 25) {
-            messages.add(new CatMessage(
-                "따뜻한 날씨다냥~ 가벼운 옷차림으로 나가면 딱 좋겠다냥!",
-                CatMessage.MessageType.TEMPERATURE_WARM,
-                CatMessage.CatMood.HAPPY,
-                R.drawable.cat_sunny,
-                "😊",
-                4
-            ));
-        } else if (temperature <= 5) {
-            messages.add(new CatMessage(
-                "춥다냥! 따뜻하게 입고 나가라냥~ 감기 걸리면 안 된다냥!",
-                CatMessage.MessageType.TEMPERATURE_COLD,
-                CatMessage.CatMood.CARING,
-                R.drawable.cat_cloudy,
-                "🥶",
-                6
-            ));
+    public CatMessage createWeatherMessage(Weather weather, int hour) {
+        if (weather == null) {
+            return ERROR_MESSAGE;
         }
-        
-        return messages;
+        return selectMessage(weather, WeatherCondition.fromText(weather.getWeatherCondition()), hour);
     }
-    
+
     /**
-     * 시간대별 특별 메시지
+     * 가장 높은 우선순위로 맞는 규칙들의 메시지 중 하나를 무작위 선택
+     * 규칙이 우선순위 순으로 정렬되어 있으므로 처음 맞는 규칙의 우선순위보다 낮아지면 바로 멈춤
      */
-    private List<CatMessage> createTimeBasedMessages() {
-        List<CatMessage> messages = new ArrayList<>();
-        Calendar calendar = Calendar.getInstance();
-        int hour = calendar.get(Calendar.HOUR_OF_DAY);
-        
-        if (hour >= 6 && hour <= 8) {
-            // 아침 시간
-            messages.add(new CatMessage(
-                "좋은 아침이다냥! 오늘도 힘내라냥~",
-                CatMessage.MessageType.GREETING,
-                CatMessage.CatMood.EXCITED,
-                R.drawable.cat_sunny,
-                "🌅",
-                3
-            ));
-        } else if (hour >= 22 || hour <= 5) {
-            // 늦은 시간
-            messages.add(new CatMessage(
-                "늦은 시간이다냥! 조심해서 다녀라냥~",
-                CatMessage.MessageType.WARNING,
-                CatMessage.CatMood.WORRIED,
-                R.drawable.cat_cloudy,
-                "🌙",
-                5
-            ));
+    private CatMessage selectMessage(Weather weather, WeatherCondition condition, int hour) {
+        int topPriority = Integer.MIN_VALUE;
+        int candidateCount = 0;
+        // 같은 우선순위 규칙이 최대 몇 개인지 모르므로 비트마스크로 기록 (규칙 수 < 64)
+        long matched = 0;
+
+        for (int i = 0; i < RULES.length; i++) {
+            MessageRule rule = RULES[i];
+            if (rule.priority < topPriority) {
+                break;
+            }
+            if (rule.condition.matches(weather, condition, hour)) {
+                topPriority = rule.priority;
+                candidateCount += rule.messages.length;
+                matched |= 1L << i;
+            }
         }
-        
-        return messages;
-    }
-    
-    /**
-     * 에러 메시지 생성
-     */
-    private CatMessage createErrorMessage() {
-        return new CatMessage(
-            "날씨 정보를 가져올 수 없다냥... 잠시 후 다시 확인해보라냥!",
-            CatMessage.MessageType.WARNING,
-            CatMessage.CatMood.WORRIED,
-            R.drawable.cat_cloudy,
-            "😿",
-            1
-        );
-    }
-    
-    /**
-     * 가장 적절한 메시지 선택 (우선순위 기반)
-     */
-    private CatMessage selectBestMessage(List<CatMessage> messages) {
-        if (messages.isEmpty()) {
-            return createErrorMessage();
+
+        if (candidateCount == 0) {
+            return ERROR_MESSAGE;
         }
-        
-        // 우선순위가 높은 메시지들 필터링
-        int maxPriority = messages.stream().mapToInt(CatMessage::getPriority).max().orElse(0);
-        List<CatMessage> highPriorityMessages = messages.stream()
-            .filter(msg -> msg.getPriority() == maxPriority)
-            .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-        
+
         // 같은 우선순위 중에서 랜덤 선택
-        return highPriorityMessages.get(random.nextInt(highPriorityMessages.size()));
+        int pick = random.nextInt(candidateCount);
+        for (int i = 0; i < RULES.length; i++) {
+            if ((matched & (1L << i)) == 0) {
+                continue;
+            }
+            CatMessage[] messages = RULES[i].messages;
+            if (pick < messages.length) {
+                return messages[pick];
+            }
+            pick -= messages.length;
+        }
+        return ERROR_MESSAGE;
     }
 }
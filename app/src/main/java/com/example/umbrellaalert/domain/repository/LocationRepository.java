@@ -1,5 +1,7 @@
 package com.example.umbrellaalert.domain.repository;
 
+import androidx.lifecycle.LiveData;
+
 import com.example.umbrellaalert.data.model.Location;
 
 import java.util.List;
@@ -12,10 +14,16 @@ public interface LocationRepository {
 
     /**
      * 모든 위치 조회
-     * @return 위치 목록
+     * @return 위치 목록 (캐시와 공유되므로 목록과 객체를 수정하지 말 것, 바꿀 때는 복사본 사용)
      */
     List<Location> getAllLocations();
 
+    /**
+     * 모든 위치 관찰 (위치가 추가, 수정, 삭제될 때마다 새 목록)
+     * @return 위치 목록 LiveData
+     */
+    LiveData<List<Location>> observeAllLocations();
+
     /**
      * ID로 위치 조회
      * @param id 위치 ID
@@ -6,6 +6,7 @@ import com.example.umbrellaalert.data.manager.WeatherManager;
 import com.example.umbrellaalert.data.model.HourlyForecast;
 import com.example.umbrellaalert.data.model.Weather;
 import com.example.umbrellaalert.domain.repository.WeatherRepository;
+import com.example.umbrellaalert.service.SyntheticWeatherGenerator;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -124,6 +125,7 @@ public class Get12HourForecastUseCase {
         Calendar calendar = Calendar.getInstance();
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", Locale.KOREA);
         SimpleDateFormat timeFormat = new SimpleDateFormat("HHmm", Locale.KOREA);
+        float baseOffset = SyntheticWeatherGenerator.diurnalOffset(calendar.get(Calendar.HOUR_OF_DAY));
 
         for (int i = 0; i < 6; i++) {
             HourlyForecast forecast = new HourlyForecast();
@@ -135,8 +137,9 @@ public class Get12HourForecastUseCase {
             forecast.setForecastDate(dateFormat.format(forecastTime.getTime()));
             forecast.setForecastTime(timeFormat.format(forecastTime.getTime()));
 
-            // 온도 설정 (기준 온도에서 시간별 변화)
-            float temperature = baseTemperature + (float) (Math.random() * 4 - 2); // ±2도 변화
+            // 온도 설정 (기준 온도에 일교차 곡선만큼 더함)
+            float temperature = baseTemperature
+                    + SyntheticWeatherGenerator.diurnalOffset(forecastTime.get(Calendar.HOUR_OF_DAY)) - baseOffset;
             forecast.setTemperature(temperature);
 
             // 기본 날씨 상태 설정
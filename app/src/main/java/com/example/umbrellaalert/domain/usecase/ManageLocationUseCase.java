@@ -62,20 +62,23 @@ public class ManageLocationUseCase {
      * 기본 위치 설정
      */
     public void setDefaultLocation(int locationId) {
+        // 조회 결과는 캐시되어 공유되므로 복사본을 바꿔 저장
         // 모든 위치의 기본 설정 해제
         List<Location> locations = locationRepository.getAllLocations();
         for (Location location : locations) {
             if (location.isDefault()) {
-                location.setDefault(false);
-                locationRepository.updateLocation(location);
+                Location updated = new Location(location);
+                updated.setDefault(false);
+                locationRepository.updateLocation(updated);
             }
         }
         
         // 선택된 위치를 기본으로 설정
         Location defaultLocation = locationRepository.getLocationById(locationId);
         if (defaultLocation != null) {
-            defaultLocation.setDefault(true);
-            locationRepository.updateLocation(defaultLocation);
+            Location updated = new Location(defaultLocation);
+            updated.setDefault(true);
+            locationRepository.updateLocation(updated);
         }
     }
 
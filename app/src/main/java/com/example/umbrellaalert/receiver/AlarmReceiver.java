@@ -1,21 +1,131 @@
 package com.example.umbrellaalert.receiver;
 
+import android.app.Notification;
+import android.app.NotificationManager;
+import android.app.PendingIntent;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
 import android.util.Log;
 
+import androidx.core.app.NotificationCompat;
+
+import com.example.umbrellaalert.R;
+import com.example.umbrellaalert.UmbrellaApplication;
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
+import com.example.umbrellaalert.data.manager.MorningBriefingManager;
+import com.example.umbrellaalert.data.model.UmbrellaVerdict;
 import com.example.umbrellaalert.service.WeatherUpdateService;
+import com.example.umbrellaalert.ui.home.HomeActivity;
+import com.example.umbrellaalert.util.MorningAlarmScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.inject.Inject;
 
+import dagger.hilt.android.AndroidEntryPoint;
+
+/**
+ * 아침 알람 리시버
+ * 미리 가져오기 알람에서는 예보를 받아 우산 판단을 저장하고,
+ * 아침 알람에서는 저장된 판단만 읽어 바로 알림을 보냄 (판단이 없을 때만 그 자리에서 예보를 받음)
+ */
+@AndroidEntryPoint
 public class AlarmReceiver extends BroadcastReceiver {
 
     private static final String TAG = "AlarmReceiver";
+    private static final int NOTIFICATION_ID = 1003;
+
+    // 예보를 받는 작업용 백그라운드 스레드 (onReceive는 메인 스레드에서 호출됨)
+    private static final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @Inject
+    MorningBriefingManager morningBriefingManager;
 
     @Override
     public void onReceive(Context context, Intent intent) {
+        String action = intent.getAction();
+
+        if (MorningAlarmScheduler.ACTION_PREFETCH.equals(action)) {
+            Log.d(TAG, "아침 알람 전 예보 미리 가져오기");
+            final PendingResult pendingResult = goAsync();
+            executorService.execute(() -> {
+                try {
+                    morningBriefingManager.prefetch(ApiQuotaManager.Priority.PREFETCH);
+                } catch (Exception e) {
+                    Log.e(TAG, "예보 미리 가져오기 실패", e);
+                } finally {
+                    pendingResult.finish();
+                }
+            });
+            return;
+        }
+
+        if (MorningAlarmScheduler.ACTION_MORNING_ALARM.equals(action)) {
+            Log.d(TAG, "아침 알람 수신");
+            // 다음 날 알람 예약
+            MorningAlarmScheduler.schedule(context);
+
+            UmbrellaVerdict verdict = morningBriefingManager.getTodayVerdict();
+            if (verdict != null) {
+                showNotification(context, verdict);
+                return;
+            }
+
+            // 미리 가져오기가 실패했거나 실행되지 못한 경우에만 지금 가져옴
+            Log.d(TAG, "저장된 우산 판단이 없어 지금 예보를 가져옴");
+            final PendingResult pendingResult = goAsync();
+            executorService.execute(() -> {
+                try {
+                    showNotification(context, morningBriefingManager.prefetch(ApiQuotaManager.Priority.FOREGROUND));
+                } catch (Exception e) {
+                    Log.e(TAG, "아침 알람 처리 실패", e);
+                } finally {
+                    pendingResult.finish();
+                }
+            });
+            return;
+        }
+
         Log.d(TAG, "Alarm received, updating weather");
 
         // 날씨 업데이트 서비스 시작 (이미 실행 중이면 업데이트만 트리거)
         WeatherUpdateService.startService(context);
     }
-}
\ No newline at end of file
+
+    private void showNotification(Context context, UmbrellaVerdict verdict) {
+        // 사용자가 날씨 알림을 일시 중지했는지 확인
+        if (NotificationDismissReceiver.isWeatherNotificationDismissed(context)) {
+            Log.d(TAG, "날씨 알림이 일시 중지되어 있습니다");
+            return;
+        }
+
+        String message = verdict != null
+                ? verdict.getMessage()
+                : "날씨 정보를 가져올 수 없다냥... 혹시 모르니 하늘을 한 번 확인해보라냥!";
+
+        Intent notificationIntent = new Intent(context, HomeActivity.class);
+        PendingIntent pendingIntent = PendingIntent.getActivity(
+                context, 0, notificationIntent, PendingIntent.FLAG_IMMUTABLE);
+
+        Notification notification = new NotificationCompat.Builder(context, UmbrellaApplication.CHANNEL_ID)
+                .setContentTitle("아 맞다 우산!")
+                .setContentText(message)
+                .setStyle(new NotificationCompat.BigTextStyle().bigText(message))
+                .setSmallIcon(R.drawable.ic_umbrella_small)
+                .setContentIntent(pendingIntent)
+                .setPriority(NotificationCompat.PRIORITY_HIGH)
+                .setAutoCancel(true)
+                .build();
+
+        try {
+            NotificationManager notificationManager =
+                    (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
+            notificationManager.notify(NOTIFICATION_ID, notification);
+        } catch (SecurityException e) {
+            // 알림 권한이 없는 경우
+            Log.w(TAG, "알림 게시 권한 없음", e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import android.util.Log;
 
 import com.example.umbrellaalert.service.PersistentNotificationService;
 import com.example.umbrellaalert.service.WeatherUpdateService;
+import com.example.umbrellaalert.util.MorningAlarmScheduler;
 
 public class BootReceiver extends BroadcastReceiver {
 
@@ -24,6 +25,9 @@ public class BootReceiver extends BroadcastReceiver {
             if (PersistentNotificationService.isEnabled(context)) {
                 PersistentNotificationService.setEnabled(context, true);
             }
+
+            // 재부팅하면 예약된 알람이 사라지므로 아침 우산 알람 다시 예약
+            MorningAlarmScheduler.schedule(context);
         }
     }
 }
\ No newline at end of file
@@ -7,7 +7,6 @@ import android.app.PendingIntent;
 import android.app.Service;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.location.Location;
 import android.os.Handler;
 import android.os.IBinder;
@@ -18,15 +17,19 @@ import androidx.core.app.NotificationCompat;
 
 import com.example.umbrellaalert.R;
 import com.example.umbrellaalert.UmbrellaApplication;
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
 import com.example.umbrellaalert.data.api.BusApiClient;
 import com.example.umbrellaalert.data.database.AppDatabase;
 import com.example.umbrellaalert.data.database.BusDao;
+import com.example.umbrellaalert.data.manager.SettingsManager;
 import com.example.umbrellaalert.data.model.BusArrival;
 import com.example.umbrellaalert.data.model.RegisteredBus;
 import com.example.umbrellaalert.service.LocationService;
 import com.example.umbrellaalert.ui.home.HomeActivity;
 import com.example.umbrellaalert.ui.settings.SettingsViewModel;
+import com.example.umbrellaalert.util.NotificationPublisher;
 import com.example.umbrellaalert.util.WalkingTimeCalculator;
+import com.example.umbrellaalert.util.WalkingTimeMatrix;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -44,9 +47,6 @@ public class BusNotificationService extends Service {
     private static final int NOTIFICATION_ID = 2000;
     private static final long CHECK_INTERVAL = 30 * 1000; // 30초마다 체크
     
-    private static final String PREF_NAME = "bus_notification_prefs";
-    private static final String KEY_ENABLED = "bus_notification_enabled";
-    
     private Handler handler;
     private Runnable checkRunnable;
     private ExecutorService executorService;
@@ -54,11 +54,11 @@ public class BusNotificationService extends Service {
     private BusApiClient busApiClient;
     private WalkingTimeCalculator walkingTimeCalculator;
     private BusDao busDao;
+    private NotificationPublisher notificationPublisher;
     private Location currentLocation;
     
     public static void setEnabled(Context context, boolean enabled) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        prefs.edit().putBoolean(KEY_ENABLED, enabled).apply();
+        SettingsManager.getInstance(context).update(settings -> settings.busNotificationEnabled(enabled));
         
         Intent intent = new Intent(context, BusNotificationService.class);
         if (enabled) {
@@ -69,8 +69,7 @@ public class BusNotificationService extends Service {
     }
     
     public static boolean isEnabled(Context context) {
-        SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        return prefs.getBoolean(KEY_ENABLED, false);
+        return SettingsManager.getInstance(context).get().isBusNotificationEnabled();
     }
     
     @Override
@@ -83,6 +82,7 @@ public class BusNotificationService extends Service {
         busApiClient = new BusApiClient(this);
         walkingTimeCalculator = new WalkingTimeCalculator(this);
         busDao = AppDatabase.getInstance(this).busDao();
+        notificationPublisher = NotificationPublisher.getInstance(this);
         
         // 알림 채널 생성
         createNotificationChannel();
@@ -147,7 +147,9 @@ public class BusNotificationService extends Service {
             @Override
             public void run() {
                 checkRegisteredBuses();
-                handler.postDelayed(this, CHECK_INTERVAL);
+                // 도착 정보 API 회로가 열려 있거나 호출 한도가 부족하면 다시 가능해질 때까지 체크를 미룸
+                handler.postDelayed(this, Math.max(CHECK_INTERVAL,
+                        busApiClient.getArrivalInfoRetryDelayMillis(ApiQuotaManager.Priority.BUS_ALERT)));
             }
         };
         
@@ -167,12 +169,22 @@ public class BusNotificationService extends Service {
             return;
         }
         
+        if (!busApiClient.canRequestArrivalInfo(ApiQuotaManager.Priority.BUS_ALERT)) {
+            Log.d(TAG, "버스 도착 정보 API 차단 또는 호출 한도 부족으로 체크를 건너뜁니다");
+            return;
+        }
+
         executorService.execute(() -> {
             try {
-                List<RegisteredBus> registeredBuses = busDao.getAllRegisteredBuses();
+                // 등록된 버스가 바뀌지 않았으면 DB를 다시 읽지 않음
+                List<RegisteredBus> registeredBuses = busDao.observeRegisteredBuses().get();
                 
-                for (RegisteredBus bus : registeredBuses) {
-                    checkBusArrival(bus);
+                // 모든 정류장까지의 도보 시간을 한 번에 계산
+                int[] walkingTimes = walkingTimeCalculator.calculateWalkingTimes(
+                        currentLocation.getLatitude(), currentLocation.getLongitude(), registeredBuses);
+                
+                for (int i = 0; i < registeredBuses.size(); i++) {
+                    checkBusArrival(registeredBuses.get(i), walkingTimes[i]);
                 }
                 
             } catch (Exception e) {
@@ -181,11 +193,11 @@ public class BusNotificationService extends Service {
         });
     }
     
-    private void checkBusArrival(RegisteredBus bus) {
+    private void checkBusArrival(RegisteredBus bus, int walkingTimeMinutes) {
         try {
             // 1. 버스 도착 정보 가져오기
             Future<List<BusArrival>> future = busApiClient.getBusArrivalInfo(
-                    bus.getNodeId(), bus.getCityCode());
+                    bus.getNodeId(), bus.getCityCode(), ApiQuotaManager.Priority.BUS_ALERT);
             List<BusArrival> arrivals = future.get();
             
             // 2. 해당 노선 찾기
@@ -203,21 +215,13 @@ public class BusNotificationService extends Service {
                 return;
             }
             
-            // 3. 정류장 위치 정보 사용
-            double busStopLat = bus.getLatitude();
-            double busStopLng = bus.getLongitude();
-
-            // 위치 정보가 없는 경우 (기존 데이터) 건너뛰기
-            if (busStopLat == 0.0 && busStopLng == 0.0) {
+            // 3. 위치 정보가 없는 경우 (기존 데이터) 건너뛰기
+            if (walkingTimeMinutes == WalkingTimeMatrix.UNKNOWN) {
                 Log.w(TAG, "정류장 위치 정보가 없어 알림을 건너뜁니다: " + bus.getRouteNo());
                 return;
             }
             
-            // 4. 도보 시간 계산
-            Future<Integer> walkingTimeFuture = walkingTimeCalculator.calculateWalkingTime(
-                    currentLocation.getLatitude(), currentLocation.getLongitude(),
-                    busStopLat, busStopLng);
-            int walkingTimeMinutes = walkingTimeFuture.get();
+            // 4. 도보 시간은 checkRegisteredBuses에서 일괄 계산됨
             
             // 5. 버스 도착 시간 (이미 분 단위)
             int busArrivalMinutes = targetArrival.getArrTime();
@@ -238,28 +242,27 @@ public class BusNotificationService extends Service {
     }
     
     private void sendBusNotification(RegisteredBus bus, int arrivalMinutes, int walkingMinutes) {
-        Intent intent = new Intent(this, HomeActivity.class);
-        PendingIntent pendingIntent = PendingIntent.getActivity(
-                this, 0, intent, PendingIntent.FLAG_IMMUTABLE);
-
         String title = "🏃‍♂️ 지금 출발!";
         String message = String.format("%s번 %d분 후 도착 (도보 %d분)",
                 bus.getRouteNo(), arrivalMinutes, walkingMinutes);
 
-        Notification notification = new NotificationCompat.Builder(this, CHANNEL_ID)
-                .setContentTitle(title)
-                .setContentText(message)
-                .setStyle(new NotificationCompat.BigTextStyle().bigText(message))
-                .setSmallIcon(R.drawable.ic_bus)
-                .setContentIntent(pendingIntent)
-                .setPriority(NotificationCompat.PRIORITY_HIGH)
-                .setAutoCancel(true)
-                .build();
+        // 같은 내용의 알림은 다시 울리지 않음
+        boolean posted = notificationPublisher.publish(CHANNEL_ID, NOTIFICATION_ID + bus.getRouteNo().hashCode(),
+                message, builder -> {
+                    Intent intent = new Intent(this, HomeActivity.class);
+                    PendingIntent pendingIntent = PendingIntent.getActivity(
+                            this, 0, intent, PendingIntent.FLAG_IMMUTABLE);
 
-        NotificationManager notificationManager = getSystemService(NotificationManager.class);
-        notificationManager.notify(NOTIFICATION_ID + bus.getRouteNo().hashCode(), notification);
+                    builder.setContentTitle(title)
+                            .setContentText(message)
+                            .setStyle(new NotificationCompat.BigTextStyle().bigText(message))
+                            .setSmallIcon(R.drawable.ic_bus)
+                            .setContentIntent(pendingIntent)
+                            .setPriority(NotificationCompat.PRIORITY_HIGH)
+                            .setAutoCancel(true);
+                });
 
-        Log.d(TAG, "버스 알림 발송: " + message);
+        Log.d(TAG, (posted ? "버스 알림 발송: " : "버스 알림 생략/대기: ") + message);
     }
     
     @Override
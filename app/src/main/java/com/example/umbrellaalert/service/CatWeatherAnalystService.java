@@ -1,122 +1,166 @@
 package com.example.umbrellaalert.service;
 
+import com.example.umbrellaalert.data.model.ForecastSeries;
 import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.WeatherCondition;
 
-import java.util.Calendar;
 import java.util.List;
 
 /**
  * 고양이 날씨 분석관 서비스
  * 12시간 예보 데이터를 분석해서 고양이 스타일로 날씨 정보를 제공
+ * 모든 통계는 예보를 한 번만 순회해서 계산하고, 메시지는 미리 만든 규칙 표에서 고름
+ * 같은 예보(내용 지문이 같은 경우)는 마지막 분석 결과를 재사용
  */
 public class CatWeatherAnalystService {
-    
+
+    private static final String NO_DATA_MESSAGE = "예보 데이터가 없어서 분석할 수 없다냥... 😿";
+
+    /**
+     * 분석 결과로 메시지를 고르는 규칙
+     */
+    private interface Rule {
+        boolean matches(WeatherAnalysis analysis);
+    }
+
+    // 위에서부터 처음 맞는 규칙의 메시지 사용 (강수 > 온도 순)
+    private static final Rule[] RULES = {
+            analysis -> analysis.highRainHours > 0,
+            analysis -> analysis.rainHours > 0,
+            analysis -> analysis.maxRainProbability > 30,
+            analysis -> analysis.isHot,
+            analysis -> analysis.isCold,
+            analysis -> analysis.temperatureRange > 8,
+            analysis -> true
+    };
+
+    private static final String[] RULE_MESSAGES = {
+            "비가 많이 올 예정이다냥! ☔",
+            "가끔 비가 올 수 있다냥! 🌦️",
+            "하늘이 흐릴 예정이다냥! ☁️",
+            "너무 더운 날이다냥! 🥵",
+            "추운 날이다냥! 🥶",
+            "온도 변화가 큰 날이다냥! 🌡️",
+            "완벽한 날씨다냥! ☀️"
+    };
+
+    // 마지막 분석 결과 (예보 지문과 함께 보관)
+    private static volatile WeatherAnalysis lastAnalysis;
+
     /**
      * 12시간 예보를 분석해서 고양이 스타일 분석 결과 생성
      */
     public static String analyzeWeatherForecast(List<HourlyForecast> forecasts) {
         if (forecasts == null || forecasts.isEmpty()) {
-            return "예보 데이터가 없어서 분석할 수 없다냥... 😿";
+            return NO_DATA_MESSAGE;
         }
-        
-        WeatherAnalysis analysis = performDetailedAnalysis(forecasts);
-        return generateCatAnalysisMessage(analysis);
+        return analyzeWeatherForecast(ForecastSeries.from(forecasts));
     }
-    
+
     /**
-     * 상세 날씨 분석 수행
+     * 압축 예보로 분석
      */
-    private static WeatherAnalysis performDetailedAnalysis(List<HourlyForecast> forecasts) {
-        WeatherAnalysis analysis = new WeatherAnalysis();
-        
-        // 강수 관련 분석
-        analyzeRainProbability(forecasts, analysis);
-        
-        // 온도 관련 분석
-        analyzeTemperature(forecasts, analysis);
-        
-        // 날씨 변화 패턴 분석
-        analyzeWeatherPattern(forecasts, analysis);
-        
-        // 시간대별 특이사항 분석
-        analyzeTimeSpecificEvents(forecasts, analysis);
-        
+    public static String analyzeWeatherForecast(ForecastSeries series) {
+        if (series == null || series.isEmpty()) {
+            return NO_DATA_MESSAGE;
+        }
+        return analyze(series).getMessage();
+    }
+
+    /**
+     * 예보 통계 (화면에서 우산/온도차/추천 활동 표시에 사용)
+     * @return 예보가 없으면 null
+     */
+    public static WeatherAnalysis analyze(List<HourlyForecast> forecasts) {
+        if (forecasts == null || forecasts.isEmpty()) {
+            return null;
+        }
+        return analyze(ForecastSeries.from(forecasts));
+    }
+
+    /**
+     * 예보 통계 (같은 예보면 이전 결과 재사용)
+     */
+    public static WeatherAnalysis analyze(ForecastSeries series) {
+        WeatherAnalysis cached = lastAnalysis;
+        if (cached != null && cached.version == series.getVersion()) {
+            return cached;
+        }
+        WeatherAnalysis analysis = performDetailedAnalysis(series);
+        analysis.message = selectMessage(analysis);
+        lastAnalysis = analysis;
         return analysis;
     }
-    
+
     /**
-     * 강수 확률 분석
+     * 상세 날씨 분석 수행 (강수/온도/변화 패턴/시간대를 한 번의 순회로 계산)
      */
-    private static void analyzeRainProbability(List<HourlyForecast> forecasts, WeatherAnalysis analysis) {
+    static WeatherAnalysis performDetailedAnalysis(ForecastSeries series) {
+        WeatherAnalysis analysis = new WeatherAnalysis(series.getVersion());
+        int size = series.size();
+
         int maxRainProb = 0;
         int rainHours = 0;
         int highRainHours = 0; // 70% 이상
-        
-        for (HourlyForecast forecast : forecasts) {
-            int rainProb = forecast.getPrecipitationProbability();
-            maxRainProb = Math.max(maxRainProb, rainProb);
+        float minTemp = Float.MAX_VALUE;
+        float maxTemp = -Float.MAX_VALUE;
+        float totalTemp = 0;
+        byte previousCondition = series.getConditionCode(0);
 
+        for (int i = 0; i < size; i++) {
+            // 강수 확률
+            int rainProb = series.getPrecipitationProbability(i);
+            if (rainProb > maxRainProb) maxRainProb = rainProb;
             if (rainProb > 30) rainHours++;
             if (rainProb > 70) highRainHours++;
 
-            // 비 오는 시간대 기록
+            // 비 오는 시간대와 출퇴근 시간대 (7-9시, 17-19시)
             if (rainProb > 50) {
-                // 예보 시간을 파싱해서 시간 추출
-                String timeStr = forecast.getForecastTime();
-                if (timeStr != null && timeStr.length() >= 2) {
-                    int hour = Integer.parseInt(timeStr.substring(0, 2));
-                
-                    if (hour >= 6 && hour < 12) {
-                        analysis.morningRain = true;
-                    } else if (hour >= 12 && hour < 18) {
-                        analysis.afternoonRain = true;
-                    } else if (hour >= 18 && hour < 24) {
-                        analysis.eveningRain = true;
-                    }
+                int hour = series.getHourOfDay(i);
+                if (hour >= 6 && hour < 12) {
+                    analysis.morningRain = true;
+                } else if (hour >= 12 && hour < 18) {
+                    analysis.afternoonRain = true;
+                } else if (hour >= 18) {
+                    analysis.eveningRain = true;
+                }
+                if (hour >= 7 && hour <= 9) {
+                    analysis.morningCommuteRain = true;
+                } else if (hour >= 17 && hour <= 19) {
+                    analysis.eveningCommuteRain = true;
                 }
             }
+
+            // 온도
+            float temp = series.getTemperature(i);
+            if (temp < minTemp) minTemp = temp;
+            if (temp > maxTemp) maxTemp = temp;
+            totalTemp += temp;
+
+            // 급격한 변화
+            byte condition = series.getConditionCode(i);
+            if (i > 0 && !analysis.hasSignificantChange && isSignificantChange(previousCondition, condition)) {
+                analysis.hasSignificantChange = true;
+            }
+            previousCondition = condition;
         }
-        
+
         analysis.maxRainProbability = maxRainProb;
         analysis.rainHours = rainHours;
         analysis.highRainHours = highRainHours;
         analysis.willRain = maxRainProb > 50;
-    }
-    
-    /**
-     * 온도 분석
-     */
-    private static void analyzeTemperature(List<HourlyForecast> forecasts, WeatherAnalysis analysis) {
-        float minTemp = Float.MAX_VALUE;
-        float maxTemp = Float.MIN_VALUE;
-        float totalTemp = 0;
-        
-        for (HourlyForecast forecast : forecasts) {
-            float temp = forecast.getTemperature();
-            minTemp = Math.min(minTemp, temp);
-            maxTemp = Math.max(maxTemp, temp);
-            totalTemp += temp;
-        }
-        
+
         analysis.minTemperature = minTemp;
         analysis.maxTemperature = maxTemp;
-        analysis.avgTemperature = totalTemp / forecasts.size();
+        analysis.avgTemperature = totalTemp / size;
         analysis.temperatureRange = maxTemp - minTemp;
-        
-        // 온도 특성 분석
         analysis.isHot = maxTemp > 30;
         analysis.isCold = minTemp < 5;
         analysis.isComfortable = analysis.avgTemperature >= 18 && analysis.avgTemperature <= 25;
-    }
-    
-    /**
-     * 날씨 변화 패턴 분석
-     */
-    private static void analyzeWeatherPattern(List<HourlyForecast> forecasts, WeatherAnalysis analysis) {
-        String firstCondition = forecasts.get(0).getWeatherCondition();
-        String lastCondition = forecasts.get(forecasts.size() - 1).getWeatherCondition();
-        
-        // 날씨 변화 추세
+
+        // 날씨 변화 추세 (처음과 마지막 비교)
+        byte firstCondition = series.getConditionCode(0);
+        byte lastCondition = series.getConditionCode(size - 1);
         if (isGettingWorse(firstCondition, lastCondition)) {
             analysis.weatherTrend = "악화";
         } else if (isGettingBetter(firstCondition, lastCondition)) {
@@ -124,115 +168,81 @@ public class CatWeatherAnalystService {
         } else {
             analysis.weatherTrend = "안정";
         }
-        
-        // 급격한 변화 감지
-        for (int i = 1; i < forecasts.size(); i++) {
-            String prev = forecasts.get(i-1).getWeatherCondition();
-            String curr = forecasts.get(i).getWeatherCondition();
-            
-            if (isSignificantChange(prev, curr)) {
-                analysis.hasSignificantChange = true;
-                break;
-            }
-        }
+        return analysis;
     }
-    
+
     /**
-     * 시간대별 특이사항 분석
+     * 규칙 표에서 처음 맞는 메시지 선택
      */
-    private static void analyzeTimeSpecificEvents(List<HourlyForecast> forecasts, WeatherAnalysis analysis) {
-        Calendar now = Calendar.getInstance();
-        int currentHour = now.get(Calendar.HOUR_OF_DAY);
-        
-        // 출근/등교 시간대 (7-9시) 날씨
-        // 점심 시간대 (12-13시) 날씨
-        // 퇴근/하교 시간대 (17-19시) 날씨
-        
-        for (HourlyForecast forecast : forecasts) {
-            // 예보 시간을 파싱해서 시간 추출
-            String timeStr = forecast.getForecastTime();
-            if (timeStr != null && timeStr.length() >= 2) {
-                int hour = Integer.parseInt(timeStr.substring(0, 2));
-
-                if (hour >= 7 && hour <= 9 && forecast.getPrecipitationProbability() > 50) {
-                    analysis.morningCommuteRain = true;
-                }
-                if (hour >= 17 && hour <= 19 && forecast.getPrecipitationProbability() > 50) {
-                    analysis.eveningCommuteRain = true;
-                }
+    private static String selectMessage(WeatherAnalysis analysis) {
+        for (int i = 0; i < RULES.length; i++) {
+            if (RULES[i].matches(analysis)) {
+                return RULE_MESSAGES[i];
             }
         }
+        return RULE_MESSAGES[RULE_MESSAGES.length - 1];
     }
-    
-    /**
-     * 고양이 스타일 간결한 분석 메시지 생성 (간단하고 명확하게)
-     */
-    private static String generateCatAnalysisMessage(WeatherAnalysis analysis) {
-        // 강수 관련 메시지 (최우선) - 간단하게
-        if (analysis.highRainHours > 0) {
-            return "비가 많이 올 예정이다냥! ☔";
-        } else if (analysis.rainHours > 0) {
-            return "가끔 비가 올 수 있다냥! 🌦️";
-        } else if (analysis.maxRainProbability > 30) {
-            return "하늘이 흐릴 예정이다냥! ☁️";
-        }
 
-        // 온도 관련 메시지 (강수가 없을 때)
-        if (analysis.isHot) {
-            return "너무 더운 날이다냥! 🥵";
-        } else if (analysis.isCold) {
-            return "추운 날이다냥! 🥶";
-        } else if (analysis.temperatureRange > 8) {
-            return "온도 변화가 큰 날이다냥! 🌡️";
-        } else {
-            return "완벽한 날씨다냥! ☀️";
-        }
-    }
-    
-    // 헬퍼 메서드들
-    private static boolean isGettingWorse(String from, String to) {
-        return (from.equals("맑음") && (to.equals("비") || to.equals("소나기"))) ||
-               (from.equals("구름많음") && (to.equals("비") || to.equals("소나기"))) ||
-               (from.equals("맑음") && to.equals("흐림"));
+    // 헬퍼 메서드들 (날씨 상태 코드의 심각도로 비교)
+    private static boolean isGettingWorse(byte from, byte to) {
+        int fromSeverity = WeatherCondition.severityOf(from);
+        int toSeverity = WeatherCondition.severityOf(to);
+        return toSeverity > fromSeverity && (WeatherCondition.isRainy(to) || fromSeverity == 0);
     }
-    
-    private static boolean isGettingBetter(String from, String to) {
-        return (from.equals("비") && to.equals("맑음")) ||
-               (from.equals("소나기") && to.equals("맑음")) ||
-               (from.equals("흐림") && to.equals("맑음"));
+
+    private static boolean isGettingBetter(byte from, byte to) {
+        return WeatherCondition.fromCode(to) == WeatherCondition.CLEAR
+                && WeatherCondition.severityOf(from) >= WeatherCondition.CLOUDY.getSeverity();
     }
-    
-    private static boolean isSignificantChange(String from, String to) {
-        return (from.equals("맑음") && to.equals("비")) ||
-               (from.equals("비") && to.equals("맑음")) ||
-               (from.equals("맑음") && to.equals("소나기"));
+
+    private static boolean isSignificantChange(byte from, byte to) {
+        boolean fromClear = WeatherCondition.fromCode(from) == WeatherCondition.CLEAR;
+        boolean toClear = WeatherCondition.fromCode(to) == WeatherCondition.CLEAR;
+        return (fromClear && WeatherCondition.isRainy(to)) || (WeatherCondition.isRainy(from) && toClear);
     }
-    
+
     /**
-     * 날씨 분석 결과를 담는 내부 클래스
+     * 날씨 분석 결과
      */
-    private static class WeatherAnalysis {
+    public static final class WeatherAnalysis {
+        final long version;
+        String message;
+
         boolean willRain = false;
         int maxRainProbability = 0;
         int rainHours = 0;
         int highRainHours = 0;
-        
+
         boolean morningRain = false;
         boolean afternoonRain = false;
         boolean eveningRain = false;
         boolean morningCommuteRain = false;
         boolean eveningCommuteRain = false;
-        
+
         float minTemperature = 0;
         float maxTemperature = 0;
         float avgTemperature = 0;
         float temperatureRange = 0;
-        
+
         boolean isHot = false;
         boolean isCold = false;
         boolean isComfortable = false;
-        
+
         String weatherTrend = "안정";
         boolean hasSignificantChange = false;
+
+        WeatherAnalysis(long version) {
+            this.version = version;
+        }
+
+        public String getMessage() { return message; }
+        public int getMaxRainProbability() { return maxRainProbability; }
+        public int getRainHours() { return rainHours; }
+        public boolean isMorningCommuteRain() { return morningCommuteRain; }
+        public boolean isEveningCommuteRain() { return eveningCommuteRain; }
+        public float getMinTemperature() { return minTemperature; }
+        public float getMaxTemperature() { return maxTemperature; }
+        public float getTemperatureRange() { return temperatureRange; }
+        public String getWeatherTrend() { return weatherTrend; }
     }
 }
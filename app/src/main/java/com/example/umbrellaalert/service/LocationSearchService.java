@@ -16,16 +16,23 @@ import java.util.concurrent.Future;
 public class LocationSearchService {
 
     private static final String TAG = "LocationSearchService";
+    private static Context appContext;
     private static NaverGeocodingApiClient geocodingClient;
 
     /**
-     * 네이버 Geocoding API 클라이언트 초기화
+     * 네이버 Geocoding API 사용 준비 (앱 시작 시 호출)
+     * 클라이언트와 스레드 풀은 첫 검색, 주소 변환 때 만듦
      */
-    public static void initialize(Context context) {
-        if (geocodingClient == null) {
-            geocodingClient = new NaverGeocodingApiClient(context);
+    public static synchronized void initialize(Context context) {
+        appContext = context.getApplicationContext();
+    }
+
+    private static synchronized NaverGeocodingApiClient client() {
+        if (geocodingClient == null && appContext != null) {
+            geocodingClient = new NaverGeocodingApiClient(appContext);
             Log.d(TAG, "네이버 Geocoding API 클라이언트 초기화 완료");
         }
+        return geocodingClient;
     }
 
 
@@ -40,6 +47,7 @@ public class LocationSearchService {
             return new ArrayList<>(); // 빈 검색어일 때는 빈 리스트 반환
         }
 
+        NaverGeocodingApiClient geocodingClient = client();
         if (geocodingClient == null) {
             Log.w(TAG, "❌ Geocoding 클라이언트가 초기화되지 않았습니다.");
             return new ArrayList<>();
@@ -75,6 +83,7 @@ public class LocationSearchService {
      * 좌표를 주소로 변환 (네이버 Reverse Geocoding API 사용)
      */
     public static String getAddressFromCoordinates(double latitude, double longitude) {
+        NaverGeocodingApiClient geocodingClient = client();
         if (geocodingClient == null) {
             Log.w(TAG, "Geocoding 클라이언트가 초기화되지 않았습니다. 기본 주소를 반환합니다.");
             return getFallbackAddress(latitude, longitude);
@@ -127,7 +136,7 @@ public class LocationSearchService {
     /**
      * 리소스 정리
      */
-    public static void shutdown() {
+    public static synchronized void shutdown() {
         if (geocodingClient != null) {
             geocodingClient.shutdown();
             geocodingClient = null;
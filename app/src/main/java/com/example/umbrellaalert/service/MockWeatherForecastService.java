@@ -32,6 +32,7 @@ public class MockWeatherForecastService {
     public static List<HourlyForecast> generate12HourForecast() {
         List<HourlyForecast> forecasts = new ArrayList<>();
         Calendar calendar = Calendar.getInstance();
+        Random random = new Random(SyntheticWeatherGenerator.DEFAULT_SEED);
 
         // 3시간 단위 시간대: 02시, 05시, 08시, 11시, 14시, 17시, 20시, 23시
         int[] forecastHours = {2, 5, 8, 11, 14, 17, 20, 23};
@@ -61,7 +62,7 @@ public class MockWeatherForecastService {
             int humidity = calculateSejongjuneHumidity(currentHour);
 
             // 세종 6월 9일 풍속 (2m/s 기준)
-            float windSpeed = 1.8f + (float)(Math.random() * 0.4f); // 1.8-2.2 m/s
+            float windSpeed = 1.8f + random.nextFloat() * 0.4f; // 1.8-2.2 m/s
             
             // 날짜와 시간 포맷 생성
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", java.util.Locale.KOREA);
@@ -102,6 +103,7 @@ public class MockWeatherForecastService {
 
     /**
      * 현재 날씨 데이터를 기반으로 8시간 예보 생성 (3시간 단위)
+     * 같은 위치, 같은 시각(정시 단위)의 날씨면 항상 같은 예보
      */
     public static List<HourlyForecast> generateForecastBasedOnWeather(com.example.umbrellaalert.data.model.Weather currentWeather) {
         List<HourlyForecast> forecasts = new ArrayList<>();
@@ -115,6 +117,9 @@ public class MockWeatherForecastService {
         float baseTemperature = currentWeather.getTemperature();
         boolean isRainy = baseCondition.contains("비");
         boolean isCloudy = baseCondition.contains("흐림");
+        Random random = new Random(SyntheticWeatherGenerator.DEFAULT_SEED
+                ^ (currentWeather.getTimestamp() / (60 * 60 * 1000L))
+                ^ ((long) String.valueOf(currentWeather.getLocation()).hashCode() << 32));
 
         for (int i = 0; i < 8; i++) {
             Calendar forecastTime = (Calendar) calendar.clone();
@@ -128,16 +133,16 @@ public class MockWeatherForecastService {
             float temperature = calculateTemperatureByHour(baseTemperature, currentHour);
 
             // 현재 날씨 상태를 기반으로 예보 날씨 결정
-            String weatherCondition = generateWeatherCondition(baseCondition, i);
+            String weatherCondition = generateWeatherCondition(random, baseCondition);
 
             // 강수확률 계산
-            int rainProbability = calculateRainProbability(weatherCondition, currentHour);
+            int rainProbability = calculateRainProbability(random, weatherCondition);
 
             // 습도 계산
             int humidity = calculateHumidity(weatherCondition, rainProbability);
 
             // 풍속 계산
-            float windSpeed = calculateWindSpeed(weatherCondition);
+            float windSpeed = calculateWindSpeed(random, weatherCondition);
 
             // 날짜와 시간 포맷 생성
             SimpleDateFormat dateFormat = new SimpleDateFormat("yyyyMMdd", java.util.Locale.KOREA);
@@ -150,7 +155,7 @@ public class MockWeatherForecastService {
             int precipitationType = weatherCondition.contains("비") ? 1 : 0;
 
             // 강수량 계산
-            float precipitation = calculatePrecipitation(weatherCondition, rainProbability);
+            float precipitation = calculatePrecipitation(random, weatherCondition, rainProbability);
 
             // 우산 필요 여부
             boolean needUmbrella = weatherCondition.contains("비") || rainProbability > 50;
@@ -203,152 +208,59 @@ public class MockWeatherForecastService {
     }
 
     // 현재 날씨 기반 예보 날씨 생성
-    private static String generateWeatherCondition(String baseCondition, int hourIndex) {
+    private static String generateWeatherCondition(Random random, String baseCondition) {
         // 70% 확률로 현재 날씨 유지, 30% 확률로 변화
-        if (Math.random() < 0.7) {
+        if (random.nextFloat() < 0.7) {
             return baseCondition;
         } else {
             // 약간의 변화 (맑음 <-> 흐림, 흐림 <-> 비)
             if (baseCondition.contains("맑음")) {
-                return Math.random() < 0.5 ? "흐림" : "맑음";
+                return random.nextFloat() < 0.5 ? "흐림" : "맑음";
             } else if (baseCondition.contains("흐림")) {
-                return Math.random() < 0.3 ? "비" : "흐림";
+                return random.nextFloat() < 0.3 ? "비" : "흐림";
             } else { // 비
-                return Math.random() < 0.3 ? "흐림" : "비";
+                return random.nextFloat() < 0.3 ? "흐림" : "비";
             }
         }
     }
 
     // 강수확률 계산
-    private static int calculateRainProbability(String condition, int hour) {
+    private static int calculateRainProbability(Random random, String condition) {
         if (condition.contains("비")) {
-            return 70 + (int)(Math.random() * 30); // 70-100%
+            return 70 + random.nextInt(30); // 70-100%
         } else if (condition.contains("흐림")) {
-            return 20 + (int)(Math.random() * 30); // 20-50%
+            return 20 + random.nextInt(30); // 20-50%
         } else {
-            return (int)(Math.random() * 20); // 0-20%
+            return random.nextInt(20); // 0-20%
         }
     }
 
     // 중복 메서드 제거됨 - 기존 calculateHumidity 메서드 사용
 
     // 풍속 계산
-    private static float calculateWindSpeed(String condition) {
+    private static float calculateWindSpeed(Random random, String condition) {
         if (condition.contains("비")) {
-            return 3.0f + (float)(Math.random() * 2.0f); // 3-5 m/s
+            return 3.0f + random.nextFloat() * 2.0f; // 3-5 m/s
         } else if (condition.contains("흐림")) {
-            return 2.0f + (float)(Math.random() * 1.5f); // 2-3.5 m/s
+            return 2.0f + random.nextFloat() * 1.5f; // 2-3.5 m/s
         } else {
-            return 1.0f + (float)(Math.random() * 1.0f); // 1-2 m/s
+            return 1.0f + random.nextFloat() * 1.0f; // 1-2 m/s
         }
     }
 
     // 강수량 계산
-    private static float calculatePrecipitation(String condition, int rainProb) {
+    private static float calculatePrecipitation(Random random, String condition, int rainProb) {
         if (condition.contains("비")) {
-            return 2.0f + (float)(Math.random() * 8.0f); // 2-10mm
+            return 2.0f + random.nextFloat() * 8.0f; // 2-10mm
         } else if (rainProb > 50) {
-            return (float)(Math.random() * 2.0f); // 0-2mm
+            return random.nextFloat() * 2.0f; // 0-2mm
         } else {
             return 0.0f;
         }
     }
     
     /**
-     * 날씨 시나리오 정의
-     */
-    private enum WeatherScenario {
-        SUNNY_ALL_DAY,      // 하루 종일 맑음
-        CLOUDY_TO_RAIN,     // 구름 → 비
-        RAIN_TO_CLEAR,      // 비 → 맑음
-        AFTERNOON_SHOWER,   // 오후 소나기
-        GRADUAL_CLOUDY      // 점점 흐려짐
-    }
-    
-    /**
-     * 랜덤 날씨 시나리오 선택
-     */
-    private static WeatherScenario getRandomWeatherScenario() {
-        WeatherScenario[] scenarios = WeatherScenario.values();
-        Random random = new Random();
-        return scenarios[random.nextInt(scenarios.length)];
-    }
-    
-    /**
-     * 시간대별 온도 계산 (자연스러운 일교차)
-     */
-    private static float calculateTemperatureForHour(float baseTemp, int hour) {
-        // 새벽 4시가 최저, 오후 2시가 최고
-        double hourRadians = (hour - 4) * Math.PI / 12.0;
-        float tempVariation = (float) (Math.sin(hourRadians) * 5.0); // ±5도 변화
-        
-        return baseTemp + tempVariation;
-    }
-    
-    /**
-     * 시나리오에 따른 날씨 상태 결정
-     */
-    private static String getWeatherConditionForScenario(WeatherScenario scenario, int hourIndex) {
-        switch (scenario) {
-            case SUNNY_ALL_DAY:
-                return hourIndex < 2 ? "구름많음" : "맑음";
-                
-            case CLOUDY_TO_RAIN:
-                if (hourIndex < 3) return "구름많음";
-                else if (hourIndex < 6) return "흐림";
-                else return "비";
-                
-            case RAIN_TO_CLEAR:
-                if (hourIndex < 4) return "비";
-                else if (hourIndex < 7) return "흐림";
-                else return "구름많음";
-                
-            case AFTERNOON_SHOWER:
-                if (hourIndex >= 4 && hourIndex <= 7) return "소나기";
-                else if (hourIndex >= 3 && hourIndex <= 8) return "구름많음";
-                else return "맑음";
-                
-            case GRADUAL_CLOUDY:
-                if (hourIndex < 3) return "맑음";
-                else if (hourIndex < 8) return "구름많음";
-                else return "흐림";
-                
-            default:
-                return "맑음";
-        }
-    }
-    
-    /**
-     * 강수 확률 계산
-     */
-    private static int calculateRainProbability(WeatherScenario scenario, int hourIndex) {
-        switch (scenario) {
-            case SUNNY_ALL_DAY:
-                return 0;
-                
-            case CLOUDY_TO_RAIN:
-                if (hourIndex < 3) return 10;
-                else if (hourIndex < 6) return 30 + hourIndex * 10;
-                else return 80;
-                
-            case RAIN_TO_CLEAR:
-                if (hourIndex < 4) return 90;
-                else if (hourIndex < 7) return 60 - hourIndex * 10;
-                else return 10;
-                
-            case AFTERNOON_SHOWER:
-                if (hourIndex >= 4 && hourIndex <= 7) return 70 + (new Random().nextInt(20));
-                else return 20;
-                
-            case GRADUAL_CLOUDY:
-                return Math.min(hourIndex * 10, 50);
-                
-            default:
-                return 0;
-        }
-    }
-    
-    /**
+     * 날씨 시나리    /**
      * 습도 계산
      */
     private static int calculateHumidity(String weatherCondition, int rainProbability) {
@@ -8,7 +8,6 @@ import android.app.PendingIntent;
 import android.app.Service;
 import android.content.Context;
 import android.content.Intent;
-import android.content.SharedPreferences;
 import android.content.pm.PackageManager;
 import android.location.Location;
 import android.location.LocationListener;
@@ -24,21 +23,15 @@ import androidx.core.app.NotificationCompat;
 import androidx.core.content.ContextCompat;
 
 import com.example.umbrellaalert.R;
-import com.example.umbrellaalert.data.manager.WeatherManager;
-import com.example.umbrellaalert.data.model.Weather;
-import com.example.umbrellaalert.util.WeatherCacheManager;
-import com.example.umbrellaalert.data.model.RegisteredBus;
-import com.example.umbrellaalert.data.model.BusArrival;
-import com.example.umbrellaalert.data.api.BusApiClient;
-import com.example.umbrellaalert.data.database.BusDao;
-import com.example.umbrellaalert.data.database.DatabaseHelper;
+import com.example.umbrellaalert.data.manager.DashboardSnapshotManager;
+import com.example.umbrellaalert.data.manager.SettingsManager;
+import com.example.umbrellaalert.data.model.DashboardSnapshot;
+import com.example.umbrellaalert.data.model.WeatherCondition;
 import com.example.umbrellaalert.receiver.NotificationDismissReceiver;
 import com.example.umbrellaalert.ui.main.MainActivity;
 import com.example.umbrellaalert.ui.settings.SettingsViewModel;
-import com.example.umbrellaalert.util.WalkingTimeCalculator;
-
-import java.util.List;
-import java.util.concurrent.Future;
+import com.example.umbrellaalert.util.NotificationPublisher;
+import com.example.umbrellaalert.util.WalkingTimeMatrix;
 
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
@@ -61,32 +54,31 @@ public class PersistentNotificationService extends Service implements LocationLi
     private static final int NOTIFICATION_ID = 1001;
     private static final long UPDATE_INTERVAL = TimeUnit.MINUTES.toMillis(30); // 30분마다 업데이트
 
-    private static final String PREF_NAME = "UmbrellaAlertPrefs";
-    private static final String KEY_PERSISTENT_NOTIFICATION = "persistent_notification_enabled";
-
     @Inject
-    WeatherManager weatherManager;
+    DashboardSnapshotManager dashboardSnapshotManager;
 
-    private BusApiClient busApiClient;
-    private BusDao busDao;
+    private NotificationPublisher notificationPublisher;
     private ExecutorService executorService;
     private Handler handler;
     private Runnable updateRunnable;
     private LocationManager locationManager;
     private Location currentLocation;
-    private WalkingTimeCalculator walkingTimeCalculator;
+
+    // 마지막으로 알림에 그린 스냅샷 버전 (메인 스레드에서만 접근)
+    private long renderedVersion = -1;
+
+    // 다른 화면의 갱신으로 게시된 스냅샷도 알림에 반영
+    private final DashboardSnapshotManager.SnapshotListener snapshotListener =
+            snapshot -> handler.post(() -> renderSnapshot(snapshot));
 
     @Override
     public void onCreate() {
         super.onCreate();
-        // weatherManager는 Hilt로 주입됨
-        busApiClient = new BusApiClient(this);
-        DatabaseHelper dbHelper = DatabaseHelper.getInstance(this);
-        busDao = new BusDao(dbHelper);
+        // dashboardSnapshotManager는 Hilt로 주입됨
+        notificationPublisher = NotificationPublisher.getInstance(this);
         executorService = Executors.newSingleThreadExecutor();
         handler = new Handler(Looper.getMainLooper());
         locationManager = (LocationManager) getSystemService(LOCATION_SERVICE);
-        walkingTimeCalculator = new WalkingTimeCalculator(this);
 
         // 업데이트 Runnable 정의
         updateRunnable = new Runnable() {
@@ -103,12 +95,16 @@ public class PersistentNotificationService extends Service implements LocationLi
         
         // 위치 업데이트 시작
         startLocationUpdates();
+
+        dashboardSnapshotManager.addListener(snapshotListener);
     }
 
     @Override
     public int onStartCommand(Intent intent, int flags, int startId) {
         // 즉시 포그라운드 서비스로 시작 (기본 알림으로)
         startForeground(NOTIFICATION_ID, createInitialNotification());
+        notificationPublisher.invalidate(CHANNEL_ID, NOTIFICATION_ID);
+        renderedVersion = -1;
 
         // 서비스가 시작될 때 알림 표시 (비동기로 실제 데이터 로드)
         updateNotification();
@@ -131,10 +127,10 @@ public class PersistentNotificationService extends Service implements LocationLi
         // 업데이트 중지
         handler.removeCallbacks(updateRunnable);
         stopLocationUpdates();
-        if (walkingTimeCalculator != null) {
-            walkingTimeCalculator.shutdown();
-        }
+        dashboardSnapshotManager.removeListener(snapshotListener);
         executorService.shutdown();
+        // 간격 제한으로 미뤄진 게시가 서비스 종료 뒤에 ongoing 알림으로 남지 않도록
+        notificationPublisher.cancel(CHANNEL_ID, NOTIFICATION_ID);
     }
 
     /**
@@ -198,17 +194,13 @@ public class PersistentNotificationService extends Service implements LocationLi
             return;
         }
 
+        // 현재 스냅샷을 먼저 그리고, 갱신 후 버전이 바뀌었으면 다시 그림
+        renderSnapshot(dashboardSnapshotManager.getLatest());
+
         executorService.execute(() -> {
             try {
-                // 1. 날씨 정보 가져오기
-                Weather weather = getWeatherData();
-
-                // 2. 버스 정보 가져오기
-                String busInfo = getBusInfo();
-
-                // 3. 알림 표시
-                handler.post(() -> showCombinedNotification(weather, busInfo));
-
+                DashboardSnapshot snapshot = dashboardSnapshotManager.refresh(currentLocation, false);
+                handler.post(() -> renderSnapshot(snapshot));
             } catch (Exception e) {
                 Log.e(TAG, "알림 업데이트 실패", e);
             }
@@ -216,150 +208,45 @@ public class PersistentNotificationService extends Service implements LocationLi
     }
 
     /**
-     * 날씨 데이터 가져오기 (동기)
+     * 스냅샷 버전이 바뀐 경우에만 알림 다시 그리기 (메인 스레드)
      */
-    private Weather getWeatherData() {
-        if (currentLocation == null) {
-            return null;
-        }
-
-        try {
-            // 1. 먼저 캐시에서 날씨 데이터 확인
-            Weather cachedWeather = WeatherCacheManager.getWeatherFromCache(this);
-
-            if (cachedWeather != null) {
-                Log.d(TAG, "✅ 알림 캐시된 날씨 데이터 사용: " + cachedWeather.getTemperature() + "°C, " + cachedWeather.getWeatherCondition());
-                return cachedWeather;
-            }
-
-            // 2. 캐시에 없으면 기본 데이터 사용 (홈 화면에서 API 호출하므로)
-            Log.d(TAG, "캐시된 데이터 없음, 기본 데이터 사용 (홈 화면에서 API 호출 대기)");
-            return createFallbackWeather(currentLocation);
-
-        } catch (Exception e) {
-            Log.e(TAG, "알림 날씨 데이터 가져오기 오류", e);
-            return createFallbackWeather(currentLocation);
-        }
-    }
-
-    // 기본 날씨 데이터 생성 (API 실패 시 사용)
-    private Weather createFallbackWeather(Location location) {
-        String[] conditions = {"맑음", "흐림", "비"};
-        float[] temperatures = {8.0f, 15.0f, 22.0f, 28.0f};
-
-        String condition = conditions[(int) (Math.random() * conditions.length)];
-        float temperature = temperatures[(int) (Math.random() * temperatures.length)];
-
-        float precipitation = 0.0f;
-        boolean needUmbrella = false;
-
-        if (condition.contains("비")) {
-            precipitation = (float) (Math.random() * 15 + 2);
-            needUmbrella = true;
+    private void renderSnapshot(DashboardSnapshot snapshot) {
+        if (snapshot.getVersion() == 0 || snapshot.getVersion() <= renderedVersion) {
+            return;
         }
-
-        return new Weather(
-                0,
-                temperature,
-                condition,
-                precipitation,
-                (int) (Math.random() * 40 + 40),
-                (float) (Math.random() * 5 + 1),
-                location.getLatitude() + "," + location.getLongitude(),
-                System.currentTimeMillis(),
-                needUmbrella
-        );
+        renderedVersion = snapshot.getVersion();
+        showCombinedNotification(snapshot, buildBusInfo(snapshot));
     }
 
     /**
-     * 버스 정보 가져오기
+     * 스냅샷의 버스 도착 정보로 알림 텍스트 생성
+     * 도착 정보가 없거나 조회에 실패한 버스는 표시하지 않음 (노이즈 제거)
      */
-    private String getBusInfo() {
-        try {
-            List<RegisteredBus> buses = busDao.getAllRegisteredBuses();
-            Log.d(TAG, "📋 등록된 버스 수: " + (buses != null ? buses.size() : 0));
+    private String buildBusInfo(DashboardSnapshot snapshot) {
+        if (snapshot.getRegisteredBusCount() == 0) {
+            return "등록된 버스가 없습니다";
+        }
 
-            if (buses == null || buses.isEmpty()) {
-                Log.d(TAG, "❌ 등록된 버스가 없음");
-                return "등록된 버스가 없습니다";
-            }
+        StringBuilder busInfo = new StringBuilder();
+        for (DashboardSnapshot.BusEta eta : snapshot.getBusEtas()) {
+            if (eta.getStatus() != DashboardSnapshot.BusEta.Status.FOUND) continue;
 
-            StringBuilder busInfo = new StringBuilder();
-            int count = 0;
-
-            for (RegisteredBus bus : buses) {
-                // 모든 즐겨찾기 버스 표시 (제한 제거)
-
-                try {
-                    Future<List<BusArrival>> future = busApiClient.getBusArrivalInfo(bus.getNodeId(), bus.getCityCode());
-                    List<BusArrival> arrivals = future.get(10, TimeUnit.SECONDS); // 10초 타임아웃으로 증가
-
-                    Log.d(TAG, "🚌 " + bus.getRouteNo() + "번 버스 API 응답: " + arrivals.size() + "개");
-
-                    // 해당 버스 찾기
-                    boolean found = false;
-                    for (BusArrival arrival : arrivals) {
-                        if (bus.getRouteNo().equals(arrival.getRouteNo())) {
-                            int arrivalMinutes = arrival.getArrTime();
-
-                            // 정류장 위치 정보가 있는 경우 도보 시간 고려
-                            if (bus.getLatitude() != 0.0 && bus.getLongitude() != 0.0 && currentLocation != null) {
-                                try {
-                                    Future<Integer> walkingTimeFuture = walkingTimeCalculator.calculateWalkingTime(
-                                            currentLocation.getLatitude(), currentLocation.getLongitude(),
-                                            bus.getLatitude(), bus.getLongitude());
-                                    int walkingTimeMinutes = walkingTimeFuture.get(5, TimeUnit.SECONDS);
-
-                                    // 도보 시간을 고려한 직관적인 메시지 생성
-                                    String smartMessage = generateSmartBusMessage(bus.getRouteNo(), arrivalMinutes, walkingTimeMinutes);
-                                    if (smartMessage != null) {
-                                        if (count > 0) busInfo.append(" | ");
-                                        busInfo.append(smartMessage);
-                                        count++;
-                                    }
-                                } catch (Exception e) {
-                                    Log.e(TAG, "도보 시간 계산 실패: " + bus.getRouteNo(), e);
-                                    // 도보 시간 계산 실패시 기본 메시지
-                                    String basicMessage = generateBasicBusMessage(bus.getRouteNo(), arrivalMinutes);
-                                    if (basicMessage != null) {
-                                        if (count > 0) busInfo.append(" | ");
-                                        busInfo.append(basicMessage);
-                                        count++;
-                                    }
-                                }
-                            } else {
-                                // 위치 정보가 없는 경우 기본 메시지
-                                String basicMessage = generateBasicBusMessage(bus.getRouteNo(), arrivalMinutes);
-                                if (basicMessage != null) {
-                                    if (count > 0) busInfo.append(" | ");
-                                    busInfo.append(basicMessage);
-                                    count++;
-                                }
-                            }
-
-                            found = true;
-                            break;
-                        }
-                    }
-
-                    // 해당 버스를 찾지 못한 경우는 표시하지 않음 (노이즈 제거)
-
-                } catch (Exception e) {
-                    Log.e(TAG, "버스 정보 가져오기 실패: " + bus.getRouteNo(), e);
-                    // 오류 발생한 버스는 표시하지 않음 (노이즈 제거)
-                }
-            }
-
-            if (busInfo.length() == 0) {
-                return "🚌 버스 없음";
+            String message;
+            if (eta.getWalkingMinutes() != WalkingTimeMatrix.UNKNOWN) {
+                // 도보 시간을 고려한 직관적인 메시지 생성
+                message = generateSmartBusMessage(eta.getRouteNo(), eta.getArrivalMinutes(), eta.getWalkingMinutes());
+            } else {
+                // 위치 정보가 없는 경우 기본 메시지
+                message = generateBasicBusMessage(eta.getRouteNo(), eta.getArrivalMinutes());
             }
+            if (busInfo.length() > 0) busInfo.append(" | ");
+            busInfo.append(message);
+        }
 
-            return busInfo.toString();
-
-        } catch (Exception e) {
-            Log.e(TAG, "버스 정보 조회 오류", e);
-            return "🚌 정보 오류";
+        if (busInfo.length() == 0) {
+            return "🚌 버스 없음";
         }
+        return busInfo.toString();
     }
 
     /**
@@ -470,28 +357,17 @@ public class PersistentNotificationService extends Service implements LocationLi
     /**
      * 날씨 + 버스 통합 알림 표시
      */
-    private void showCombinedNotification(Weather weather, String busInfo) {
-        // 앱 실행 인텐트
-        Intent intent = new Intent(this, MainActivity.class);
-        PendingIntent pendingIntent = PendingIntent.getActivity(
-                this, 0, intent, PendingIntent.FLAG_IMMUTABLE);
-
-        // 알림 지우기 인텐트
-        Intent dismissIntent = new Intent(this, NotificationDismissReceiver.class);
-        dismissIntent.setAction(NotificationDismissReceiver.ACTION_DISMISS_PERSISTENT);
-        PendingIntent dismissPendingIntent = PendingIntent.getBroadcast(
-                this, 0, dismissIntent, PendingIntent.FLAG_IMMUTABLE);
-
+    private void showCombinedNotification(DashboardSnapshot snapshot, String busInfo) {
         // 알림 내용 구성
         String title;
         String content;
         int icon;
 
-        if (weather != null) {
+        if (snapshot.hasWeather()) {
             title = String.format(Locale.getDefault(), "%.1f°C %s",
-                weather.getTemperature(), getWeatherConditionText(weather.getWeatherCondition()));
+                snapshot.getTemperature(), getWeatherConditionText(snapshot.getWeatherCondition()));
 
-            if (weather.isNeedUmbrella()) {
+            if (snapshot.isNeedUmbrella()) {
                 content = "🌧️ 우산 필요 | " + busInfo;
                 icon = R.drawable.ic_umbrella_small;
             } else {
@@ -504,61 +380,53 @@ public class PersistentNotificationService extends Service implements LocationLi
             icon = R.drawable.ic_bus;
         }
 
-        // 알림 생성 (확장 가능한 스타일)
-        Notification notification = new NotificationCompat.Builder(this, CHANNEL_ID)
-                .setSmallIcon(icon)
-                .setContentTitle(title)
-                .setContentText(content)
-                .setStyle(new NotificationCompat.BigTextStyle()
-                    .bigText(content)
-                    .setBigContentTitle(title))
-                .setOngoing(true) // 사용자가 스와이프로 제거할 수 없음
-                .setContentIntent(pendingIntent)
-                .addAction(R.drawable.ic_close, "알림 끄기", dismissPendingIntent) // 알림 끄기 액션 추가
-                .setPriority(NotificationCompat.PRIORITY_LOW)
-                .build();
-
-        // 포그라운드 서비스로 실행
-        startForeground(NOTIFICATION_ID, notification);
+        // 포그라운드 알림 갱신 (내용이 같으면 생략)
+        notificationPublisher.publish(CHANNEL_ID, NOTIFICATION_ID, icon + "|" + title + "|" + content, builder -> {
+            // 앱 실행 인텐트
+            Intent intent = new Intent(this, MainActivity.class);
+            PendingIntent pendingIntent = PendingIntent.getActivity(
+                    this, 0, intent, PendingIntent.FLAG_IMMUTABLE);
+
+            // 알림 지우기 인텐트
+            Intent dismissIntent = new Intent(this, NotificationDismissReceiver.class);
+            dismissIntent.setAction(NotificationDismissReceiver.ACTION_DISMISS_PERSISTENT);
+            PendingIntent dismissPendingIntent = PendingIntent.getBroadcast(
+                    this, 0, dismissIntent, PendingIntent.FLAG_IMMUTABLE);
+
+            // 확장 가능한 스타일
+            builder.setSmallIcon(icon)
+                    .setContentTitle(title)
+                    .setContentText(content)
+                    .setStyle(new NotificationCompat.BigTextStyle()
+                        .bigText(content)
+                        .setBigContentTitle(title))
+                    .setOngoing(true) // 사용자가 스와이프로 제거할 수 없음
+                    .setOnlyAlertOnce(true)
+                    .setContentIntent(pendingIntent)
+                    .addAction(R.drawable.ic_close, "알림 끄기", dismissPendingIntent) // 알림 끄기 액션 추가
+                    .setPriority(NotificationCompat.PRIORITY_LOW);
+        });
     }
 
     /**
      * 날씨 상태 텍스트 변환
      */
     private String getWeatherConditionText(String condition) {
-        if (condition.equalsIgnoreCase("Clear")) {
-            return "맑음";
-        } else if (condition.equalsIgnoreCase("Clouds")) {
-            return "구름";
-        } else if (condition.equalsIgnoreCase("Rain")) {
-            return "비";
-        } else if (condition.equalsIgnoreCase("Drizzle")) {
-            return "이슬비";
-        } else if (condition.equalsIgnoreCase("Thunderstorm")) {
-            return "뇌우";
-        } else if (condition.equalsIgnoreCase("Snow")) {
-            return "눈";
-        } else if (condition.equalsIgnoreCase("Atmosphere")) {
-            return "안개";
-        } else {
-            return condition;
-        }
+        return WeatherCondition.displayLabel(condition);
     }
 
     /**
      * 서비스 활성화 여부 확인
      */
     public static boolean isEnabled(Context context) {
-        SharedPreferences preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        return preferences.getBoolean(KEY_PERSISTENT_NOTIFICATION, false);
+        return SettingsManager.getInstance(context).get().isPersistentNotificationEnabled();
     }
 
     /**
      * 서비스 활성화/비활성화 설정
      */
     public static void setEnabled(Context context, boolean enabled) {
-        SharedPreferences preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        preferences.edit().putBoolean(KEY_PERSISTENT_NOTIFICATION, enabled).apply();
+        SettingsManager.getInstance(context).update(settings -> settings.persistentNotificationEnabled(enabled));
 
         if (enabled) {
             // 서비스 시작
@@ -0,0 +1,415 @@
+package com.example.umbrellaalert.service;
+
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.data.model.WeatherCondition;
+import com.example.umbrellaalert.util.CoordinateConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 시드 기반 합성 날씨 생성기
+ * 같은 시드, 격자, 시각이면 항상 같은 값을 돌려주므로 API 실패 시 기본값, 벤치마크, 응답 재생 서버,
+ * 부하 테스트에서 재현 가능한 날씨로 사용
+ *
+ * 값은 (시드, 격자, 시각)만으로 바로 계산하므로 몇 달치 시계열도 순서와 상관없이 같은 결과가 나옴
+ * - 날마다 시나리오 하나 (각본을 주면 각본 순서, 아니면 인접 격자끼리 같은 시나리오가 되도록 지역 단위로 선택)
+ * - 기온: 계절 곡선 + 위도 보정 + 하루 편차 + 일교차 + 시간 편차
+ * - 날씨 상태, 강수확률: 시나리오의 2시간 구간별 패턴
+ */
+public final class SyntheticWeatherGenerator {
+
+    /**
+     * API 실패 시 기본값에 쓰는 시드 (6월 9일 세종 목업 데이터와 같은 날짜)
+     */
+    public static final long DEFAULT_SEED = 20250609L;
+
+    /**
+     * 하루 날씨 흐름
+     */
+    public enum Scenario {
+        SUNNY_ALL_DAY,      // 하루 종일 맑음
+        CLOUDY_TO_RAIN,     // 구름 → 비
+        RAIN_TO_CLEAR,      // 비 → 맑음
+        AFTERNOON_SHOWER,   // 오후 소나기
+        GRADUAL_CLOUDY,     // 점점 흐려짐
+        STEADY_RAIN         // 종일 비 (장마)
+    }
+
+    private static final long HOUR_MILLIS = 3600_000L;
+    private static final long KST_OFFSET_MILLIS = 9 * HOUR_MILLIS;
+
+    // 이 격자 수만큼 묶은 지역은 같은 날 같은 시나리오
+    private static final int REGION_CELLS = 16;
+
+    private static final SyntheticWeatherGenerator FALLBACK = new SyntheticWeatherGenerator(DEFAULT_SEED);
+
+    private final long seed;
+    private final Scenario[] script;
+    private final long scriptStartDay;
+
+    public SyntheticWeatherGenerator(long seed) {
+        this(seed, null, 0);
+    }
+
+    private SyntheticWeatherGenerator(long seed, Scenario[] script, long scriptStartDay) {
+        this.seed = seed;
+        this.script = script;
+        this.scriptStartDay = scriptStartDay;
+    }
+
+    /**
+     * API 실패 시 기본값을 만드는 공용 생성기
+     */
+    public static SyntheticWeatherGenerator fallback() {
+        return FALLBACK;
+    }
+
+    /**
+     * 시나리오 각본 지정 (startMillis가 속한 날부터 하루에 하나씩, 끝나면 처음부터 반복, 모든 격자 공통)
+     */
+    public SyntheticWeatherGenerator withScript(long startMillis, Scenario... scenarios) {
+        if (scenarios.length == 0) {
+            return new SyntheticWeatherGenerator(seed);
+        }
+        return new SyntheticWeatherGenerator(seed, scenarios.clone(), kstDay(startMillis));
+    }
+
+    /**
+     * "SUNNY_ALL_DAY*3,CLOUDY_TO_RAIN,STEADY_RAIN*2" 형식의 각본 해석 (*n은 n일 반복)
+     */
+    public static Scenario[] parseScript(String script) {
+        List<Scenario> days = new ArrayList<>();
+        for (String part : script.split(",")) {
+            String[] tokens = part.trim().split("\\*");
+            Scenario scenario = Scenario.valueOf(tokens[0].trim().toUpperCase(Locale.ROOT));
+            int repeat = tokens.length > 1 ? Integer.parseInt(tokens[1].trim()) : 1;
+            for (int i = 0; i < repeat; i++) {
+                days.add(scenario);
+            }
+        }
+        return days.toArray(new Scenario[0]);
+    }
+
+    /**
+     * 격자의 그날 시나리오
+     * @param kstDay 한국시간 기준 1970-01-01부터 지난 날 수
+     */
+    public Scenario scenarioOn(int nx, int ny, long kstDay) {
+        if (script != null) {
+            return script[(int) Math.floorMod(kstDay - scriptStartDay, (long) script.length)];
+        }
+        Random random = new Random(mix(seed, nx / REGION_CELLS, ny / REGION_CELLS, kstDay));
+        // 여름(7~8월)에는 비 오는 시나리오 비중을 높임
+        double summer = Math.max(0, -Math.cos(2 * Math.PI * (dayOfYear(kstDay) - 15) / 365.25));
+        double roll = random.nextDouble();
+        if (roll < 0.30 - 0.10 * summer) return Scenario.SUNNY_ALL_DAY;
+        if (roll < 0.50 - 0.10 * summer) return Scenario.GRADUAL_CLOUDY;
+        if (roll < 0.65 - 0.05 * summer) return Scenario.RAIN_TO_CLEAR;
+        if (roll < 0.80) return Scenario.CLOUDY_TO_RAIN;
+        if (roll < 0.92) return Scenario.AFTERNOON_SHOWER;
+        return Scenario.STEADY_RAIN;
+    }
+
+    /**
+     * 격자, 시각(정시 단위)의 예보
+     */
+    public HourlyForecast forecastAt(int nx, int ny, long timeMillis) {
+        long kstHour = Math.floorDiv(timeMillis + KST_OFFSET_MILLIS, HOUR_MILLIS);
+        long kstDay = Math.floorDiv(kstHour, 24);
+        int hour = (int) Math.floorMod(kstHour, 24L);
+
+        Scenario scenario = scenarioOn(nx, ny, kstDay);
+        Random dayRandom = new Random(mix(seed, nx / REGION_CELLS, ny / REGION_CELLS, kstDay) ^ 0x5DEECE66DL);
+        Random hourRandom = new Random(mix(seed, nx, ny, kstHour));
+
+        WeatherCondition condition = conditionFor(scenario, hour / 2);
+
+        // 계절 평균 (1월 중순 최저, 7월 중순 최고) + 위도 보정 (ny가 클수록 북쪽)
+        double temperature = 12.5 - 14.0 * Math.cos(2 * Math.PI * (dayOfYear(kstDay) - 15) / 365.25)
+                - (ny - 100) * 0.05
+                + dayRandom.nextGaussian() * 2.5
+                + diurnalOffset(hour)
+                + hourRandom.nextGaussian() * 0.4;
+        if (condition.isRainy()) {
+            temperature -= 1.5;
+        }
+
+        int rainProbability = clamp(rainProbabilityFor(scenario, hour / 2) + hourRandom.nextInt(11) - 5, 0, 100);
+        int humidity = clamp(baseHumidity(condition) + rainProbability / 5 + hourRandom.nextInt(11) - 5, 30, 98);
+        float windSpeed = 1.2f + condition.getSeverity() * 0.6f + hourRandom.nextFloat() * 1.2f;
+        float precipitation = condition.isRainy()
+                ? 0.5f + hourRandom.nextFloat() * (scenario == Scenario.STEADY_RAIN ? 12f : 6f)
+                : 0.0f;
+        boolean needUmbrella = condition.isRainy() || rainProbability >= 60;
+
+        HourlyForecast forecast = new HourlyForecast(
+                dateString(kstDay),
+                twoDigits(hour) + "00",
+                round1(temperature),
+                round1(precipitation),
+                rainProbability,
+                humidity,
+                round1(windSpeed),
+                condition.isRainy() ? 1 : 0,
+                condition.getLabel(),
+                needUmbrella
+        );
+        forecast.setDataSource("SYNTHETIC");
+        return forecast;
+    }
+
+    /**
+     * 시각별 일교차 (하루 평균 대비 °C, 새벽 최저 오후 2시 최고)
+     * 관측값 하나로 몇 시간 뒤 기온을 추정할 때도 사용
+     */
+    public static float diurnalOffset(int hour) {
+        return (float) (Math.sin((hour - 8) * Math.PI / 12.0) * 5.0);
+    }
+
+    /**
+     * 격자의 예보 시계열
+     * @param stepHours 예보 간격 (시간)
+     */
+    public List<HourlyForecast> forecastSeries(int nx, int ny, long startMillis, int count, int stepHours) {
+        List<HourlyForecast> forecasts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            forecasts.add(forecastAt(nx, ny, startMillis + i * stepHours * HOUR_MILLIS));
+        }
+        return forecasts;
+    }
+
+    /**
+     * 좌표, 시각의 관측값 (좌표가 속한 격자의 정시 예보를 관측값으로 사용)
+     * 날씨 상태는 앱이 저장하는 네 가지 분류(맑음/흐림/비/눈)로 묶음
+     */
+    public Weather observationAt(double latitude, double longitude, long timeMillis) {
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        HourlyForecast forecast = forecastAt(grid.nx, grid.ny, timeMillis);
+        return new Weather(
+                0,
+                forecast.getTemperature(),
+                WeatherCondition.fromText(forecast.getWeatherCondition()).coarse().getLabel(),
+                forecast.getPrecipitation(),
+                forecast.getHumidity(),
+                forecast.getWindSpeed(),
+                latitude + "," + longitude,
+                timeMillis,
+                forecast.isNeedUmbrella()
+        );
+    }
+
+    public List<Weather> observationSeries(double latitude, double longitude, long startMillis,
+                                           int count, int stepHours) {
+        List<Weather> observations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            observations.add(observationAt(latitude, longitude, startMillis + i * stepHours * HOUR_MILLIS));
+        }
+        return observations;
+    }
+
+    /**
+     * OpenWeather 현재 날씨 응답 형식 (응답 재생 서버용)
+     */
+    public String toOpenWeatherCurrentJson(double latitude, double longitude, long timeMillis) {
+        Weather weather = observationAt(latitude, longitude, timeMillis);
+        WeatherCondition condition = WeatherCondition.fromText(weather.getWeatherCondition());
+        StringBuilder json = new StringBuilder(512);
+        json.append(String.format(Locale.US, "{\"coord\":{\"lon\":%.4f,\"lat\":%.4f},", longitude, latitude));
+        appendOpenWeatherCondition(json, condition);
+        json.append(String.format(Locale.US, "\"main\":{\"temp\":%.1f,\"humidity\":%d},\"wind\":{\"speed\":%.1f},",
+                weather.getTemperature(), weather.getHumidity(), weather.getWindSpeed()));
+        if (weather.getPrecipitation() > 0) {
+            json.append(String.format(Locale.US, "\"rain\":{\"1h\":%.1f},", weather.getPrecipitation()));
+        }
+        json.append("\"dt\":").append(timeMillis / 1000).append(",\"timezone\":32400,\"cod\":200}");
+        return json.toString();
+    }
+
+    /**
+     * OpenWeather 5일 예보 응답 형식 (3시간 간격, 응답 재생 서버용)
+     */
+    public String toOpenWeatherForecastJson(double latitude, double longitude, long startMillis, int count) {
+        CoordinateConverter.GridCoordinate grid = CoordinateConverter.convertToGrid(latitude, longitude);
+        long start = Math.floorDiv(startMillis, HOUR_MILLIS) * HOUR_MILLIS;
+        StringBuilder json = new StringBuilder(256 * count);
+        json.append("{\"cod\":\"200\",\"message\":0,\"cnt\":").append(count).append(",\"list\":[");
+        for (int i = 0; i < count; i++) {
+            long time = start + i * 3 * HOUR_MILLIS;
+            HourlyForecast forecast = forecastAt(grid.nx, grid.ny, time);
+            if (i > 0) json.append(',');
+            json.append("{\"dt\":").append(time / 1000).append(',');
+            json.append(String.format(Locale.US, "\"main\":{\"temp\":%.1f,\"humidity\":%d},",
+                    forecast.getTemperature(), forecast.getHumidity()));
+            appendOpenWeatherCondition(json, WeatherCondition.fromText(forecast.getWeatherCondition()));
+            json.append(String.format(Locale.US, "\"wind\":{\"speed\":%.1f},\"pop\":%.2f",
+                    forecast.getWindSpeed(), forecast.getPrecipitationProbability() / 100.0));
+            if (forecast.getPrecipitation() > 0) {
+                json.append(String.format(Locale.US, ",\"rain\":{\"3h\":%.1f}", forecast.getPrecipitation()));
+            }
+            json.append('}');
+        }
+        json.append(String.format(Locale.US, "],\"city\":{\"coord\":{\"lat\":%.4f,\"lon\":%.4f},"
+                + "\"country\":\"KR\",\"timezone\":32400}}", latitude, longitude));
+        return json.toString();
+    }
+
+    /**
+     * 기상청 API허브 지상관측(kma_sfctm2) 고정폭 텍스트 응답 형식 (응답 재생 서버용)
+     */
+    public String toKmaObservationText(int stationId, double latitude, double longitude, long timeMillis) {
+        Weather weather = observationAt(latitude, longitude, timeMillis);
+        long kstHour = Math.floorDiv(timeMillis + KST_OFFSET_MILLIS, HOUR_MILLIS);
+        String tm = dateString(Math.floorDiv(kstHour, 24)) + twoDigits((int) Math.floorMod(kstHour, 24L)) + "00";
+        String rain = weather.getPrecipitation() > 0
+                ? String.format(Locale.US, "%.1f", weather.getPrecipitation()) : "-9.0";
+        return "#START7777\n"
+                + "# YYMMDDHHMI STN  WD   WS GST  GST  GST     PA     PS PT    PR    TA    TD    HM    PV     RN\n"
+                + String.format(Locale.US,
+                "%s %d  20  %.1f  -9 -9.0   -9 1013.0 1023.0 -9  -9.0  %.1f  -9.0  %d  -9.0  %s"
+                        + "  -9.0  -9.0  -9.0  -9.0  -9.0  -9.0\n",
+                tm, stationId, weather.getWindSpeed(), weather.getTemperature(), weather.getHumidity(), rain)
+                + "#7777END\n";
+    }
+
+    private static void appendOpenWeatherCondition(StringBuilder json, WeatherCondition condition) {
+        String main;
+        switch (condition) {
+            case CLEAR: main = "Clear"; break;
+            case DRIZZLE: main = "Drizzle"; break;
+            case RAIN:
+            case SHOWER: main = "Rain"; break;
+            case THUNDERSTORM: main = "Thunderstorm"; break;
+            case SNOW:
+            case SLEET: main = "Snow"; break;
+            case FOG: main = "Mist"; break;
+            default: main = "Clouds"; break;
+        }
+        json.append("\"weather\":[{\"main\":\"").append(main)
+                .append("\",\"description\":\"").append(condition.getLabel()).append("\"}],");
+    }
+
+    /**
+     * 시나리오의 2시간 구간(0~11)별 날씨 상태
+     */
+    private static WeatherCondition conditionFor(Scenario scenario, int slot) {
+        switch (scenario) {
+            case SUNNY_ALL_DAY:
+                return slot < 2 ? WeatherCondition.PARTLY_CLOUDY : WeatherCondition.CLEAR;
+            case CLOUDY_TO_RAIN:
+                if (slot < 3) return WeatherCondition.PARTLY_CLOUDY;
+                if (slot < 6) return WeatherCondition.CLOUDY;
+                return WeatherCondition.RAIN;
+            case RAIN_TO_CLEAR:
+                if (slot < 4) return WeatherCondition.RAIN;
+                if (slot < 7) return WeatherCondition.CLOUDY;
+                return WeatherCondition.PARTLY_CLOUDY;
+            case AFTERNOON_SHOWER:
+                if (slot >= 7 && slot <= 8) return WeatherCondition.SHOWER;
+                if (slot >= 5 && slot <= 9) return WeatherCondition.PARTLY_CLOUDY;
+                return WeatherCondition.CLEAR;
+            case GRADUAL_CLOUDY:
+                if (slot < 3) return WeatherCondition.CLEAR;
+                if (slot < 8) return WeatherCondition.PARTLY_CLOUDY;
+                return WeatherCondition.CLOUDY;
+            case STEADY_RAIN:
+                return WeatherCondition.RAIN;
+            default:
+                return WeatherCondition.CLEAR;
+        }
+    }
+
+    private static int rainProbabilityFor(Scenario scenario, int slot) {
+        switch (scenario) {
+            case SUNNY_ALL_DAY:
+                return 0;
+            case CLOUDY_TO_RAIN:
+                if (slot < 3) return 10;
+                if (slot < 6) return 30 + slot * 5;
+                return 80;
+            case RAIN_TO_CLEAR:
+                if (slot < 4) return 90;
+                if (slot < 7) return 60 - slot * 5;
+                return 10;
+            case AFTERNOON_SHOWER:
+                return slot >= 7 && slot <= 8 ? 75 : 20;
+            case GRADUAL_CLOUDY:
+                return Math.min(slot * 5, 40);
+            case STEADY_RAIN:
+                return 90;
+            default:
+                return 0;
+        }
+    }
+
+    private static int baseHumidity(WeatherCondition condition) {
+        switch (condition) {
+            case RAIN:
+            case SHOWER:
+                return 80;
+            case CLOUDY:
+                return 70;
+            case PARTLY_CLOUDY:
+                return 60;
+            default:
+                return 45;
+        }
+    }
+
+    private static long kstDay(long timeMillis) {
+        return Math.floorDiv(timeMillis + KST_OFFSET_MILLIS, 24 * HOUR_MILLIS);
+    }
+
+    private static double dayOfYear(long epochDay) {
+        // 400년 주기(146097일) 안에서 평균 연 길이로 나눈 나머지 (윤년 오차는 하루 이내)
+        return Math.floorMod(epochDay, 146097L) % 365.2425;
+    }
+
+    /**
+     * 1970-01-01부터 지난 날 수를 yyyyMMdd로 (달력 계산 없이 정수 연산만 사용)
+     */
+    private static String dateString(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year + twoDigits((int) month) + twoDigits((int) day);
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : Integer.toString(value);
+    }
+
+    private static float round1(double value) {
+        return Math.round(value * 10) / 10.0f;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 시드와 좌표, 시각을 섞은 난수 시드 (SplitMix64 마무리 단계)
+     */
+    private static long mix(long seed, long a, long b, long c) {
+        long h = seed;
+        h = finish(h ^ (a * 0x9E3779B97F4A7C15L));
+        h = finish(h ^ (b * 0xC2B2AE3D27D4EB4FL));
+        h = finish(h ^ (c * 0x165667B19E3779F9L));
+        return h;
+    }
+
+    private static long finish(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -18,10 +18,12 @@ import androidx.core.app.NotificationCompat;
 
 import com.example.umbrellaalert.R;
 import com.example.umbrellaalert.UmbrellaApplication;
+import com.example.umbrellaalert.data.manager.DashboardSnapshotManager;
 import com.example.umbrellaalert.data.manager.WeatherManager;
+import com.example.umbrellaalert.data.model.DashboardSnapshot;
 import com.example.umbrellaalert.data.model.Weather;
-import com.example.umbrellaalert.util.WeatherCacheManager;
 import com.example.umbrellaalert.receiver.NotificationDismissReceiver;
+import com.example.umbrellaalert.util.NotificationPublisher;
 import com.example.umbrellaalert.ui.home.HomeActivity;
 
 import java.util.concurrent.ExecutorService;
@@ -45,13 +47,25 @@ public class WeatherUpdateService extends Service {
 
     private ExecutorService executorService;
     private Handler handler;
+    private NotificationPublisher notificationPublisher;
     private LocationService locationService;
 
     @Inject
     WeatherManager weatherManager;
 
+    @Inject
+    DashboardSnapshotManager dashboardSnapshotManager;
+
     private boolean isRunning;
 
+    // 마지막으로 알림에 그린 스냅샷 버전과 우산 필요 여부 (메인 스레드에서만 접근)
+    private long renderedVersion = -1;
+    private boolean umbrellaAlerted;
+
+    // 다른 화면의 갱신으로 게시된 스냅샷도 알림에 반영
+    private final DashboardSnapshotManager.SnapshotListener snapshotListener =
+            snapshot -> handler.post(() -> renderSnapshot(snapshot));
+
     // 서비스 시작 (정적 메소드)
     public static void startService(Context context) {
         Intent intent = new Intent(context, WeatherUpdateService.class);
@@ -70,9 +84,11 @@ public class WeatherUpdateService extends Service {
 
         executorService = Executors.newSingleThreadExecutor();
         handler = new Handler(Looper.getMainLooper());
+        notificationPublisher = NotificationPublisher.getInstance(this);
         locationService = LocationService.getInstance(this);
-        // weatherManager는 Hilt로 주입됨
+        // weatherManager, dashboardSnapshotManager는 Hilt로 주입됨
         isRunning = false;
+        dashboardSnapshotManager.addListener(snapshotListener);
 
         // 즉시 포그라운드 서비스로 시작
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
@@ -80,6 +96,7 @@ public class WeatherUpdateService extends Service {
         } else {
             startForeground(NOTIFICATION_ID, createNotification("날씨 서비스 시작 중..."));
         }
+        notificationPublisher.invalidate(UmbrellaApplication.CHANNEL_ID, NOTIFICATION_ID);
 
         Log.d(TAG, "Weather update service created");
     }
@@ -117,53 +134,31 @@ public class WeatherUpdateService extends Service {
         scheduleNextUpdate();
     }
 
-    // 위치에 따른 날씨 업데이트 - 캐시 우선, 없으면 API 호출
+    // 위치에 따른 날씨 업데이트 - 공용 스냅샷 갱신 후 버전이 바뀐 경우에만 알림 업데이트
     private void updateWeatherForLocation(Location location) {
         executorService.execute(new Runnable() {
             @Override
             public void run() {
                 try {
-                    // 1. 먼저 캐시에서 날씨 데이터 확인
-                    Weather cachedWeather = WeatherCacheManager.getWeatherFromCache(WeatherUpdateService.this);
+                    DashboardSnapshot snapshot = dashboardSnapshotManager.refresh(location, false);
 
-                    if (cachedWeather != null) {
-                        Log.d(TAG, "✅ WeatherUpdateService 캐시된 날씨 데이터 사용: " + cachedWeather.getTemperature() + "°C, " + cachedWeather.getWeatherCondition());
-
-                        // UI 쓰레드에서 알림 업데이트
+                    if (!snapshot.hasWeather()) {
+                        // 캐시에 없으면 기본 알림 표시 (홈 화면에서 API 호출하므로)
+                        Log.d(TAG, "캐시된 데이터 없음, 기본 알림 표시 (홈 화면에서 API 호출 대기)");
+                        Weather defaultWeather = createDefaultWeather(location);
                         handler.post(new Runnable() {
                             @Override
                             public void run() {
-                                updateNotification(cachedWeather);
-
-                                // 우산이 필요하면 특별 알림 생성
-                                if (cachedWeather.isNeedUmbrella()) {
-                                    sendUmbrellaNotification(cachedWeather);
-                                }
+                                updateNotification(weatherManager.getCatMessage(defaultWeather));
                             }
                         });
                         return;
                     }
 
-                    // 2. 캐시에 없으면 기본 알림 표시 (홈 화면에서 API 호출하므로)
-                    Log.d(TAG, "캐시된 데이터 없음, 기본 알림 표시 (홈 화면에서 API 호출 대기)");
-
-                    // UI 쓰레드에서 기본 알림 표시
                     handler.post(new Runnable() {
                         @Override
                         public void run() {
-                            updateNotification(createDefaultWeather(location));
-                        }
-                    });
-
-                    // 랜덤 날씨 데이터로 알림 업데이트
-                    Weather randomWeather = createRandomWeather(location);
-                    handler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            updateNotification(randomWeather);
-                            if (randomWeather.isNeedUmbrella()) {
-                                sendUmbrellaNotification(randomWeather);
-                            }
+                            renderSnapshot(snapshot);
                         }
                     });
 
@@ -174,33 +169,19 @@ public class WeatherUpdateService extends Service {
         });
     }
 
-    // 랜덤 날씨 데이터 생성
-    private Weather createRandomWeather(Location location) {
-        String[] conditions = {"맑음", "흐림", "비"};
-        float[] temperatures = {8.0f, 15.0f, 22.0f, 28.0f};
-
-        String condition = conditions[(int) (Math.random() * conditions.length)];
-        float temperature = temperatures[(int) (Math.random() * temperatures.length)];
-
-        float precipitation = 0.0f;
-        boolean needUmbrella = false;
-
-        if (condition.contains("비")) {
-            precipitation = (float) (Math.random() * 15 + 2);
-            needUmbrella = true;
+    // 스냅샷 버전이 바뀐 경우에만 알림 업데이트 (메인 스레드)
+    private void renderSnapshot(DashboardSnapshot snapshot) {
+        if (!snapshot.hasWeather() || snapshot.getVersion() <= renderedVersion) {
+            return;
         }
+        renderedVersion = snapshot.getVersion();
+        updateNotification(snapshot.getCatMessage());
 
-        return new Weather(
-                0,
-                temperature,
-                condition,
-                precipitation,
-                (int) (Math.random() * 40 + 40),
-                (float) (Math.random() * 5 + 1),
-                location.getLatitude() + "," + location.getLongitude(),
-                System.currentTimeMillis(),
-                needUmbrella
-        );
+        // 우산이 필요해진 경우에만 특별 알림 생성 (버스 정보 변경으로는 다시 보내지 않음)
+        if (snapshot.isNeedUmbrella() && !umbrellaAlerted) {
+            sendUmbrellaNotification();
+        }
+        umbrellaAlerted = snapshot.isNeedUmbrella();
     }
 
     // 포그라운드 서비스 알림 생성
@@ -217,19 +198,23 @@ public class WeatherUpdateService extends Service {
                 .build();
     }
 
-    // 알림 업데이트
-    private void updateNotification(Weather weather) {
-        String message = weatherManager.getCatMessage(weather);
-        Notification notification = createNotification(message);
-
-        // 알림 업데이트
-        android.app.NotificationManager notificationManager =
-                (android.app.NotificationManager) getSystemService(Context.NOTIFICATION_SERVICE);
-        notificationManager.notify(NOTIFICATION_ID, notification);
+    // 알림 업데이트 (내용이 같으면 생략)
+    private void updateNotification(String message) {
+        notificationPublisher.publish(UmbrellaApplication.CHANNEL_ID, NOTIFICATION_ID, message, builder -> {
+            Intent notificationIntent = new Intent(this, HomeActivity.class);
+            PendingIntent pendingIntent = PendingIntent.getActivity(
+                    this, 0, notificationIntent, PendingIntent.FLAG_IMMUTABLE);
+
+            builder.setContentTitle("아 맞다 우산!")
+                    .setContentText(message)
+                    .setSmallIcon(R.drawable.ic_umbrella_small)
+                    .setOnlyAlertOnce(true)
+                    .setContentIntent(pendingIntent);
+        });
     }
 
     // 우산 필요 알림 전송
-    private void sendUmbrellaNotification(Weather weather) {
+    private void sendUmbrellaNotification() {
         // 사용자가 날씨 알림을 일시 중지했는지 확인
         if (NotificationDismissReceiver.isWeatherNotificationDismissed(this)) {
             Log.d(TAG, "날씨 알림이 일시 중지되어 있습니다");
@@ -287,9 +272,12 @@ public class WeatherUpdateService extends Service {
 
         // 서비스 정리
         isRunning = false;
+        dashboardSnapshotManager.removeListener(snapshotListener);
         locationService.stopLocationUpdates();
         executorService.shutdown();
         handler.removeCallbacksAndMessages(null);
+        // 간격 제한으로 미뤄진 게시가 서비스 종료 뒤에 ongoing 알림으로 남지 않도록
+        notificationPublisher.cancel(UmbrellaApplication.CHANNEL_ID, NOTIFICATION_ID);
 
         Log.d(TAG, "Weather update service destroyed");
     }
@@ -11,6 +11,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.umbrellaalert.R;
 import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.WeatherCondition;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -114,22 +115,10 @@ public class HourlyForecastAdapter extends RecyclerView.Adapter<HourlyForecastAd
         }
 
         /**
-         * 날씨 상태에 따른 아이콘 리소스 반환 (3가지 날씨)
+         * 날씨 상태에 따른 아이콘 리소스 반환
          */
         private int getWeatherIcon(String weatherCondition) {
-            if (weatherCondition == null) {
-                return R.drawable.ic_sunny;
-            }
-
-            // 3가지 날씨 상황에 맞춘 아이콘
-            if (weatherCondition.contains("비")) {
-                return R.drawable.ic_rainy;
-            } else if (weatherCondition.contains("흐림")) {
-                return R.drawable.ic_cloudy;
-            } else {
-                // 맑음 (기본값)
-                return R.drawable.ic_sunny;
-            }
+            return WeatherCondition.fromText(weatherCondition).getIconRes();
         }
     }
 }
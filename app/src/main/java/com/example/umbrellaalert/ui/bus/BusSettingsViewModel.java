@@ -9,11 +9,12 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
 import com.example.umbrellaalert.data.api.BusApiClient;
+import com.example.umbrellaalert.data.database.AppDatabase;
 import com.example.umbrellaalert.data.database.BusDao;
-import com.example.umbrellaalert.data.database.DatabaseHelper;
 import com.example.umbrellaalert.data.model.BusArrival;
 import com.example.umbrellaalert.data.model.BusStop;
 import com.example.umbrellaalert.data.model.RegisteredBus;
+import com.example.umbrellaalert.data.repository.BusStopRepository;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -28,6 +29,7 @@ public class BusSettingsViewModel extends AndroidViewModel {
     private static final String TAG = "BusSettingsViewModel";
     
     private final BusApiClient busApiClient;
+    private final BusStopRepository busStopRepository;
     private final BusDao busDao;
     private final ExecutorService executorService;
     
@@ -41,7 +43,8 @@ public class BusSettingsViewModel extends AndroidViewModel {
     public BusSettingsViewModel(@NonNull Application application) {
         super(application);
         this.busApiClient = new BusApiClient(application);
-        this.busDao = new BusDao(DatabaseHelper.getInstance(application));
+        this.busStopRepository = BusStopRepository.getInstance(application);
+        this.busDao = AppDatabase.getInstance(application).busDao();
         this.executorService = Executors.newCachedThreadPool();
     }
 
@@ -67,15 +70,14 @@ public class BusSettingsViewModel extends AndroidViewModel {
     }
 
     /**
-     * 근처 정류장 검색
+     * 근처 정류장 검색 (이미 조회한 지역은 정류장 카탈로그에서 응답)
      */
     public void loadNearbyBusStops(double latitude, double longitude) {
         isLoading.setValue(true);
         
         executorService.execute(() -> {
             try {
-                Future<List<BusStop>> future = busApiClient.getNearbyBusStops(latitude, longitude);
-                List<BusStop> stops = future.get();
+                List<BusStop> stops = busStopRepository.getNearbyBusStops(latitude, longitude);
                 
                 nearbyBusStops.postValue(stops);
                 Log.d(TAG, "근처 정류장 로드 완료: " + stops.size() + "개");
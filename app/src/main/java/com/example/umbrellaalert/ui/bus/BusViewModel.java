@@ -7,10 +7,12 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
 
 import com.example.umbrellaalert.data.api.BusApiClient;
+import com.example.umbrellaalert.data.database.AppDatabase;
 import com.example.umbrellaalert.data.database.BusDao;
-import com.example.umbrellaalert.data.database.DatabaseHelper;
+import com.example.umbrellaalert.data.database.ObservableQuery;
 import com.example.umbrellaalert.data.model.BusArrival;
 import com.example.umbrellaalert.data.model.RegisteredBus;
 
@@ -39,12 +41,35 @@ public class BusViewModel extends AndroidViewModel {
     private final MutableLiveData<String> errorMessage = new MutableLiveData<>();
     private final MutableLiveData<RegisteredBus> deletedBus = new MutableLiveData<>();
 
+    // 등록된 버스 테이블이 바뀌면(이 화면, 버스 설정 화면 어디서든) 새 목록이 들어옴
+    private final ObservableQuery<List<RegisteredBus>> registeredBusesQuery;
+    private final Observer<List<RegisteredBus>> registeredBusesObserver = this::onRegisteredBusesChanged;
+
     public BusViewModel(@NonNull Application application) {
         super(application);
         this.busApiClient = new BusApiClient(application);
-        this.busDao = new BusDao(DatabaseHelper.getInstance(application));
+        this.busDao = AppDatabase.getInstance(application).busDao();
         this.executorService = Executors.newCachedThreadPool();
         this.arrivalInfoMap.setValue(new HashMap<>());
+
+        registeredBusesQuery = busDao.observeRegisteredBuses();
+        registeredBusesQuery.observeForever(registeredBusesObserver);
+    }
+
+    /**
+     * 등록된 버스 목록 변경 반영 (메인 스레드)
+     * 처음 받은 목록은 loadRegisteredBuses()가 도착 정보까지 불러오므로 목록만 반영
+     */
+    private void onRegisteredBusesChanged(List<RegisteredBus> buses) {
+        List<RegisteredBus> previous = registeredBuses.getValue();
+        if (buses == previous) {
+            return;
+        }
+        registeredBuses.setValue(buses);
+
+        if (previous != null && !buses.isEmpty()) {
+            executorService.execute(() -> loadArrivalInfoForBuses(buses));
+        }
     }
 
     // Getters for LiveData
@@ -79,7 +104,8 @@ public class BusViewModel extends AndroidViewModel {
                 // 0.5초 로딩 텀 추가 (사용자 경험 개선)
                 Thread.sleep(500);
 
-                List<RegisteredBus> buses = busDao.getAllRegisteredBuses();
+                // 테이블이 그대로면 DB를 다시 읽지 않음
+                List<RegisteredBus> buses = registeredBusesQuery.get();
                 registeredBuses.postValue(buses);
 
                 // 각 버스의 도착 정보도 함께 로드
@@ -117,7 +143,7 @@ public class BusViewModel extends AndroidViewModel {
                 if (id > 0) {
                     bus.setId((int) id);
                     Log.d(TAG, "버스 등록 완료: " + bus.getRouteNo());
-                    loadRegisteredBuses(); // 목록 새로고침
+                    // 목록은 테이블 변경 알림으로 갱신됨
                 } else {
                     errorMessage.postValue("버스 등록에 실패했습니다.");
                 }
@@ -155,8 +181,7 @@ public class BusViewModel extends AndroidViewModel {
                     if (busToDelete != null) {
                         deletedBus.postValue(busToDelete);
                     }
-
-                    loadRegisteredBuses(); // 목록 새로고침
+                    // 목록은 테이블 변경 알림으로 갱신됨
                 } else {
                     errorMessage.postValue("버스 삭제에 실패했습니다.");
                 }
@@ -279,6 +304,7 @@ public class BusViewModel extends AndroidViewModel {
     @Override
     protected void onCleared() {
         super.onCleared();
+        registeredBusesQuery.removeObserver(registeredBusesObserver);
         if (executorService != null && !executorService.isShutdown()) {
             executorService.shutdown();
         }
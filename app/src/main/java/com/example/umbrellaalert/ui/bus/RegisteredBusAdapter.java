@@ -15,11 +15,11 @@ import com.example.umbrellaalert.databinding.ItemRegisteredBusBinding;
 import com.example.umbrellaalert.R;
 import com.example.umbrellaalert.service.LocationService;
 import com.example.umbrellaalert.util.WalkingTimeCalculator;
+import com.example.umbrellaalert.util.WalkingTimeMatrix;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Future;
 
 /**
  * 등록된 버스 목록을 표시하는 RecyclerView 어댑터
@@ -28,6 +28,7 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
 
     private List<RegisteredBus> buses = new ArrayList<>();
     private Map<String, BusArrival> arrivalInfoMap;
+    private int[] walkingTimes = new int[0]; // buses와 같은 순서의 도보 시간 (분)
     private OnBusClickListener onBusClickListener;
     private OnBusDeleteListener onBusDeleteListener;
     private Context context;
@@ -59,7 +60,8 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
     @Override
     public void onBindViewHolder(@NonNull BusViewHolder holder, int position) {
         RegisteredBus bus = buses.get(position);
-        holder.bind(bus);
+        int walkingTime = position < walkingTimes.length ? walkingTimes[position] : WalkingTimeMatrix.UNKNOWN;
+        holder.bind(bus, walkingTime);
     }
 
     @Override
@@ -75,6 +77,7 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
         if (newBuses != null) {
             this.buses.addAll(newBuses);
         }
+        refreshWalkingTimes();
         notifyDataSetChanged();
     }
 
@@ -92,6 +95,7 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
 
         if (position != -1) {
             buses.remove(position);
+            refreshWalkingTimes();
             notifyItemRemoved(position);
 
             // 삭제된 아이템 이후의 아이템들 위치 업데이트
@@ -106,9 +110,24 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
      */
     public void updateArrivalInfo(Map<String, BusArrival> arrivalInfoMap) {
         this.arrivalInfoMap = arrivalInfoMap;
+        refreshWalkingTimes();
         notifyDataSetChanged();
     }
 
+    /**
+     * 현재 위치에서 모든 등록 정류장까지의 도보 시간을 한 번에 계산
+     * 직선 거리 계산이라 UI 스레드에서 바로 수행 (항목별 스레드 생성 없음)
+     */
+    private void refreshWalkingTimes() {
+        Location currentLocation = locationService.getLastLocation();
+        if (currentLocation == null || buses.isEmpty()) {
+            walkingTimes = new int[0];
+            return;
+        }
+        walkingTimes = walkingTimeCalculator.calculateWalkingTimes(
+                currentLocation.getLatitude(), currentLocation.getLongitude(), buses);
+    }
+
     /**
      * 클릭 리스너 설정
      */
@@ -131,7 +150,7 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
             this.binding = binding;
         }
 
-        public void bind(RegisteredBus bus) {
+        public void bind(RegisteredBus bus, int walkingTimeMinutes) {
             // 버스 번호 (간결하게)
             binding.tvRouteNo.setText(bus.getRouteNo() + "번");
 
@@ -172,7 +191,7 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
                 binding.tvArrivalTime.setText(arrivalText);
 
                 // 스마트 알림 표시
-                showSmartNotification(bus, arrival);
+                showSmartNotification(arrival, walkingTimeMinutes);
             } else {
                 // 도착 정보가 없는 경우
                 binding.progressBarItem.setVisibility(View.GONE);
@@ -236,50 +255,22 @@ public class RegisteredBusAdapter extends RecyclerView.Adapter<RegisteredBusAdap
         /**
          * 스마트 알림 표시 - 새로운 로직 적용
          */
-        private void showSmartNotification(RegisteredBus bus, BusArrival arrival) {
-            // 정류장 위치 정보가 없으면 건너뛰기
-            if (bus.getLatitude() == 0.0 && bus.getLongitude() == 0.0) {
+        private void showSmartNotification(BusArrival arrival, int walkingTimeMinutes) {
+            // 정류장 위치 정보 또는 현재 위치가 없으면 건너뛰기
+            if (walkingTimeMinutes == WalkingTimeMatrix.UNKNOWN) {
                 binding.tvWalkingTime.setVisibility(View.GONE);
                 binding.tvSmartStatus.setVisibility(View.GONE);
                 return;
             }
 
-            // 현재 위치 가져오기
-            Location currentLocation = locationService.getLastLocation();
-            if (currentLocation == null) {
-                binding.tvWalkingTime.setVisibility(View.GONE);
-                binding.tvSmartStatus.setVisibility(View.GONE);
-                return;
-            }
+            int busArrivalMinutes = arrival.getArrTime();
 
-            // 도보 시간 계산 (백그라운드에서)
-            new Thread(() -> {
-                try {
-                    Future<Integer> walkingTimeFuture = walkingTimeCalculator.calculateWalkingTime(
-                            currentLocation.getLatitude(), currentLocation.getLongitude(),
-                            bus.getLatitude(), bus.getLongitude());
-
-                    int walkingTimeMinutes = walkingTimeFuture.get();
-                    int busArrivalMinutes = arrival.getArrTime();
-
-                    // UI 스레드에서 업데이트
-                    binding.getRoot().post(() -> {
-                        // 도보 시간 표시
-                        binding.tvWalkingTime.setVisibility(View.VISIBLE);
-                        binding.tvWalkingTime.setText("🚶‍♂️ " + walkingTimeMinutes + "분");
-
-                        // 스마트 상태 메시지 표시
-                        showSmartStatus(walkingTimeMinutes, busArrivalMinutes);
-                    });
-
-                } catch (Exception e) {
-                    // 오류 발생 시 숨김
-                    binding.getRoot().post(() -> {
-                        binding.tvWalkingTime.setVisibility(View.GONE);
-                        binding.tvSmartStatus.setVisibility(View.GONE);
-                    });
-                }
-            }).start();
+            // 도보 시간 표시
+            binding.tvWalkingTime.setVisibility(View.VISIBLE);
+            binding.tvWalkingTime.setText("🚶‍♂️ " + walkingTimeMinutes + "분");
+
+            // 스마트 상태 메시지 표시
+            showSmartStatus(walkingTimeMinutes, busArrivalMinutes);
         }
 
         /**
@@ -8,6 +8,7 @@ import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
 
@@ -23,6 +24,8 @@ import com.example.umbrellaalert.databinding.FragmentHomeBinding;
 import com.example.umbrellaalert.service.LocationService;
 import com.example.umbrellaalert.ui.home.WeatherViewModel;
 import com.example.umbrellaalert.ui.location.LocationViewModel;
+import com.example.umbrellaalert.util.AppStartup;
+import com.example.umbrellaalert.util.ImageLoader;
 
 import java.util.Locale;
 
@@ -58,9 +61,24 @@ public class HomeFragment extends Fragment {
         // LocationService 초기화
         locationService = LocationService.getInstance(requireContext());
 
-        // UI 관찰자 설정
+        // 구름 배경과 기본 고양이 이미지는 뷰 크기에 맞춰 백그라운드에서 디코딩
+        ImageLoader imageLoader = ImageLoader.getInstance(requireContext());
+        imageLoader.load(binding.cloudImage, R.drawable.cloud_background);
+        imageLoader.load(binding.catImage, R.drawable.cat_sunny);
+
+        // UI 관찰자 설정 (저장된 마지막 화면이 있으면 여기서 바로 채워짐)
         setupObservers();
 
+        // 홈 화면 첫 프레임 시점 기록
+        view.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                view.getViewTreeObserver().removeOnPreDrawListener(this);
+                AppStartup.mark("home:first_frame");
+                return true;
+            }
+        });
+
         // 위치 권한 확인 및 날씨 정보 로드
         checkLocationPermissionAndLoadWeather();
 
@@ -93,7 +111,14 @@ public class HomeFragment extends Fragment {
         // 고양이 이미지 관찰
         weatherViewModel.getCatImageResource().observe(getViewLifecycleOwner(), imageResource -> {
             if (imageResource != null) {
-                binding.catImage.setImageResource(imageResource);
+                ImageLoader.getInstance(requireContext()).load(binding.catImage, imageResource);
+            }
+        });
+
+        // 예보상 다음에 바뀔 고양이 이미지를 미리 디코딩
+        weatherViewModel.getNextCatImageResource().observe(getViewLifecycleOwner(), imageResource -> {
+            if (imageResource != null) {
+                ImageLoader.getInstance(requireContext()).prefetch(binding.catImage, imageResource);
             }
         });
         
@@ -12,8 +12,10 @@ import androidx.fragment.app.Fragment;
 
 import com.example.umbrellaalert.databinding.FragmentSettingsBinding;
 import com.example.umbrellaalert.ui.location.LocationActivity;
+import com.example.umbrellaalert.ui.settings.DebugMetricsActivity;
 import com.example.umbrellaalert.ui.settings.SettingsActivity;
 import com.example.umbrellaalert.ui.settings.ThemeActivity;
+import com.example.umbrellaalert.util.AppLog;
 
 public class SettingsFragment extends Fragment {
 
@@ -56,6 +58,15 @@ public class SettingsFragment extends Fragment {
             Intent intent = new Intent(requireContext(), SettingsActivity.class);
             startActivity(intent);
         });
+
+        // 성능 지표 카드 클릭 (디버그 빌드에서만 표시)
+        if (AppLog.DEBUG) {
+            binding.debugMetricsCard.setVisibility(View.VISIBLE);
+            binding.debugMetricsCard.setOnClickListener(v -> {
+                Intent intent = new Intent(requireContext(), DebugMetricsActivity.class);
+                startActivity(intent);
+            });
+        }
     }
 
     @Override
@@ -21,6 +21,7 @@ import com.example.umbrellaalert.service.CatWeatherAnalystService;
 import com.example.umbrellaalert.service.MockWeatherForecastService;
 import com.example.umbrellaalert.ui.home.WeatherViewModel;
 import com.example.umbrellaalert.ui.adapter.HourlyForecastAdapter;
+import com.example.umbrellaalert.util.ImageLoader;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -220,23 +221,14 @@ public class WeatherFragment extends Fragment {
      * 우산 상태 카드 업데이트 (간소화)
      */
     private void updateCatAnalysisCard(List<HourlyForecast> forecasts) {
-        if (forecasts == null || forecasts.isEmpty()) return;
-
-        // 온도 범위 계산
-        float minTemp = Float.MAX_VALUE;
-        float maxTemp = Float.MIN_VALUE;
-        boolean hasRain = false;
-        int maxRainProb = 0;
-
-        for (HourlyForecast forecast : forecasts) {
-            minTemp = Math.min(minTemp, forecast.getTemperature());
-            maxTemp = Math.max(maxTemp, forecast.getTemperature());
-            maxRainProb = Math.max(maxRainProb, forecast.getPrecipitationProbability());
-            if (forecast.getPrecipitationProbability() > 30) {
-                hasRain = true;
-            }
-        }
-        float tempRange = maxTemp - minTemp;
+        CatWeatherAnalystService.WeatherAnalysis analysis = CatWeatherAnalystService.analyze(forecasts);
+        if (analysis == null) return;
+
+        float minTemp = analysis.getMinTemperature();
+        float maxTemp = analysis.getMaxTemperature();
+        float tempRange = analysis.getTemperatureRange();
+        int maxRainProb = analysis.getMaxRainProbability();
+        boolean hasRain = analysis.getRainHours() > 0;
 
         // 우산 상태 - 강수 확률에 따라 결정 (색상과 함께)
         if (maxRainProb > 70) {
@@ -308,7 +300,7 @@ public class WeatherFragment extends Fragment {
             catImageResource = R.drawable.cat_sunny;
         }
 
-        binding.catAnalystImage.setImageResource(catImageResource);
+        ImageLoader.getInstance(requireContext()).load(binding.catAnalystImage, catImageResource);
     }
 
     /**
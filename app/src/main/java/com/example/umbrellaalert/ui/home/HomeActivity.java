@@ -31,6 +31,7 @@ import com.example.umbrellaalert.ui.adapter.HourlyForecastAdapter;
 import com.example.umbrellaalert.service.WeatherUpdateService;
 import com.example.umbrellaalert.ui.location.LocationActivity;
 import com.example.umbrellaalert.ui.settings.SettingsActivity;
+import com.example.umbrellaalert.util.ImageLoader;
 
 import java.util.Locale;
 
@@ -97,6 +98,11 @@ public class HomeActivity extends AppCompatActivity implements LocationViewModel
     }
 
     private void setupUI() {
+        // 구름 배경과 기본 고양이 이미지는 뷰 크기에 맞춰 백그라운드에서 디코딩
+        ImageLoader imageLoader = ImageLoader.getInstance(this);
+        imageLoader.load(binding.cloudImage, R.drawable.cloud_background);
+        imageLoader.load(binding.catImage, R.drawable.cat_sunny);
+
         // 장소 설정 버튼
         binding.btnLocation.setOnClickListener(v -> {
             Intent intent = new Intent(HomeActivity.this, LocationActivity.class);
@@ -133,15 +139,12 @@ public class HomeActivity extends AppCompatActivity implements LocationViewModel
             binding.mainContainer.setBackgroundResource(resource));
 
         // 고양이 이미지 관찰
-        weatherViewModel.getCatImageResource().observe(this, resource -> {
-            try {
-                binding.catImage.setImageResource(resource);
-            } catch (Exception e) {
-                Log.e("HomeActivity", "Failed to load cat image resource: " + resource, e);
-                // 기본 이미지로 폴백
-                binding.catImage.setImageResource(R.drawable.cat_sunny);
-            }
-        });
+        weatherViewModel.getCatImageResource().observe(this, resource ->
+            ImageLoader.getInstance(this).load(binding.catImage, resource));
+
+        // 예보상 다음에 바뀔 고양이 이미지를 미리 디코딩
+        weatherViewModel.getNextCatImageResource().observe(this, resource ->
+            ImageLoader.getInstance(this).prefetch(binding.catImage, resource));
 
         // 고양이 메시지 관찰 (애니메이션 효과 추가)
         weatherViewModel.getCatMessage().observe(this, message -> {
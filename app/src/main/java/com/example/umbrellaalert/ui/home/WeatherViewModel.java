@@ -4,6 +4,7 @@ import android.app.Application;
 import android.location.Address;
 import android.location.Geocoder;
 import android.location.Location;
+import android.os.Looper;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
@@ -12,22 +13,31 @@ import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
 import com.example.umbrellaalert.R;
+import com.example.umbrellaalert.data.manager.DashboardSnapshotManager;
 import com.example.umbrellaalert.data.model.HourlyForecast;
 import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.data.model.WeatherCondition;
 import com.example.umbrellaalert.domain.usecase.Get12HourForecastUseCase;
 import com.example.umbrellaalert.domain.usecase.GetCurrentWeatherUseCase;
 import com.example.umbrellaalert.domain.usecase.GetCatMessageUseCase;
+import com.example.umbrellaalert.util.AppStartup;
+import com.example.umbrellaalert.util.HomeSnapshotCache;
+import com.example.umbrellaalert.util.Tracer;
 import com.example.umbrellaalert.util.WeatherCacheManager;
 import com.example.umbrellaalert.service.CatWeatherAnalystService;
 import com.example.umbrellaalert.service.MockWeatherForecastService;
 
 import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 
 import dagger.hilt.android.lifecycle.HiltViewModel;
 
@@ -48,14 +58,22 @@ public class WeatherViewModel extends AndroidViewModel {
     private final GetCurrentWeatherUseCase getCurrentWeatherUseCase;
     private final GetCatMessageUseCase getCatMessageUseCase;
     private final Get12HourForecastUseCase get12HourForecastUseCase;
+    private final Provider<DashboardSnapshotManager> dashboardSnapshotManager;
     private final ExecutorService executorService;
 
+    // 마지막으로 받은 실제 날씨, 예보, 위치명 (executorService 스레드에서만 사용, 마지막 화면 저장용)
+    private Weather lastWeather;
+    private List<HourlyForecast> lastForecasts;
+    private long lastUpdatedAtMillis;
+    private String lastLocationName;
+
     // LiveData
     private final MutableLiveData<Weather> weatherData = new MutableLiveData<>();
     private final MutableLiveData<String> locationName = new MutableLiveData<>();
     private final MutableLiveData<Boolean> isLoading = new MutableLiveData<>(true);
     private final MutableLiveData<Integer> backgroundResource = new MutableLiveData<>();
     private final MutableLiveData<Integer> catImageResource = new MutableLiveData<>();
+    private final MutableLiveData<Integer> nextCatImageResource = new MutableLiveData<>();
     private final MutableLiveData<String> catMessage = new MutableLiveData<>();
     private final MutableLiveData<String> umbrellaMessage = new MutableLiveData<>();
     private final MutableLiveData<List<HourlyForecast>> hourlyForecastData = new MutableLiveData<>();
@@ -66,20 +84,64 @@ public class WeatherViewModel extends AndroidViewModel {
     public WeatherViewModel(@NonNull Application application,
                            GetCurrentWeatherUseCase getCurrentWeatherUseCase,
                            GetCatMessageUseCase getCatMessageUseCase,
-                           Get12HourForecastUseCase get12HourForecastUseCase) {
+                           Get12HourForecastUseCase get12HourForecastUseCase,
+                           Provider<DashboardSnapshotManager> dashboardSnapshotManager) {
         super(application);
         this.getCurrentWeatherUseCase = getCurrentWeatherUseCase;
         this.getCatMessageUseCase = getCatMessageUseCase;
         this.get12HourForecastUseCase = get12HourForecastUseCase;
+        this.dashboardSnapshotManager = dashboardSnapshotManager;
         this.executorService = Executors.newSingleThreadExecutor();
+
+        // 네트워크 응답 전에 첫 프레임을 그릴 수 있도록 저장된 마지막 화면부터 표시
+        restoreLastSnapshot();
+    }
+
+    /**
+     * 저장된 마지막 홈 화면을 읽히는 대로 반영 (콜백은 메인 스레드)
+     * 그 사이 실제 날씨가 먼저 들어왔으면 버리고, 반영한 뒤의 갱신은 로딩 표시 없이 내용만 바꿈
+     */
+    private void restoreLastSnapshot() {
+        HomeSnapshotCache.peek(getApplication(), this::applyLastSnapshot);
+    }
+
+    private void applyLastSnapshot(HomeSnapshotCache.Snapshot snapshot) {
+        if (snapshot == null || weatherData.getValue() != null) {
+            return;
+        }
+        Weather weather = snapshot.getWeather();
+        weatherData.setValue(weather);
+        updateWeatherUI(weather);
+        if (snapshot.getLocationName() != null) {
+            locationName.setValue(snapshot.getLocationName());
+        }
+        List<HourlyForecast> forecasts = snapshot.getForecasts();
+        if (forecasts != null && !forecasts.isEmpty()) {
+            hourlyForecastData.setValue(forecasts);
+            updateNextCatImage(weather, forecasts);
+        }
+        forecastUpdateTime.setValue(formatUpdateTime(snapshot.getUpdatedAtMillis()));
+        isLoading.setValue(false);
+    }
+
+    /**
+     * 지금 화면 내용을 다음 시작 때 첫 프레임으로 쓰도록 저장 (executorService 스레드)
+     */
+    private void saveLastSnapshot() {
+        if (lastWeather != null) {
+            HomeSnapshotCache.save(getApplication(),
+                    new HomeSnapshotCache.Snapshot(lastWeather, lastLocationName, lastForecasts, lastUpdatedAtMillis));
+        }
     }
 
     // 위치 기반 날씨 업데이트 (0.5초 로딩 텀 추가)
     public void updateWeatherWithLocation(Location location) {
-        isLoading.setValue(true);
+        // 이미 보여 줄 내용(저장된 마지막 화면 포함)이 있으면 로딩 표시 없이 갱신
+        isLoading.setValue(weatherData.getValue() == null);
 
         executorService.execute(() -> {
-            try {
+            // 위치 갱신 한 번을 하나의 트레이스로 기록 (요청 → 파싱 → 캐시 → 화면 게시)
+            try (Tracer.Span trace = Tracer.beginTrace("weather:update")) {
                 // 로딩 텀 제거 - 바로 데이터 생성
 
                 // UseCase를 통해 현재 날씨 가져오기 (캐싱된 데이터 우선 사용)
@@ -93,8 +155,13 @@ public class WeatherViewModel extends AndroidViewModel {
                     // 캐시에 저장 (위젯과 알림에서 재사용)
                     WeatherCacheManager.saveWeatherToCache(getApplication(), weather);
 
-                    weatherData.postValue(weather);
-                    updateWeatherUI(weather);
+                    try (Tracer.Span span = Tracer.begin("post:weather")) {
+                        weatherData.postValue(weather);
+                        updateWeatherUI(weather);
+                    }
+                    AppStartup.mark("home:fresh_data");
+                    lastWeather = weather;
+                    lastUpdatedAtMillis = System.currentTimeMillis();
 
                     // 실제 API 데이터를 받았으므로 예보 데이터도 가져오기
                     List<HourlyForecast> hourlyForecasts = get12HourForecastUseCase.execute(
@@ -112,17 +179,24 @@ public class WeatherViewModel extends AndroidViewModel {
                             Log.d(TAG, "  " + (i + 1) + "시간 후: " + forecast.getTemperature() + "°C, 시간: " + forecast.getForecastTime());
                         }
 
-                        hourlyForecastData.postValue(hourlyForecasts);
+                        try (Tracer.Span span = Tracer.begin("post:forecast")) {
+                            hourlyForecastData.postValue(hourlyForecasts);
+                            updateNextCatImage(weather, hourlyForecasts);
+                        }
 
                         // 예보 업데이트 시간 설정
-                        java.text.SimpleDateFormat timeFormat = new java.text.SimpleDateFormat("HH:mm", java.util.Locale.KOREA);
-                        String updateTime = "업데이트: " + timeFormat.format(new java.util.Date());
-                        forecastUpdateTime.postValue(updateTime);
+                        forecastUpdateTime.postValue(formatUpdateTime(lastUpdatedAtMillis));
+
+                        lastForecasts = hourlyForecasts;
                     }
+                    saveLastSnapshot();
+
+                    // 위젯과 알림이 같은 데이터를 보도록 대시보드 스냅샷 갱신
+                    dashboardSnapshotManager.get().updateWeather(weather, hourlyForecasts);
 
-                } else {
+                } else if (weatherData.getValue() == null) {
                     Log.w(TAG, "⚠️ 날씨 정보를 가져올 수 없어서 기본값 사용");
-                    // 날씨 정보를 가져올 수 없는 경우 기본값 사용
+                    // 날씨 정보를 가져올 수 없는 경우 기본값 사용 (보여 주던 화면이 있으면 유지)
                     Weather defaultWeather = createDefaultWeather(location);
                     weatherData.postValue(defaultWeather);
                     updateWeatherUI(defaultWeather);
@@ -132,10 +206,12 @@ public class WeatherViewModel extends AndroidViewModel {
 
             } catch (Exception e) {
                 Log.e(TAG, "날씨 정보 업데이트 실패", e);
-                // 오류 발생 시 기본 날씨 정보 사용
-                Weather defaultWeather = createDefaultWeather(location);
-                weatherData.postValue(defaultWeather);
-                updateWeatherUI(defaultWeather);
+                // 오류 발생 시 기본 날씨 정보 사용 (보여 주던 화면이 있으면 유지)
+                if (weatherData.getValue() == null) {
+                    Weather defaultWeather = createDefaultWeather(location);
+                    weatherData.postValue(defaultWeather);
+                    updateWeatherUI(defaultWeather);
+                }
             } finally {
                 isLoading.postValue(false);
             }
@@ -176,9 +252,7 @@ public class WeatherViewModel extends AndroidViewModel {
                 hourlyForecastData.postValue(defaultForecasts);
 
                 // 기본 업데이트 시간 설정
-                java.text.SimpleDateFormat timeFormat = new java.text.SimpleDateFormat("HH:mm", java.util.Locale.KOREA);
-                String updateTime = "업데이트: " + timeFormat.format(new java.util.Date());
-                forecastUpdateTime.postValue(updateTime);
+                forecastUpdateTime.postValue(formatUpdateTime(System.currentTimeMillis()));
 
             } catch (Exception e) {
                 Log.e(TAG, "날씨 데이터 로딩 실패", e);
@@ -188,11 +262,26 @@ public class WeatherViewModel extends AndroidViewModel {
         });
     }
 
+    /**
+     * 갱신 시각 표시 ("업데이트: 14:05", 오늘이 아니면 "업데이트: 6월 3일 14:05")
+     */
+    private static String formatUpdateTime(long millis) {
+        Calendar updated = Calendar.getInstance();
+        updated.setTimeInMillis(millis);
+        Calendar now = Calendar.getInstance();
+        boolean today = updated.get(Calendar.YEAR) == now.get(Calendar.YEAR)
+                && updated.get(Calendar.DAY_OF_YEAR) == now.get(Calendar.DAY_OF_YEAR);
+        SimpleDateFormat format = new SimpleDateFormat(today ? "HH:mm" : "M월 d일 HH:mm", Locale.KOREA);
+        return "업데이트: " + format.format(new Date(millis));
+    }
+
     // 위치명 업데이트 (지오코딩)
     private void updateLocationName(Location location) {
         executorService.execute(() -> {
             String name = getLocationName(location);
             locationName.postValue(name);
+            lastLocationName = name;
+            saveLastSnapshot();
         });
     }
 
@@ -230,18 +319,18 @@ public class WeatherViewModel extends AndroidViewModel {
             getCatMessageUseCase.getCatMessageObject(weather);
 
         // 고양이 이미지 업데이트 (메시지 객체에서 가져옴)
-        catImageResource.postValue(catMessageObj.getCatImageResource());
+        publish(catImageResource, catMessageObj.getCatImageResource());
 
         // 배경 설정 (날씨에 따라)
         updateBackgroundAndCatImage(weather);
 
         // 메인 고양이 메시지 (이모지 포함)
         String mainMessage = getCatMessageUseCase.execute(weather);
-        catMessage.postValue(mainMessage);
+        publish(catMessage, mainMessage);
 
         // 온도에 따른 추가 메시지 (개선된 버전)
         String tempMessage = getCatMessageUseCase.getTemperatureMessage(weather.getTemperature());
-        temperatureMessage.postValue(tempMessage);
+        publish(temperatureMessage, tempMessage);
 
         // 우산 필요 여부 메시지 (개선된 버전)
         updateUmbrellaMessage(weather, catMessageObj);
@@ -250,23 +339,51 @@ public class WeatherViewModel extends AndroidViewModel {
         updateSpecialMessages();
     }
 
+    // 메인 스레드에서는 바로 반영 (저장된 마지막 화면을 첫 프레임에 그릴 때), 그 외에는 post
+    private static <T> void publish(MutableLiveData<T> data, T value) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            data.setValue(value);
+        } else {
+            data.postValue(value);
+        }
+    }
+
     // 배경과 고양이 이미지 업데이트 (3가지 날씨)
     private void updateBackgroundAndCatImage(Weather weather) {
         String condition = weather.getWeatherCondition();
 
         if (condition != null && condition.contains("비")) {
             // 비오는 날 - 파란색 계열
-            backgroundResource.postValue(R.drawable.ios_background_rainy);
-            catImageResource.postValue(R.drawable.cat_rainy);
+            publish(backgroundResource, R.drawable.ios_background_rainy);
         } else if (condition != null && condition.contains("흐림")) {
             // 흐린 날 - 회색 계열
-            backgroundResource.postValue(R.drawable.ios_background_cloudy);
-            catImageResource.postValue(R.drawable.cat_cloudy);
+            publish(backgroundResource, R.drawable.ios_background_cloudy);
         } else {
             // 맑은 날 - 노란색/주황색 계열
-            backgroundResource.postValue(R.drawable.ios_background_sunny);
-            catImageResource.postValue(R.drawable.cat_sunny);
+            publish(backgroundResource, R.drawable.ios_background_sunny);
         }
+        publish(catImageResource, catImageFor(condition));
+    }
+
+    // 예보에서 현재와 다른 날씨가 처음 나오는 시간의 고양이 이미지 (화면에서 미리 디코딩해 둠)
+    private void updateNextCatImage(Weather weather, List<HourlyForecast> forecasts) {
+        int current = catImageFor(weather.getWeatherCondition());
+        for (HourlyForecast forecast : forecasts) {
+            int next = catImageFor(forecast.getWeatherCondition());
+            if (next != current) {
+                publish(nextCatImageResource, next);
+                return;
+            }
+        }
+    }
+
+    private static int catImageFor(String condition) {
+        if (condition != null && condition.contains("비")) {
+            return R.drawable.cat_rainy;
+        } else if (condition != null && condition.contains("흐림")) {
+            return R.drawable.cat_cloudy;
+        }
+        return R.drawable.cat_sunny;
     }
 
     // 우산 메시지 업데이트 (6월 9일 세종 맑은 날씨 기준, 간결하게)
@@ -284,7 +401,7 @@ public class WeatherViewModel extends AndroidViewModel {
         int randomIndex = (int) (Math.random() * sunnyDayMessages.length);
         umbrellaMsg = sunnyDayMessages[randomIndex];
 
-        umbrellaMessage.postValue(umbrellaMsg);
+        publish(umbrellaMessage, umbrellaMsg);
     }
 
     // 특별 상황 메시지 업데이트
@@ -311,7 +428,7 @@ public class WeatherViewModel extends AndroidViewModel {
 
         // 특별 메시지가 있으면 온도 메시지 대신 사용
         if (specialMsg != null) {
-            temperatureMessage.postValue(specialMsg);
+            publish(temperatureMessage, specialMsg);
         }
     }
 
@@ -347,36 +464,7 @@ public class WeatherViewModel extends AndroidViewModel {
 
     // 날씨 상태 텍스트 변환
     public String getWeatherConditionText(String condition) {
-        if (condition == null) {
-            return "알 수 없음";
-        }
-
-        // 이미 한글인 경우 그대로 반환
-        if (condition.equals("맑음") || condition.equals("구름많음") || condition.equals("흐림") ||
-            condition.equals("비") || condition.equals("눈") || condition.equals("소나기")) {
-            return condition;
-        }
-
-        // 영어인 경우 한글로 변환
-        if (condition.equalsIgnoreCase("Clear")) {
-            return "맑음";
-        } else if (condition.equalsIgnoreCase("Clouds")) {
-            return "구름많음";
-        } else if (condition.equalsIgnoreCase("Overcast")) {
-            return "흐림";
-        } else if (condition.equalsIgnoreCase("Rain")) {
-            return "비";
-        } else if (condition.equalsIgnoreCase("Drizzle")) {
-            return "이슬비";
-        } else if (condition.equalsIgnoreCase("Thunderstorm")) {
-            return "뇌우";
-        } else if (condition.equalsIgnoreCase("Snow")) {
-            return "눈";
-        } else if (condition.equalsIgnoreCase("Atmosphere")) {
-            return "안개";
-        } else {
-            return condition;
-        }
+        return WeatherCondition.displayLabel(condition);
     }
 
     // LiveData Getters
@@ -400,6 +488,10 @@ public class WeatherViewModel extends AndroidViewModel {
         return catImageResource;
     }
 
+    public LiveData<Integer> getNextCatImageResource() {
+        return nextCatImageResource;
+    }
+
     public LiveData<String> getCatMessage() {
         return catMessage;
     }
@@ -7,6 +7,7 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
 
 import com.example.umbrellaalert.data.model.Location;
 import com.example.umbrellaalert.domain.repository.LocationRepository;
@@ -36,18 +37,32 @@ public class LocationViewModel extends AndroidViewModel {
     private final MutableLiveData<Boolean> isEmpty = new MutableLiveData<>(true);
     private final MutableLiveData<String> toastMessage = new MutableLiveData<>();
 
+    // 위치 테이블이 바뀔 때마다 새 목록이 들어옴 (추가, 삭제 후 다시 불러올 필요 없음)
+    private final LiveData<List<Location>> allLocations;
+    private final Observer<List<Location>> allLocationsObserver = this::onLocationsChanged;
+
     @Inject
     public LocationViewModel(@NonNull Application application, LocationRepository locationRepository) {
         super(application);
         this.locationRepository = locationRepository;
         executorService = Executors.newSingleThreadExecutor();
 
-        // 위치 데이터 로드
-        loadLocations();
+        // 위치 데이터 관찰 (처음 관찰할 때 한 번 로드)
+        allLocations = locationRepository.observeAllLocations();
+        allLocations.observeForever(allLocationsObserver);
+    }
+
+    /**
+     * 위치 목록 변경 반영 (메인 스레드)
+     */
+    private void onLocationsChanged(List<Location> locationList) {
+        locations.setValue(locationList);
+        isEmpty.setValue(locationList == null || locationList.isEmpty());
+        isLoading.setValue(false);
     }
 
     /**
-     * 모든 위치 정보 로드
+     * 모든 위치 정보 로드 (바뀐 내용이 없으면 DB를 다시 읽지 않음)
      */
     public void loadLocations() {
         isLoading.setValue(true);
@@ -69,7 +84,6 @@ public class LocationViewModel extends AndroidViewModel {
 
             if (id > 0) {
                 toastMessage.postValue("위치가 추가되었습니다");
-                loadLocations();
             } else {
                 toastMessage.postValue("위치 추가 실패");
             }
@@ -86,7 +100,6 @@ public class LocationViewModel extends AndroidViewModel {
             locationRepository.deleteLocation(location.getId());
 
             toastMessage.postValue("위치가 삭제되었습니다");
-            loadLocations();
         });
     }
 
@@ -96,16 +109,16 @@ public class LocationViewModel extends AndroidViewModel {
      * 위치 알림 설정 토글
      */
     public void toggleNotification(Location location) {
-        // 알림 설정 토글
-        location.setNotificationEnabled(!location.isNotificationEnabled());
+        // 목록의 객체는 다른 화면과 공유되므로 복사본을 바꿔 저장 (목록은 테이블 변경 알림으로 갱신됨)
+        Location updated = new Location(location);
+        updated.setNotificationEnabled(!location.isNotificationEnabled());
 
         executorService.execute(() -> {
-            locationRepository.updateLocation(location);
+            locationRepository.updateLocation(updated);
 
-            String message = location.isNotificationEnabled() ?
+            String message = updated.isNotificationEnabled() ?
                     "알림이 활성화되었습니다" : "알림이 비활성화되었습니다";
             toastMessage.postValue(message);
-            loadLocations();
         });
     }
 
@@ -173,6 +186,7 @@ public class LocationViewModel extends AndroidViewModel {
     @Override
     protected void onCleared() {
         super.onCleared();
+        allLocations.removeObserver(allLocationsObserver);
         executorService.shutdown();
     }
 }
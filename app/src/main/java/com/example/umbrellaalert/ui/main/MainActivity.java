@@ -19,6 +19,7 @@ import com.example.umbrellaalert.ui.fragments.WeatherFragment;
 import com.example.umbrellaalert.ui.fragments.BusFragment;
 import com.example.umbrellaalert.ui.fragments.SettingsFragment;
 import com.example.umbrellaalert.ui.home.WeatherViewModel;
+import com.example.umbrellaalert.util.AppStartup;
 import com.example.umbrellaalert.widget.WeatherWidgetProvider;
 import com.example.umbrellaalert.service.PersistentNotificationService;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
@@ -53,16 +54,24 @@ public class MainActivity extends AppCompatActivity {
         // 하단 네비게이션 설정
         setupBottomNavigation();
 
-        // 위젯 업데이트 (앱 시작 시)
-        WeatherWidgetProvider.forceUpdateAllWidgets(this);
-
         // 알림 권한 요청 (Android 13+)
         requestNotificationPermission();
 
-        // 알림 서비스 시작 (설정이 활성화되어 있다면)
-        if (PersistentNotificationService.isEnabled(this)) {
-            PersistentNotificationService.setEnabled(this, true);
-        }
+        // 위젯 갱신과 알림 서비스 시작은 첫 프레임을 그린 뒤에
+        AppStartup.whenIdle(() -> {
+            if (isDestroyed()) {
+                return;
+            }
+            // 위젯 업데이트 (앱 시작 시)
+            WeatherWidgetProvider.forceUpdateAllWidgets(this);
+
+            // 알림 서비스 시작 (설정이 활성화되어 있다면)
+            if (PersistentNotificationService.isEnabled(this)) {
+                PersistentNotificationService.setEnabled(this, true);
+            }
+        });
+
+        AppStartup.mark("activity:created");
     }
 
     private void setupBottomNavigation() {
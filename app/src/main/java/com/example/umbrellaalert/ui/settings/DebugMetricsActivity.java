@@ -0,0 +1,146 @@
+package com.example.umbrellaalert.ui.settings;
+
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.widget.Toast;
+
+import androidx.appcompat.app.AppCompatActivity;
+
+import com.example.umbrellaalert.data.api.ApiQuotaManager;
+import com.example.umbrellaalert.data.api.CircuitBreaker;
+import com.example.umbrellaalert.data.api.HttpTransport;
+import com.example.umbrellaalert.databinding.ActivityDebugMetricsBinding;
+import com.example.umbrellaalert.util.AppLog;
+import com.example.umbrellaalert.util.AppStartup;
+import com.example.umbrellaalert.util.ImageLoader;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.NotificationPublisher;
+import com.example.umbrellaalert.util.Tracer;
+import com.example.umbrellaalert.weather.WeatherProviderOrchestrator;
+import com.example.umbrellaalert.widget.WidgetUpdateBatcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.inject.Inject;
+
+import dagger.hilt.android.AndroidEntryPoint;
+
+/**
+ * 디버그 빌드 전용 성능 지표 화면
+ * Metrics 보고서와 각 구성 요소(회로 차단기, 호출 한도, HTTP 캐시, 알림, 이미지 캐시) 통계를 한곳에서 보여 주고
+ * 트레이스를 파일로 저장할 수 있음
+ */
+@AndroidEntryPoint
+public class DebugMetricsActivity extends AppCompatActivity {
+
+    private static final String TAG = "DebugMetricsActivity";
+
+    // 화면이 열려 있는 동안 자동 갱신 간격
+    private static final long REFRESH_INTERVAL_MILLIS = 2000;
+
+    private static final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @Inject
+    WeatherProviderOrchestrator providerOrchestrator;
+
+    private ActivityDebugMetricsBinding binding;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable refreshTask = new Runnable() {
+        @Override
+        public void run() {
+            refresh();
+            handler.postDelayed(this, REFRESH_INTERVAL_MILLIS);
+        }
+    };
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        binding = ActivityDebugMetricsBinding.inflate(getLayoutInflater());
+        setContentView(binding.getRoot());
+
+        // 릴리스 빌드에서는 열지 않음
+        if (!AppLog.DEBUG) {
+            finish();
+            return;
+        }
+
+        binding.btnBack.setOnClickListener(v -> finish());
+        binding.btnRefresh.setOnClickListener(v -> refresh());
+        binding.btnReset.setOnClickListener(v -> {
+            Metrics.reset();
+            Tracer.clear();
+            refresh();
+        });
+        binding.btnExportTrace.setOnClickListener(v -> exportTrace());
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        handler.post(refreshTask);
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        handler.removeCallbacks(refreshTask);
+    }
+
+    private void refresh() {
+        StringBuilder report = new StringBuilder(Metrics.report());
+
+        report.append("\n[앱 시작]\n").append(AppStartup.summary());
+
+        report.append("\n[날씨 제공자]\n").append(providerOrchestrator.getStatsSummary()).append('\n');
+
+        report.append("\n[회로 차단기]\n");
+        for (CircuitBreaker breaker : CircuitBreaker.getAll()) {
+            report.append(breaker.summary()).append('\n');
+        }
+
+        report.append("\n[API 호출 한도]\n")
+                .append(ApiQuotaManager.getInstance(this).getUsageReport()).append('\n');
+
+        report.append("\n[HTTP 캐시]\n")
+                .append(HttpTransport.getInstance(this).getStatsSummary()).append('\n');
+
+        NotificationPublisher publisher = NotificationPublisher.getInstance(this);
+        report.append("\n[알림]\n")
+                .append("게시 ").append(publisher.getPostedCount())
+                .append(", 생략 ").append(publisher.getSuppressedCount())
+                .append(", 지연 ").append(publisher.getDeferredCount()).append('\n');
+
+        report.append("\n[위젯]\n")
+                .append("전체 ").append(WidgetUpdateBatcher.getFullUpdateCount())
+                .append(", 부분 ").append(WidgetUpdateBatcher.getPartialUpdateCount())
+                .append(", 생략 ").append(WidgetUpdateBatcher.getSkippedCount()).append('\n');
+
+        ImageLoader imageLoader = ImageLoader.getInstance(this);
+        report.append("\n[이미지 캐시]\n")
+                .append("적중 ").append(imageLoader.getHitCount())
+                .append(", 디코딩 ").append(imageLoader.getDecodeCount())
+                .append(", 사용량 ").append(imageLoader.getCacheSizeKb()).append("KB\n");
+
+        binding.metricsText.setText(report);
+    }
+
+    private void exportTrace() {
+        executorService.execute(() -> {
+            String message;
+            try {
+                File file = Tracer.export(getApplicationContext());
+                message = "트레이스 저장: " + file.getName();
+            } catch (IOException e) {
+                AppLog.e(TAG, "트레이스 저장 실패", e);
+                message = "트레이스 저장 실패: " + e.getMessage();
+            }
+            String result = message;
+            runOnUiThread(() -> Toast.makeText(getApplicationContext(), result, Toast.LENGTH_SHORT).show());
+        });
+    }
+}
@@ -1,13 +1,10 @@
 package com.example.umbrellaalert.ui.settings;
 
-import android.app.AlarmManager;
 import android.app.Application;
-import android.app.PendingIntent;
 import android.appwidget.AppWidgetManager;
 import android.content.ComponentName;
 import android.content.Context;
-import android.content.Intent;
-import android.content.SharedPreferences;
+import android.os.Looper;
 import android.util.Log;
 import android.widget.Toast;
 
@@ -17,10 +14,12 @@ import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
-import com.example.umbrellaalert.receiver.AlarmReceiver;
+import com.example.umbrellaalert.data.manager.SettingsManager;
+import com.example.umbrellaalert.data.model.AppSettings;
 import com.example.umbrellaalert.service.BusNotificationService;
 import com.example.umbrellaalert.receiver.NotificationDismissReceiver;
 import com.example.umbrellaalert.service.PersistentNotificationService;
+import com.example.umbrellaalert.util.MorningAlarmScheduler;
 import com.example.umbrellaalert.widget.WeatherWidgetProvider;
 
 import java.text.SimpleDateFormat;
@@ -34,22 +33,11 @@ public class SettingsViewModel extends AndroidViewModel {
 
     private static final String TAG = "SettingsViewModel";
     
-    // 상수
-    private static final String PREF_NAME = "UmbrellaAlertPrefs";
-    private static final String KEY_AUTO_STOP_ENABLED = "auto_stop_enabled";
-    private static final String KEY_RAIN_ALERT = "rain_alert_enabled";
-    private static final String KEY_VIBRATION = "vibration_enabled";
-    private static final String KEY_SOUND = "sound_enabled";
-    private static final String KEY_STOP_HOUR = "stop_hour";
-    private static final String KEY_STOP_MINUTE = "stop_minute";
-    private static final String KEY_WIDGET_ENABLED = "widget_enabled";
-    private static final String KEY_WIDGET_AUTO_UPDATE = "widget_auto_update";
-    private static final String KEY_PERSISTENT_NOTIFICATION = "persistent_notification_enabled";
-    private static final String KEY_BUS_NOTIFICATION = "bus_notification_enabled";
-    
-    private final SharedPreferences preferences;
-    private final AlarmManager alarmManager;
-    private final PendingIntent morningAlarmIntent;
+    private final SettingsManager settingsManager;
+
+    // 다른 곳(알림 지우기, 자동 종료 등)에서 바뀐 설정도 화면에 반영
+    private final SettingsManager.SettingsListener settingsListener =
+            (previous, current) -> publishSettings(current);
     
     // LiveData
     private final MutableLiveData<Boolean> autoStopEnabled = new MutableLiveData<>();
@@ -66,46 +54,49 @@ public class SettingsViewModel extends AndroidViewModel {
     public SettingsViewModel(@NonNull Application application) {
         super(application);
         
-        // SharedPreferences 초기화
-        preferences = application.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        
-        // AlarmManager 초기화
-        alarmManager = (AlarmManager) application.getSystemService(Context.ALARM_SERVICE);
-        
-        // 아침 알람 인텐트 생성
-        Intent alarmIntent = new Intent(application, AlarmReceiver.class);
-        morningAlarmIntent = PendingIntent.getBroadcast(
-                application, 0, alarmIntent, PendingIntent.FLAG_IMMUTABLE);
-        
-        // 설정값 로드
-        loadSettings();
+        // 메모리에 있는 설정 스냅샷 사용 (디스크 읽기 없음)
+        settingsManager = SettingsManager.getInstance(application);
+        publishSettings(settingsManager.get());
+        settingsManager.addListener(settingsListener);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        settingsManager.removeListener(settingsListener);
     }
     
     /**
-     * 설정값 로드
+     * 설정 스냅샷을 화면에 반영 (메인 스레드가 아니면 post)
      */
-    private void loadSettings() {
-        autoStopEnabled.setValue(preferences.getBoolean(KEY_AUTO_STOP_ENABLED, true));
-        rainAlertEnabled.setValue(preferences.getBoolean(KEY_RAIN_ALERT, true));
-        vibrationEnabled.setValue(preferences.getBoolean(KEY_VIBRATION, true));
-        soundEnabled.setValue(preferences.getBoolean(KEY_SOUND, true));
-        widgetEnabled.setValue(preferences.getBoolean(KEY_WIDGET_ENABLED, true)); // 기본값을 true로 변경
-        widgetAutoUpdateEnabled.setValue(preferences.getBoolean(KEY_WIDGET_AUTO_UPDATE, true));
-        persistentNotificationEnabled.setValue(preferences.getBoolean(KEY_PERSISTENT_NOTIFICATION, false));
-        busNotificationEnabled.setValue(preferences.getBoolean(KEY_BUS_NOTIFICATION, false));
+    private void publishSettings(AppSettings settings) {
+        boolean mainThread = Looper.myLooper() == Looper.getMainLooper();
+        publish(autoStopEnabled, settings.isAutoStopEnabled(), mainThread);
+        publish(rainAlertEnabled, settings.isRainAlertEnabled(), mainThread);
+        publish(vibrationEnabled, settings.isVibrationEnabled(), mainThread);
+        publish(soundEnabled, settings.isSoundEnabled(), mainThread);
+        publish(widgetEnabled, settings.isWidgetEnabled(), mainThread);
+        publish(widgetAutoUpdateEnabled, settings.isWidgetAutoUpdateEnabled(), mainThread);
+        publish(persistentNotificationEnabled, settings.isPersistentNotificationEnabled(), mainThread);
+        publish(busNotificationEnabled, settings.isBusNotificationEnabled(), mainThread);
 
-        // 알림 종료 시간 로드 및 표시
-        int hour = preferences.getInt(KEY_STOP_HOUR, 10);
-        int minute = preferences.getInt(KEY_STOP_MINUTE, 0);
-        updateTimeText(hour, minute);
+        // 알림 종료 시간 표시
+        publish(timeText, formatTime(settings.getStopHour(), settings.getStopMinute()), mainThread);
+    }
+
+    private static <T> void publish(MutableLiveData<T> data, T value, boolean mainThread) {
+        if (mainThread) {
+            data.setValue(value);
+        } else {
+            data.postValue(value);
+        }
     }
     
     /**
      * 알림 자동 종료 설정 변경
      */
     public void setAutoStopEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_AUTO_STOP_ENABLED, enabled).apply();
-        autoStopEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.autoStopEnabled(enabled));
         // 설정이 변경되면 현재 시간 체크
         checkAndStopNotificationsIfNeeded();
     }
@@ -114,32 +105,46 @@ public class SettingsViewModel extends AndroidViewModel {
      * 비소식 알림 설정 변경
      */
     public void setRainAlertEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_RAIN_ALERT, enabled).apply();
-        rainAlertEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.rainAlertEnabled(enabled));
+        // 비소식 알림이 아침 우산 알람을 켜고 끔
+        MorningAlarmScheduler.schedule(getApplication());
+    }
+
+    /**
+     * 아침 우산 알람 시간 설정
+     */
+    public void setMorningAlarmTime(int hourOfDay, int minute) {
+        settingsManager.update(settings -> settings.morningAlarm(hourOfDay, minute));
+        MorningAlarmScheduler.schedule(getApplication());
+    }
+
+    /**
+     * 아침 알람보다 몇 분 먼저 예보를 미리 가져올지 설정
+     */
+    public void setPrefetchLeadMinutes(int minutes) {
+        settingsManager.update(settings -> settings.prefetchLeadMinutes(minutes));
+        MorningAlarmScheduler.schedule(getApplication());
     }
     
     /**
      * 진동 설정 변경
      */
     public void setVibrationEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_VIBRATION, enabled).apply();
-        vibrationEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.vibrationEnabled(enabled));
     }
     
     /**
      * 소리 설정 변경
      */
     public void setSoundEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_SOUND, enabled).apply();
-        soundEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.soundEnabled(enabled));
     }
     
     /**
      * 위젯 활성화 설정 변경
      */
     public void setWidgetEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_WIDGET_ENABLED, enabled).apply();
-        widgetEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.widgetEnabled(enabled));
         updateWidgetSettings(enabled);
     }
     
@@ -147,8 +152,7 @@ public class SettingsViewModel extends AndroidViewModel {
      * 위젯 자동 업데이트 설정 변경
      */
     public void setWidgetAutoUpdateEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_WIDGET_AUTO_UPDATE, enabled).apply();
-        widgetAutoUpdateEnabled.setValue(enabled);
+        settingsManager.update(settings -> settings.widgetAutoUpdateEnabled(enabled));
         updateWidgetUpdateSettings(enabled);
     }
     
@@ -156,9 +160,6 @@ public class SettingsViewModel extends AndroidViewModel {
      * 상태바 알림 설정 변경
      */
     public void setPersistentNotificationEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_PERSISTENT_NOTIFICATION, enabled).apply();
-        persistentNotificationEnabled.setValue(enabled);
-
         if (enabled) {
             // 알림을 다시 활성화할 때 dismiss 상태 초기화
             NotificationDismissReceiver.resetPersistentDismiss(getApplication());
@@ -171,8 +172,6 @@ public class SettingsViewModel extends AndroidViewModel {
      * 버스 알림 설정 변경
      */
     public void setBusNotificationEnabled(boolean enabled) {
-        preferences.edit().putBoolean(KEY_BUS_NOTIFICATION, enabled).apply();
-        busNotificationEnabled.setValue(enabled);
         BusNotificationService.setEnabled(getApplication(), enabled);
 
         String message = enabled ? "버스 알림이 활성화되었습니다" : "버스 알림이 비활성화되었습니다";
@@ -183,14 +182,8 @@ public class SettingsViewModel extends AndroidViewModel {
      * 알림 종료 시간 설정
      */
     public void setStopTime(int hourOfDay, int minute) {
-        // 시간 저장
-        preferences.edit()
-                .putInt(KEY_STOP_HOUR, hourOfDay)
-                .putInt(KEY_STOP_MINUTE, minute)
-                .apply();
-
-        // 시간 표시 업데이트
-        updateTimeText(hourOfDay, minute);
+        // 시간 저장 (시간 표시는 설정 리스너가 갱신)
+        settingsManager.update(settings -> settings.stopTime(hourOfDay, minute));
 
         // 현재 시간 체크
         checkAndStopNotificationsIfNeeded();
@@ -199,50 +192,33 @@ public class SettingsViewModel extends AndroidViewModel {
     }
     
     /**
-     * 시간 텍스트 업데이트
+     * 시간 텍스트 (오전/오후 h:mm)
      */
-    private void updateTimeText(int hour, int minute) {
+    private static String formatTime(int hour, int minute) {
         Calendar calendar = Calendar.getInstance();
         calendar.set(Calendar.HOUR_OF_DAY, hour);
         calendar.set(Calendar.MINUTE, minute);
         
         SimpleDateFormat format = new SimpleDateFormat("a h:mm", Locale.getDefault());
-        timeText.setValue(format.format(calendar.getTime()));
+        return format.format(calendar.getTime());
     }
     
     /**
      * 현재 시간이 종료 시간을 지났는지 확인하고 알림 중단
      */
     private void checkAndStopNotificationsIfNeeded() {
-        boolean isAutoStopEnabled = preferences.getBoolean(KEY_AUTO_STOP_ENABLED, true);
-
-        if (!isAutoStopEnabled) {
-            return; // 자동 종료가 비활성화되어 있으면 아무것도 하지 않음
-        }
-
-        int stopHour = preferences.getInt(KEY_STOP_HOUR, 10);
-        int stopMinute = preferences.getInt(KEY_STOP_MINUTE, 0);
-
-        Calendar now = Calendar.getInstance();
-        Calendar stopTime = Calendar.getInstance();
-        stopTime.set(Calendar.HOUR_OF_DAY, stopHour);
-        stopTime.set(Calendar.MINUTE, stopMinute);
-        stopTime.set(Calendar.SECOND, 0);
+        AppSettings settings = settingsManager.get();
 
-        // 현재 시간이 종료 시간을 지났으면 알림 중단
-        if (now.after(stopTime)) {
+        // 현재 시간이 종료 시간을 지났으면 알림 중단 (자동 종료가 꺼져 있으면 아무것도 하지 않음)
+        if (isPastStopTime(settings)) {
             // 상태바 알림 중단
-            if (preferences.getBoolean(KEY_PERSISTENT_NOTIFICATION, false)) {
+            if (settings.isPersistentNotificationEnabled()) {
                 PersistentNotificationService.setEnabled(getApplication(), false);
-                preferences.edit().putBoolean(KEY_PERSISTENT_NOTIFICATION, false).apply();
-                persistentNotificationEnabled.setValue(false);
             }
 
             // 버스 알림 중단
-            if (preferences.getBoolean(KEY_BUS_NOTIFICATION, false)) {
+            if (settings.isBusNotificationEnabled()) {
                 BusNotificationService.setEnabled(getApplication(), false);
-                preferences.edit().putBoolean(KEY_BUS_NOTIFICATION, false).apply();
-                busNotificationEnabled.setValue(false);
             }
 
             toastMessage.setValue("설정된 시간이 지나 알림이 자동으로 중단되었습니다");
@@ -253,25 +229,42 @@ public class SettingsViewModel extends AndroidViewModel {
      * 시간이 지났는지 확인하는 공개 메서드 (다른 클래스에서 호출 가능)
      */
     public static boolean shouldStopNotifications(Context context) {
-        SharedPreferences preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-        boolean isAutoStopEnabled = preferences.getBoolean(KEY_AUTO_STOP_ENABLED, true);
+        return isPastStopTime(SettingsManager.getInstance(context).get());
+    }
 
-        if (!isAutoStopEnabled) {
+    private static boolean isPastStopTime(AppSettings settings) {
+        if (!settings.isAutoStopEnabled()) {
             return false;
         }
 
-        int stopHour = preferences.getInt(KEY_STOP_HOUR, 10);
-        int stopMinute = preferences.getInt(KEY_STOP_MINUTE, 0);
-
         Calendar now = Calendar.getInstance();
         Calendar stopTime = Calendar.getInstance();
-        stopTime.set(Calendar.HOUR_OF_DAY, stopHour);
-        stopTime.set(Calendar.MINUTE, stopMinute);
+        stopTime.set(Calendar.HOUR_OF_DAY, settings.getStopHour());
+        stopTime.set(Calendar.MINUTE, settings.getStopMinute());
         stopTime.set(Calendar.SECOND, 0);
 
         return now.after(stopTime);
     }
     
+    /**
+     * 아침 우산 알람 사용 여부 (비소식 알림 설정을 따름)
+     */
+    public static boolean isMorningAlarmEnabled(Context context) {
+        return SettingsManager.getInstance(context).get().isRainAlertEnabled();
+    }
+
+    public static int getMorningAlarmHour(Context context) {
+        return SettingsManager.getInstance(context).get().getMorningAlarmHour();
+    }
+
+    public static int getMorningAlarmMinute(Context context) {
+        return SettingsManager.getInstance(context).get().getMorningAlarmMinute();
+    }
+
+    public static int getPrefetchLeadMinutes(Context context) {
+        return SettingsManager.getInstance(context).get().getPrefetchLeadMinutes();
+    }
+    
     /**
      * 위젯 활성화/비활성화 설정
      */
@@ -1,19 +1,18 @@
 package com.example.umbrellaalert.ui.settings;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import android.widget.RadioGroup;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.app.AppCompatDelegate;
+import com.example.umbrellaalert.data.manager.SettingsManager;
 import com.example.umbrellaalert.databinding.ActivityThemeBinding;
 
 public class ThemeActivity extends AppCompatActivity {
 
     private ActivityThemeBinding binding;
-    private SharedPreferences preferences;
+    private SettingsManager settingsManager;
     
-    private static final String KEY_THEME_MODE = "theme_mode";
     public static final int THEME_LIGHT = 0;
     public static final int THEME_DARK = 1;
     public static final int THEME_SYSTEM = 2;
@@ -24,7 +23,7 @@ public class ThemeActivity extends AppCompatActivity {
         binding = ActivityThemeBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
         
-        preferences = getSharedPreferences("app_preferences", Context.MODE_PRIVATE);
+        settingsManager = SettingsManager.getInstance(this);
         
         setupUI();
         loadCurrentTheme();
@@ -39,7 +38,7 @@ public class ThemeActivity extends AppCompatActivity {
     }
     
     private void loadCurrentTheme() {
-        int currentTheme = preferences.getInt(KEY_THEME_MODE, THEME_SYSTEM);
+        int currentTheme = settingsManager.get().getThemeMode();
         
         switch (currentTheme) {
             case THEME_LIGHT:
@@ -71,7 +70,7 @@ public class ThemeActivity extends AppCompatActivity {
         }
         
         // 설정 저장
-        preferences.edit().putInt(KEY_THEME_MODE, themeMode).apply();
+        settingsManager.update(settings -> settings.themeMode(themeMode));
         
         // 테마 적용
         AppCompatDelegate.setDefaultNightMode(nightMode);
@@ -81,8 +80,7 @@ public class ThemeActivity extends AppCompatActivity {
      * 앱 시작 시 저장된 테마 적용
      */
     public static void applyTheme(Context context) {
-        SharedPreferences preferences = context.getSharedPreferences("app_preferences", Context.MODE_PRIVATE);
-        int themeMode = preferences.getInt(KEY_THEME_MODE, THEME_SYSTEM);
+        int themeMode = SettingsManager.getInstance(context).get().getThemeMode();
 
         switch (themeMode) {
             case THEME_LIGHT:
@@ -0,0 +1,187 @@
+package com.example.umbrellaalert.util;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.umbrellaalert.BuildConfig;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 출력 도우미
+ * - 디버그 로그(v, d)는 릴리스 빌드에서 DEBUG 상수로 바로 반환되어 메시지를 만들지 않음
+ *   인자 계산까지 없애야 하는 곳은 호출부에서 if (AppLog.DEBUG)로 감쌈
+ * - 메시지는 "{}" 자리에 인자를 채우는 방식으로, 로그가 실제로 출력될 때만 문자열을 만듦
+ * - 자주 반복되는 이벤트는 키별로 일정 간격에 한 번만 출력하고 생략한 횟수를 덧붙임
+ * - 출력되는 모든 메시지에서 URL의 API 키 값을 가림
+ */
+public final class AppLog {
+
+    /**
+     * 디버그 빌드 여부 (컴파일 상수라 릴리스 빌드에서는 if (AppLog.DEBUG) 블록이 제거됨)
+     */
+    public static final boolean DEBUG = BuildConfig.DEBUG;
+
+    // 긴 응답 본문을 로그에 남길 때 최대 길이
+    public static final int MAX_BODY_LENGTH = 200;
+
+    // API 키가 들어가는 쿼리 파라미터와 네이버 인증 헤더 (authKey처럼 단어 경계가 없는 이름도 있어 ?, & 등 구분자 뒤에서만 찾음)
+    // 값이 따옴표로 감싸진 경우(key="...")도 따옴표는 남기고 값만 가림
+    private static final Pattern SECRET_PARAM = Pattern.compile(
+            "((?:^|[?&{\\s])(?:serviceKey|authKey|appid|apiKey|api_key|key|client_secret"
+                    + "|x-ncp-apigw-api-key-id|x-ncp-apigw-api-key)=\"?)[^&,}\\s\"]+",
+            Pattern.CASE_INSENSITIVE);
+
+    // 실행 중 바꿀 수 있는 최소 출력 수준 (android.util.Log 상수)
+    private static volatile int minLevel = DEBUG ? Log.DEBUG : Log.INFO;
+
+    private static final ConcurrentHashMap<String, Sample> samples = new ConcurrentHashMap<>();
+
+    private static final class Sample {
+        long lastLoggedAt = Long.MIN_VALUE;
+        int suppressed;
+    }
+
+    private AppLog() {
+    }
+
+    public static void setMinLevel(int level) {
+        minLevel = level;
+    }
+
+    public static boolean isEnabled(int level) {
+        return level >= minLevel && (DEBUG || level >= Log.INFO);
+    }
+
+    // 디버그 로그 (릴리스 빌드에서는 아무것도 하지 않음)
+
+    public static void d(String tag, String message) {
+        if (!DEBUG || !isEnabled(Log.DEBUG)) return;
+        Log.d(tag, redact(message));
+    }
+
+    public static void d(String tag, String format, Object arg) {
+        if (!DEBUG || !isEnabled(Log.DEBUG)) return;
+        Log.d(tag, format(format, arg, null, null, 1));
+    }
+
+    public static void d(String tag, String format, Object arg1, Object arg2) {
+        if (!DEBUG || !isEnabled(Log.DEBUG)) return;
+        Log.d(tag, format(format, arg1, arg2, null, 2));
+    }
+
+    public static void d(String tag, String format, Object arg1, Object arg2, Object arg3) {
+        if (!DEBUG || !isEnabled(Log.DEBUG)) return;
+        Log.d(tag, format(format, arg1, arg2, arg3, 3));
+    }
+
+    public static void v(String tag, String format, Object arg) {
+        if (!DEBUG || !isEnabled(Log.VERBOSE)) return;
+        Log.v(tag, format(format, arg, null, null, 1));
+    }
+
+    // 정보, 경고, 오류 로그
+
+    public static void i(String tag, String format, Object arg) {
+        if (!isEnabled(Log.INFO)) return;
+        Log.i(tag, format(format, arg, null, null, 1));
+    }
+
+    public static void w(String tag, String message) {
+        if (!isEnabled(Log.WARN)) return;
+        Log.w(tag, redact(message));
+    }
+
+    public static void w(String tag, String format, Object arg) {
+        if (!isEnabled(Log.WARN)) return;
+        Log.w(tag, format(format, arg, null, null, 1));
+    }
+
+    public static void e(String tag, String message) {
+        if (!isEnabled(Log.ERROR)) return;
+        Log.e(tag, redact(message));
+    }
+
+    public static void e(String tag, String message, Throwable throwable) {
+        if (!isEnabled(Log.ERROR)) return;
+        Log.e(tag, redact(message), throwable);
+    }
+
+    public static void e(String tag, String format, Object arg) {
+        if (!isEnabled(Log.ERROR)) return;
+        Log.e(tag, format(format, arg, null, null, 1));
+    }
+
+    /**
+     * 반복되는 디버그 이벤트를 key별로 intervalMillis에 한 번만 출력
+     * 생략된 횟수는 다음에 출력될 때 덧붙임
+     */
+    public static void dSampled(String tag, String key, long intervalMillis, String format, Object arg) {
+        if (!DEBUG || !isEnabled(Log.DEBUG)) return;
+        int suppressed = sample(key, intervalMillis);
+        if (suppressed < 0) return;
+        String message = format(format, arg, null, null, 1);
+        Log.d(tag, suppressed > 0 ? message + " (" + suppressed + "회 생략)" : message);
+    }
+
+    /**
+     * 긴 본문을 로그용으로 자름 (호출부는 DEBUG 블록 안에서 사용)
+     */
+    public static String abbreviate(String body) {
+        if (body == null || body.length() <= MAX_BODY_LENGTH) {
+            return body;
+        }
+        return body.substring(0, MAX_BODY_LENGTH) + "...(" + body.length() + "자)";
+    }
+
+    /**
+     * URL과 메시지에 들어간 API 키 값을 가림
+     */
+    public static String redact(String message) {
+        if (message == null || message.indexOf('=') < 0) {
+            return message;
+        }
+        return SECRET_PARAM.matcher(message).replaceAll("$1***");
+    }
+
+    /**
+     * @return 출력해야 하면 그동안 생략된 횟수, 생략해야 하면 -1
+     */
+    private static int sample(String key, long intervalMillis) {
+        Sample sample = samples.get(key);
+        if (sample == null) {
+            Sample created = new Sample();
+            sample = samples.putIfAbsent(key, created);
+            if (sample == null) sample = created;
+        }
+        long now = SystemClock.elapsedRealtime();
+        synchronized (sample) {
+            if (sample.lastLoggedAt != Long.MIN_VALUE && now - sample.lastLoggedAt < intervalMillis) {
+                sample.suppressed++;
+                return -1;
+            }
+            int suppressed = sample.suppressed;
+            sample.lastLoggedAt = now;
+            sample.suppressed = 0;
+            return suppressed;
+        }
+    }
+
+    // "{}"를 순서대로 인자로 바꿈 (인자가 남으면 무시, 자리가 남으면 그대로 둠)
+    static String format(String format, Object arg1, Object arg2, Object arg3, int argCount) {
+        StringBuilder builder = new StringBuilder(format.length() + 32);
+        int start = 0;
+        int index = 0;
+        while (index < argCount) {
+            int placeholder = format.indexOf("{}", start);
+            if (placeholder < 0) break;
+            builder.append(format, start, placeholder);
+            builder.append(index == 0 ? arg1 : index == 1 ? arg2 : arg3);
+            start = placeholder + 2;
+            index++;
+        }
+        builder.append(format, start, format.length());
+        return redact(builder.toString());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.umbrellaalert.util;
+
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 앱 시작 단계 기록과 지연 초기화
+ *
+ * mark()는 프로세스 시작부터 각 단계까지 걸린 시간을 한 번만 기록함
+ * (지표 이름 "startup:단계", 디버그 지표 화면에서 확인)
+ *   application:created  Application.onCreate 끝
+ *   activity:created     MainActivity.onCreate 끝
+ *   home:first_frame     홈 화면 첫 프레임 (저장된 마지막 화면이 있으면 그 내용으로 그려짐)
+ *   home:fresh_data      네트워크에서 받은 날씨를 처음 화면에 게시
+ *   deferred:done        미뤄 둔 초기화(알림 채널, 서비스 시작 등) 끝
+ */
+public final class AppStartup {
+
+    private static final String TAG = "AppStartup";
+
+    // 단계 -> 프로세스 시작부터 걸린 시간(ms), 기록 순서 유지
+    private static final Map<String, Long> marks = new LinkedHashMap<>();
+
+    private AppStartup() {
+    }
+
+    /**
+     * 시작 단계 기록 (같은 단계는 프로세스당 처음 한 번만)
+     */
+    public static void mark(String milestone) {
+        long elapsed = SystemClock.uptimeMillis() - Process.getStartUptimeMillis();
+        synchronized (marks) {
+            if (marks.containsKey(milestone)) {
+                return;
+            }
+            marks.put(milestone, elapsed);
+        }
+        Metrics.timer("startup:" + milestone).record(TimeUnit.MILLISECONDS.toNanos(elapsed));
+        AppLog.i(TAG, "{}", milestone + " +" + elapsed + "ms");
+    }
+
+    /**
+     * 메인 스레드가 처음 한가해질 때(첫 프레임을 그린 뒤) 실행
+     * 첫 화면에 필요 없는 초기화를 여기로 미룸
+     */
+    public static void whenIdle(Runnable task) {
+        Looper.getMainLooper().getQueue().addIdleHandler(() -> {
+            task.run();
+            return false;
+        });
+    }
+
+    /**
+     * 기록된 단계 요약 (한 줄에 하나)
+     */
+    public static String summary() {
+        StringBuilder builder = new StringBuilder();
+        synchronized (marks) {
+            for (Map.Entry<String, Long> entry : marks.entrySet()) {
+                builder.append(String.format(Locale.US, "%-20s +%dms%n", entry.getKey(), entry.getValue()));
+            }
+        }
+        return builder.toString();
+    }
+}
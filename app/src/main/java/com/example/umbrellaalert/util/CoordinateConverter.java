@@ -1,5 +1,7 @@
 package com.example.umbrellaalert.util;
 
+import java.util.Locale;
+
 /**
  * 기상청 격자 좌표계 변환 유틸리티 클래스
  * 위도/경도를 기상청 격자 좌표(nx, ny)로 변환
@@ -62,6 +64,14 @@ public class CoordinateConverter {
         return new GridCoordinate(nx, ny);
     }
     
+    /**
+     * 요청 URL에 넣을 좌표 (소수 셋째 자리, 약 100m 단위)
+     * GPS 오차로 좌표가 조금씩 흔들려도 같은 URL이 되어 HTTP 캐시를 함께 씀
+     */
+    public static String toRequestDegrees(double degrees) {
+        return String.format(Locale.US, "%.3f", degrees);
+    }
+
     /**
      * 주요 도시의 격자 좌표 반환
      */
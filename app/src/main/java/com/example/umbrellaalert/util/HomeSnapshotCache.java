@@ -0,0 +1,176 @@
+package com.example.umbrellaalert.util;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Weather;
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 홈 화면 마지막 상태 저장소
+ * 앱을 다시 열면 네트워크 응답을 기다리지 않고 이 내용으로 첫 프레임을 그림 (갱신 시각을 함께 표시)
+ * MAX_AGE_MILLIS보다 오래된 내용은 날씨가 이미 달라졌을 수 있어 쓰지 않음
+ *
+ * Application에서 preload()로 미리 읽어 두고 화면은 peek()으로 받음 (메인 스레드를 막지 않고 읽은 뒤 콜백)
+ * 파일은 AtomicFile로 통째로 바꿔 써서 쓰는 중에 종료돼도 이전 내용이 남음
+ */
+public final class HomeSnapshotCache {
+
+    private static final String TAG = "HomeSnapshotCache";
+    private static final String FILE_NAME = "home_snapshot.json";
+
+    // 이보다 오래된 마지막 화면은 버리고 빈 화면으로 시작
+    private static final long MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(12);
+
+    /**
+     * 홈 화면에 그렸던 내용
+     */
+    public static final class Snapshot {
+        private final Weather weather;
+        private final String locationName;
+        private final List<HourlyForecast> forecasts;
+        // 날씨를 받은 시각 (epoch 밀리초, 이 필드가 없던 이전 버전 파일은 0이라 만료로 처리)
+        private final long updatedAtMillis;
+
+        public Snapshot(Weather weather, String locationName, List<HourlyForecast> forecasts, long updatedAtMillis) {
+            this.weather = weather;
+            this.locationName = locationName;
+            this.forecasts = forecasts != null ? new ArrayList<>(forecasts) : null;
+            this.updatedAtMillis = updatedAtMillis;
+        }
+
+        public Weather getWeather() { return weather; }
+        public String getLocationName() { return locationName; }
+        public List<HourlyForecast> getForecasts() { return forecasts; }
+        public long getUpdatedAtMillis() { return updatedAtMillis; }
+
+        boolean isExpired(long nowMillis) {
+            return nowMillis - updatedAtMillis > MAX_AGE_MILLIS;
+        }
+    }
+
+    /**
+     * 저장된 마지막 화면을 받는 콜백 (메인 스레드에서 호출, 없거나 너무 오래됐으면 null)
+     */
+    public interface SnapshotCallback {
+        void onSnapshot(Snapshot snapshot);
+    }
+
+    private static final Gson gson = new Gson();
+
+    // 읽기와 쓰기를 한 스레드에서 순서대로 처리
+    private static final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private static final Metrics.Histogram peekTimer = Metrics.timer("cache:home_snapshot");
+
+    private static Future<Snapshot> preloaded;
+
+    private HomeSnapshotCache() {
+    }
+
+    /**
+     * 백그라운드에서 미리 읽기 시작 (여러 번 불러도 한 번만 읽음)
+     */
+    public static synchronized void preload(Context context) {
+        if (preloaded == null) {
+            Context appContext = context.getApplicationContext();
+            preloaded = ioExecutor.submit(() -> read(appContext));
+        }
+    }
+
+    /**
+     * 저장된 마지막 화면을 읽는 대로 메인 스레드로 전달 (이미 읽어 뒀으면 다음 메인 루프에서 바로)
+     * 읽기를 기다리는 동안 메인 스레드를 막지 않으므로, 그 사이 새 데이터가 왔는지는 콜백에서 확인해야 함
+     */
+    public static void peek(Context context, SnapshotCallback callback) {
+        preload(context);
+        Future<Snapshot> future;
+        synchronized (HomeSnapshotCache.class) {
+            future = preloaded;
+        }
+        long startNanos = System.nanoTime();
+        // 같은 단일 스레드 실행기에 넣으므로 앞선 읽기/쓰기가 끝난 뒤 실행되어 get()이 바로 반환됨
+        ioExecutor.execute(() -> {
+            Snapshot snapshot = null;
+            try {
+                snapshot = future.get();
+            } catch (ExecutionException e) {
+                Log.e(TAG, "마지막 화면 읽기 실패", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (snapshot != null && snapshot.isExpired(System.currentTimeMillis())) {
+                Log.d(TAG, "마지막 화면이 오래되어 사용하지 않음");
+                snapshot = null;
+            }
+            Snapshot result = snapshot;
+            mainHandler.post(() -> {
+                peekTimer.recordSince(startNanos);
+                callback.onSnapshot(result);
+            });
+        });
+    }
+
+    /**
+     * 새로 그린 내용 저장 (백그라운드에서 씀, 이후 peek()도 이 내용을 돌려줌)
+     */
+    public static void save(Context context, Snapshot snapshot) {
+        Context appContext = context.getApplicationContext();
+        Future<Snapshot> saved = ioExecutor.submit(() -> {
+            try {
+                write(appContext, snapshot);
+            } catch (IOException e) {
+                Log.e(TAG, "마지막 화면 저장 실패", e);
+            }
+            return snapshot;
+        });
+        synchronized (HomeSnapshotCache.class) {
+            preloaded = saved;
+        }
+    }
+
+    private static Snapshot read(Context context) throws IOException {
+        AtomicFile file = new AtomicFile(new File(context.getFilesDir(), FILE_NAME));
+        try (Reader reader = new InputStreamReader(file.openRead(), StandardCharsets.UTF_8)) {
+            Snapshot snapshot = gson.fromJson(reader, Snapshot.class);
+            return snapshot != null && snapshot.weather != null ? snapshot : null;
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (RuntimeException e) {
+            // 형식이 바뀐 이전 버전 파일 등은 버리고 새로 저장될 때까지 빈 화면
+            Log.w(TAG, "마지막 화면 형식 오류, 무시: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(Context context, Snapshot snapshot) throws IOException {
+        AtomicFile file = new AtomicFile(new File(context.getFilesDir(), FILE_NAME));
+        FileOutputStream out = file.startWrite();
+        try {
+            out.write(gson.toJson(snapshot).getBytes(StandardCharsets.UTF_8));
+            file.finishWrite(out);
+        } catch (IOException e) {
+            file.failWrite(out);
+            throw e;
+        }
+    }
+}
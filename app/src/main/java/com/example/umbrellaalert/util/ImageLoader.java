@@ -0,0 +1,238 @@
+package com.example.umbrellaalert.util;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import androidx.annotation.DrawableRes;
+
+import com.example.umbrellaalert.R;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 고양이, 배경 같은 큰 이미지 로더
+ * 표시할 뷰 크기에 맞춰 줄여서 백그라운드 스레드에서 디코딩하고,
+ * 앱 메모리 등급의 1/8 크기 LRU 캐시에 보관해 같은 이미지를 다시 디코딩하지 않음
+ */
+public class ImageLoader {
+
+    private static final String TAG = "ImageLoader";
+
+    // 앱 메모리 중 비트맵 캐시에 쓸 비율
+    private static final int CACHE_FRACTION = 8;
+    private static final int DECODE_THREADS = 2;
+
+    private static ImageLoader instance;
+
+    private final Resources resources;
+    private final LruCache<String, Bitmap> cache;
+    private final ExecutorService executorService;
+    private final Handler mainHandler;
+    // 디코딩 중인 키 (같은 이미지를 동시에 두 번 디코딩하지 않도록)
+    private final Set<String> inFlight = new HashSet<>();
+
+    private long hitCount;
+    private long decodeCount;
+
+    private ImageLoader(Context context) {
+        this.resources = context.getResources();
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        int cacheKb = activityManager.getMemoryClass() * 1024 / CACHE_FRACTION;
+        this.cache = new LruCache<String, Bitmap>(cacheKb) {
+            @Override
+            protected int sizeOf(String key, Bitmap bitmap) {
+                return bitmap.getAllocationByteCount() / 1024;
+            }
+        };
+        this.executorService = Metrics.monitor("image-decode", Executors.newFixedThreadPool(DECODE_THREADS));
+        this.mainHandler = new Handler(Looper.getMainLooper());
+        Log.d(TAG, "비트맵 캐시 크기: " + cacheKb + "KB");
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     */
+    public static synchronized ImageLoader getInstance(Context context) {
+        if (instance == null) {
+            instance = new ImageLoader(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 이미지 뷰에 리소스 이미지 표시 (메인 스레드에서 호출)
+     * 캐시에 있으면 바로 표시하고, 없으면 뷰 크기에 맞춰 디코딩한 뒤 표시
+     * 디코딩 중에 같은 뷰에 다른 이미지를 요청하면 이전 결과는 버림
+     */
+    public void load(ImageView imageView, @DrawableRes int resId) {
+        imageView.setTag(R.id.image_loader_request, resId);
+
+        int width = targetWidth(imageView);
+        int height = targetHeight(imageView);
+        if (width <= 0 || height <= 0) {
+            // 크기가 아직 정해지지 않았으면 레이아웃 후 다시 시도
+            imageView.post(() -> {
+                if (isCurrentRequest(imageView, resId)) {
+                    load(imageView, resId, Math.max(1, imageView.getWidth()), Math.max(1, imageView.getHeight()));
+                }
+            });
+            return;
+        }
+        load(imageView, resId, width, height);
+    }
+
+    private void load(ImageView imageView, int resId, int width, int height) {
+        String key = key(resId, width, height);
+        Bitmap cached = cache.get(key);
+        if (cached != null) {
+            hitCount++;
+            imageView.setImageBitmap(cached);
+            return;
+        }
+
+        executorService.execute(() -> {
+            Bitmap bitmap = getOrDecode(key, resId, width, height);
+            if (bitmap == null) {
+                return;
+            }
+            mainHandler.post(() -> {
+                if (isCurrentRequest(imageView, resId)) {
+                    imageView.setImageBitmap(bitmap);
+                }
+            });
+        });
+    }
+
+    /**
+     * 곧 표시될 가능성이 높은 이미지를 미리 디코딩해 캐시에 넣어 둠
+     * @param like 같은 크기로 표시될 이미지 뷰
+     */
+    public void prefetch(ImageView like, @DrawableRes int resId) {
+        int width = targetWidth(like);
+        int height = targetHeight(like);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        String key = key(resId, width, height);
+        if (cache.get(key) != null) {
+            return;
+        }
+        executorService.execute(() -> getOrDecode(key, resId, width, height));
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * 캐시 사용량 (KB)
+     */
+    public int getCacheSizeKb() {
+        return cache.size();
+    }
+
+    private Bitmap getOrDecode(String key, int resId, int width, int height) {
+        synchronized (this) {
+            // 다른 스레드가 같은 이미지를 디코딩 중이면 끝날 때까지 기다렸다가 캐시에서 가져감
+            while (true) {
+                Bitmap cached = cache.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+                if (inFlight.add(key)) {
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+
+        Bitmap bitmap = null;
+        try {
+            bitmap = decodeSampled(resources, resId, width, height);
+            if (bitmap != null) {
+                cache.put(key, bitmap);
+            }
+        } catch (OutOfMemoryError e) {
+            Log.e(TAG, "이미지 디코딩 메모리 부족: " + key, e);
+            cache.evictAll();
+        } finally {
+            synchronized (this) {
+                inFlight.remove(key);
+                decodeCount++;
+                notifyAll();
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 요청 크기보다 작아지지 않는 가장 큰 2의 거듭제곱 비율로 줄여서 디코딩
+     */
+    static Bitmap decodeSampled(Resources resources, int resId, int width, int height) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeResource(resources, resId, options);
+
+        options.inSampleSize = calculateInSampleSize(options.outWidth, options.outHeight, width, height);
+        options.inJustDecodeBounds = false;
+        // 밀도 폴더 없는 drawable은 화면 밀도만큼 확대되므로 요청 크기 그대로 사용
+        options.inScaled = false;
+        return BitmapFactory.decodeResource(resources, resId, options);
+    }
+
+    static int calculateInSampleSize(int sourceWidth, int sourceHeight, int width, int height) {
+        int inSampleSize = 1;
+        if (sourceHeight > height || sourceWidth > width) {
+            int halfHeight = sourceHeight / 2;
+            int halfWidth = sourceWidth / 2;
+            while (halfHeight / inSampleSize >= height && halfWidth / inSampleSize >= width) {
+                inSampleSize *= 2;
+            }
+        }
+        return inSampleSize;
+    }
+
+    private static boolean isCurrentRequest(ImageView imageView, int resId) {
+        Object tag = imageView.getTag(R.id.image_loader_request);
+        return tag instanceof Integer && (Integer) tag == resId;
+    }
+
+    // 측정 전이면 레이아웃 파라미터의 고정 크기 사용
+    private static int targetWidth(View view) {
+        if (view.getWidth() > 0) return view.getWidth();
+        ViewGroup.LayoutParams params = view.getLayoutParams();
+        return params != null ? params.width : 0;
+    }
+
+    private static int targetHeight(View view) {
+        if (view.getHeight() > 0) return view.getHeight();
+        ViewGroup.LayoutParams params = view.getLayoutParams();
+        return params != null ? params.height : 0;
+    }
+
+    private static String key(int resId, int width, int height) {
+        return resId + "@" + width + "x" + height;
+    }
+}
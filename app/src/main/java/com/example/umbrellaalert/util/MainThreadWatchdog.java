@@ -0,0 +1,237 @@
+package com.example.umbrellaalert.util;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.StrictMode;
+import android.util.Printer;
+import android.view.Choreographer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메인 스레드 감시 (디버그 빌드 전용, 릴리스 빌드에서는 install()이 아무것도 하지 않음)
+ *
+ * - StrictMode: 메인 스레드의 디스크/네트워크 접근과 닫지 않은 리소스를 호출 위치별로 집계
+ *   지표 "strictmode:위반종류@클래스.메서드:줄" (API 28 미만은 logcat에만 남음)
+ * - 메인 루퍼 메시지 처리 시간: "main:message" 히스토그램
+ *   SLOW_MESSAGE_MILLIS를 넘기면 그 순간 메인 스레드 스택에서 앱 코드 위치를 찾아 "main:slow@위치" 카운터
+ * - 프레임 간격: "main:frame" 히스토그램, 한 프레임 이상 밀리면 "main:jank", 화면이 멈춘 수준이면 "main:frozen"
+ *   화면에 보이는 액티비티가 있을 때만 재고, 백그라운드에 있던 시간은 프레임 간격으로 세지 않음
+ *
+ * 디버그 지표 화면에서 확인하며, 새로 생긴 항목이 있으면 릴리스 전에 원인 위치를 고침
+ */
+public final class MainThreadWatchdog {
+
+    private static final String TAG = "MainThreadWatchdog";
+
+    // 이보다 오래 걸린 메인 루퍼 메시지는 위치를 기록
+    private static final long SLOW_MESSAGE_MILLIS = 100;
+
+    // 60Hz 기준 한 프레임, 이보다 두 배 넘게 걸리면 jank
+    private static final long FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+    private static final long JANK_NANOS = FRAME_NANOS * 2;
+    private static final long FROZEN_NANOS = TimeUnit.MILLISECONDS.toNanos(700);
+    // 이보다 긴 간격은 멈춤이 아니라 화면이 꺼져 있던 것 (vsync 중단 등)으로 보고 버림
+    private static final long MAX_FRAME_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // 위치를 찾을 때 앱 코드로 보는 패키지 (이 클래스는 제외)
+    private static final String APP_PACKAGE = "com.example.umbrellaalert.";
+
+    private static boolean installed;
+
+    // 느린 메시지 표본을 뜨는 감시 스레드
+    private static Handler watchdogHandler;
+    private static Thread mainThread;
+    private static long dispatchStartNanos;
+
+    private static final Metrics.Histogram messageTimer = Metrics.timer("main:message");
+    private static final Metrics.Histogram frameTimer = Metrics.timer("main:frame");
+    private static final Metrics.Counter jankCounter = Metrics.counter("main:jank");
+    private static final Metrics.Counter frozenCounter = Metrics.counter("main:frozen");
+
+    private MainThreadWatchdog() {
+    }
+
+    /**
+     * 감시 시작 (Application.onCreate 맨 앞, 메인 스레드에서 호출)
+     */
+    public static synchronized void install(Application application) {
+        if (!AppLog.DEBUG || installed) {
+            return;
+        }
+        installed = true;
+
+        installStrictMode();
+        watchMainLooper();
+        watchFrames(application);
+        AppLog.i(TAG, "메인 스레드 감시 시작 (느린 메시지 기준 {}ms)", SLOW_MESSAGE_MILLIS);
+    }
+
+    private static void installStrictMode() {
+        StrictMode.ThreadPolicy.Builder threadPolicy = new StrictMode.ThreadPolicy.Builder()
+                .detectDiskReads()
+                .detectDiskWrites()
+                .detectNetwork()
+                .detectCustomSlowCalls()
+                .penaltyLog();
+        StrictMode.VmPolicy.Builder vmPolicy = new StrictMode.VmPolicy.Builder()
+                .detectLeakedClosableObjects()
+                .detectLeakedSqlLiteObjects()
+                .detectActivityLeaks()
+                .penaltyLog();
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            // 위반 집계는 메인 스레드를 더 막지 않도록 별도 스레드에서
+            Executor executor = Executors.newSingleThreadExecutor();
+            threadPolicy.penaltyListener(executor, MainThreadWatchdog::recordViolation);
+            vmPolicy.penaltyListener(executor, MainThreadWatchdog::recordViolation);
+        }
+
+        StrictMode.setThreadPolicy(threadPolicy.build());
+        StrictMode.setVmPolicy(vmPolicy.build());
+    }
+
+    private static void recordViolation(Throwable violation) {
+        String site = findCallSite(violation.getStackTrace());
+        Metrics.counter("strictmode:" + violation.getClass().getSimpleName() + "@" + site).increment();
+    }
+
+    /**
+     * 메시지 시작/끝 로그로 처리 시간을 재고, 오래 걸리면 감시 스레드가 메인 스레드 스택을 떠 둠
+     */
+    private static void watchMainLooper() {
+        HandlerThread thread = new HandlerThread("main-watchdog");
+        thread.start();
+        watchdogHandler = new Handler(thread.getLooper());
+        mainThread = Looper.getMainLooper().getThread();
+
+        Runnable sampleSlowMessage = () -> {
+            String site = findCallSite(mainThread.getStackTrace());
+            Metrics.counter("main:slow@" + site).increment();
+            AppLog.w(TAG, "메인 스레드 메시지 처리 지연: {}", site);
+        };
+
+        Printer printer = line -> {
+            // ">>>>> Dispatching to ..." / "<<<<< Finished to ..."
+            if (line.charAt(0) == '>') {
+                dispatchStartNanos = System.nanoTime();
+                watchdogHandler.postDelayed(sampleSlowMessage, SLOW_MESSAGE_MILLIS);
+            } else if (line.charAt(0) == '<') {
+                watchdogHandler.removeCallbacks(sampleSlowMessage);
+                messageTimer.record(System.nanoTime() - dispatchStartNanos);
+            }
+        };
+        Looper.getMainLooper().setMessageLogging(printer);
+    }
+
+    /**
+     * 액티비티가 하나라도 보이는 동안만 매 프레임 콜백을 걸어 프레임 사이 간격을 기록
+     * (디버그 빌드 전용이라 화면이 유휴 상태여도 vsync를 받는 비용은 감수)
+     */
+    private static void watchFrames(Application application) {
+        FrameWatcher frameWatcher = new FrameWatcher();
+        application.registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks() {
+            private int startedActivities;
+
+            @Override
+            public void onActivityStarted(Activity activity) {
+                if (startedActivities++ == 0) {
+                    frameWatcher.start();
+                }
+            }
+
+            @Override
+            public void onActivityStopped(Activity activity) {
+                if (--startedActivities == 0) {
+                    frameWatcher.stop();
+                }
+            }
+
+            @Override
+            public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+            }
+
+            @Override
+            public void onActivityResumed(Activity activity) {
+            }
+
+            @Override
+            public void onActivityPaused(Activity activity) {
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+            }
+
+            @Override
+            public void onActivityDestroyed(Activity activity) {
+            }
+        });
+    }
+
+    /**
+     * 프레임 간격 기록 (메인 스레드에서만 사용)
+     */
+    private static final class FrameWatcher implements Choreographer.FrameCallback {
+        private boolean running;
+        private long lastFrameNanos;
+
+        void start() {
+            // 다시 보일 때는 백그라운드에 있던 시간이 첫 간격으로 잡히지 않도록 처음부터 잼
+            running = true;
+            lastFrameNanos = 0;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        void stop() {
+            running = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (!running) {
+                return;
+            }
+            if (lastFrameNanos != 0) {
+                long interval = frameTimeNanos - lastFrameNanos;
+                if (interval <= MAX_FRAME_INTERVAL_NANOS) {
+                    frameTimer.record(interval);
+                    if (interval > FROZEN_NANOS) {
+                        frozenCounter.increment();
+                    } else if (interval > JANK_NANOS) {
+                        jankCounter.increment();
+                    }
+                }
+            }
+            lastFrameNanos = frameTimeNanos;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * 스택에서 처음 나오는 앱 코드 위치 (없으면 맨 위 프레임)
+     */
+    static String findCallSite(StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            String className = frame.getClassName();
+            if (className.startsWith(APP_PACKAGE) && !className.equals(MainThreadWatchdog.class.getName())) {
+                return format(frame);
+            }
+        }
+        return stack.length > 0 ? format(stack[0]) : "unknown";
+    }
+
+    private static String format(StackTraceElement frame) {
+        String className = frame.getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return simpleName + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.umbrellaalert.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 앱 내부 지표 모음 (카운터, 게이지, 히스토그램)
+ * 기록은 잠금 없이 원자 연산만 사용하므로 요청, 쿼리마다 호출해도 부담이 적음
+ *
+ * 이름은 Tracer span과 같은 "단계:대상" 형식 (예: http:api.openweathermap.org/data/2.5/weather)
+ * Tracer span이 끝나면 같은 이름의 시간 히스토그램에 자동으로 기록되므로
+ * 요청, DB 쿼리, 캐시 조회 시간은 span만 두면 됨
+ * 디버그 지표 화면(DebugMetricsActivity)에서 report()로 확인
+ */
+public final class Metrics {
+
+    // 지표 기록 시작 시각 (횟수를 분당 비율로 환산할 때 사용)
+    private static volatile long startNanos = System.nanoTime();
+
+    private static final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * 누적 횟수 (요청 수, 캐시 적중, 알림 게시 등)
+     */
+    public static final class Counter {
+        private final AtomicLong value = new AtomicLong();
+
+        public void increment() {
+            value.incrementAndGet();
+        }
+
+        public void add(long amount) {
+            value.addAndGet(amount);
+        }
+
+        public long get() {
+            return value.get();
+        }
+    }
+
+    /**
+     * 조회할 때마다 현재 값을 읽는 지표 (큐 길이 등)
+     */
+    public interface Gauge {
+        long value();
+    }
+
+    /**
+     * 값 분포 (2의 거듭제곱 구간으로 나눠 세므로 백분위는 구간 상한으로 근사)
+     */
+    public static final class Histogram {
+        // 구간 i: [2^(i-1), 2^i), 구간 0은 0 이하
+        private static final int BUCKETS = 64;
+
+        private final boolean time;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        Histogram(boolean time) {
+            this.time = time;
+        }
+
+        public void record(long value) {
+            int bucket = value <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+            buckets.incrementAndGet(bucket);
+            count.incrementAndGet();
+            sum.addAndGet(value);
+            long previous;
+            while (value > (previous = max.get()) && !max.compareAndSet(previous, value)) {
+                // 다른 스레드가 최대값을 바꿨으면 다시 비교
+            }
+        }
+
+        /**
+         * 시작 시각부터 지금까지 걸린 시간 기록 (System.nanoTime 기준)
+         */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public double getMean() {
+            long n = count.get();
+            return n == 0 ? 0 : sum.get() / (double) n;
+        }
+
+        /**
+         * 백분위 근사값 (해당 구간의 상한)
+         * @param percentile 0~100
+         */
+        public long getPercentile(double percentile) {
+            long n = count.get();
+            if (n == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(n * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return i == 0 ? 0 : Math.min(max.get(), (1L << i) - 1);
+                }
+            }
+            return max.get();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.set(0);
+            sum.set(0);
+            max.set(0);
+        }
+
+        String describe() {
+            if (time) {
+                return String.format(Locale.US, "%d회, 평균 %.1fms, p50 %.1fms, p95 %.1fms, 최대 %.1fms",
+                        getCount(), getMean() / 1e6, getPercentile(50) / 1e6, getPercentile(95) / 1e6,
+                        getMax() / 1e6);
+            }
+            return String.format(Locale.US, "%d회, 평균 %.0f, p50 %d, p95 %d, 최대 %d",
+                    getCount(), getMean(), getPercentile(50), getPercentile(95), getMax());
+        }
+    }
+
+    public static Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            Counter created = new Counter();
+            counter = counters.putIfAbsent(name, created);
+            if (counter == null) counter = created;
+        }
+        return counter;
+    }
+
+    /**
+     * 시간 히스토그램 (나노초로 기록, 밀리초로 표시)
+     */
+    public static Histogram timer(String name) {
+        return histogram(name, true);
+    }
+
+    /**
+     * 값 히스토그램 (응답 크기 등)
+     */
+    public static Histogram histogram(String name) {
+        return histogram(name, false);
+    }
+
+    /**
+     * 게이지 등록 (같은 이름이면 교체)
+     */
+    public static void gauge(String name, Gauge gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * 실행기의 대기 작업 수와 실행 중인 작업 수를 게이지로 등록
+     * ThreadPoolExecutor가 아니면 (newSingleThreadExecutor 등) 등록하지 않음
+     */
+    public static <T extends ExecutorService> T monitor(String name, T executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+            gauge("queue:" + name, () -> pool.getQueue().size());
+            gauge("active:" + name, pool::getActiveCount);
+        }
+        return executor;
+    }
+
+    /**
+     * 카운터와 히스토그램을 0으로 되돌림 (게이지는 유지)
+     */
+    public static void reset() {
+        for (Counter counter : counters.values()) {
+            counter.value.set(0);
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * 모든 지표를 이름순으로 정리한 보고서
+     */
+    public static String report() {
+        double minutes = Math.max(1.0 / 60, (System.nanoTime() - startNanos) / (double) TimeUnit.MINUTES.toNanos(1));
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("[카운터]\n");
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            long value = entry.getValue().get();
+            builder.append(String.format(Locale.US, "%s: %d (분당 %.2f)%n", entry.getKey(), value, value / minutes));
+        }
+
+        builder.append("\n[게이지]\n");
+        for (Map.Entry<String, Gauge> entry : new TreeMap<>(gauges).entrySet()) {
+            builder.append(entry.getKey()).append(": ").append(entry.getValue().value()).append('\n');
+        }
+
+        builder.append("\n[히스토그램]\n");
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            builder.append(entry.getKey()).append(": ").append(entry.getValue().describe()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static Histogram histogram(String name, boolean time) {
+        Histogram histogram = histograms.get(name);
+        if (histogram == null) {
+            Histogram created = new Histogram(time);
+            histogram = histograms.putIfAbsent(name, created);
+            if (histogram == null) histogram = created;
+        }
+        return histogram;
+    }
+}
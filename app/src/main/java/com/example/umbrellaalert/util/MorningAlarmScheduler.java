@@ -0,0 +1,106 @@
+package com.example.umbrellaalert.util;
+
+import android.app.AlarmManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+import android.util.Log;
+
+import com.example.umbrellaalert.receiver.AlarmReceiver;
+import com.example.umbrellaalert.ui.settings.SettingsViewModel;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아침 우산 알람 예약
+ * 알람 시각보다 설정한 시간만큼 먼저 예보를 미리 가져오는 알람과, 저장된 판단으로 알림을 보내는 알람 두 개를 예약
+ * 알람이 울리면 다음 날 알람을 다시 예약함
+ */
+public final class MorningAlarmScheduler {
+
+    private static final String TAG = "MorningAlarmScheduler";
+
+    public static final String ACTION_PREFETCH = "com.example.umbrellaalert.MORNING_PREFETCH";
+    public static final String ACTION_MORNING_ALARM = "com.example.umbrellaalert.MORNING_ALARM";
+
+    private static final int REQUEST_MORNING_ALARM = 0;
+    private static final int REQUEST_PREFETCH = 1;
+
+    // 알람이 정확하지 않아도 되는 경우 허용할 오차
+    private static final long INEXACT_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private MorningAlarmScheduler() {
+    }
+
+    /**
+     * 설정에 따라 다음 아침 알람과 미리 가져오기를 예약 (비활성화되어 있으면 취소)
+     */
+    public static void schedule(Context context) {
+        if (!SettingsViewModel.isMorningAlarmEnabled(context)) {
+            cancel(context);
+            return;
+        }
+
+        AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        long now = System.currentTimeMillis();
+        long alarmTime = nextAlarmTime(now, SettingsViewModel.getMorningAlarmHour(context),
+                SettingsViewModel.getMorningAlarmMinute(context));
+        long leadMillis = TimeUnit.MINUTES.toMillis(SettingsViewModel.getPrefetchLeadMinutes(context));
+        // 이미 미리 가져올 시각이 지났으면 바로 실행
+        long prefetchTime = Math.max(now + TimeUnit.SECONDS.toMillis(5), alarmTime - leadMillis);
+
+        // 미리 가져오기는 조금 늦어도 되지만 알람 전에는 끝나야 함
+        alarmManager.setWindow(AlarmManager.RTC_WAKEUP, prefetchTime,
+                Math.min(INEXACT_WINDOW_MILLIS, Math.max(0, alarmTime - prefetchTime) / 2),
+                pendingIntent(context, ACTION_PREFETCH, REQUEST_PREFETCH));
+
+        PendingIntent alarmIntent = pendingIntent(context, ACTION_MORNING_ALARM, REQUEST_MORNING_ALARM);
+        if (canScheduleExactAlarms(alarmManager)) {
+            alarmManager.setExactAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, alarmTime, alarmIntent);
+        } else {
+            alarmManager.setWindow(AlarmManager.RTC_WAKEUP, alarmTime, INEXACT_WINDOW_MILLIS, alarmIntent);
+        }
+
+        Log.d(TAG, "아침 알람 예약: " + TimeUnit.MILLISECONDS.toMinutes(alarmTime - now) + "분 후 (미리 가져오기 "
+                + TimeUnit.MILLISECONDS.toMinutes(prefetchTime - now) + "분 후)");
+    }
+
+    /**
+     * 예약된 아침 알람과 미리 가져오기 취소
+     */
+    public static void cancel(Context context) {
+        AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        alarmManager.cancel(pendingIntent(context, ACTION_PREFETCH, REQUEST_PREFETCH));
+        alarmManager.cancel(pendingIntent(context, ACTION_MORNING_ALARM, REQUEST_MORNING_ALARM));
+        Log.d(TAG, "아침 알람 취소");
+    }
+
+    /**
+     * 지금 이후 처음 오는 hour:minute 시각
+     */
+    static long nextAlarmTime(long now, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(now);
+        calendar.set(Calendar.HOUR_OF_DAY, hour);
+        calendar.set(Calendar.MINUTE, minute);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        if (calendar.getTimeInMillis() <= now) {
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+        return calendar.getTimeInMillis();
+    }
+
+    private static boolean canScheduleExactAlarms(AlarmManager alarmManager) {
+        return Build.VERSION.SDK_INT < Build.VERSION_CODES.S || alarmManager.canScheduleExactAlarms();
+    }
+
+    private static PendingIntent pendingIntent(Context context, String action, int requestCode) {
+        Intent intent = new Intent(context, AlarmReceiver.class);
+        intent.setAction(action);
+        return PendingIntent.getBroadcast(context, requestCode, intent,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
+    }
+}
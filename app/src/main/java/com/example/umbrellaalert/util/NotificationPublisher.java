@@ -0,0 +1,199 @@
+package com.example.umbrellaalert.util;
+
+import android.app.NotificationManager;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.core.app.NotificationCompat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 게시 유틸리티
+ * 같은 알림(채널 + ID)에 이전과 같은 내용을 다시 보내면 생략하고,
+ * 채널별로 최소 간격 안에 들어온 업데이트는 모아서 간격이 끝날 때 마지막 내용만 게시
+ * 서비스가 끝날 때는 cancel()로 대기 중인 게시까지 버려야 함 (늦게 게시된 ongoing 알림이 남지 않도록)
+ */
+public class NotificationPublisher {
+
+    private static final String TAG = "NotificationPublisher";
+
+    // 채널별 최소 게시 간격
+    private static final long MIN_CHANNEL_INTERVAL = 5000;
+
+    /**
+     * 게시할 때마다 새로 만든 Builder에 알림 내용을 채우는 인터페이스
+     */
+    public interface Renderer {
+        void render(NotificationCompat.Builder builder);
+    }
+
+    private static NotificationPublisher instance;
+
+    private final Context context;
+    private final NotificationManager notificationManager;
+    private final Handler handler;
+
+    // 키: 채널 ID + "#" + 알림 ID
+    private final Map<String, String> postedContents = new HashMap<>();
+    private final Map<String, PendingPost> pendingPosts = new HashMap<>();
+    private final Map<String, Long> lastChannelPostTimes = new HashMap<>();
+    private final Set<String> scheduledChannels = new HashSet<>();
+
+    private long postedCount;
+    private long suppressedCount;
+    private long deferredCount;
+
+    private static class PendingPost {
+        final String channelId;
+        final int notificationId;
+        final String content;
+        final Renderer renderer;
+
+        PendingPost(String channelId, int notificationId, String content, Renderer renderer) {
+            this.channelId = channelId;
+            this.notificationId = notificationId;
+            this.content = content;
+            this.renderer = renderer;
+        }
+    }
+
+    private NotificationPublisher(Context context) {
+        this.context = context;
+        this.notificationManager = context.getSystemService(NotificationManager.class);
+        this.handler = new Handler(Looper.getMainLooper());
+    }
+
+    /**
+     * 싱글톤 인스턴스 반환
+     */
+    public static synchronized NotificationPublisher getInstance(Context context) {
+        if (instance == null) {
+            instance = new NotificationPublisher(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 알림 게시 (어느 스레드에서나 호출 가능)
+     * @param content 화면에 보이는 내용을 나타내는 문자열 (같으면 다시 게시하지 않음)
+     * @return 바로 게시했으면 true, 생략되었거나 나중으로 미뤄졌으면 false
+     */
+    public synchronized boolean publish(String channelId, int notificationId, String content, Renderer renderer) {
+        String key = key(channelId, notificationId);
+
+        if (content.equals(postedContents.get(key))) {
+            // 게시 대기 중인 다른 내용이 있었다면 취소 (결국 화면이 바뀌지 않음)
+            pendingPosts.remove(key);
+            suppressedCount++;
+            Metrics.counter("notify:suppressed").increment();
+            return false;
+        }
+
+        PendingPost pending = pendingPosts.get(key);
+        if (pending != null && content.equals(pending.content)) {
+            suppressedCount++;
+            Metrics.counter("notify:suppressed").increment();
+            return false;
+        }
+
+        long now = SystemClock.elapsedRealtime();
+        Long lastPostTime = lastChannelPostTimes.get(channelId);
+        if (lastPostTime != null && now - lastPostTime < MIN_CHANNEL_INTERVAL) {
+            pendingPosts.put(key, new PendingPost(channelId, notificationId, content, renderer));
+            deferredCount++;
+            Metrics.counter("notify:deferred").increment();
+            scheduleFlush(channelId, MIN_CHANNEL_INTERVAL - (now - lastPostTime));
+            return false;
+        }
+
+        pendingPosts.remove(key);
+        post(channelId, notificationId, content, renderer, now);
+        return true;
+    }
+
+    /**
+     * 알림을 다른 경로(startForeground 등)로 바꾼 경우 기록된 내용을 지워 다음 게시가 생략되지 않게 함
+     */
+    public synchronized void invalidate(String channelId, int notificationId) {
+        postedContents.remove(key(channelId, notificationId));
+    }
+
+    /**
+     * 알림 취소 (채널 간격 때문에 게시 대기 중인 내용도 버림)
+     */
+    public synchronized void cancel(String channelId, int notificationId) {
+        String key = key(channelId, notificationId);
+        postedContents.remove(key);
+        pendingPosts.remove(key);
+        notificationManager.cancel(notificationId);
+    }
+
+    public synchronized long getPostedCount() {
+        return postedCount;
+    }
+
+    public synchronized long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    public synchronized long getDeferredCount() {
+        return deferredCount;
+    }
+
+    private void scheduleFlush(String channelId, long delayMillis) {
+        if (!scheduledChannels.add(channelId)) {
+            return;
+        }
+        handler.postDelayed(() -> flush(channelId), delayMillis);
+    }
+
+    /**
+     * 채널에 쌓인 대기 알림을 한꺼번에 게시
+     */
+    private synchronized void flush(String channelId) {
+        scheduledChannels.remove(channelId);
+        long now = SystemClock.elapsedRealtime();
+
+        Iterator<PendingPost> iterator = pendingPosts.values().iterator();
+        while (iterator.hasNext()) {
+            PendingPost pending = iterator.next();
+            if (pending.channelId.equals(channelId)) {
+                iterator.remove();
+                post(pending.channelId, pending.notificationId, pending.content, pending.renderer, now);
+            }
+        }
+    }
+
+    private void post(String channelId, int notificationId, String content, Renderer renderer, long now) {
+        String key = key(channelId, notificationId);
+        // 이전 게시의 스타일, 플래그가 남지 않도록 매번 새로 만듦
+        NotificationCompat.Builder builder = new NotificationCompat.Builder(context, channelId);
+        renderer.render(builder);
+
+        try {
+            notificationManager.notify(notificationId, builder.build());
+        } catch (SecurityException e) {
+            // 알림 권한이 없는 경우
+            Log.w(TAG, "알림 게시 권한 없음: " + key, e);
+            return;
+        }
+
+        postedContents.put(key, content);
+        lastChannelPostTimes.put(channelId, now);
+        postedCount++;
+        Metrics.counter("notify:" + channelId).increment();
+        Log.d(TAG, "알림 게시: " + key + " (게시 " + postedCount + ", 생략 " + suppressedCount + ")");
+    }
+
+    private static String key(String channelId, int notificationId) {
+        return channelId + "#" + notificationId;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.umbrellaalert.util;
+
+/**
+ * 위경도 격자 인덱스 유틸리티
+ * 위경도를 고정 크기 격자 셀(cellX, cellY)로 나눠 반경 조회 시 후보 셀 범위를 계산
+ */
+public final class SpatialGrid {
+
+    // 격자 셀 크기 (도 단위, 약 550m)
+    public static final double CELL_SIZE_DEGREES = 0.005;
+
+    // 지구 반지름 (미터)
+    private static final double EARTH_RADIUS_METERS = 6371000;
+
+    // 위도 1도당 거리 (미터)
+    private static final double METERS_PER_DEGREE_LAT = 111320;
+
+    private SpatialGrid() {
+    }
+
+    /**
+     * 경도 → 격자 X 인덱스
+     */
+    public static int cellX(double longitude) {
+        return (int) Math.floor(longitude / CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * 위도 → 격자 Y 인덱스
+     */
+    public static int cellY(double latitude) {
+        return (int) Math.floor(latitude / CELL_SIZE_DEGREES);
+    }
+
+    /**
+     * 중심점에서 반경(미터) 안을 덮는 격자 범위 계산
+     * @return {minCellX, maxCellX, minCellY, maxCellY}
+     */
+    public static int[] cellRange(double latitude, double longitude, double radiusMeters) {
+        double deltaLat = radiusMeters / METERS_PER_DEGREE_LAT;
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+        double deltaLng = radiusMeters / (METERS_PER_DEGREE_LAT * cosLat);
+
+        return new int[] {
+                cellX(longitude - deltaLng),
+                cellX(longitude + deltaLng),
+                cellY(latitude - deltaLat),
+                cellY(latitude + deltaLat)
+        };
+    }
+
+    /**
+     * 두 지점 간의 직선 거리 계산 (Haversine 공식)
+     * @return 거리 (미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double deltaLatRad = Math.toRadians(lat2 - lat1);
+        double deltaLngRad = Math.toRadians(lng2 - lng1);
+
+        double a = Math.sin(deltaLatRad / 2) * Math.sin(deltaLatRad / 2) +
+                Math.cos(lat1Rad) * Math.cos(lat2Rad) *
+                Math.sin(deltaLngRad / 2) * Math.sin(deltaLngRad / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS_METERS * c;
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.umbrellaalert.util;
+
+import android.content.Context;
+import android.os.Trace;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구간 시간 측정 (트레이스)
+ * 날씨 요청 → 파싱 → 캐시/DB → LiveData 게시 같은 구간을 이름 붙은 span으로 감싸
+ * android.os.Trace 구간(systrace/Perfetto)으로 남기고, 앱 안의 고정 크기 버퍼에도 기록함
+ *
+ * 사용법:
+ * try (Tracer.Span span = Tracer.begin("http:forecast")) { ... }
+ *
+ * span 이름은 "단계:대상" 형식 (http, parse, db, cache, post 등)으로 짓고 단계별 소요 시간은 summary()로 확인
+ * 다른 스레드로 넘기는 작업은 wrap()으로 감싸야 같은 트레이스로 묶임
+ * 끝난 span의 시간은 Metrics의 같은 이름 시간 히스토그램에도 기록됨
+ * android.os.Trace를 쓸 수 없는 JVM 단위 테스트에서도 기록과 내보내기는 동작함
+ */
+public final class Tracer {
+
+    private static final String TAG = "Tracer";
+
+    // 기록할 최근 span 수
+    private static final int CAPACITY = 2048;
+    // android.os.Trace 구간 이름 최대 길이
+    private static final int MAX_SECTION_NAME = 127;
+
+    private static final Record[] records = new Record[CAPACITY];
+    private static int nextIndex;
+    private static long recordedCount;
+
+    private static final AtomicLong ids = new AtomicLong();
+    private static final ThreadLocal<Span> current = new ThreadLocal<>();
+
+    private static volatile boolean enabled = true;
+    // 단위 테스트처럼 android.os.Trace가 없는 환경이면 처음 실패할 때 끔
+    private static volatile boolean systraceAvailable = true;
+
+    private Tracer() {
+    }
+
+    /**
+     * 끝난 span 기록
+     */
+    public static final class Record {
+        public final String name;
+        public final long traceId;
+        public final long spanId;
+        public final long parentId;
+        public final String threadName;
+        public final long threadId;
+        public final long startNanos;
+        public final long durationNanos;
+
+        Record(Span span, long durationNanos) {
+            this.name = span.name;
+            this.traceId = span.traceId;
+            this.spanId = span.spanId;
+            this.parentId = span.parent != null ? span.parent.spanId : 0;
+            this.threadName = span.thread.getName();
+            this.threadId = span.thread.getId();
+            this.startNanos = span.startNanos;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    /**
+     * 진행 중인 구간 (try-with-resources로 닫음)
+     */
+    public static final class Span implements AutoCloseable {
+        final String name;
+        final long traceId;
+        final long spanId;
+        final Span parent;
+        final Thread thread;
+        final long startNanos;
+        private final boolean section;
+        private boolean closed;
+
+        Span(String name, long traceId, Span parent, boolean section) {
+            this.name = name;
+            this.traceId = traceId;
+            this.spanId = ids.incrementAndGet();
+            this.parent = parent;
+            this.thread = Thread.currentThread();
+            this.section = section;
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long duration = System.nanoTime() - startNanos;
+            if (Thread.currentThread() == thread) {
+                current.set(parent);
+                if (section) {
+                    endSection();
+                }
+            }
+            record(new Record(this, duration));
+            Metrics.timer(name).record(duration);
+        }
+    }
+
+    // 기록을 끈 상태에서 돌려주는 span
+    private static final Span NOOP = new Span("noop", 0, null, false);
+
+    static {
+        NOOP.closed = true;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 스레드의 트레이스 안에서 새 구간 시작 (트레이스가 없으면 새 트레이스로 시작)
+     */
+    public static Span begin(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Span parent = current.get();
+        Span span = new Span(name, parent != null ? parent.traceId : ids.incrementAndGet(), parent, beginSection(name));
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * 현재 스레드의 트레이스와 상관없이 새 트레이스 시작 (사용자 동작 하나의 시작점)
+     */
+    public static Span beginTrace(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Span span = new Span(name, ids.incrementAndGet(), null, beginSection(name));
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * 다른 스레드에서 실행될 작업이 지금 구간의 하위 구간으로 기록되도록 감쌈
+     */
+    public static Runnable wrap(Runnable task) {
+        Span parent = current.get();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = current.get();
+            current.set(parent);
+            try {
+                task.run();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Span parent = current.get();
+        if (parent == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = current.get();
+            current.set(parent);
+            try {
+                return task.call();
+            } finally {
+                current.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 기록된 span 사본 (오래된 것부터)
+     */
+    public static synchronized List<Record> snapshot() {
+        int size = (int) Math.min(recordedCount, CAPACITY);
+        List<Record> result = new ArrayList<>(size);
+        int start = recordedCount > CAPACITY ? nextIndex : 0;
+        for (int i = 0; i < size; i++) {
+            result.add(records[(start + i) % CAPACITY]);
+        }
+        return result;
+    }
+
+    public static synchronized void clear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            records[i] = null;
+        }
+        nextIndex = 0;
+        recordedCount = 0;
+    }
+
+    /**
+     * span 이름별 횟수, 평균, 최대 시간 요약
+     */
+    public static String summary() {
+        Map<String, long[]> stats = new LinkedHashMap<>();
+        for (Record record : snapshot()) {
+            long[] stat = stats.get(record.name);
+            if (stat == null) {
+                stat = new long[3];
+                stats.put(record.name, stat);
+            }
+            stat[0]++;
+            stat[1] += record.durationNanos;
+            stat[2] = Math.max(stat[2], record.durationNanos);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, long[]> entry : stats.entrySet()) {
+            long[] stat = entry.getValue();
+            builder.append(String.format(Locale.US, "%s: %d회, 평균 %.1fms, 최대 %.1fms%n",
+                    entry.getKey(), stat[0], stat[1] / (double) stat[0] / 1e6, stat[2] / 1e6));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Chrome 트레이스 형식(JSON)으로 내보내기 (Perfetto, chrome://tracing에서 열 수 있음)
+     */
+    public static void writeJson(Writer writer) throws IOException {
+        List<Record> snapshot = snapshot();
+        long origin = snapshot.isEmpty() ? 0 : snapshot.get(0).startNanos;
+        for (Record record : snapshot) {
+            origin = Math.min(origin, record.startNanos);
+        }
+
+        writer.write("{\"traceEvents\":[");
+        for (int i = 0; i < snapshot.size(); i++) {
+            Record record = snapshot.get(i);
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(String.format(Locale.US,
+                    "{\"name\":\"%s\",\"cat\":\"%s\",\"ph\":\"X\",\"ts\":%.3f,\"dur\":%.3f,\"pid\":1,\"tid\":%d,"
+                            + "\"args\":{\"trace\":%d,\"span\":%d,\"parent\":%d,\"thread\":\"%s\"}}",
+                    escape(record.name), escape(category(record.name)),
+                    (record.startNanos - origin) / 1000.0, record.durationNanos / 1000.0, record.threadId,
+                    record.traceId, record.spanId, record.parentId, escape(record.threadName)));
+        }
+        writer.write("]}");
+    }
+
+    /**
+     * 파일로 내보내기
+     */
+    public static File writeJson(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("디렉터리를 만들 수 없음: " + parent);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writeJson(writer);
+        }
+        return file;
+    }
+
+    /**
+     * 앱 저장소(files/traces)에 트레이스 파일 내보내기
+     * adb shell run-as com.example.umbrellaalert cat files/traces/... 로 가져올 수 있음
+     */
+    public static File export(Context context) throws IOException {
+        File file = new File(new File(context.getFilesDir(), "traces"),
+                "trace-" + System.currentTimeMillis() + ".json");
+        writeJson(file);
+        Log.d(TAG, "트레이스 내보내기: " + file.getAbsolutePath() + "\n" + summary());
+        return file;
+    }
+
+    private static synchronized void record(Record record) {
+        records[nextIndex] = record;
+        nextIndex = (nextIndex + 1) % CAPACITY;
+        recordedCount++;
+    }
+
+    private static boolean beginSection(String name) {
+        if (!systraceAvailable) {
+            return false;
+        }
+        try {
+            Trace.beginSection(name.length() > MAX_SECTION_NAME ? name.substring(0, MAX_SECTION_NAME) : name);
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            // android.jar 스텁만 있는 JVM 단위 테스트
+            systraceAvailable = false;
+            return false;
+        }
+    }
+
+    private static void endSection() {
+        try {
+            Trace.endSection();
+        } catch (RuntimeException | LinkageError e) {
+            systraceAvailable = false;
+        }
+    }
+
+    private static String category(String name) {
+        int separator = name.indexOf(':');
+        return separator > 0 ? name.substring(0, separator) : "app";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
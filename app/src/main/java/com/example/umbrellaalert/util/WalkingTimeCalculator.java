@@ -4,12 +4,15 @@ import android.content.Context;
 import android.util.Log;
 
 import com.example.umbrellaalert.BuildConfig;
+import com.example.umbrellaalert.data.api.ApiEndpoints;
+import com.example.umbrellaalert.data.model.RegisteredBus;
 
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -25,16 +28,26 @@ import okhttp3.Response;
 public class WalkingTimeCalculator {
     
     private static final String TAG = "WalkingTimeCalculator";
-    private static final String DIRECTIONS_API_URL = "https://naveropenapi.apigw.ntruss.com/map-direction/v1/driving";
+    // Directions API 경로 (기본 주소는 ApiEndpoints)
+    private static final String DIRECTIONS_API_PATH = "/map-direction/v1/driving";
     
     private final Context context;
     private final OkHttpClient httpClient;
     private final ExecutorService executorService;
     private final String clientId;
     private final String clientSecret;
+    private final WalkingTimeMatrix walkingTimeMatrix;
     
     public WalkingTimeCalculator(Context context) {
+        this(context, WalkingTimeMatrix.HAVERSINE_DETOUR);
+    }
+    
+    /**
+     * @param distanceProvider 보행 경로 거리 제공자 (기본: 직선 거리 × 1.3)
+     */
+    public WalkingTimeCalculator(Context context, WalkingTimeMatrix.RouteDistanceProvider distanceProvider) {
         this.context = context;
+        this.walkingTimeMatrix = new WalkingTimeMatrix(distanceProvider);
         this.httpClient = new OkHttpClient.Builder().build();
         this.executorService = Executors.newCachedThreadPool();
         
@@ -56,18 +69,9 @@ public class WalkingTimeCalculator {
             @Override
             public Integer call() throws Exception {
                 try {
-                    // 직선 거리 기반 도보 시간 계산 (네이버 API 대신 간단한 계산 사용)
-                    double distance = calculateDistance(startLat, startLng, endLat, endLng);
+                    int walkingTimeMinutes = walkingTimeMatrix.walkingMinutes(startLat, startLng, endLat, endLng);
                     
-                    // 평균 도보 속도: 4km/h (분당 약 67m)
-                    // 실제 도로를 따라 걸을 때는 직선거리의 약 1.3배 정도
-                    double walkingDistance = distance * 1.3;
-                    int walkingTimeMinutes = (int) Math.ceil(walkingDistance / 67.0);
-                    
-                    // 최소 1분, 최대 60분으로 제한
-                    walkingTimeMinutes = Math.max(1, Math.min(60, walkingTimeMinutes));
-                    
-                    Log.d(TAG, String.format("도보 시간 계산: %.0fm -> %d분", walkingDistance, walkingTimeMinutes));
+                    Log.d(TAG, "도보 시간 계산: " + walkingTimeMinutes + "분");
                     return walkingTimeMinutes;
                     
                 } catch (Exception e) {
@@ -80,28 +84,31 @@ public class WalkingTimeCalculator {
     }
     
     /**
-     * 두 지점 간의 직선 거리 계산 (Haversine 공식)
-     * @param lat1 지점1 위도
-     * @param lng1 지점1 경도
-     * @param lat2 지점2 위도
-     * @param lng2 지점2 경도
-     * @return 거리 (미터)
+     * 한 출발지에서 여러 정류장까지의 도보 시간 일괄 계산 (호출 스레드에서 동기 실행)
+     * 결과는 out에 채워지며, 위치 정보가 없는 정류장은 WalkingTimeMatrix.UNKNOWN
+     * @param count 사용할 배열 원소 개수
      */
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        final double R = 6371000; // 지구 반지름 (미터)
-        
-        double lat1Rad = Math.toRadians(lat1);
-        double lat2Rad = Math.toRadians(lat2);
-        double deltaLatRad = Math.toRadians(lat2 - lat1);
-        double deltaLngRad = Math.toRadians(lng2 - lng1);
-        
-        double a = Math.sin(deltaLatRad / 2) * Math.sin(deltaLatRad / 2) +
-                Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                Math.sin(deltaLngRad / 2) * Math.sin(deltaLngRad / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    public void calculateWalkingTimes(double originLat, double originLng,
+                                      double[] destLats, double[] destLngs, int count, int[] out) {
+        walkingTimeMatrix.computeWalkingMinutes(originLat, originLng, destLats, destLngs, count, out);
+    }
+    
+    /**
+     * 등록된 버스 목록의 정류장까지 도보 시간 일괄 계산 (버스 목록 순서와 동일한 배열 반환)
+     */
+    public int[] calculateWalkingTimes(double originLat, double originLng, List<RegisteredBus> buses) {
+        int count = buses.size();
+        double[] destLats = new double[count];
+        double[] destLngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            RegisteredBus bus = buses.get(i);
+            destLats[i] = bus.getLatitude();
+            destLngs[i] = bus.getLongitude();
+        }
         
-        return R * c;
+        int[] walkingTimes = new int[count];
+        walkingTimeMatrix.computeWalkingMinutes(originLat, originLng, destLats, destLngs, count, walkingTimes);
+        return walkingTimes;
     }
     
     /**
@@ -110,8 +117,9 @@ public class WalkingTimeCalculator {
      */
     private String callDirectionsAPI(double startLat, double startLng, double endLat, double endLng) throws IOException {
         String url = String.format(
-            "%s?start=%f,%f&goal=%f,%f&option=trafast",
-            DIRECTIONS_API_URL, startLng, startLat, endLng, endLat
+            "%s%s?start=%f,%f&goal=%f,%f&option=trafast",
+            ApiEndpoints.baseUrl(ApiEndpoints.Api.NAVER_DIRECTIONS), DIRECTIONS_API_PATH,
+            startLng, startLat, endLng, endLat
         );
         
         Request request = new Request.Builder()
@@ -0,0 +1,155 @@
+package com.example.umbrellaalert.util;
+
+/**
+ * 한 출발지에서 여러 정류장까지의 도보 시간을 한 번에 계산하는 유틸리티
+ * 호출한 스레드에서 바로 계산하며, 결과는 호출자가 넘긴 int[]에 채워 넣어 추가 할당이 없음
+ * 같은 출발 셀(약 50m)과 같은 정류장 목록이면 이전 결과를 재사용
+ */
+public class WalkingTimeMatrix {
+
+    /**
+     * 두 지점 사이의 보행 경로 거리(미터)를 제공하는 인터페이스
+     * 기본 구현은 직선 거리에 우회 계수를 곱한 값이며, 경로 API 기반 구현으로 교체 가능
+     */
+    public interface RouteDistanceProvider {
+        double routeDistanceMeters(double startLat, double startLng, double endLat, double endLng);
+    }
+
+    // 위치 정보가 없는 정류장의 결과 값
+    public static final int UNKNOWN = -1;
+
+    // 평균 도보 속도: 4km/h (분당 약 67m)
+    private static final double WALKING_METERS_PER_MINUTE = 67.0;
+
+    // 실제 도로를 따라 걸을 때는 직선거리의 약 1.3배 정도
+    private static final double DETOUR_FACTOR = 1.3;
+
+    private static final int MIN_MINUTES = 1;
+    private static final int MAX_MINUTES = 60;
+
+    // 출발지 메모이제이션 셀 크기 (도 단위, 약 50m)
+    private static final double ORIGIN_CELL_DEGREES = 0.0005;
+
+    // 메모이제이션 슬롯 개수 (2의 거듭제곱)
+    private static final int MEMO_SLOTS = 8;
+
+    /**
+     * 직선 거리(Haversine) × 우회 계수 기반 기본 구현
+     */
+    public static final RouteDistanceProvider HAVERSINE_DETOUR =
+            (startLat, startLng, endLat, endLng) ->
+                    SpatialGrid.distanceMeters(startLat, startLng, endLat, endLng) * DETOUR_FACTOR;
+
+    private final RouteDistanceProvider distanceProvider;
+
+    private final boolean[] memoUsed = new boolean[MEMO_SLOTS];
+    private final long[] memoOriginKeys = new long[MEMO_SLOTS];
+    private final long[] memoSignatures = new long[MEMO_SLOTS];
+    private final int[][] memoResults = new int[MEMO_SLOTS][];
+
+    private long hitCount;
+    private long missCount;
+
+    public WalkingTimeMatrix() {
+        this(HAVERSINE_DETOUR);
+    }
+
+    public WalkingTimeMatrix(RouteDistanceProvider distanceProvider) {
+        this.distanceProvider = distanceProvider;
+    }
+
+    /**
+     * 보행 경로 거리(미터) → 도보 시간(분), 1~60분으로 제한
+     */
+    public static int toWalkingMinutes(double walkingDistanceMeters) {
+        int minutes = (int) Math.ceil(walkingDistanceMeters / WALKING_METERS_PER_MINUTE);
+        return Math.max(MIN_MINUTES, Math.min(MAX_MINUTES, minutes));
+    }
+
+    /**
+     * 한 지점 간 도보 시간 계산 (분)
+     */
+    public int walkingMinutes(double startLat, double startLng, double endLat, double endLng) {
+        return toWalkingMinutes(distanceProvider.routeDistanceMeters(startLat, startLng, endLat, endLng));
+    }
+
+    /**
+     * 출발지에서 모든 목적지까지의 도보 시간(분)을 out에 채움
+     * 좌표가 (0, 0)인 목적지는 UNKNOWN(-1)
+     * @param count destLats/destLngs/out 중 사용할 앞쪽 원소 개수
+     */
+    public synchronized void computeWalkingMinutes(double originLat, double originLng,
+                                                   double[] destLats, double[] destLngs,
+                                                   int count, int[] out) {
+        long originKey = originCellKey(originLat, originLng);
+        long signature = destinationSignature(destLats, destLngs, count);
+        int slot = (int) (mix(originKey ^ signature) & (MEMO_SLOTS - 1));
+
+        int[] cached = memoResults[slot];
+        if (memoUsed[slot] && memoOriginKeys[slot] == originKey && memoSignatures[slot] == signature
+                && cached.length >= count) {
+            System.arraycopy(cached, 0, out, 0, count);
+            hitCount++;
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            double lat = destLats[i];
+            double lng = destLngs[i];
+            if (lat == 0.0 && lng == 0.0) {
+                out[i] = UNKNOWN;
+            } else {
+                out[i] = walkingMinutes(originLat, originLng, lat, lng);
+            }
+        }
+        missCount++;
+
+        if (cached == null || cached.length < count) {
+            cached = new int[Math.max(count, 8)];
+            memoResults[slot] = cached;
+        }
+        System.arraycopy(out, 0, cached, 0, count);
+        memoUsed[slot] = true;
+        memoOriginKeys[slot] = originKey;
+        memoSignatures[slot] = signature;
+    }
+
+    /**
+     * 메모이제이션 초기화 (경로 제공자 데이터가 바뀐 경우 등)
+     */
+    public synchronized void clearMemo() {
+        for (int i = 0; i < MEMO_SLOTS; i++) {
+            memoUsed[i] = false;
+        }
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private static long originCellKey(double latitude, double longitude) {
+        long cellY = (long) Math.floor(latitude / ORIGIN_CELL_DEGREES);
+        long cellX = (long) Math.floor(longitude / ORIGIN_CELL_DEGREES);
+        return (cellY << 32) ^ (cellX & 0xffffffffL);
+    }
+
+    private static long destinationSignature(double[] destLats, double[] destLngs, int count) {
+        long hash = 1125899906842597L + count;
+        for (int i = 0; i < count; i++) {
+            hash = 31 * hash + Double.doubleToLongBits(destLats[i]);
+            hash = 31 * hash + Double.doubleToLongBits(destLngs[i]);
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= (value >>> 33);
+        value *= 0xff51afd7ed558ccdL;
+        value ^= (value >>> 33);
+        return value;
+    }
+}
@@ -28,27 +28,29 @@ public class WeatherCacheManager {
      */
     public static void saveWeatherToCache(Context context, Weather weather) {
         if (weather == null) return;
-        
-        try {
-            SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+
+        try (Tracer.Span span = Tracer.begin("cache:weather:save")) {
+            try {
+                SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
             
-            String weatherData = weather.getTemperature() + "|" +
-                    weather.getWeatherCondition() + "|" +
-                    weather.getPrecipitation() + "|" +
-                    weather.getHumidity() + "|" +
-                    weather.getWindSpeed() + "|" +
-                    weather.isNeedUmbrella();
+                String weatherData = weather.getTemperature() + "|" +
+                        weather.getWeatherCondition() + "|" +
+                        weather.getPrecipitation() + "|" +
+                        weather.getHumidity() + "|" +
+                        weather.getWindSpeed() + "|" +
+                        weather.isNeedUmbrella();
             
-            prefs.edit()
-                    .putString(KEY_LAST_WEATHER_DATA, weatherData)
-                    .putLong(KEY_LAST_WEATHER_TIMESTAMP, System.currentTimeMillis())
-                    .putString(KEY_LAST_WEATHER_LOCATION, weather.getLocation())
-                    .apply();
+                prefs.edit()
+                        .putString(KEY_LAST_WEATHER_DATA, weatherData)
+                        .putLong(KEY_LAST_WEATHER_TIMESTAMP, System.currentTimeMillis())
+                        .putString(KEY_LAST_WEATHER_LOCATION, weather.getLocation())
+                        .apply();
             
-            Log.d(TAG, "✅ 날씨 데이터 캐시 저장: " + weather.getTemperature() + "°C, " + weather.getWeatherCondition());
+                Log.d(TAG, "✅ 날씨 데이터 캐시 저장: " + weather.getTemperature() + "°C, " + weather.getWeatherCondition());
             
-        } catch (Exception e) {
-            Log.e(TAG, "날씨 데이터 캐시 저장 실패", e);
+            } catch (Exception e) {
+                Log.e(TAG, "날씨 데이터 캐시 저장 실패", e);
+            }
         }
     }
     
@@ -56,6 +58,15 @@ public class WeatherCacheManager {
      * 캐시에서 날씨 데이터 가져오기
      */
     public static Weather getWeatherFromCache(Context context) {
+        Weather weather;
+        try (Tracer.Span span = Tracer.begin("cache:weather")) {
+            weather = readWeatherFromCache(context);
+        }
+        Metrics.counter(weather != null ? "cache:weather:hit" : "cache:weather:miss").increment();
+        return weather;
+    }
+
+    private static Weather readWeatherFromCache(Context context) {
         try {
             SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
             
@@ -6,10 +6,14 @@ import android.util.Log;
 import com.example.umbrellaalert.data.api.OpenWeatherApiClient;
 import com.example.umbrellaalert.data.model.Weather;
 import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.Tracer;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -17,7 +21,8 @@ import javax.inject.Singleton;
 import dagger.hilt.android.qualifiers.ApplicationContext;
 
 /**
- * OpenWeather API를 사용하는 날씨 서비스
+ * 날씨 서비스
+ * 현재 날씨는 여러 제공자를 경쟁시켜 가져오고, 예보는 OpenWeather API 사용
  */
 @Singleton
 public class SimpleWeatherService {
@@ -25,37 +30,46 @@ public class SimpleWeatherService {
     private static final String TAG = "SimpleWeatherService";
     private final Context context;
     private final OpenWeatherApiClient apiClient;
+    private final WeatherProviderOrchestrator providerOrchestrator;
     private final ExecutorService executor;
 
     // 현재 날씨 캐시
     private Weather currentWeather = null;
 
     @Inject
-    public SimpleWeatherService(@ApplicationContext Context context, OpenWeatherApiClient apiClient) {
+    public SimpleWeatherService(@ApplicationContext Context context, OpenWeatherApiClient apiClient,
+                                WeatherProviderOrchestrator providerOrchestrator) {
         this.context = context.getApplicationContext();
         this.apiClient = apiClient;
-        this.executor = Executors.newSingleThreadExecutor();
+        this.providerOrchestrator = providerOrchestrator;
+        // 대기 작업 수를 지표로 보기 위해 newSingleThreadExecutor 대신 ThreadPoolExecutor로 생성
+        this.executor = Metrics.monitor("weather-service", new ThreadPoolExecutor(1, 1,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()));
     }
     
     /**
-     * 현재 날씨 가져오기 - OpenWeather API 사용
+     * 현재 날씨 가져오기 - OpenWeather와 기상청 중 먼저 응답한 결과 사용
      */
     public void getCurrentWeather(double latitude, double longitude, WeatherCallback callback) {
-        Log.d(TAG, "🌤️ OpenWeather API로 날씨 정보 요청: " + latitude + ", " + longitude);
+        Log.d(TAG, "🌤️ 날씨 정보 요청: " + latitude + ", " + longitude);
 
-        executor.execute(() -> {
+        executor.execute(Tracer.wrap(() -> {
             try {
-                Weather weather = apiClient.getCurrentWeatherSync(latitude, longitude);
+                Weather weather = providerOrchestrator.getCurrentWeather(latitude, longitude);
+                if (weather == null) {
+                    callback.onError("날씨 정보를 가져올 수 없습니다: 모든 날씨 제공자 응답 실패");
+                    return;
+                }
                 currentWeather = weather;
 
-                Log.d(TAG, "✅ OpenWeather API 날씨 데이터 수신: " + weather.getTemperature() + "°C, " + weather.getWeatherCondition());
+                Log.d(TAG, "✅ 날씨 데이터 수신: " + weather.getTemperature() + "°C, " + weather.getWeatherCondition());
                 callback.onSuccess(weather);
 
             } catch (Exception e) {
-                Log.e(TAG, "OpenWeather API 날씨 데이터 요청 실패", e);
+                Log.e(TAG, "날씨 데이터 요청 실패", e);
                 callback.onError("날씨 정보를 가져올 수 없습니다: " + e.getMessage());
             }
-        });
+        }));
     }
     
     /**
@@ -64,7 +78,7 @@ public class SimpleWeatherService {
     public void get12HourForecast(double latitude, double longitude, ForecastCallback callback) {
         Log.d(TAG, "🌤️ OpenWeather API로 12시간 예보 요청: " + latitude + ", " + longitude);
 
-        executor.execute(() -> {
+        executor.execute(Tracer.wrap(() -> {
             try {
                 List<HourlyForecast> forecasts = apiClient.get12HourForecastSync(latitude, longitude);
                 Log.d(TAG, "✅ OpenWeather API 12시간 예보 수신 완료: " + forecasts.size() + "개");
@@ -73,7 +87,7 @@ public class SimpleWeatherService {
                 Log.e(TAG, "OpenWeather API 예보 데이터 요청 실패", e);
                 callback.onError("예보 데이터를 가져올 수 없습니다: " + e.getMessage());
             }
-        });
+        }));
     }
     
     /**
@@ -0,0 +1,314 @@
+package com.example.umbrellaalert.weather;
+
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.umbrellaalert.data.api.CircuitBreaker;
+import com.example.umbrellaalert.data.api.CircuitOpenException;
+import com.example.umbrellaalert.data.api.OpenWeatherApiClient;
+import com.example.umbrellaalert.data.api.QuotaExceededException;
+import com.example.umbrellaalert.data.api.SimpleKmaApiClient;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.data.model.WeatherObservation;
+import com.example.umbrellaalert.util.Metrics;
+import com.example.umbrellaalert.util.Tracer;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * 여러 날씨 제공자(OpenWeather, 기상청)를 경쟁시켜 현재 날씨를 가져오는 조정자
+ * 최근 응답이 빠르고 안정적인 제공자에게 먼저 요청하고,
+ * 그 제공자의 p95 지연 안에 응답이 없으면 다른 제공자에게도 요청(hedged request)
+ * 먼저 도착한 유효한 결과를 사용하되, 짧은 대기 시간 안에 다른 결과도 오면 더 최근 관측으로 합침
+ */
+@Singleton
+public class WeatherProviderOrchestrator {
+
+    private static final String TAG = "WeatherProviderOrch";
+
+    private static final int OPEN_WEATHER = 0;
+    private static final int KMA = 1;
+    private static final String[] PROVIDER_NAMES = {"OpenWeather", "KMA"};
+
+    // 통계가 이 개수보다 적으면 기본 지연 후 추가 요청
+    private static final int MIN_SAMPLES = 5;
+    private static final long DEFAULT_HEDGE_DELAY_MILLIS = 800;
+    private static final long MIN_HEDGE_DELAY_MILLIS = 200;
+    private static final long MAX_HEDGE_DELAY_MILLIS = 3000;
+
+    // 오류율이 이 값 이상인 제공자는 먼저 요청하지 않음
+    private static final double MAX_PRIMARY_ERROR_RATE = 0.5;
+
+    // 첫 결과 이후 다른 결과를 기다려 합치는 시간
+    private static final long FUSION_WINDOW_MILLIS = 150;
+
+    private static final long TOTAL_TIMEOUT_MILLIS = 10000;
+
+    /**
+     * 제공자 하나의 현재 날씨 요청
+     */
+    interface Provider {
+        WeatherObservation fetch(double latitude, double longitude) throws Exception;
+    }
+
+    private final Provider[] providers;
+    private final CircuitBreaker[] breakers;
+    private final ProviderStats[] stats;
+    private final ExecutorService executorService;
+
+    @Inject
+    public WeatherProviderOrchestrator(OpenWeatherApiClient openWeatherApiClient, SimpleKmaApiClient kmaApiClient) {
+        this.providers = new Provider[] {
+                openWeatherApiClient::fetchCurrentObservation,
+                kmaApiClient::fetchCurrentObservation
+        };
+        this.breakers = new CircuitBreaker[] {
+                CircuitBreaker.forEndpoint(OpenWeatherApiClient.ENDPOINT_CURRENT_WEATHER),
+                CircuitBreaker.forEndpoint(SimpleKmaApiClient.ENDPOINT_OBSERVATION)
+        };
+        this.stats = new ProviderStats[] {new ProviderStats(), new ProviderStats()};
+        this.executorService = Metrics.monitor("weather-providers", Executors.newCachedThreadPool());
+    }
+
+    /**
+     * 현재 날씨 가져오기 (동기)
+     * @return 합쳐진 날씨, 모든 제공자가 실패하면 null
+     */
+    public Weather getCurrentWeather(double latitude, double longitude) {
+        int primary = choosePrimary();
+        int secondary = 1 - primary;
+        // 회로가 열린 제공자에게는 추가 요청하지 않고 바로 한쪽만 기다림
+        boolean canHedge = breakers[secondary].isAvailable();
+        long hedgeDelay = canHedge ? stats[primary].hedgeDelayMillis() : TOTAL_TIMEOUT_MILLIS;
+
+        CompletionService<WeatherObservation> completionService = new ExecutorCompletionService<>(executorService);
+        Future<WeatherObservation>[] futures = newFutureArray();
+        futures[primary] = completionService.submit(Tracer.wrap(() -> timedFetch(primary, latitude, longitude)));
+        int outstanding = 1;
+
+        WeatherObservation first = null;
+        WeatherObservation second = null;
+        long start = SystemClock.elapsedRealtime();
+        long deadline = start + TOTAL_TIMEOUT_MILLIS;
+
+        try {
+            Future<WeatherObservation> done = completionService.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+            while (true) {
+                if (done != null) {
+                    outstanding--;
+                    WeatherObservation observation = getOrNull(done);
+                    if (observation != null) {
+                        if (first == null) {
+                            first = observation;
+                            // 다른 요청이 진행 중이면 잠깐만 더 기다려 합칠 기회를 줌
+                            deadline = Math.min(deadline, SystemClock.elapsedRealtime() + FUSION_WINDOW_MILLIS);
+                        } else {
+                            second = observation;
+                            break;
+                        }
+                    }
+                }
+
+                // 첫 요청이 늦거나 실패했으면 다른 제공자에게 한 번만 추가 요청
+                if (first == null && futures[secondary] == null && canHedge) {
+                    futures[secondary] = completionService.submit(Tracer.wrap(() -> timedFetch(secondary, latitude, longitude)));
+                    outstanding++;
+                    Log.d(TAG, "추가 요청: " + PROVIDER_NAMES[secondary]
+                            + " (" + (SystemClock.elapsedRealtime() - start) + "ms 경과)");
+                }
+
+                if (outstanding == 0) {
+                    break;
+                }
+
+                long remaining = deadline - SystemClock.elapsedRealtime();
+                if (remaining <= 0) {
+                    break;
+                }
+                done = completionService.poll(remaining, TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Future<WeatherObservation> future : futures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+        }
+
+        if (first == null) {
+            Log.w(TAG, "모든 날씨 제공자 실패");
+            return null;
+        }
+
+        Weather result = second != null ? fuse(first, second) : first.getWeather();
+        Log.d(TAG, "날씨 결정: " + (second != null ? "합침(" + first.getSource() + "+" + second.getSource() + ")" : first.getSource())
+                + ", " + (SystemClock.elapsedRealtime() - start) + "ms");
+        return result;
+    }
+
+    /**
+     * 제공자별 지연/오류 통계 요약
+     */
+    public String getStatsSummary() {
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < providers.length; i++) {
+            if (i > 0) summary.append('\n');
+            summary.append(PROVIDER_NAMES[i]).append(": ").append(stats[i].summary())
+                    .append(", 회로 ").append(breakers[i].getState());
+        }
+        return summary.toString();
+    }
+
+    /**
+     * 먼저 요청할 제공자 선택
+     * 회로가 닫혀 있고 오류율이 낮은 제공자 중 중앙값 지연이 가장 작은 곳, 통계가 없으면 OpenWeather
+     */
+    private int choosePrimary() {
+        int best = breakers[OPEN_WEATHER].isAvailable() ? OPEN_WEATHER : KMA;
+        long bestLatency = Long.MAX_VALUE;
+        for (int i = 0; i < providers.length; i++) {
+            ProviderStats providerStats = stats[i];
+            if (!breakers[i].isAvailable()
+                    || !providerStats.hasEnoughSamples()
+                    || providerStats.errorRate() >= MAX_PRIMARY_ERROR_RATE) {
+                continue;
+            }
+            long p50 = providerStats.percentile(50);
+            if (p50 < bestLatency) {
+                bestLatency = p50;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private WeatherObservation timedFetch(int index, double latitude, double longitude) throws Exception {
+        long start = SystemClock.elapsedRealtime();
+        try {
+            WeatherObservation observation = providers[index].fetch(latitude, longitude);
+            stats[index].recordSuccess(SystemClock.elapsedRealtime() - start);
+            return observation;
+        } catch (InterruptedException e) {
+            // 다른 제공자가 이겨서 취소된 경우는 통계에 넣지 않음
+            throw e;
+        } catch (CircuitOpenException | QuotaExceededException e) {
+            // 요청을 보내지 않았으므로 지연/오류 통계에 넣지 않음
+            throw e;
+        } catch (Exception e) {
+            if (!Thread.currentThread().isInterrupted()) {
+                stats[index].recordFailure();
+                Log.w(TAG, PROVIDER_NAMES[index] + " 요청 실패: " + e.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private static WeatherObservation getOrNull(Future<WeatherObservation> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 두 관측 결과 합치기
+     * 수치(기온/습도/풍속)는 더 최근 관측을 사용하고,
+     * 날씨 상태 문구는 OpenWeather를 우선하되 기상청에서 강수가 관측되면 비로 판단
+     */
+    private static Weather fuse(WeatherObservation a, WeatherObservation b) {
+        WeatherObservation fresher = a.getObservedAt() >= b.getObservedAt() ? a : b;
+        WeatherObservation openWeather = PROVIDER_NAMES[OPEN_WEATHER].equals(a.getSource()) ? a : b;
+        WeatherObservation kma = openWeather == a ? b : a;
+
+        Weather base = fresher.getWeather();
+        Weather fused = new Weather(0, base.getTemperature(), openWeather.getWeather().getWeatherCondition(),
+                Math.max(a.getWeather().getPrecipitation(), b.getWeather().getPrecipitation()),
+                base.getHumidity(), base.getWindSpeed(), base.getLocation(),
+                System.currentTimeMillis(),
+                a.getWeather().isNeedUmbrella() || b.getWeather().isNeedUmbrella());
+
+        if (kma.getWeather().getPrecipitation() > 0 && !openWeather.getWeather().isNeedUmbrella()) {
+            fused.setWeatherCondition("비");
+        }
+        return fused;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Future<WeatherObservation>[] newFutureArray() {
+        return (Future<WeatherObservation>[]) new Future[providers.length];
+    }
+
+    /**
+     * 제공자 하나의 최근 지연(링 버퍼)과 오류 횟수
+     */
+    private static class ProviderStats {
+        private static final int WINDOW = 64;
+
+        private final long[] latencies = new long[WINDOW];
+        private int count;
+        private int next;
+        private long successCount;
+        private long failureCount;
+
+        synchronized void recordSuccess(long latencyMillis) {
+            latencies[next] = latencyMillis;
+            next = (next + 1) % WINDOW;
+            if (count < WINDOW) count++;
+            successCount++;
+        }
+
+        synchronized void recordFailure() {
+            failureCount++;
+        }
+
+        synchronized boolean hasEnoughSamples() {
+            return count >= MIN_SAMPLES;
+        }
+
+        synchronized double errorRate() {
+            long total = successCount + failureCount;
+            return total == 0 ? 0 : (double) failureCount / total;
+        }
+
+        synchronized long percentile(int percent) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percent / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+
+        /**
+         * 이 제공자에게 먼저 요청했을 때 다른 제공자에게 추가 요청하기까지의 대기 시간
+         */
+        synchronized long hedgeDelayMillis() {
+            if (count < MIN_SAMPLES) {
+                return DEFAULT_HEDGE_DELAY_MILLIS;
+            }
+            return Math.max(MIN_HEDGE_DELAY_MILLIS, Math.min(MAX_HEDGE_DELAY_MILLIS, percentile(95)));
+        }
+
+        synchronized String summary() {
+            return "p50=" + percentile(50) + "ms, p95=" + percentile(95) + "ms, 성공 " + successCount
+                    + ", 실패 " + failureCount;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.umbrellaalert.widget;
+
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.widget.RemoteViews;
+
+import com.example.umbrellaalert.R;
+import com.example.umbrellaalert.ui.main.MainActivity;
+
+import java.util.Objects;
+
+/**
+ * 위젯에 표시할 내용 (불변)
+ * 갱신 한 번에 한 번만 계산해 모든 위젯이 공유하며, 해시로 변경 여부를 판단
+ * 부분 업데이트로도 보내므로 모든 항목을 항상 설정함 (빈 텍스트는 "", 아이콘은 실제 리소스)
+ */
+public final class WidgetContent {
+
+    private final String temperature;
+    private final String condition;
+    private final String umbrellaText;
+    private final String busInfo;
+    private final int iconResId;
+
+    public WidgetContent(String temperature, String condition, String umbrellaText,
+                         String busInfo, int iconResId) {
+        this.temperature = Objects.requireNonNull(temperature);
+        this.condition = Objects.requireNonNull(condition);
+        this.umbrellaText = Objects.requireNonNull(umbrellaText);
+        this.busInfo = Objects.requireNonNull(busInfo);
+        if (iconResId == 0) {
+            throw new IllegalArgumentException("위젯 아이콘이 지정되지 않음");
+        }
+        this.iconResId = iconResId;
+    }
+
+    /**
+     * 내용 해시 (같은 내용이면 같은 값)
+     */
+    public int contentHash() {
+        return Objects.hash(temperature, condition, umbrellaText, busInfo, iconResId);
+    }
+
+    /**
+     * 주어진 레이아웃으로 RemoteViews 생성 (위젯 클릭 시 앱 실행)
+     */
+    public RemoteViews toRemoteViews(Context context, int layoutResId) {
+        RemoteViews views = new RemoteViews(context.getPackageName(), layoutResId);
+
+        Intent intent = new Intent(context, MainActivity.class);
+        PendingIntent pendingIntent = PendingIntent.getActivity(context, 0, intent, PendingIntent.FLAG_IMMUTABLE);
+        views.setOnClickPendingIntent(R.id.widget_container, pendingIntent);
+
+        // 이전 내용이 남지 않도록 모든 뷰를 설정
+        views.setTextViewText(R.id.widget_temperature, temperature);
+        views.setTextViewText(R.id.widget_condition, condition);
+        views.setTextViewText(R.id.widget_umbrella_text, umbrellaText);
+        views.setTextViewText(R.id.widget_bus_info, busInfo);
+        views.setImageViewResource(R.id.widget_icon, iconResId);
+        return views;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.umbrellaalert.widget;
+
+import android.appwidget.AppWidgetManager;
+import android.content.Context;
+import android.util.Log;
+import android.util.SparseIntArray;
+import android.widget.RemoteViews;
+
+import java.util.Arrays;
+
+/**
+ * 위젯 RemoteViews 일괄 업데이트 유틸리티
+ * 위젯별로 마지막에 보낸 내용 해시를 기억해 내용이 바뀐 위젯에만 업데이트를 보냄
+ * 처음 보는 위젯(새로 추가되었거나 프로세스 재시작 후)은 전체 업데이트, 나머지는 부분 업데이트
+ */
+public final class WidgetUpdateBatcher {
+
+    private static final String TAG = "WidgetUpdateBatcher";
+
+    // 위젯 ID → 마지막으로 보낸 내용 해시
+    private static final SparseIntArray lastHashes = new SparseIntArray();
+
+    private static long fullUpdateCount;
+    private static long partialUpdateCount;
+    private static long skippedCount;
+
+    private WidgetUpdateBatcher() {
+    }
+
+    /**
+     * 내용이 바뀐 위젯에만 업데이트 전송
+     * RemoteViews는 보낼 위젯이 있을 때만 한 번 생성해 모든 위젯에 공유
+     */
+    public static synchronized void push(Context context, AppWidgetManager appWidgetManager,
+                                         int[] appWidgetIds, int layoutResId, WidgetContent content) {
+        int hash = content.contentHash();
+
+        int[] fullIds = new int[appWidgetIds.length];
+        int[] partialIds = new int[appWidgetIds.length];
+        int fullCount = 0;
+        int partialCount = 0;
+
+        for (int appWidgetId : appWidgetIds) {
+            int index = lastHashes.indexOfKey(appWidgetId);
+            if (index < 0) {
+                fullIds[fullCount++] = appWidgetId;
+            } else if (lastHashes.valueAt(index) != hash) {
+                partialIds[partialCount++] = appWidgetId;
+            }
+        }
+
+        skippedCount += appWidgetIds.length - fullCount - partialCount;
+        if (fullCount == 0 && partialCount == 0) {
+            Log.d(TAG, "위젯 내용 변경 없음, 업데이트 생략: " + appWidgetIds.length + "개");
+            return;
+        }
+
+        RemoteViews views = content.toRemoteViews(context, layoutResId);
+        if (fullCount > 0) {
+            appWidgetManager.updateAppWidget(Arrays.copyOf(fullIds, fullCount), views);
+            fullUpdateCount += fullCount;
+        }
+        if (partialCount > 0) {
+            appWidgetManager.partiallyUpdateAppWidget(Arrays.copyOf(partialIds, partialCount), views);
+            partialUpdateCount += partialCount;
+        }
+
+        for (int i = 0; i < fullCount; i++) lastHashes.put(fullIds[i], hash);
+        for (int i = 0; i < partialCount; i++) lastHashes.put(partialIds[i], hash);
+
+        Log.d(TAG, "위젯 업데이트: 전체 " + fullCount + "개, 부분 " + partialCount + "개");
+    }
+
+    /**
+     * 삭제된 위젯의 해시 제거
+     */
+    public static synchronized void forget(int[] appWidgetIds) {
+        for (int appWidgetId : appWidgetIds) {
+            lastHashes.delete(appWidgetId);
+        }
+    }
+
+    public static synchronized long getFullUpdateCount() {
+        return fullUpdateCount;
+    }
+
+    public static synchronized long getPartialUpdateCount() {
+        return partialUpdateCount;
+    }
+
+    public static synchronized long getSkippedCount() {
+        return skippedCount;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.umbrellaalert.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 로그 메시지의 API 키 가리기 테스트
+ */
+public class AppLogTest {
+
+    @Test
+    public void redact_masksKmaAuthKey() {
+        String url = "https://apihub.kma.go.kr/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst"
+                + "?pageNo=1&numOfRows=1000&dataType=JSON&base_date=20250101&authKey=SECRET123&nx=60&ny=127";
+
+        String redacted = AppLog.redact(url);
+
+        assertFalse(redacted.contains("SECRET123"));
+        assertTrue(redacted.contains("&authKey=***&nx=60"));
+    }
+
+    @Test
+    public void redact_masksServiceKeyAndAppid() {
+        assertEquals("http://apis.data.go.kr/busarrival?serviceKey=***&cityCode=12",
+                AppLog.redact("http://apis.data.go.kr/busarrival?serviceKey=abc%2Bdef&cityCode=12"));
+        assertEquals("weather?lat=36.5&appid=***",
+                AppLog.redact("weather?lat=36.5&appid=0123456789abcdef"));
+    }
+
+    @Test
+    public void redact_masksKeyAtMessageStartAndAfterSpace() {
+        assertEquals("key=*** 요청", AppLog.redact("key=abc 요청"));
+        assertEquals("요청 apiKey=***", AppLog.redact("요청 apiKey=abc"));
+    }
+
+    @Test
+    public void redact_masksQuotedValue() {
+        assertEquals("요청 ?serviceKey=\"***\"&cityCode=12",
+                AppLog.redact("요청 ?serviceKey=\"abc%2Bdef\"&cityCode=12"));
+    }
+
+    @Test
+    public void redact_masksNaverHeaders() {
+        assertEquals("X-NCP-APIGW-API-KEY-ID=*** X-NCP-APIGW-API-KEY=***",
+                AppLog.redact("X-NCP-APIGW-API-KEY-ID=client123 X-NCP-APIGW-API-KEY=secret456"));
+        assertEquals("{x-ncp-apigw-api-key-id=***, x-ncp-apigw-api-key=***}",
+                AppLog.redact("{x-ncp-apigw-api-key-id=client123, x-ncp-apigw-api-key=secret456}"));
+    }
+
+    @Test
+    public void redact_keepsOtherParameters() {
+        String message = "base_time=0500&monkey=banana&nx=60";
+
+        assertEquals(message, AppLog.redact(message));
+    }
+
+    @Test
+    public void redact_handlesNullAndPlainText() {
+        assertNull(AppLog.redact(null));
+        assertEquals("날씨 요청 시작", AppLog.redact("날씨 요청 시작"));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.umbrellaalert.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * 스레드를 넘나드는 span의 부모/트레이스 연결과 JSON 내보내기 테스트
+ * (android.os.Trace는 android.jar 스텁이라 처음 호출에서 꺼지고 기록만 남음)
+ */
+public class TracerTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        Tracer.setEnabled(true);
+        Tracer.clear();
+        Metrics.reset();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void wrap_linksWorkerSpanToCallerTrace() throws Exception {
+        try (Tracer.Span root = Tracer.beginTrace("test:refresh")) {
+            try (Tracer.Span request = Tracer.begin("http:forecast")) {
+                executor.submit(Tracer.wrap(() -> {
+                    try (Tracer.Span parse = Tracer.begin("parse:forecast")) {
+                        try (Tracer.Span store = Tracer.begin("db:weather")) {
+                            // 측정 대상 작업 자리
+                        }
+                    }
+                })).get();
+            }
+        }
+
+        Tracer.Record root = find("test:refresh");
+        Tracer.Record request = find("http:forecast");
+        Tracer.Record parse = find("parse:forecast");
+        Tracer.Record store = find("db:weather");
+
+        assertEquals(0, root.parentId);
+        assertEquals(root.spanId, request.parentId);
+        assertEquals(request.spanId, parse.parentId);
+        assertEquals(parse.spanId, store.parentId);
+
+        assertEquals(root.traceId, request.traceId);
+        assertEquals(root.traceId, parse.traceId);
+        assertEquals(root.traceId, store.traceId);
+
+        assertNotEquals(request.threadId, parse.threadId);
+        assertEquals(parse.threadId, store.threadId);
+
+        // 끝난 span 시간은 같은 이름의 Metrics 히스토그램에도 기록됨
+        assertEquals(1, Metrics.timer("parse:forecast").getCount());
+    }
+
+    @Test
+    public void wrap_restoresWorkerThreadState() throws Exception {
+        try (Tracer.Span root = Tracer.beginTrace("test:first")) {
+            executor.submit(Tracer.wrap(() -> Tracer.begin("test:worker").close())).get();
+        }
+        // 감싸지 않은 작업은 이전 트레이스를 물려받지 않고 새 트레이스로 시작
+        executor.submit(() -> Tracer.begin("test:unwrapped").close()).get();
+
+        Tracer.Record first = find("test:first");
+        Tracer.Record unwrapped = find("test:unwrapped");
+        assertEquals(0, unwrapped.parentId);
+        assertNotEquals(first.traceId, unwrapped.traceId);
+
+        // 진행 중인 span이 없으면 감싸지 않고 그대로 돌려줌
+        Runnable task = () -> { };
+        assertSame(task, Tracer.wrap(task));
+    }
+
+    @Test
+    public void writeJson_exportsParentAndTraceIds() throws Exception {
+        try (Tracer.Span root = Tracer.beginTrace("test:export")) {
+            executor.submit(Tracer.wrap(() -> Tracer.begin("post:weather").close())).get();
+        }
+        Tracer.Record root = find("test:export");
+        Tracer.Record child = find("post:weather");
+
+        File file = Tracer.writeJson(new File("build/traces/tracer-test.json"));
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+        assertTrue(json.startsWith("{\"traceEvents\":["));
+        assertTrue(json.endsWith("]}"));
+        assertTrue(json.contains("\"name\":\"post:weather\",\"cat\":\"post\""));
+        assertTrue(json.contains("\"trace\":" + root.traceId + ",\"span\":" + child.spanId
+                + ",\"parent\":" + root.spanId));
+    }
+
+    private static Tracer.Record find(String name) {
+        List<Tracer.Record> records = Tracer.snapshot();
+        for (Tracer.Record record : records) {
+            if (record.name.equals(name)) {
+                return record;
+            }
+        }
+        throw new AssertionError("기록된 span 없음: " + name + " " + records.size() + "개 중");
+    }
+}
@@ -0,0 +1,124 @@
+import groovy.json.JsonSlurper
+
+// 앱 모듈의 순수 자바 코드(응답 파서, 좌표 변환, 도보 시간, 날씨 분석, 메시지 선택)를 일반 JVM에서 측정하는 JMH 벤치마크
+//
+// 실행:         ./gradlew :benchmark:jmh  (일부만: -Pbenchmarks=ParserBenchmark)
+// 기준과 비교:   ./gradlew :benchmark:checkBenchmarkRegression  (-PbenchmarkThreshold=0.2)
+// 기준 갱신:     ./gradlew :benchmark:updateBenchmarkBaseline
+//
+// 결과는 build/results/jmh/results.json에 JSON으로 남음
+// 기준 결과(baseline.json)는 아직 저장소에 없으므로, 기준으로 삼을 기기에서 updateBenchmarkBaseline으로 만든 뒤
+// 커밋해야 checkBenchmarkRegression이 비교함 (없으면 안내만 출력하고 통과)
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// 벤치마크 대상 앱 소스 (Android 프레임워크에 의존하지 않는 파일만)
+// AppLog가 쓰는 android.util.Log 등은 src/shim/java의 대체 클래스로 컴파일함
+val appSources = listOf(
+    "com/example/umbrellaalert/util/AppLog.java",
+    "com/example/umbrellaalert/util/CoordinateConverter.java",
+    "com/example/umbrellaalert/util/SpatialGrid.java",
+    "com/example/umbrellaalert/util/WalkingTimeMatrix.java",
+    "com/example/umbrellaalert/data/model/BusArrival.java",
+    "com/example/umbrellaalert/data/model/BusStop.java",
+    "com/example/umbrellaalert/data/model/CatMessage.java",
+    "com/example/umbrellaalert/data/model/ForecastSeries.java",
+    "com/example/umbrellaalert/data/model/HourlyForecast.java",
+    "com/example/umbrellaalert/data/model/Weather.java",
+    "com/example/umbrellaalert/data/model/WeatherCondition.java",
+    "com/example/umbrellaalert/data/api/BusResponseParser.java",
+    "com/example/umbrellaalert/data/api/KmaTextParser.java",
+    "com/example/umbrellaalert/domain/factory/CatMessageFactory.java",
+    "com/example/umbrellaalert/service/CatWeatherAnalystService.java",
+    "com/example/umbrellaalert/service/SyntheticWeatherGenerator.java"
+)
+
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("src/shim/java", "../app/src/main/java"))
+            include("android/**")
+            include("com/example/umbrellaalert/BuildConfig.java")
+            include("com/example/umbrellaalert/R.java")
+            include(appSources)
+        }
+    }
+    named("jmh") {
+        // 저장소 공용 응답 샘플 (fixtures/)
+        resources.srcDir(rootProject.file("fixtures"))
+    }
+}
+
+dependencies {
+    implementation("com.google.code.gson:gson:2.10.1")
+    implementation("javax.inject:javax.inject:1")
+}
+
+jmh {
+    benchmarkMode.set(listOf("avgt"))
+    timeUnit.set("ns")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    findProperty("benchmarks")?.let { includes.set(listOf(it.toString())) }
+}
+
+val benchmarkResults = layout.buildDirectory.file("results/jmh/results.json")
+val benchmarkBaseline = layout.projectDirectory.file("baseline.json")
+
+// 벤치마크 이름(파라미터 포함) -> 평균 시간(ns/op)
+fun readScores(file: File): Map<String, Double> {
+    val runs = JsonSlurper().parse(file) as List<*>
+    return runs.associate { run ->
+        run as Map<*, *>
+        val params = (run["params"] as Map<*, *>?)
+            ?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val score = ((run["primaryMetric"] as Map<*, *>)["score"] as Number).toDouble()
+        "${run["benchmark"]}$params" to score
+    }
+}
+
+tasks.register("updateBenchmarkBaseline") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 기준 결과(baseline.json)로 저장"
+    doLast {
+        benchmarkResults.get().asFile.copyTo(benchmarkBaseline.asFile, overwrite = true)
+        logger.lifecycle("기준 결과 갱신: ${benchmarkBaseline.asFile}")
+    }
+}
+
+tasks.register("checkBenchmarkRegression") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 기준 결과와 비교해 허용치보다 느려진 벤치마크가 있으면 실패"
+    val threshold = findProperty("benchmarkThreshold")?.toString()?.toDouble() ?: 0.2
+    doLast {
+        val current = readScores(benchmarkResults.get().asFile)
+        val baselineFile = benchmarkBaseline.asFile
+        if (!baselineFile.exists()) {
+            logger.lifecycle("기준 결과 없음 (${baselineFile.name}), updateBenchmarkBaseline으로 만들 수 있음")
+            return@doLast
+        }
+        val baseline = readScores(baselineFile)
+        val regressions = mutableListOf<String>()
+        for ((name, score) in current.toSortedMap()) {
+            val previous = baseline[name] ?: continue
+            val change = (score - previous) / previous
+            logger.lifecycle(String.format("%-90s %12.1f -> %12.1f ns/op (%+.1f%%)",
+                name, previous, score, change * 100))
+            if (change > threshold) {
+                regressions += name
+            }
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("기준보다 ${(threshold * 100).toInt()}% 넘게 느려짐: ${regressions.joinToString()}")
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.umbrellaalert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 저장소 fixtures/ 디렉터리의 응답 샘플 읽기 (벤치마크 클래스패스 리소스)
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param path fixtures/ 기준 상대 경로 (예: "kma/sfctm2_clear.txt")
+     */
+    public static String read(String path) throws IOException {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("응답 샘플 없음: " + path);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.umbrellaalert.data.api;
+
+import com.example.umbrellaalert.Fixtures;
+import com.example.umbrellaalert.data.model.BusArrival;
+import com.example.umbrellaalert.data.model.BusStop;
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Weather;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 기상청 텍스트 응답, 버스 JSON 응답 파싱 (fixtures/의 응답 샘플 사용)
+ */
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    private static final double SEOUL_LATITUDE = 37.5665;
+    private static final double SEOUL_LONGITUDE = 126.9780;
+
+    private String kmaClear;
+    private String kmaRain;
+    private String nearbyStops;
+    private String arrivals;
+
+    @Setup
+    public void loadFixtures() throws IOException {
+        kmaClear = Fixtures.read("kma/sfctm2_clear.txt");
+        kmaRain = Fixtures.read("kma/sfctm2_rain.txt");
+        nearbyStops = Fixtures.read("tago/nearby_stops.json");
+        arrivals = Fixtures.read("tago/arrivals.json");
+
+        // 샘플이 파싱되지 않으면 측정값이 의미 없으므로 바로 실패
+        List<BusStop> stops = BusResponseParser.parseNearbyStops(nearbyStops);
+        if (KmaTextParser.parseObservation(kmaClear, SEOUL_LATITUDE, SEOUL_LONGITUDE) == null
+                || stops == null || stops.isEmpty()
+                || BusResponseParser.parseArrivals(arrivals).isEmpty()) {
+            throw new IllegalStateException("응답 샘플 파싱 실패");
+        }
+    }
+
+    @Benchmark
+    public Weather kmaObservation() {
+        return KmaTextParser.parseObservation(kmaClear, SEOUL_LATITUDE, SEOUL_LONGITUDE);
+    }
+
+    @Benchmark
+    public Weather kmaObservationRain() {
+        return KmaTextParser.parseObservation(kmaRain, SEOUL_LATITUDE, SEOUL_LONGITUDE);
+    }
+
+    @Benchmark
+    public List<HourlyForecast> kmaForecast() {
+        return KmaTextParser.parseForecast(kmaClear);
+    }
+
+    @Benchmark
+    public List<BusStop> busNearbyStops() {
+        return BusResponseParser.parseNearbyStops(nearbyStops);
+    }
+
+    @Benchmark
+    public List<BusArrival> busArrivals() {
+        return BusResponseParser.parseArrivals(arrivals);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.umbrellaalert.service;
+
+import com.example.umbrellaalert.data.model.CatMessage;
+import com.example.umbrellaalert.data.model.ForecastSeries;
+import com.example.umbrellaalert.data.model.HourlyForecast;
+import com.example.umbrellaalert.data.model.Weather;
+import com.example.umbrellaalert.domain.factory.CatMessageFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 12시간 예보 분석과 고양이 메시지 선택
+ * 예보와 관측값은 SyntheticWeatherGenerator로 만들어 실행마다 같은 데이터를 씀
+ * 여러 지역과 시작 시각을 섞어 시나리오(맑음, 소나기, 장마 등)와 시작 시간대가 골고루 나오게 함
+ */
+@State(Scope.Thread)
+public class AnalysisBenchmark {
+
+    private static final long SEED = 42;
+    // 2025-01-01 00:00 KST
+    private static final long START_MILLIS = 1735657200000L;
+    private static final long HOUR_MILLIS = 3600_000L;
+    // 2의 거듭제곱 (인덱스 순환에 비트 마스크 사용)
+    private static final int FORECASTS = 256;
+    private static final int HOURS = 12;
+
+    private List<List<HourlyForecast>> forecasts;
+    private List<Weather> weathers;
+    private CatMessageFactory messageFactory;
+    private int index;
+
+    @Setup
+    public void createForecasts() {
+        SyntheticWeatherGenerator generator = new SyntheticWeatherGenerator(SEED);
+        forecasts = new ArrayList<>(FORECASTS);
+        weathers = new ArrayList<>(FORECASTS);
+        for (int i = 0; i < FORECASTS; i++) {
+            // 지역 16곳 x 13시간씩 밀린 시작 시각 (약 한 달에 걸쳐 하루 중 모든 시간대가 나옴)
+            int nx = 44 + (i % 4) * 16;
+            int ny = 94 + (i / 4 % 4) * 16;
+            long start = START_MILLIS + i * 13 * HOUR_MILLIS;
+            forecasts.add(generator.forecastSeries(nx, ny, start, HOURS, 1));
+            weathers.add(generator.observationAt(36.0 + (i % 16) * 0.2, 126.5 + (i / 16) * 0.1, start));
+        }
+        messageFactory = new CatMessageFactory();
+    }
+
+    /**
+     * 시간별 예보 목록을 분석용 압축 배열로 변환
+     */
+    @Benchmark
+    public ForecastSeries convertForecast() {
+        return ForecastSeries.from(forecasts.get(next()));
+    }
+
+    /**
+     * 매번 다른 예보를 분석 (직전 결과 재사용이 일어나지 않는 경우)
+     */
+    @Benchmark
+    public String analyzeWeatherForecast() {
+        return CatWeatherAnalystService.analyzeWeatherForecast(forecasts.get(next()));
+    }
+
+    /**
+     * 같은 예보를 다시 분석 (화면 갱신처럼 직전 결과를 재사용하는 경우)
+     */
+    @Benchmark
+    public String analyzeSameForecast() {
+        return CatWeatherAnalystService.analyzeWeatherForecast(forecasts.get(0));
+    }
+
+    @Benchmark
+    public CatMessage createWeatherMessage() {
+        int i = next();
+        return messageFactory.createWeatherMessage(weathers.get(i), i % 24);
+    }
+
+    private int next() {
+        index = (index + 1) & (FORECASTS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.umbrellaalert.service;
+
+import com.example.umbrellaalert.data.model.HourlyForecast;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합성 날씨 시계열 재생
+ * 여러 격자의 한 달치 시간별 예보를 고정 시드로 만들어 두고, 12시간 창을 한 시간씩 밀며 분석함
+ * 시드와 시작 시각이 고정이라 실행마다 같은 데이터가 재생됨
+ */
+@State(Scope.Thread)
+public class SyntheticReplayBenchmark {
+
+    private static final long SEED = 42;
+    // 2025-07-01 00:00 KST (장마철, 비 오는 시나리오 비중이 높음)
+    private static final long START_MILLIS = 1751295600000L;
+    private static final int HOURS = 24 * 30;
+    private static final int WINDOW = 12;
+
+    @Param({"16", "64"})
+    public int cells;
+
+    private SyntheticWeatherGenerator generator;
+    private List<List<HourlyForecast>> series;
+    private int cell;
+    private int hour;
+
+    @Setup
+    public void createSeries() {
+        generator = new SyntheticWeatherGenerator(SEED);
+        series = new ArrayList<>(cells);
+        for (int i = 0; i < cells; i++) {
+            // 세종(60,110) 주변부터 격자를 넓혀 가며 여러 지역이 섞이게 함
+            series.add(generator.forecastSeries(60 + (i % 8) * 4, 110 + (i / 8) * 4, START_MILLIS, HOURS, 1));
+        }
+    }
+
+    /**
+     * 시간별 예보 하나 생성
+     */
+    @Benchmark
+    public HourlyForecast generateForecast() {
+        advance();
+        return generator.forecastAt(60 + cell, 110, START_MILLIS + hour * 3600_000L);
+    }
+
+    /**
+     * 미리 만든 시계열에서 12시간 창을 꺼내 분석 (재생 경로)
+     */
+    @Benchmark
+    public String replayWindow() {
+        advance();
+        List<HourlyForecast> forecasts = series.get(cell);
+        return CatWeatherAnalystService.analyzeWeatherForecast(forecasts.subList(hour, hour + WINDOW));
+    }
+
+    private void advance() {
+        if (++hour > HOURS - WINDOW) {
+            hour = 0;
+            cell = (cell + 1) % cells;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.umbrellaalert.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * 좌표 계산: 기상청 격자 변환, 직선 거리(Haversine, 도보 시간 계산에서 사용)
+ */
+@State(Scope.Thread)
+public class GeoBenchmark {
+
+    // 2의 거듭제곱 (인덱스 순환에 비트 마스크 사용)
+    private static final int POINTS = 1024;
+
+    private final double[] latitudes = new double[POINTS];
+    private final double[] longitudes = new double[POINTS];
+    private int index;
+
+    @Setup
+    public void createPoints() {
+        // 국내 범위의 고정 시드 좌표
+        Random random = new Random(42);
+        for (int i = 0; i < POINTS; i++) {
+            latitudes[i] = 33.0 + random.nextDouble() * 5.5;
+            longitudes[i] = 125.0 + random.nextDouble() * 5.0;
+        }
+    }
+
+    @Benchmark
+    public CoordinateConverter.GridCoordinate convertToGrid() {
+        int i = next();
+        return CoordinateConverter.convertToGrid(latitudes[i], longitudes[i]);
+    }
+
+    @Benchmark
+    public double distanceMeters() {
+        int i = next();
+        int j = (i + 1) & (POINTS - 1);
+        return SpatialGrid.distanceMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+    }
+
+    private int next() {
+        index = (index + 1) & (POINTS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.umbrellaalert.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * 주변 정류장 도보 시간 일괄 계산 (WalkingTimeMatrix.computeWalkingMinutes)
+ * - memoHit: 같은 출발 셀과 같은 정류장 목록으로 반복 호출 (이전 결과 복사)
+ * - memoMiss: 호출마다 다른 출발 셀 (정류장마다 거리 계산)
+ */
+@State(Scope.Thread)
+public class WalkingTimeBenchmark {
+
+    // 2의 거듭제곱 (인덱스 순환에 비트 마스크 사용), 메모 슬롯 수보다 훨씬 많아 한 바퀴 돌면 이미 밀려나 있음
+    private static final int ORIGINS = 1024;
+
+    @Param({"8", "32", "128"})
+    public int stops;
+
+    private final WalkingTimeMatrix matrix = new WalkingTimeMatrix();
+    private final double[] originLats = new double[ORIGINS];
+    private final double[] originLngs = new double[ORIGINS];
+    private double[] stopLats;
+    private double[] stopLngs;
+    private int[] minutes;
+    private int index;
+
+    @Setup
+    public void createStops() {
+        // 서울 시내 고정 시드 좌표, 출발지와 정류장 모두 약 2km 범위 안
+        Random random = new Random(42);
+        for (int i = 0; i < ORIGINS; i++) {
+            originLats[i] = 37.55 + random.nextDouble() * 0.02;
+            originLngs[i] = 126.97 + random.nextDouble() * 0.02;
+        }
+        stopLats = new double[stops];
+        stopLngs = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            stopLats[i] = 37.55 + random.nextDouble() * 0.02;
+            stopLngs[i] = 126.97 + random.nextDouble() * 0.02;
+        }
+        minutes = new int[stops];
+
+        // memoHit가 처음부터 캐시된 결과를 쓰도록 미리 채움
+        matrix.computeWalkingMinutes(originLats[0], originLngs[0], stopLats, stopLngs, stops, minutes);
+    }
+
+    @Benchmark
+    public int[] memoHit() {
+        matrix.computeWalkingMinutes(originLats[0], originLngs[0], stopLats, stopLngs, stops, minutes);
+        return minutes;
+    }
+
+    @Benchmark
+    public int[] memoMiss() {
+        index = (index + 1) & (ORIGINS - 1);
+        matrix.computeWalkingMinutes(originLats[index], originLngs[index], stopLats, stopLngs, stops, minutes);
+        return minutes;
+    }
+}
@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * JVM 벤치마크용 android.os.SystemClock 대체
+ */
+public final class SystemClock {
+
+    private SystemClock() {
+    }
+
+    public static long elapsedRealtime() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.umbrellaalert;
+
+/**
+ * JVM 벤치마크용 BuildConfig 대체 (릴리스 빌드와 같이 디버그 로그를 끔)
+ */
+public final class BuildConfig {
+
+    public static final boolean DEBUG = false;
+
+    private BuildConfig() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.umbrellaalert;
+
+/**
+ * JVM 벤치마크용 R 대체
+ * 벤치마크 대상 코드가 참조하는 리소스 ID만 둠 (값은 의미 없음)
+ * 대상 코드가 새 리소스를 참조하면 여기에도 추가해야 컴파일됨
+ */
+public final class R {
+
+    private R() {
+    }
+
+    public static final class drawable {
+        public static final int cat_cloudy = 1;
+        public static final int cat_rainy = 2;
+        public static final int cat_sunny = 3;
+        public static final int ic_cloudy = 4;
+        public static final int ic_rainy = 5;
+        public static final int ic_snowy = 6;
+        public static final int ic_sunny = 7;
+
+        private drawable() {
+        }
+    }
+}
@@ -25,4 +25,5 @@ dependencyResolutionManagement {
 
 rootProject.name = "umbrellaalert"
 include(":app")
- 
\ No newline at end of file
+include(":benchmark")
+include(":stubserver")
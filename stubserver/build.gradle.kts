@@ -0,0 +1,25 @@
+// 녹화한 API 응답(fixtures/)을 재생하는 로컬 HTTP 서버
+// 지연, 오류, 호출 제한을 설정할 수 있어 앱의 부하 테스트(androidTest)와 개발 중 오프라인 실행에 사용
+//
+// 개발 PC에서 실행:  ./gradlew :stubserver:run --args="--port 8080 --latency 50-200 --error-rate 0.05 --throttle 20"
+// 앱이 이 서버를 쓰게 하려면 local.properties에 api.base.url=http://10.0.2.2:8080 (에뮬레이터 기준)
+plugins {
+    `java-library`
+    application
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+sourceSets {
+    main {
+        // 저장소 공용 응답 샘플 (fixtures/)
+        resources.srcDir(rootProject.file("fixtures"))
+    }
+}
+
+application {
+    mainClass.set("com.example.umbrellaalert.stub.StubApiServer")
+}
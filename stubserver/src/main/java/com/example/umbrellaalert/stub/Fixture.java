@@ -0,0 +1,68 @@
+package com.example.umbrellaalert.stub;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 녹화한 응답 샘플 하나 (클래스패스의 fixtures/)
+ *
+ * 예보처럼 "오늘" 데이터만 쓰는 응답을 위해 시각 자리표시자를 지원함
+ * {{now+초}}는 응답할 때 현재 정시의 epoch 초에 해당 초를 더한 값으로 바뀜 (예: {{now+10800}} = 3시간 뒤)
+ */
+final class Fixture {
+
+    private static final Pattern NOW_TOKEN = Pattern.compile("\\{\\{now([+-]\\d+)?\\}\\}");
+
+    final String path;
+    final String etag;
+    private final String body;
+    private final boolean template;
+
+    private Fixture(String path, String body) {
+        this.path = path;
+        this.body = body;
+        this.template = NOW_TOKEN.matcher(body).find();
+        this.etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+    }
+
+    static Fixture load(String path) throws IOException {
+        try (InputStream in = Fixture.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IOException("응답 샘플 없음: " + path);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new Fixture(path, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    boolean hasTemplate() {
+        return template;
+    }
+
+    /**
+     * 응답 본문 (자리표시자가 있으면 현재 시각으로 채움)
+     */
+    String render() {
+        if (!template) {
+            return body;
+        }
+        long hour = System.currentTimeMillis() / 1000 / 3600 * 3600;
+        Matcher matcher = NOW_TOKEN.matcher(body);
+        StringBuffer result = new StringBuffer(body.length());
+        while (matcher.find()) {
+            long offset = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 0;
+            matcher.appendReplacement(result, Long.toString(hour + offset));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+}
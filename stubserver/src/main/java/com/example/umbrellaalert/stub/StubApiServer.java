@@ -0,0 +1,474 @@
+package com.example.umbrellaalert.stub;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹화한 API 응답을 재생하는 로컬 HTTP 서버 (외부 라이브러리 없이 ServerSocket 사용)
+ * 요청 경로로 API를 구분하므로 앱의 모든 API 기본 주소(ApiEndpoints)를 이 서버 하나로 보내면 됨
+ *
+ * 경로마다 응답 지연, 오류 비율, 초당 요청 제한(초과 시 429)을 설정할 수 있고
+ * ETag가 맞으면 304로 응답하므로 앱의 HTTP 캐시 재검증 경로도 그대로 동작함
+ * 오류와 지연은 고정 시드 난수로 정해 같은 설정이면 같은 순서로 재현됨
+ * 고정 샘플 대신 Responder를 등록하면 요청의 쿼리(좌표 등)에 따라 응답을 만들 수 있음
+ */
+public class StubApiServer implements Closeable {
+
+    /**
+     * 응답 방식 (지연, 오류, 호출 제한)
+     */
+    public static final class Behavior {
+        final long minLatencyMillis;
+        final long maxLatencyMillis;
+        final double errorRate;
+        final int maxRequestsPerSecond;
+
+        private Behavior(long minLatencyMillis, long maxLatencyMillis, double errorRate, int maxRequestsPerSecond) {
+            this.minLatencyMillis = minLatencyMillis;
+            this.maxLatencyMillis = Math.max(minLatencyMillis, maxLatencyMillis);
+            this.errorRate = errorRate;
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+        }
+
+        /**
+         * 지연, 오류, 제한 없음
+         */
+        public static Behavior immediate() {
+            return new Behavior(0, 0, 0, 0);
+        }
+
+        /**
+         * 응답 지연 (min~max 사이 균등 분포)
+         */
+        public Behavior latency(long minMillis, long maxMillis) {
+            return new Behavior(minMillis, maxMillis, errorRate, maxRequestsPerSecond);
+        }
+
+        /**
+         * 이 비율만큼 500 응답
+         */
+        public Behavior errorRate(double rate) {
+            return new Behavior(minLatencyMillis, maxLatencyMillis, rate, maxRequestsPerSecond);
+        }
+
+        /**
+         * 초당 요청 수가 이 값을 넘으면 429 응답 (0이면 제한 없음)
+         */
+        public Behavior throttle(int requestsPerSecond) {
+            return new Behavior(minLatencyMillis, maxLatencyMillis, errorRate, requestsPerSecond);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "지연 %d~%dms, 오류 %.1f%%, 제한 %s",
+                    minLatencyMillis, maxLatencyMillis, errorRate * 100,
+                    maxRequestsPerSecond > 0 ? maxRequestsPerSecond + "/s" : "없음");
+        }
+    }
+
+    /**
+     * 요청마다 응답 본문을 만드는 경로 (예: 앱의 합성 날씨 생성기를 연결해 좌표, 시각별 응답 재생)
+     */
+    public interface Responder {
+        /**
+         * @param query URL 디코딩한 쿼리 매개변수
+         */
+        String respond(Map<String, String> query) throws IOException;
+    }
+
+    /**
+     * 경로 하나의 응답 설정과 통계
+     */
+    private static final class Route {
+        final String path;
+        final String fixture;
+        final Responder responder;
+        final String contentType;
+        volatile Behavior behavior;
+
+        final AtomicLong requestCount = new AtomicLong();
+        final AtomicLong errorCount = new AtomicLong();
+        final AtomicLong throttledCount = new AtomicLong();
+        final AtomicLong notModifiedCount = new AtomicLong();
+
+        // 호출 제한용 1초 구간
+        long windowSecond;
+        int windowCount;
+
+        Route(String path, String fixture, Responder responder, String contentType) {
+            this.path = path;
+            this.fixture = fixture;
+            this.responder = responder;
+            this.contentType = contentType;
+        }
+
+        synchronized boolean tryAcquire(int maxPerSecond) {
+            long second = System.nanoTime() / TimeUnit.SECONDS.toNanos(1);
+            if (second != windowSecond) {
+                windowSecond = second;
+                windowCount = 0;
+            }
+            return ++windowCount <= maxPerSecond;
+        }
+    }
+
+    private final int requestedPort;
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private final Map<String, Fixture> fixtures = new ConcurrentHashMap<>();
+    private final Random random;
+    private final AtomicLong unknownCount = new AtomicLong();
+
+    private volatile Behavior defaultBehavior = Behavior.immediate();
+    private ServerSocket serverSocket;
+    private ExecutorService workers;
+
+    /**
+     * @param port 0이면 빈 포트 자동 선택
+     */
+    public StubApiServer(int port) {
+        this(port, 42);
+    }
+
+    public StubApiServer(int port, long seed) {
+        this.requestedPort = port;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * 저장소 fixtures/의 기상청, OpenWeather, 버스, 네이버 응답을 앱이 쓰는 경로에 등록한 서버
+     */
+    public static StubApiServer withRecordedResponses(int port) {
+        return withRecordedResponses(port, 42);
+    }
+
+    public static StubApiServer withRecordedResponses(int port, long seed) {
+        return new StubApiServer(port, seed)
+                .route("/api/typ01/url/kma_sfctm2.php", "kma/sfctm2_clear.txt", "text/plain")
+                .route("/api/typ01/url/kma_sfctm3.php", "kma/sfctm2_rain.txt", "text/plain")
+                .route("/data/2.5/weather", "openweather/current.json", "application/json")
+                .route("/data/2.5/forecast", "openweather/forecast.json", "application/json")
+                .route("/1613000/BusSttnInfoInqireService/getCrdntPrxmtSttnList", "tago/nearby_stops.json",
+                        "application/json")
+                .route("/1613000/ArvlInfoInqireService/getSttnAcctoArvlPrearngeInfoList", "tago/arrivals.json",
+                        "application/json")
+                .route("/map-geocode/v2/geocode", "naver/geocode.json", "application/json")
+                .route("/map-reversegeocode/v2/gc", "naver/reverse_geocode.json", "application/json")
+                .route("/map-direction/v1/driving", "naver/directions.json", "application/json");
+    }
+
+    /**
+     * 경로에 응답 샘플 등록 (샘플 경로는 클래스패스 기준, 예: "tago/arrivals.json")
+     */
+    public StubApiServer route(String path, String fixture, String contentType) {
+        return replaceRoute(new Route(path, fixture, null, contentType));
+    }
+
+    /**
+     * 경로에 동적 응답 등록 (같은 경로의 기존 응답 샘플을 대체, 응답 방식은 다시 지정해야 함)
+     */
+    public StubApiServer route(String path, Responder responder, String contentType) {
+        return replaceRoute(new Route(path, null, responder, contentType));
+    }
+
+    private StubApiServer replaceRoute(Route route) {
+        routes.removeIf(existing -> existing.path.equals(route.path));
+        routes.add(route);
+        return this;
+    }
+
+    /**
+     * 별도 설정이 없는 모든 경로의 응답 방식
+     */
+    public StubApiServer behavior(Behavior behavior) {
+        this.defaultBehavior = behavior;
+        return this;
+    }
+
+    /**
+     * 경로 접두어가 맞는 경로들의 응답 방식 (예: "/1613000"이면 버스 API 전체)
+     */
+    public StubApiServer behavior(String pathPrefix, Behavior behavior) {
+        for (Route route : routes) {
+            if (route.path.startsWith(pathPrefix)) {
+                route.behavior = behavior;
+            }
+        }
+        return this;
+    }
+
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            return;
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort));
+        // 지연 중인 요청이 다른 요청을 막지 않도록 연결마다 스레드 사용
+        workers = Executors.newCachedThreadPool();
+
+        Thread acceptThread = new Thread(this::acceptLoop, "stub-api-server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    /**
+     * 앱의 ApiEndpoints에 넣을 기본 주소 (예: http://127.0.0.1:8080)
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + serverSocket.getLocalPort();
+    }
+
+    public long getRequestCount() {
+        long total = unknownCount.get();
+        for (Route route : routes) {
+            total += route.requestCount.get();
+        }
+        return total;
+    }
+
+    /**
+     * 경로별 요청, 오류, 제한, 304 응답 수
+     */
+    public String getStatsSummary() {
+        StringBuilder builder = new StringBuilder();
+        for (Route route : routes) {
+            if (route.requestCount.get() == 0) {
+                continue;
+            }
+            builder.append(String.format(Locale.US, "%s: 요청 %d, 오류 %d, 제한 %d, 304 %d%n",
+                    route.path, route.requestCount.get(), route.errorCount.get(),
+                    route.throttledCount.get(), route.notModifiedCount.get()));
+        }
+        if (unknownCount.get() > 0) {
+            builder.append("등록되지 않은 경로: ").append(unknownCount.get()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (serverSocket == null) {
+            return;
+        }
+        serverSocket.close();
+        workers.shutdownNow();
+        serverSocket = null;
+    }
+
+    private void acceptLoop() {
+        ServerSocket socket = serverSocket;
+        while (!socket.isClosed()) {
+            try {
+                Socket client = socket.accept();
+                workers.execute(() -> handle(client));
+            } catch (SocketException e) {
+                // close()로 종료
+                return;
+            } catch (IOException e) {
+                System.err.println("연결 수락 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket socket = client) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String requestLine = reader.readLine();
+            if (requestLine == null) {
+                return;
+            }
+            String ifNoneMatch = null;
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("If-None-Match")) {
+                    ifNoneMatch = line.substring(colon + 1).trim();
+                }
+            }
+
+            String[] parts = requestLine.split(" ");
+            String target = parts.length > 1 ? parts[1] : "/";
+            int query = target.indexOf('?');
+            String path = query >= 0 ? target.substring(0, query) : target;
+
+            respond(socket.getOutputStream(), findRoute(path),
+                    query >= 0 ? target.substring(query + 1) : "", ifNoneMatch);
+        } catch (IOException e) {
+            // 클라이언트가 먼저 끊은 경우 (타임아웃 등)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Route findRoute(String path) {
+        for (Route route : routes) {
+            if (route.path.equals(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private void respond(OutputStream out, Route route, String query, String ifNoneMatch)
+            throws IOException, InterruptedException {
+        if (route == null) {
+            unknownCount.incrementAndGet();
+            write(out, 404, "Not Found", "text/plain", null, null, "등록되지 않은 경로");
+            return;
+        }
+        route.requestCount.incrementAndGet();
+        Behavior behavior = route.behavior != null ? route.behavior : defaultBehavior;
+
+        // 호출 제한은 지연 전에 판단 (실제 게이트웨이처럼 바로 거절)
+        if (behavior.maxRequestsPerSecond > 0 && !route.tryAcquire(behavior.maxRequestsPerSecond)) {
+            route.throttledCount.incrementAndGet();
+            write(out, 429, "Too Many Requests", "application/json", "1", null,
+                    "{\"error\":\"rate limited\"}");
+            return;
+        }
+
+        long latency;
+        boolean fail;
+        synchronized (random) {
+            latency = behavior.minLatencyMillis
+                    + (long) (random.nextDouble() * (behavior.maxLatencyMillis - behavior.minLatencyMillis));
+            fail = random.nextDouble() < behavior.errorRate;
+        }
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+
+        if (fail) {
+            route.errorCount.incrementAndGet();
+            write(out, 500, "Internal Server Error", "application/json", null, null,
+                    "{\"error\":\"injected failure\"}");
+            return;
+        }
+
+        if (route.responder != null) {
+            String body;
+            try {
+                body = route.responder.respond(parseQuery(query));
+            } catch (IOException | RuntimeException e) {
+                route.errorCount.incrementAndGet();
+                write(out, 500, "Internal Server Error", "text/plain", null, null, String.valueOf(e));
+                return;
+            }
+            write(out, 200, "OK", route.contentType + "; charset=UTF-8", null, null, body);
+            return;
+        }
+
+        Fixture fixture = fixture(route.fixture);
+        String body = fixture.render();
+        // 시각 자리표시자가 있는 응답은 매번 달라지므로 ETag를 붙이지 않음
+        String etag = fixture.hasTemplate() ? null : fixture.etag;
+        if (etag != null && etag.equals(ifNoneMatch)) {
+            route.notModifiedCount.incrementAndGet();
+            write(out, 304, "Not Modified", null, null, etag, null);
+            return;
+        }
+        write(out, 200, "OK", route.contentType + "; charset=UTF-8", null, etag, body);
+    }
+
+    private static Map<String, String> parseQuery(String query) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String key = equals >= 0 ? pair.substring(0, equals) : pair;
+            String value = equals >= 0 ? pair.substring(equals + 1) : "";
+            parameters.put(URLDecoder.decode(key, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+        }
+        return parameters;
+    }
+
+    private Fixture fixture(String path) throws IOException {
+        Fixture fixture = fixtures.get(path);
+        if (fixture == null) {
+            fixture = Fixture.load(path);
+            fixtures.put(path, fixture);
+        }
+        return fixture;
+    }
+
+    private static void write(OutputStream out, int code, String reason, String contentType,
+                              String retryAfter, String etag, String body) throws IOException {
+        byte[] payload = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        StringBuilder head = new StringBuilder();
+        head.append("HTTP/1.1 ").append(code).append(' ').append(reason).append("\r\n");
+        if (contentType != null) head.append("Content-Type: ").append(contentType).append("\r\n");
+        if (retryAfter != null) head.append("Retry-After: ").append(retryAfter).append("\r\n");
+        if (etag != null) head.append("ETag: ").append(etag).append("\r\n");
+        head.append("Content-Length: ").append(payload.length).append("\r\n");
+        head.append("Connection: close\r\n\r\n");
+        out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+        out.write(payload);
+        out.flush();
+    }
+
+    /**
+     * 명령줄 실행: --port 8080 --latency 50-200 --error-rate 0.05 --throttle 20 --seed 42
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new TreeMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+
+        Behavior behavior = Behavior.immediate();
+        String latency = options.get("latency");
+        if (latency != null) {
+            String[] range = latency.split("-");
+            long min = Long.parseLong(range[0]);
+            behavior = behavior.latency(min, range.length > 1 ? Long.parseLong(range[1]) : min);
+        }
+        if (options.containsKey("error-rate")) {
+            behavior = behavior.errorRate(Double.parseDouble(options.get("error-rate")));
+        }
+        if (options.containsKey("throttle")) {
+            behavior = behavior.throttle(Integer.parseInt(options.get("throttle")));
+        }
+
+        StubApiServer server = withRecordedResponses(
+                Integer.parseInt(options.getOrDefault("port", "8080")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+        server.behavior(behavior).start();
+        System.out.println("응답 재생 서버 시작: " + server.getBaseUrl() + " (" + behavior + ")");
+
+        StubApiServer running = server;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.print(running.getStatsSummary());
+            try {
+                running.close();
+            } catch (IOException ignored) {
+            }
+        }));
+        Thread.currentThread().join();
+    }
+}